@@ -19,13 +19,20 @@ import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.ConcurrencyLimit;
+import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.monitoring.ReconciliationLatencies;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
@@ -33,6 +40,10 @@ import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
@@ -59,19 +70,60 @@ public class MicrometerMetricsV2 implements Metrics {
 
   public static final String RECONCILIATIONS_EXECUTIONS_GAUGE = RECONCILIATIONS + "active";
   public static final String RECONCILIATIONS_QUEUE_SIZE_GAUGE = RECONCILIATIONS + "queue";
+  public static final String RECONCILIATIONS_PENDING_GAUGE = RECONCILIATIONS + "pending";
   public static final String NUMBER_OF_RESOURCE_GAUGE = "custom_resources";
+  private static final String EVENT_QUEUE = "events.queue";
+  public static final String EVENT_QUEUE_GAUGE = EVENT_QUEUE;
+  public static final String EVENT_QUEUE_COALESCED = EVENT_QUEUE + ".coalesced" + TOTAL_SUFFIX;
+  public static final String EVENT_QUEUE_OVERFLOW = EVENT_QUEUE + ".overflow" + TOTAL_SUFFIX;
   public static final String PROCESSING_STARTED_LATENCY_GAUGE = "processing.started.latency";
 
   public static final String RECONCILIATION_EXECUTION_DURATION =
       RECONCILIATIONS + "execution.duration";
+  public static final String RECONCILIATION_EVENT_WAIT_DURATION =
+      RECONCILIATIONS + "event.wait.duration";
+  public static final String RECONCILIATION_QUEUE_WAIT_DURATION =
+      RECONCILIATIONS + "queue.wait.duration";
+  public static final String RECONCILIATION_RATE_LIMIT_DELAY = RECONCILIATIONS + "rate.limit.delay";
+  public static final String RECONCILIATION_RETRY_BACKOFF = RECONCILIATIONS + "retry.backoff";
+  public static final String RECONCILIATION_EVENT_TO_COMPLETION_DURATION =
+      RECONCILIATIONS + "event.to.completion.duration";
+  private static final String RECONCILE_EXECUTOR = "executor.reconcile.";
+  public static final String RECONCILE_EXECUTOR_QUEUE_GAUGE = RECONCILE_EXECUTOR + "queue";
+  public static final String RECONCILE_EXECUTOR_ACTIVE_GAUGE = RECONCILE_EXECUTOR + "active";
+  public static final String RECONCILE_EXECUTOR_UTILIZATION_GAUGE =
+      RECONCILE_EXECUTOR + "utilization";
+  public static final String RECONCILE_EXECUTOR_REJECTED =
+      RECONCILE_EXECUTOR + "rejected" + TOTAL_SUFFIX;
+  public static final String RECONCILE_EXECUTOR_QUEUE_WAIT = RECONCILE_EXECUTOR + "queue.wait";
+  public static final String RECONCILE_EXECUTOR_CONCURRENCY_LIMIT_GAUGE =
+      RECONCILE_EXECUTOR + "concurrency.limit";
+  public static final String WRITE_BUDGET_WAIT = "writes.budget.wait";
+  private static final String VERB = "verb";
+  private static final String MEMOIZATION = "dependents.memoization.";
+  public static final String MEMOIZATION_LOOKUPS = MEMOIZATION + "lookups" + TOTAL_SUFFIX;
+  public static final String MEMOIZATION_EVICTIONS = MEMOIZATION + "evictions" + TOTAL_SUFFIX;
+  private static final String DEPENDENT = "dependent";
+  private static final String KIND = "kind";
+  private static final String RESULT = "result";
   public static final String NO_NAMESPACE_TAG = "no_namespace";
   public static final String UNKNOWN_ACTION_TAG = "unknown";
+  public static final int DEFAULT_MAX_CACHED_NAMESPACES = 1000;
+
+  private static final String NAMESPACE_TAG_DISABLED_KEY = "";
+  private static final int UNKNOWN_ACTION_INDEX = ResourceAction.values().length;
 
   private final MeterRegistry registry;
   private final Map<String, AtomicInteger> gauges = new ConcurrentHashMap<>();
   private final Map<String, Timer> executionTimers = new ConcurrentHashMap<>();
   private final Function<Timer.Builder, Timer.Builder> timerConfig;
   private final boolean includeNamespaceTag;
+  private final boolean cacheMeters;
+  private final int maxCachedNamespaces;
+  private final boolean recordLatencies;
+  private final Map<String, LatencyTimers> latencyTimers = new ConcurrentHashMap<>();
+  private final AtomicBoolean executorMetricsRegistered = new AtomicBoolean();
+  private final Map<String, ControllerCounters> controllerCounters = new ConcurrentHashMap<>();
 
   /**
    * Creates a new builder to configure how the eventual MicrometerMetricsV2 instance will behave,
@@ -93,9 +145,17 @@ public class MicrometerMetricsV2 implements Metrics {
    *     0.95, 0.99 and histogram
    */
   private MicrometerMetricsV2(
-      MeterRegistry registry, Consumer<Timer.Builder> timerConfig, boolean includeNamespaceTag) {
+      MeterRegistry registry,
+      Consumer<Timer.Builder> timerConfig,
+      boolean includeNamespaceTag,
+      boolean cacheMeters,
+      int maxCachedNamespaces,
+      boolean recordLatencies) {
     this.registry = registry;
+    this.recordLatencies = recordLatencies;
     this.includeNamespaceTag = includeNamespaceTag;
+    this.cacheMeters = cacheMeters;
+    this.maxCachedNamespaces = maxCachedNamespaces;
     this.timerConfig =
         timerConfig != null
             ? builder -> {
@@ -138,6 +198,28 @@ public class MicrometerMetricsV2 implements Metrics {
         registry.gauge(RECONCILIATIONS_QUEUE_SIZE_GAUGE, tags, new AtomicInteger(0));
     gauges.put(controllerQueueRefName, controllerQueueSize);
 
+    Gauge.builder(
+            RECONCILIATIONS_PENDING_GAUGE,
+            controller,
+            c -> c.getEventProcessor().pendingEventCount())
+        .tags(tags)
+        .register(registry);
+    Gauge.builder(EVENT_QUEUE_GAUGE, controller, c -> c.getEventProcessor().queuedEventCount())
+        .tags(tags)
+        .register(registry);
+    FunctionCounter.builder(
+            EVENT_QUEUE_COALESCED, controller, c -> c.getEventProcessor().coalescedEventCount())
+        .tags(tags)
+        .register(registry);
+    FunctionCounter.builder(
+            EVENT_QUEUE_OVERFLOW, controller, c -> c.getEventProcessor().eventQueueOverflowCount())
+        .tags(tags)
+        .register(registry);
+
+    if (executorMetricsRegistered.compareAndSet(false, true)) {
+      registerReconcileExecutorMetrics(controller.getExecutorServiceManager());
+    }
+
     var numberOfResources = registry.gauge(NUMBER_OF_RESOURCE_GAUGE, tags, new AtomicInteger(0));
     gauges.put(numberOfResourcesRefName(name), numberOfResources);
 
@@ -145,6 +227,65 @@ public class MicrometerMetricsV2 implements Metrics {
     timerBuilder = timerConfig.apply(timerBuilder);
     var timer = timerBuilder.register(registry);
     executionTimers.put(name, timer);
+
+    if (recordLatencies) {
+      latencyTimers.put(
+          name,
+          new LatencyTimers(
+              registerTimer(RECONCILIATION_EVENT_WAIT_DURATION, tags),
+              registerTimer(RECONCILIATION_QUEUE_WAIT_DURATION, tags),
+              registerTimer(RECONCILIATION_RATE_LIMIT_DELAY, tags),
+              registerTimer(RECONCILIATION_RETRY_BACKOFF, tags),
+              registerTimer(RECONCILIATION_EVENT_TO_COMPLETION_DURATION, tags)));
+    }
+  }
+
+  // the executor is re-created when the operator is restarted, so statistics are always retrieved
+  // from the manager instead of being cached
+  private void registerReconcileExecutorMetrics(ExecutorServiceManager manager) {
+    Gauge.builder(
+            RECONCILE_EXECUTOR_QUEUE_GAUGE,
+            manager,
+            m -> m.reconcileExecutorStatistics().queueSize())
+        .register(registry);
+    Gauge.builder(
+            RECONCILE_EXECUTOR_ACTIVE_GAUGE,
+            manager,
+            m -> m.reconcileExecutorStatistics().activeCount())
+        .register(registry);
+    Gauge.builder(
+            RECONCILE_EXECUTOR_UTILIZATION_GAUGE,
+            manager,
+            m -> m.reconcileExecutorStatistics().utilization())
+        .register(registry);
+    FunctionCounter.builder(
+            RECONCILE_EXECUTOR_REJECTED,
+            manager,
+            m -> m.reconcileExecutorStatistics().rejectedCount())
+        .register(registry);
+    FunctionTimer.builder(
+            RECONCILE_EXECUTOR_QUEUE_WAIT,
+            manager,
+            m -> {
+              final var statistics = m.reconcileExecutorStatistics();
+              return statistics.completedCount() + statistics.activeCount();
+            },
+            m -> m.reconcileExecutorStatistics().totalQueueWaitNanos(),
+            TimeUnit.NANOSECONDS)
+        .register(registry);
+    manager
+        .reconcileConcurrencyLimit()
+        .ifPresent(
+            limit ->
+                Gauge.builder(
+                        RECONCILE_EXECUTOR_CONCURRENCY_LIMIT_GAUGE,
+                        limit,
+                        ConcurrencyLimit::getLimit)
+                    .register(registry));
+  }
+
+  private Timer registerTimer(String name, List<Tag> tags) {
+    return timerConfig.apply(Timer.builder(name).tags(tags)).register(registry);
   }
 
   @Override
@@ -181,6 +322,12 @@ public class MicrometerMetricsV2 implements Metrics {
         gauges.get(numberOfResourcesRefName(getControllerName(metadata))).incrementAndGet();
       }
       var namespace = resourceEvent.getRelatedCustomResourceID().getNamespace().orElse(null);
+      if (cacheMeters) {
+        controllerCounters(metadata)
+            .eventCounter(namespace, event.getClass(), resourceEvent.getAction().ordinal())
+            .increment();
+        return;
+      }
       incrementCounter(
           EVENTS_RECEIVED,
           namespace,
@@ -188,15 +335,31 @@ public class MicrometerMetricsV2 implements Metrics {
           Tag.of(EVENT, event.getClass().getSimpleName()),
           Tag.of(ACTION, resourceEvent.getAction().toString()));
     } else {
+      var namespace = event.getRelatedCustomResourceID().getNamespace().orElse(null);
+      if (cacheMeters) {
+        controllerCounters(metadata)
+            .eventCounter(namespace, event.getClass(), UNKNOWN_ACTION_INDEX)
+            .increment();
+        return;
+      }
       incrementCounter(
           EVENTS_RECEIVED,
-          event.getRelatedCustomResourceID().getNamespace().orElse(null),
+          namespace,
           metadata,
           Tag.of(EVENT, event.getClass().getSimpleName()),
           Tag.of(ACTION, UNKNOWN_ACTION_TAG));
     }
   }
 
+  @Override
+  public void namespacesChanged(
+      Controller<? extends HasMetadata> controller, Set<String> namespaces) {
+    final var counters = controllerCounters.get(controller.getConfiguration().getName());
+    if (counters != null) {
+      counters.retainNamespaces(namespaces);
+    }
+  }
+
   @Override
   public void cleanupDone(ResourceID resourceID, Map<String, Object> metadata) {
     gauges.get(numberOfResourcesRefName(getControllerName(metadata))).decrementAndGet();
@@ -208,11 +371,18 @@ public class MicrometerMetricsV2 implements Metrics {
     Optional<RetryInfo> retryInfo = Optional.ofNullable(retryInfoNullable);
 
     var namespace = resource.getMetadata().getNamespace();
-    incrementCounter(RECONCILIATIONS_STARTED, namespace, metadata);
-
     int retryNumber = retryInfo.map(RetryInfo::getAttemptCount).orElse(0);
-    if (retryNumber > 0) {
-      incrementCounter(RECONCILIATIONS_RETRIES_NUMBER, namespace, metadata);
+    if (cacheMeters) {
+      final var counters = controllerCounters(metadata);
+      counters.counter(counters.started, RECONCILIATIONS_STARTED, namespace).increment();
+      if (retryNumber > 0) {
+        counters.counter(counters.retries, RECONCILIATIONS_RETRIES_NUMBER, namespace).increment();
+      }
+    } else {
+      incrementCounter(RECONCILIATIONS_STARTED, namespace, metadata);
+      if (retryNumber > 0) {
+        incrementCounter(RECONCILIATIONS_RETRIES_NUMBER, namespace, metadata);
+      }
     }
 
     var controllerQueueSize =
@@ -222,7 +392,13 @@ public class MicrometerMetricsV2 implements Metrics {
 
   @Override
   public void reconciliationSucceeded(HasMetadata resource, Map<String, Object> metadata) {
-    incrementCounter(RECONCILIATIONS_SUCCESS, resource.getMetadata().getNamespace(), metadata);
+    final var namespace = resource.getMetadata().getNamespace();
+    if (cacheMeters) {
+      final var counters = controllerCounters(metadata);
+      counters.counter(counters.succeeded, RECONCILIATIONS_SUCCESS, namespace).increment();
+    } else {
+      incrementCounter(RECONCILIATIONS_SUCCESS, namespace, metadata);
+    }
   }
 
   @Override
@@ -242,10 +418,62 @@ public class MicrometerMetricsV2 implements Metrics {
     reconcilerExecutions.decrementAndGet();
   }
 
+  @Override
+  public void reconciliationLatencies(
+      HasMetadata resource, ReconciliationLatencies latencies, Map<String, Object> metadata) {
+    if (!recordLatencies) {
+      return;
+    }
+    final var timers = latencyTimers.get(getControllerName(metadata));
+    if (timers == null) {
+      return;
+    }
+    timers.eventWait.record(latencies.eventToStartNanos(), TimeUnit.NANOSECONDS);
+    timers.queueWait.record(latencies.queueWaitNanos(), TimeUnit.NANOSECONDS);
+    // only recorded when they actually happened, so that they don't get skewed towards zero
+    if (latencies.rateLimitDelayNanos() > 0) {
+      timers.rateLimitDelay.record(latencies.rateLimitDelayNanos(), TimeUnit.NANOSECONDS);
+    }
+    if (latencies.retryBackoffNanos() > 0) {
+      timers.retryBackoff.record(latencies.retryBackoffNanos(), TimeUnit.NANOSECONDS);
+    }
+    timers.eventToCompletion.record(latencies.eventToCompletionNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void writeBudgetAcquired(
+      WriteBudget.Verb verb, long waitNanos, Map<String, Object> metadata) {
+    controllerCounters(metadata).writeBudgetWait(verb).record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void memoizationLookup(
+      String dependentName, String kind, boolean hit, Map<String, Object> metadata) {
+    final var tags = new ArrayList<Tag>(4);
+    addControllerNameTag(metadata, tags);
+    addTag(DEPENDENT, dependentName, tags);
+    addTag(KIND, kind, tags);
+    addTag(RESULT, hit ? "hit" : "miss", tags);
+    registry.counter(MEMOIZATION_LOOKUPS, tags).increment();
+  }
+
+  @Override
+  public void memoizedValueEvicted(Map<String, Object> metadata) {
+    final var tags = new ArrayList<Tag>(1);
+    addControllerNameTag(metadata, tags);
+    registry.counter(MEMOIZATION_EVICTIONS, tags).increment();
+  }
+
   @Override
   public void reconciliationFailed(
       HasMetadata resource, RetryInfo retry, Exception exception, Map<String, Object> metadata) {
-    incrementCounter(RECONCILIATIONS_FAILED, resource.getMetadata().getNamespace(), metadata);
+    final var namespace = resource.getMetadata().getNamespace();
+    if (cacheMeters) {
+      final var counters = controllerCounters(metadata);
+      counters.counter(counters.failed, RECONCILIATIONS_FAILED, namespace).increment();
+    } else {
+      incrementCounter(RECONCILIATIONS_FAILED, namespace, metadata);
+    }
   }
 
   private static void addTag(String name, String value, List<Tag> tags) {
@@ -281,6 +509,139 @@ public class MicrometerMetricsV2 implements Metrics {
     registry.counter(counterName, tags).increment();
   }
 
+  private record LatencyTimers(
+      Timer eventWait,
+      Timer queueWait,
+      Timer rateLimitDelay,
+      Timer retryBackoff,
+      Timer eventToCompletion) {}
+
+  private ControllerCounters controllerCounters(Map<String, Object> metadata) {
+    final var controllerName = getControllerName(metadata);
+    // get before computeIfAbsent so that the steady state neither locks nor allocates a lambda
+    final var counters = controllerCounters.get(controllerName);
+    if (counters != null) {
+      return counters;
+    }
+    return controllerCounters.computeIfAbsent(controllerName, ControllerCounters::new);
+  }
+
+  /**
+   * Counters of a single controller, resolved against the registry once per (namespace, outcome)
+   * and then served from lock-free lookups keyed by the namespace {@link String} instances, whose
+   * hash codes are cached by the JVM. Counters of at most {@link #maxCachedNamespaces} namespaces
+   * are cached, the counters of additional namespaces being looked up in the registry each time,
+   * and the counters of namespaces that are not watched anymore are evicted. Also holds the write
+   * budget wait timers, indexed by verb.
+   */
+  private class ControllerCounters {
+    private final String controllerName;
+    private final Map<String, Counter> started = new ConcurrentHashMap<>();
+    private final Map<String, Counter> succeeded = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failed = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retries = new ConcurrentHashMap<>();
+    // namespace -> event class -> counters indexed by ResourceAction ordinal, last one is unknown
+    private final Map<String, Map<Class<?>, AtomicReferenceArray<Counter>>> events =
+        new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Timer> writeBudgetWaits =
+        new AtomicReferenceArray<>(WriteBudget.Verb.values().length);
+
+    private ControllerCounters(String controllerName) {
+      this.controllerName = controllerName;
+    }
+
+    private Counter counter(Map<String, Counter> counters, String counterName, String namespace) {
+      final var key = namespaceKey(namespace);
+      final var counter = counters.get(key);
+      if (counter != null) {
+        return counter;
+      }
+      if (counters.size() >= maxCachedNamespaces) {
+        return register(counterName, namespace);
+      }
+      return counters.computeIfAbsent(key, k -> register(counterName, namespace));
+    }
+
+    private Counter eventCounter(String namespace, Class<?> eventClass, int actionIndex) {
+      final var key = namespaceKey(namespace);
+      var byEventClass = events.get(key);
+      if (byEventClass == null) {
+        if (events.size() >= maxCachedNamespaces) {
+          return register(
+              EVENTS_RECEIVED,
+              namespace,
+              Tag.of(EVENT, eventClass.getSimpleName()),
+              actionTag(actionIndex));
+        }
+        byEventClass = events.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+      }
+      var byAction = byEventClass.get(eventClass);
+      if (byAction == null) {
+        byAction =
+            byEventClass.computeIfAbsent(
+                eventClass, k -> new AtomicReferenceArray<>(UNKNOWN_ACTION_INDEX + 1));
+      }
+      var counter = byAction.get(actionIndex);
+      if (counter == null) {
+        // registering is idempotent, so a racing thread would just get the same counter
+        counter =
+            register(
+                EVENTS_RECEIVED,
+                namespace,
+                Tag.of(EVENT, eventClass.getSimpleName()),
+                actionTag(actionIndex));
+        byAction.set(actionIndex, counter);
+      }
+      return counter;
+    }
+
+    private Tag actionTag(int actionIndex) {
+      return Tag.of(
+          ACTION,
+          actionIndex == UNKNOWN_ACTION_INDEX
+              ? UNKNOWN_ACTION_TAG
+              : ResourceAction.values()[actionIndex].toString());
+    }
+
+    private void retainNamespaces(Set<String> namespaces) {
+      if (!includeNamespaceTag || namespaces.contains(Constants.WATCH_ALL_NAMESPACES)) {
+        return;
+      }
+      // the counters stay registered, as when meters are not cached, only the cache is trimmed
+      for (var cache : List.of(started, succeeded, failed, retries, events)) {
+        cache.keySet().removeIf(key -> !key.equals(NO_NAMESPACE_TAG) && !namespaces.contains(key));
+      }
+    }
+
+    private Timer writeBudgetWait(WriteBudget.Verb verb) {
+      var timer = writeBudgetWaits.get(verb.ordinal());
+      if (timer == null) {
+        // registering is idempotent, so a racing thread would just get the same timer
+        final var tags = new ArrayList<Tag>(2);
+        addControllerNameTag(controllerName, tags);
+        addTag(VERB, verb.name().toLowerCase(Locale.ROOT), tags);
+        timer = registerTimer(WRITE_BUDGET_WAIT, tags);
+        writeBudgetWaits.set(verb.ordinal(), timer);
+      }
+      return timer;
+    }
+
+    private String namespaceKey(String namespace) {
+      if (!includeNamespaceTag) {
+        return NAMESPACE_TAG_DISABLED_KEY;
+      }
+      return namespace == null || namespace.isBlank() ? NO_NAMESPACE_TAG : namespace;
+    }
+
+    private Counter register(String counterName, String namespace, Tag... additionalTags) {
+      final var tags = new ArrayList<Tag>(2 + additionalTags.length);
+      addControllerNameTag(controllerName, tags);
+      addNamespaceTag(namespace, tags);
+      Collections.addAll(tags, additionalTags);
+      return registry.counter(counterName, tags);
+    }
+  }
+
   private static String reconciliationExecutionGaugeRefKey(String controllerName) {
     return RECONCILIATIONS_EXECUTIONS_GAUGE + "." + controllerName;
   }
@@ -297,6 +658,9 @@ public class MicrometerMetricsV2 implements Metrics {
     protected final MeterRegistry registry;
     protected Consumer<Timer.Builder> executionTimerConfig = null;
     protected boolean includeNamespaceTag = false;
+    protected boolean cacheMeters = false;
+    protected int maxCachedNamespaces = DEFAULT_MAX_CACHED_NAMESPACES;
+    protected boolean recordLatencies = false;
 
     public MicrometerMetricsV2Builder(MeterRegistry registry) {
       this.registry = registry;
@@ -330,8 +694,64 @@ public class MicrometerMetricsV2 implements Metrics {
       return this;
     }
 
+    /**
+     * When enabled, counters are resolved against the {@link MeterRegistry} only the first time a
+     * given (controller, namespace, outcome) combination is seen and are then cached, so that
+     * recording events and reconciliation outcomes doesn't need to build tag lists and look meters
+     * up in the registry on every call. When using {@link #withNamespaceAsTag()}, the counters of
+     * at most {@link #DEFAULT_MAX_CACHED_NAMESPACES} namespaces are cached per controller, and the
+     * counters of namespaces that are not watched anymore are removed from the cache.
+     *
+     * @return this builder for method chaining
+     */
+    public MicrometerMetricsV2Builder withCachedMeters() {
+      return withCachedMeters(DEFAULT_MAX_CACHED_NAMESPACES);
+    }
+
+    /**
+     * Same as {@link #withCachedMeters()}, caching the counters of at most the given number of
+     * namespaces per controller, the counters of additional namespaces being looked up in the
+     * registry each time.
+     *
+     * @param maxCachedNamespaces the maximum number of namespaces which counters are cached per
+     *     controller
+     * @return this builder for method chaining
+     * @since 5.6.0
+     */
+    public MicrometerMetricsV2Builder withCachedMeters(int maxCachedNamespaces) {
+      if (maxCachedNamespaces < 1) {
+        throw new IllegalArgumentException(
+            "Maximum number of cached namespaces must be at least 1: " + maxCachedNamespaces);
+      }
+      this.cacheMeters = true;
+      this.maxCachedNamespaces = maxCachedNamespaces;
+      return this;
+    }
+
+    /**
+     * When enabled, timers tracking how long events wait before being reconciled are recorded for
+     * each controller: time from event arrival to reconciliation start and completion, time spent
+     * queued in the reconcile executor, and, when they occur, rate limiting delays and retry
+     * backoffs. Timers are configured the same way as the execution timer, see {@link
+     * #withExecutionTimerConfig(Consumer)}.
+     *
+     * <p>Disabled by default to avoid unexpected cardinality increases in existing deployments.
+     *
+     * @return this builder for method chaining
+     */
+    public MicrometerMetricsV2Builder withLatencyHistograms() {
+      this.recordLatencies = true;
+      return this;
+    }
+
     public MicrometerMetricsV2 build() {
-      return new MicrometerMetricsV2(registry, executionTimerConfig, includeNamespaceTag);
+      return new MicrometerMetricsV2(
+          registry,
+          executionTimerConfig,
+          includeNamespaceTag,
+          cacheMeters,
+          maxCachedNamespaces,
+          recordLatencies);
     }
   }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.monitoring.micrometer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
+import io.javaoperatorsdk.operator.api.monitoring.ReconciliationLatencies;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.event.EventProcessor;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
+import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.EVENT_QUEUE_COALESCED;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.EVENT_QUEUE_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.EVENT_QUEUE_OVERFLOW;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.MEMOIZATION_EVICTIONS;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.MEMOIZATION_LOOKUPS;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_ACTIVE_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_CONCURRENCY_LIMIT_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_QUEUE_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_QUEUE_WAIT;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_REJECTED;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILE_EXECUTOR_UTILIZATION_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATIONS_FAILED;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATIONS_PENDING_GAUGE;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATIONS_SUCCESS;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATION_EVENT_TO_COMPLETION_DURATION;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATION_EVENT_WAIT_DURATION;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATION_QUEUE_WAIT_DURATION;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATION_RATE_LIMIT_DELAY;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.RECONCILIATION_RETRY_BACKOFF;
+import static io.javaoperatorsdk.operator.monitoring.micrometer.MicrometerMetricsV2.WRITE_BUDGET_WAIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MicrometerMetricsV2Test {
+
+  private static final String CONTROLLER = "test-controller";
+  private static final Map<String, Object> METADATA = Map.of(Constants.CONTROLLER_NAME, CONTROLLER);
+
+  @Test
+  void cachedMetersRecordSameValuesAsDefaultMode() {
+    final var defaultRegistry = new SimpleMeterRegistry();
+    final var cachedRegistry = new SimpleMeterRegistry();
+    final var defaultMetrics =
+        MicrometerMetricsV2.newBuilder(defaultRegistry).withNamespaceAsTag().build();
+    final var cachedMetrics =
+        MicrometerMetricsV2.newBuilder(cachedRegistry)
+            .withNamespaceAsTag()
+            .withCachedMeters()
+            .build();
+
+    for (var metrics : new MicrometerMetricsV2[] {defaultMetrics, cachedMetrics}) {
+      recordSomeOutcomes(metrics, resource("ns1"));
+      recordSomeOutcomes(metrics, resource("ns1"));
+      recordSomeOutcomes(metrics, resource("ns2"));
+      recordSomeOutcomes(metrics, resource(null));
+    }
+
+    assertThat(cachedRegistry.getMetersAsString()).isEqualTo(defaultRegistry.getMetersAsString());
+    assertThat(
+            cachedRegistry
+                .get(RECONCILIATIONS_SUCCESS)
+                .tag("namespace", "ns1")
+                .tag("controller.name", CONTROLLER)
+                .counter()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            cachedRegistry
+                .get(RECONCILIATIONS_FAILED)
+                .tag("namespace", MicrometerMetricsV2.NO_NAMESPACE_TAG)
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void cachedMetersWithoutNamespaceTagShareCounterAcrossNamespaces() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).withCachedMeters().build();
+
+    recordSomeOutcomes(metrics, resource("ns1"));
+    recordSomeOutcomes(metrics, resource("ns2"));
+
+    assertThat(registry.get(RECONCILIATIONS_SUCCESS).counters()).hasSize(1);
+    assertThat(registry.get(RECONCILIATIONS_SUCCESS).counter().count()).isEqualTo(2);
+    assertThat(registry.get("events.received").tag("action", "UPDATED").counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void evictsCachedCountersOfUnwatchedNamespaces() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics =
+        MicrometerMetricsV2.newBuilder(registry).withNamespaceAsTag().withCachedMeters().build();
+    recordSomeOutcomes(metrics, resource("ns1"));
+    recordSomeOutcomes(metrics, resource("ns2"));
+    final var ns2Success = registry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns2").counter();
+
+    metrics.namespacesChanged(mockController(), Set.of("ns1"));
+    // simulates the counter being removed from the registry, which only an evicted entry notices
+    registry.remove(ns2Success);
+    recordSomeOutcomes(metrics, resource("ns2"));
+
+    assertThat(registry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns2").counter())
+        .isNotSameAs(ns2Success);
+    assertThat(registry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns2").counter().count())
+        .isEqualTo(1);
+    assertThat(registry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns1").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void keepsCachedCountersWhenWatchingAllNamespaces() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics =
+        MicrometerMetricsV2.newBuilder(registry).withNamespaceAsTag().withCachedMeters().build();
+    recordSomeOutcomes(metrics, resource("ns1"));
+    final var ns1Success = registry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns1").counter();
+
+    metrics.namespacesChanged(mockController(), Set.of(Constants.WATCH_ALL_NAMESPACES));
+    registry.remove(ns1Success);
+    recordSomeOutcomes(metrics, resource("ns1"));
+
+    // the cached counter is still used, so it is not registered again
+    assertThat(registry.find(RECONCILIATIONS_SUCCESS).counter()).isNull();
+    assertThat(ns1Success.count()).isEqualTo(2);
+  }
+
+  @Test
+  void cachesCountersOfBoundedNumberOfNamespaces() {
+    final var defaultRegistry = new SimpleMeterRegistry();
+    final var cachedRegistry = new SimpleMeterRegistry();
+    final var defaultMetrics =
+        MicrometerMetricsV2.newBuilder(defaultRegistry).withNamespaceAsTag().build();
+    final var cachedMetrics =
+        MicrometerMetricsV2.newBuilder(cachedRegistry)
+            .withNamespaceAsTag()
+            .withCachedMeters(2)
+            .build();
+
+    for (var metrics : new MicrometerMetricsV2[] {defaultMetrics, cachedMetrics}) {
+      for (int i = 0; i < 3; i++) {
+        recordSomeOutcomes(metrics, resource("ns" + i));
+        recordSomeOutcomes(metrics, resource("ns" + i));
+      }
+    }
+    assertThat(cachedRegistry.getMetersAsString()).isEqualTo(defaultRegistry.getMetersAsString());
+    final var ns2Success = cachedRegistry.get(RECONCILIATIONS_SUCCESS).tag("namespace", "ns2");
+    cachedRegistry.remove(ns2Success.counter());
+    recordSomeOutcomes(cachedMetrics, resource("ns2"));
+
+    // counters of namespaces above the bound are looked up in the registry each time
+    assertThat(ns2Success.counter().count()).isEqualTo(1);
+    assertThat(cachedRegistry.get(RECONCILIATIONS_SUCCESS).counters()).hasSize(3);
+    assertThatThrownBy(() -> MicrometerMetricsV2.newBuilder(cachedRegistry).withCachedMeters(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void countsMemoizationLookupsAndEvictions() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).build();
+
+    metrics.memoizationLookup("configmap", "desired", true, METADATA);
+    metrics.memoizationLookup("configmap", "desired", true, METADATA);
+    metrics.memoizationLookup("configmap", "desired", false, METADATA);
+    metrics.memoizationLookup("configmap", "ready", false, METADATA);
+    metrics.memoizedValueEvicted(METADATA);
+
+    final var lookups = registry.get(MEMOIZATION_LOOKUPS).tag("controller.name", CONTROLLER);
+    assertThat(lookups.tag("kind", "desired").tag("result", "hit").counter().count()).isEqualTo(2);
+    assertThat(
+            registry
+                .get(MEMOIZATION_LOOKUPS)
+                .tag("dependent", "configmap")
+                .tag("result", "miss")
+                .counters())
+        .hasSize(2);
+    assertThat(registry.get(MEMOIZATION_EVICTIONS).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void recordsWriteBudgetWaitPerVerb() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).build();
+
+    metrics.writeBudgetAcquired(WriteBudget.Verb.PATCH, millis(10), METADATA);
+    metrics.writeBudgetAcquired(WriteBudget.Verb.PATCH, millis(30), METADATA);
+    metrics.writeBudgetAcquired(WriteBudget.Verb.DELETE, 0, METADATA);
+
+    final var patchTimer =
+        registry
+            .get(WRITE_BUDGET_WAIT)
+            .tag("controller.name", CONTROLLER)
+            .tag("verb", "patch")
+            .timer();
+    assertThat(patchTimer.count()).isEqualTo(2);
+    assertThat(patchTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+    assertThat(registry.get(WRITE_BUDGET_WAIT).tag("verb", "delete").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void recordsLatencyHistogramsWhenEnabled() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).withLatencyHistograms().build();
+    metrics.controllerRegistered(mockController());
+
+    final var resource = resource("ns1");
+    metrics.reconciliationLatencies(
+        resource,
+        new ReconciliationLatencies(millis(30), millis(10), 0, millis(20), millis(50)),
+        METADATA);
+    metrics.reconciliationLatencies(
+        resource,
+        new ReconciliationLatencies(millis(10), millis(5), millis(5), 0, millis(20)),
+        METADATA);
+
+    assertThat(registry.get(RECONCILIATION_EVENT_WAIT_DURATION).timer().count()).isEqualTo(2);
+    assertThat(
+            registry
+                .get(RECONCILIATION_EVENT_TO_COMPLETION_DURATION)
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(70);
+    assertThat(registry.get(RECONCILIATION_QUEUE_WAIT_DURATION).timer().max(TimeUnit.MILLISECONDS))
+        .isEqualTo(10);
+    // delays are only recorded when they happened
+    assertThat(registry.get(RECONCILIATION_RATE_LIMIT_DELAY).timer().count()).isEqualTo(1);
+    assertThat(registry.get(RECONCILIATION_RETRY_BACKOFF).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotRecordLatenciesByDefault() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).build();
+
+    metrics.reconciliationLatencies(
+        resource("ns1"), new ReconciliationLatencies(1, 1, 1, 1, 1), METADATA);
+
+    assertThat(registry.find(RECONCILIATION_EVENT_WAIT_DURATION).timer()).isNull();
+  }
+
+  @Test
+  void registersReconcileExecutorAndPendingReconciliationGauges() {
+    final var registry = new SimpleMeterRegistry();
+    final var metrics = MicrometerMetricsV2.newBuilder(registry).build();
+    final var controller = mockController();
+    when(controller.getEventProcessor().pendingEventCount()).thenReturn(3);
+    when(controller.getEventProcessor().queuedEventCount()).thenReturn(2);
+    when(controller.getEventProcessor().coalescedEventCount()).thenReturn(5L);
+    when(controller.getEventProcessor().eventQueueOverflowCount()).thenReturn(1L);
+
+    metrics.controllerRegistered(controller);
+
+    assertThat(
+            registry
+                .get(RECONCILIATIONS_PENDING_GAUGE)
+                .tag("controller.name", CONTROLLER)
+                .gauge()
+                .value())
+        .isEqualTo(3);
+    assertThat(registry.get(EVENT_QUEUE_GAUGE).tag("controller.name", CONTROLLER).gauge().value())
+        .isEqualTo(2);
+    assertThat(registry.get(EVENT_QUEUE_COALESCED).functionCounter().count()).isEqualTo(5);
+    assertThat(registry.get(EVENT_QUEUE_OVERFLOW).functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get(RECONCILE_EXECUTOR_QUEUE_GAUGE).gauge().value()).isZero();
+    assertThat(registry.get(RECONCILE_EXECUTOR_ACTIVE_GAUGE).gauge().value()).isZero();
+    assertThat(registry.get(RECONCILE_EXECUTOR_UTILIZATION_GAUGE).gauge().value()).isZero();
+    assertThat(registry.get(RECONCILE_EXECUTOR_REJECTED).functionCounter().count()).isZero();
+    assertThat(registry.get(RECONCILE_EXECUTOR_QUEUE_WAIT).functionTimer().count()).isZero();
+    assertThat(registry.find(RECONCILE_EXECUTOR_CONCURRENCY_LIMIT_GAUGE).gauge()).isNull();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Controller<HasMetadata> mockController() {
+    final Controller<HasMetadata> controller = mock(Controller.class);
+    final ControllerConfiguration<HasMetadata> configuration = mock(ControllerConfiguration.class);
+    when(controller.getConfiguration()).thenReturn(configuration);
+    when(configuration.getName()).thenReturn(CONTROLLER);
+    when(controller.getEventProcessor()).thenReturn(mock(EventProcessor.class));
+    when(controller.getExecutorServiceManager())
+        .thenReturn(new BaseConfigurationService().getExecutorServiceManager());
+    return controller;
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static void recordSomeOutcomes(MicrometerMetricsV2 metrics, HasMetadata resource) {
+    metrics.eventReceived(
+        new ResourceEvent(ResourceAction.UPDATED, ResourceID.fromResource(resource), resource),
+        METADATA);
+    metrics.reconciliationSucceeded(resource, METADATA);
+    metrics.reconciliationFailed(resource, null, new RuntimeException(), METADATA);
+  }
+
+  private static HasMetadata resource(String namespace) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("test")
+        .withNamespace(namespace)
+        .endMetadata()
+        .build();
+  }
+}
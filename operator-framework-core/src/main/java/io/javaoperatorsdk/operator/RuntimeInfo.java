@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.health.EventSourceHealthIndicator;
+import io.javaoperatorsdk.operator.health.EventSourceStartupProgress;
 import io.javaoperatorsdk.operator.health.InformerWrappingEventSourceHealthIndicator;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ControllerEventSource;
 
@@ -96,6 +97,23 @@ public class RuntimeInfo {
     return res;
   }
 
+  /**
+   * Aggregated progress of the start of the event sources of all controllers. Contrary to the other
+   * methods, this is meant to be used while the operator is starting.
+   *
+   * @return Map of controller names to the startup progress of their event sources
+   * @since 5.6.0
+   */
+  public Map<String, Map<String, EventSourceStartupProgress>> eventSourceStartupProgress() {
+    Map<String, Map<String, EventSourceStartupProgress>> res = new HashMap<>();
+    for (var rc : registeredControllers) {
+      res.put(
+          rc.getConfiguration().getName(),
+          rc.getControllerHealthInfo().eventSourceStartupProgress());
+    }
+    return res;
+  }
+
   /**
    * Retrieves the {@link RegisteredController} associated with the specified controller name or
    * {@code null} if no such controller is registered.
@@ -0,0 +1,132 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+/**
+ * A {@link ConcurrencyLimit} using additive increase / multiplicative decrease: each time as many
+ * reconciliations as the current limit succeeded within the latency threshold, the limit is
+ * increased by one. When a reconciliation is slower than the threshold or fails because the API
+ * server is overloaded (HTTP 429 or 5xx), the limit is multiplied by the backoff ratio.
+ *
+ * @since 5.6.0
+ */
+public class AIMDConcurrencyLimit implements ConcurrencyLimit {
+
+  private static final Logger log = LoggerFactory.getLogger(AIMDConcurrencyLimit.class);
+
+  public static final double DEFAULT_BACKOFF_RATIO = 0.75;
+  public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofSeconds(10);
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private final AtomicInteger limit;
+  private final AtomicInteger successesSinceLastChange = new AtomicInteger();
+
+  /**
+   * Creates a limit starting at {@code maxLimit}, using the {@link #DEFAULT_BACKOFF_RATIO} and
+   * {@link #DEFAULT_LATENCY_THRESHOLD}.
+   *
+   * @param minLimit the minimum limit, at least 1
+   * @param maxLimit the maximum limit, typically the number of reconciliation threads
+   */
+  public AIMDConcurrencyLimit(int minLimit, int maxLimit) {
+    this(minLimit, maxLimit, maxLimit, DEFAULT_BACKOFF_RATIO, DEFAULT_LATENCY_THRESHOLD);
+  }
+
+  /**
+   * @param minLimit the minimum limit, at least 1
+   * @param maxLimit the maximum limit, typically the number of reconciliation threads
+   * @param initialLimit the limit to start with
+   * @param backoffRatio the ratio the limit is multiplied with on overload, between 0 and 1
+   * @param latencyThreshold reconciliations taking longer than this are considered a sign of
+   *     overload
+   */
+  public AIMDConcurrencyLimit(
+      int minLimit,
+      int maxLimit,
+      int initialLimit,
+      double backoffRatio,
+      Duration latencyThreshold) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Limits must satisfy 1 <= minLimit <= maxLimit, got min: "
+              + minLimit
+              + ", max: "
+              + maxLimit);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("Backoff ratio must be in (0, 1), got: " + backoffRatio);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+  }
+
+  @Override
+  public int getLimit() {
+    return limit.get();
+  }
+
+  @Override
+  public void onReconciliationFinished(long durationNanos, Exception exception) {
+    // lock-free since called on each reconciliation, concurrent changes losing a CAS are dropped
+    if (durationNanos > latencyThresholdNanos || isOverloadError(exception)) {
+      int current;
+      int newLimit;
+      do {
+        current = limit.get();
+        newLimit = Math.max(minLimit, (int) (current * backoffRatio));
+      } while (newLimit != current && !limit.compareAndSet(current, newLimit));
+      if (newLimit != current) {
+        log.debug("Decreasing concurrency limit from {} to {}", current, newLimit);
+      }
+      successesSinceLastChange.set(0);
+    } else if (exception == null) {
+      final var current = limit.get();
+      if (current < maxLimit
+          && successesSinceLastChange.incrementAndGet() >= current
+          && limit.compareAndSet(current, current + 1)) {
+        log.debug("Increasing concurrency limit to {}", current + 1);
+        successesSinceLastChange.set(0);
+      }
+    }
+  }
+
+  static boolean isOverloadError(Throwable exception) {
+    var current = exception;
+    while (current != null) {
+      if (current instanceof KubernetesClientException e
+          && (e.getCode() == 429 || e.getCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR)) {
+        return true;
+      }
+      current = current.getCause() != current ? current.getCause() : null;
+    }
+    return false;
+  }
+}
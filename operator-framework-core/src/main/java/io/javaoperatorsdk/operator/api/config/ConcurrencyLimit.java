@@ -0,0 +1,42 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * Dynamically limits how many reconciliations can execute in parallel on the reconcile executor,
+ * based on feedback from finished reconciliations. Reconciliations submitted above the limit wait
+ * in a queue until an execution slot is available. The limit only lowers the effective parallelism,
+ * it cannot exceed the number of threads of the reconcile executor.
+ *
+ * @see AIMDConcurrencyLimit
+ * @see ConfigurationService#reconcileConcurrencyLimit()
+ * @since 5.6.0
+ */
+public interface ConcurrencyLimit {
+
+  /**
+   * @return the number of reconciliations currently allowed to execute in parallel, at least 1
+   */
+  int getLimit();
+
+  /**
+   * Called by the SDK each time a reconciliation finished so that the limit can be adjusted.
+   *
+   * @param durationNanos how long the reconciliation took, in nanoseconds
+   * @param exception the exception the reconciliation failed with, {@code null} if it succeeded
+   */
+  void onReconciliationFinished(long durationNanos, Exception exception);
+}
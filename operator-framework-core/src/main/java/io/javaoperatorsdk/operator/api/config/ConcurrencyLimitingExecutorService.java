@@ -0,0 +1,127 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands tasks over to the wrapped {@link ExecutorService} only as long as fewer tasks than allowed
+ * by the {@link ConcurrencyLimit} are executing, keeping the other ones in a queue until a slot is
+ * available.
+ */
+class ConcurrencyLimitingExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService executor;
+  private final ConcurrencyLimit limit;
+  private final ConcurrentLinkedDeque<Runnable> pending = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile boolean shutdown;
+
+  ConcurrencyLimitingExecutorService(ExecutorService executor, ConcurrencyLimit limit) {
+    this.executor = executor;
+    this.limit = limit;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor is shut down");
+    }
+    pending.offer(command);
+    dispatch(command);
+  }
+
+  // each change to the pending queue or the in-flight count is followed by a dispatch, so that a
+  // task can't be left waiting while a slot is available
+  private void dispatch(Runnable submitted) {
+    while (!pending.isEmpty()) {
+      final var current = inFlight.get();
+      if (current >= limit.getLimit()) {
+        return;
+      }
+      if (!inFlight.compareAndSet(current, current + 1)) {
+        continue;
+      }
+      final var task = pending.poll();
+      if (task == null) {
+        inFlight.decrementAndGet();
+        continue;
+      }
+      try {
+        executor.execute(
+            () -> {
+              try {
+                task.run();
+              } finally {
+                inFlight.decrementAndGet();
+                dispatch(null);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        inFlight.decrementAndGet();
+        if (task == submitted) {
+          // the caller submitting the rejected task is notified
+          throw e;
+        }
+        // the task of another caller is kept for a later dispatch
+        pending.offerFirst(task);
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    shutdown = true;
+    // let the wrapped executor decide what to do with the tasks not handed over yet
+    Runnable task;
+    while ((task = pending.poll()) != null) {
+      executor.execute(task);
+    }
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    shutdown = true;
+    final var notExecuted = new ArrayList<Runnable>(pending);
+    pending.clear();
+    notExecuted.addAll(executor.shutdownNow());
+    return notExecuted;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
@@ -160,6 +160,7 @@ public interface ConfigurationService {
         .withConfig(
             new ConfigBuilder(Config.autoConfigure(null))
                 .withMaxConcurrentRequests(DEFAULT_MAX_CONCURRENT_REQUEST)
+                .withWatchList(useWatchList())
                 .build())
         .withKubernetesSerialization(new KubernetesSerialization())
         .build();
@@ -232,6 +233,130 @@ public interface ConfigurationService {
     return Executors.newFixedThreadPool(concurrentReconciliationThreads());
   }
 
+  /**
+   * Optional {@link ConcurrencyLimit} adjusting how many reconciliations can effectively execute in
+   * parallel on the reconcile executor, at most {@link #concurrentReconciliationThreads()}, based
+   * on the latency and outcome of reconciliations. No limit is applied by default.
+   *
+   * @return the optional {@link ConcurrencyLimit} to apply to the reconcile executor
+   * @see AIMDConcurrencyLimit
+   * @since 5.6.0
+   */
+  default Optional<ConcurrencyLimit> reconcileConcurrencyLimit() {
+    return Optional.empty();
+  }
+
+  /**
+   * Capacity of the queue handing the events received by the event sources of a controller over to
+   * its event processor, {@code 0} to process events on the thread delivering them, e.g. the
+   * informer threads, which is the default. When configured, event sources only record the events
+   * in the queue, the events received for a resource still pending in the queue being coalesced,
+   * and the events are processed asynchronously in the order the resources were first queued. The
+   * capacity is the number of resources with pending events, what happens when it is exceeded is
+   * determined by {@link #eventQueueOverflowStrategy()}.
+   *
+   * @return the capacity of the event queue of each controller, {@code 0} for no queue
+   * @since 5.6.0
+   */
+  default int eventQueueCapacity() {
+    return 0;
+  }
+
+  /**
+   * What happens when an event is received for a new resource while the event queue of a controller
+   * is full, see {@link #eventQueueCapacity()}.
+   *
+   * @return the {@link EventQueueOverflowStrategy} to use
+   * @since 5.6.0
+   */
+  default EventQueueOverflowStrategy eventQueueOverflowStrategy() {
+    return EventQueueOverflowStrategy.CALLER_RUNS;
+  }
+
+  /**
+   * Optional operator-wide {@link WriteBudget} limiting the rate of write requests the SDK issues
+   * to the Kubernetes API server on behalf of all controllers. No budget is applied by default.
+   *
+   * @return the optional {@link WriteBudget} shared by all controllers
+   * @see TokenBucketWriteBudget
+   * @since 5.6.0
+   */
+  default Optional<WriteBudget> writeBudget() {
+    return Optional.empty();
+  }
+
+  /**
+   * Whether managed workflows are reconciled with an executor scheduling dependents using
+   * precomputed per-node dependency counters and atomic operations, instead of the default executor
+   * synchronizing on the whole workflow and re-checking all the parents of a dependent each time
+   * one of them completes. This reduces contention for workflows with many dependents. Cleanup is
+   * not affected.
+   *
+   * @return {@code true} if the lock-free workflow executor should be used, {@code false} otherwise
+   * @since 5.6.0
+   */
+  default boolean useLockFreeWorkflowExecution() {
+    return false;
+  }
+
+  /**
+   * Whether managed workflows run dependents inline on the thread that made them ready instead of
+   * always handing them off to the {@link #getWorkflowExecutorService() workflow executor}. When
+   * enabled, dependents considered {@link
+   * io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource#isCheapToReconcile()
+   * cheap to reconcile} are always run inline, and, among the other dependents made ready at the
+   * same time, one continues on the current thread while only the remaining, actually parallel,
+   * branches are submitted to the executor. A linear chain of dependents is thus reconciled
+   * entirely on the reconciling thread. Implies {@link #useLockFreeWorkflowExecution()}.
+   *
+   * @return {@code true} if workflow dependents should be executed inline when possible, {@code
+   *     false} otherwise
+   * @since 5.6.0
+   */
+  default boolean useInlineWorkflowExecution() {
+    return false;
+  }
+
+  /**
+   * Whether managed workflows only reconcile the dependents affected by the events that triggered
+   * the reconciliation. When all these events come from event sources of dependents, see {@link
+   * io.javaoperatorsdk.operator.api.reconciler.Context#getTriggeringEventSourceNames()}, only these
+   * dependents, the dependents without an event source and, transitively, the dependents depending
+   * on them are reconciled. The dependents they depend on are still visited to evaluate their
+   * conditions, without being reconciled, while other dependents are skipped. A full pass is
+   * performed when the reconciliation is triggered by a change to the primary resource, a retry, a
+   * rescheduling, including the maximum reconciliation interval, or an event from an event source
+   * not associated with a dependent. Cleanup is not affected.
+   *
+   * <p>This assumes that the desired state of a dependent only depends on the primary resource and
+   * on the secondary resources of the dependents it depends on.
+   *
+   * @return {@code true} if workflows should be reconciled incrementally, {@code false} otherwise
+   * @since 5.6.0
+   */
+  default boolean useIncrementalWorkflowReconciliation() {
+    return false;
+  }
+
+  /**
+   * Maximum number of values memoized per controller across reconciliations for dependents, {@code
+   * 0} disabling memoization. When enabled, the desired state of dependents extending {@link
+   * io.javaoperatorsdk.operator.processing.dependent.AbstractDependentResource} as well as the
+   * result of their ready postconditions and reconcile preconditions are reused as long as the
+   * generation, labels and annotations of the primary resource, but not its status, the secondary
+   * resources read through the {@link io.javaoperatorsdk.operator.api.reconciler.Context} while
+   * computing them and, for conditions, the actual state of the dependent didn't change. This
+   * assumes that these computations only depend on these inputs, see {@link
+   * io.javaoperatorsdk.operator.processing.dependent.MemoizationCache}. Activation conditions and
+   * delete postconditions are always evaluated.
+   *
+   * @return the maximum number of memoized values per controller
+   * @since 5.6.0
+   */
+  default int dependentMemoizationCacheSize() {
+    return 0;
+  }
+
   /**
    * Override to provide a custom {@link ExecutorService} implementation to change how dependent
    * workflows are processed in parallel
@@ -288,6 +413,115 @@ public interface ConfigurationService {
     return true;
   }
 
+  /**
+   * Maximum number of event sources started concurrently across all the controllers of the
+   * operator, {@code 0} to use the default startup. By default, each controller starts its {@link
+   * ControllerEventSource}, then its {@link
+   * io.javaoperatorsdk.operator.processing.event.source.EventSourceStartPriority#RESOURCE_STATE_LOADER}
+   * event sources and then the remaining ones, each step waiting for all its event sources to be
+   * synced before proceeding. When a positive value is returned, the event sources of all
+   * controllers are instead started on a shared pool of that many threads, only the {@link
+   * io.javaoperatorsdk.operator.processing.event.source.EventSourceStartPriority#DEFAULT} event
+   * sources waiting for the resource state loaders of their controller, and each controller starts
+   * processing events as soon as its own event sources are synced. The progress of the startup can
+   * be followed using {@link
+   * io.javaoperatorsdk.operator.health.ControllerHealthInfo#eventSourceStartupProgress()}.
+   *
+   * @return the maximum number of event sources started concurrently, {@code 0} for the default
+   *     startup
+   * @since 5.6.0
+   */
+  default int eventSourceStartupConcurrency() {
+    return 0;
+  }
+
+  /**
+   * Whether informers are shared by the event sources of this operator watching the same resources
+   * in the same namespaces with the same label, field and shard selectors, list limit and item
+   * store, e.g. several controllers or dependents watching {@code Secret} resources. Each event
+   * source then registers its own event handler, filters and indexers on a single informer, thus
+   * sharing its watch connection and cache. Shared informers are reference counted: they are
+   * stopped when the last event source using them is stopped. Event sources configured with their
+   * own {@link io.fabric8.kubernetes.client.KubernetesClient} are never shared.
+   *
+   * @return {@code true} if informers should be shared, {@code false} otherwise
+   * @since 5.6.0
+   */
+  default boolean useSharedInformers() {
+    return false;
+  }
+
+  /**
+   * Number of watched namespaces above which the informers of an event source watching a set of
+   * namespaces are replaced by a single informer watching all namespaces, {@code 0} to always use
+   * one informer per namespace, which is the default. The resources from the other namespaces are
+   * then filtered out of the events and of the cache lookups. This trades a single watch connection
+   * against caching the resources of all namespaces, and requires the operator to be allowed to
+   * list and watch the resources cluster-wide.
+   *
+   * @return the number of namespaces above which a cluster-wide informer is used, {@code 0} to
+   *     never use one when specific namespaces are watched
+   * @since 5.6.0
+   */
+  default int clusterWideInformerNamespaceThreshold() {
+    return 0;
+  }
+
+  /**
+   * Whether changing the namespaces of a controller, see {@link
+   * NamespaceChangeable#changeNamespaces(Set)}, only affects the added and removed namespaces.
+   * Event processing then goes on during the change, the caches and state of the resources in the
+   * retained namespaces being kept, and the state of the resources in the removed namespaces being
+   * discarded. Cluster-wide informers filtering namespaces, see {@link
+   * #clusterWideInformerNamespaceThreshold()}, are then updated instead of being recreated, only
+   * the resources from the added namespaces being propagated as events. Changes switching between a
+   * cluster-wide informer and per-namespace informers still recreate the informers, event
+   * processing being paused during such changes. By default, event processing is paused during all
+   * changes and cluster-wide informers are recreated.
+   *
+   * @return {@code true} if namespace changes only affect the added and removed namespaces
+   * @since 5.6.0
+   */
+  default boolean incrementalNamespaceChanges() {
+    return false;
+  }
+
+  /**
+   * Whether informers perform their initial sync using a streaming list, i.e. a watch requesting
+   * the initial state of the resources ({@code sendInitialEvents=true}) instead of a paginated
+   * list. The resources are then deserialized and propagated as events one by one as they are
+   * received, instead of page by page, and the list limit, see {@link
+   * io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration#getInformerListLimit()},
+   * is ignored. This requires the {@code WatchList} feature to be enabled on the Kubernetes API
+   * server.
+   *
+   * <p>Note that this is a setting of the {@link KubernetesClient}, only applied to the client
+   * created by default by {@link #getKubernetesClient()}. When providing your own client, configure
+   * it using {@link ConfigBuilder#withWatchList(Boolean)} instead.
+   *
+   * @return {@code true} if informers should use streaming lists, {@code false} otherwise
+   * @since 5.6.0
+   */
+  default boolean useWatchList() {
+    return false;
+  }
+
+  /**
+   * Store used to persist snapshots of the informer caches when informers are stopped, e.g. on
+   * shutdown or when losing leadership, and to warm-start the informers from them when they are
+   * started again. A warm-started informer immediately serves the resources of the snapshot while
+   * it performs its initial list in the background, only the differences with the snapshot being
+   * then propagated as events, so that the event sources don't wait for the initial list, see
+   * {@link #cacheSyncTimeout()}. Shared informers, see {@link #useSharedInformers()}, are not
+   * snapshotted. See {@link FileInformerSnapshotStore} for a file based implementation.
+   *
+   * @return the store for informer snapshots, empty if informers should not be snapshotted
+   * @since 5.6.0
+   */
+  default Optional<InformerSnapshotStore> informerSnapshotStore() {
+    return Optional.empty();
+  }
+
   /**
    * Timeout for cache sync. In other words source start timeout. Note that is
    * "stopOnInformerErrorDuringStartup" is true the operator will stop on timeout. Default is 2
@@ -53,6 +53,20 @@ public class ConfigurationServiceOverrider {
   private Set<Class<? extends HasMetadata>> defaultNonSSAResource;
   private Boolean useSSAToPatchPrimaryResource;
   private Boolean cloneSecondaryResourcesWhenGettingFromCache;
+  private ConcurrencyLimit reconcileConcurrencyLimit;
+  private WriteBudget writeBudget;
+  private Boolean useLockFreeWorkflowExecution;
+  private Boolean useInlineWorkflowExecution;
+  private Boolean useIncrementalWorkflowReconciliation;
+  private Integer dependentMemoizationCacheSize;
+  private Integer eventSourceStartupConcurrency;
+  private Boolean useSharedInformers;
+  private InformerSnapshotStore informerSnapshotStore;
+  private Boolean useWatchList;
+  private Integer clusterWideInformerNamespaceThreshold;
+  private Boolean incrementalNamespaceChanges;
+  private Integer eventQueueCapacity;
+  private EventQueueOverflowStrategy eventQueueOverflowStrategy;
 
   @SuppressWarnings("rawtypes")
   private DependentResourceFactory dependentResourceFactory;
@@ -176,6 +190,78 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  public ConfigurationServiceOverrider withReconcileConcurrencyLimit(
+      ConcurrencyLimit reconcileConcurrencyLimit) {
+    this.reconcileConcurrencyLimit = reconcileConcurrencyLimit;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withWriteBudget(WriteBudget writeBudget) {
+    this.writeBudget = writeBudget;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withLockFreeWorkflowExecution(boolean value) {
+    this.useLockFreeWorkflowExecution = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withInlineWorkflowExecution(boolean value) {
+    this.useInlineWorkflowExecution = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withIncrementalWorkflowReconciliation(boolean value) {
+    this.useIncrementalWorkflowReconciliation = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withDependentMemoizationCacheSize(int size) {
+    this.dependentMemoizationCacheSize = size;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withEventSourceStartupConcurrency(int concurrency) {
+    this.eventSourceStartupConcurrency = concurrency;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withSharedInformers(boolean value) {
+    this.useSharedInformers = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withInformerSnapshotStore(InformerSnapshotStore store) {
+    this.informerSnapshotStore = store;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withClusterWideInformerNamespaceThreshold(int threshold) {
+    this.clusterWideInformerNamespaceThreshold = threshold;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withIncrementalNamespaceChanges(boolean value) {
+    this.incrementalNamespaceChanges = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withWatchList(boolean value) {
+    this.useWatchList = value;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withEventQueueCapacity(int capacity) {
+    this.eventQueueCapacity = capacity;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withEventQueueOverflowStrategy(
+      EventQueueOverflowStrategy strategy) {
+    this.eventQueueOverflowStrategy = strategy;
+    return this;
+  }
+
   public ConfigurationService build() {
     return new BaseConfigurationService(original.getVersion(), cloner, client) {
       @Override
@@ -258,6 +344,99 @@ public class ConfigurationServiceOverrider {
             : original.getLeaderElectionConfiguration();
       }
 
+      @Override
+      public Optional<ConcurrencyLimit> reconcileConcurrencyLimit() {
+        return reconcileConcurrencyLimit != null
+            ? Optional.of(reconcileConcurrencyLimit)
+            : original.reconcileConcurrencyLimit();
+      }
+
+      @Override
+      public Optional<WriteBudget> writeBudget() {
+        return writeBudget != null ? Optional.of(writeBudget) : original.writeBudget();
+      }
+
+      @Override
+      public boolean useLockFreeWorkflowExecution() {
+        return overriddenValueOrDefault(
+            useLockFreeWorkflowExecution, ConfigurationService::useLockFreeWorkflowExecution);
+      }
+
+      @Override
+      public boolean useInlineWorkflowExecution() {
+        return overriddenValueOrDefault(
+            useInlineWorkflowExecution, ConfigurationService::useInlineWorkflowExecution);
+      }
+
+      @Override
+      public boolean useIncrementalWorkflowReconciliation() {
+        return overriddenValueOrDefault(
+            useIncrementalWorkflowReconciliation,
+            ConfigurationService::useIncrementalWorkflowReconciliation);
+      }
+
+      @Override
+      public int dependentMemoizationCacheSize() {
+        return overriddenValueOrDefault(
+            dependentMemoizationCacheSize, ConfigurationService::dependentMemoizationCacheSize);
+      }
+
+      @Override
+      public int eventSourceStartupConcurrency() {
+        return overriddenValueOrDefault(
+            eventSourceStartupConcurrency, ConfigurationService::eventSourceStartupConcurrency);
+      }
+
+      @Override
+      public boolean useSharedInformers() {
+        return overriddenValueOrDefault(
+            useSharedInformers, ConfigurationService::useSharedInformers);
+      }
+
+      @Override
+      public Optional<InformerSnapshotStore> informerSnapshotStore() {
+        return informerSnapshotStore != null
+            ? Optional.of(informerSnapshotStore)
+            : original.informerSnapshotStore();
+      }
+
+      @Override
+      public int clusterWideInformerNamespaceThreshold() {
+        return Utils.ensureValid(
+            overriddenValueOrDefault(
+                clusterWideInformerNamespaceThreshold,
+                ConfigurationService::clusterWideInformerNamespaceThreshold),
+            "cluster-wide informer namespace threshold",
+            0,
+            original.clusterWideInformerNamespaceThreshold());
+      }
+
+      @Override
+      public boolean incrementalNamespaceChanges() {
+        return overriddenValueOrDefault(
+            incrementalNamespaceChanges, ConfigurationService::incrementalNamespaceChanges);
+      }
+
+      @Override
+      public boolean useWatchList() {
+        return overriddenValueOrDefault(useWatchList, ConfigurationService::useWatchList);
+      }
+
+      @Override
+      public int eventQueueCapacity() {
+        return Utils.ensureValid(
+            overriddenValueOrDefault(eventQueueCapacity, ConfigurationService::eventQueueCapacity),
+            "event queue capacity",
+            0,
+            original.eventQueueCapacity());
+      }
+
+      @Override
+      public EventQueueOverflowStrategy eventQueueOverflowStrategy() {
+        return overriddenValueOrDefault(
+            eventQueueOverflowStrategy, ConfigurationService::eventQueueOverflowStrategy);
+      }
+
       @Override
       public Optional<InformerStoppedHandler> getInformerStoppedHandler() {
         return informerStoppedHandler != null
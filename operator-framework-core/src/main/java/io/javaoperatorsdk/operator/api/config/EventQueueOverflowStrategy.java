@@ -0,0 +1,36 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * What happens when an event is received for a resource that has no pending event in the event
+ * queue of a controller while that queue is full.
+ *
+ * @see ConfigurationService#eventQueueCapacity()
+ * @since 5.6.0
+ */
+public enum EventQueueOverflowStrategy {
+  /**
+   * The event is processed on the thread that delivered it, typically an informer thread, as if no
+   * event queue was configured.
+   */
+  CALLER_RUNS,
+  /**
+   * The thread that delivered the event, typically an informer thread, waits until the queue has
+   * room for it, thus slowing down the event delivery.
+   */
+  BLOCK
+}
@@ -18,14 +18,20 @@ package io.javaoperatorsdk.operator.api.config;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,10 +44,12 @@ import io.javaoperatorsdk.operator.OperatorException;
 public class ExecutorServiceManager {
 
   private static final Logger log = LoggerFactory.getLogger(ExecutorServiceManager.class);
-  private ExecutorService executor;
+  private InstrumentedExecutorService executor;
   private ExecutorService workflowExecutor;
+  private ConcurrencyLimit reconcileConcurrencyLimit;
   private ExecutorService cachingExecutorService;
   private ScheduledExecutorService scheduledExecutorService;
+  private ExecutorService eventSourceStartupExecutorService;
   private boolean started;
   private ConfigurationService configurationService;
 
@@ -112,6 +120,29 @@ public class ExecutorServiceManager {
     return executor;
   }
 
+  /**
+   * Statistics about the reconciliations submitted to the {@link #reconcileExecutorService()} since
+   * the last time this manager was started.
+   *
+   * @return the statistics of the reconcile executor
+   * @since 5.6.0
+   */
+  public ExecutorServiceStatistics reconcileExecutorStatistics() {
+    return executor;
+  }
+
+  /**
+   * The {@link ConcurrencyLimit} used to limit the effective parallelism of the {@link
+   * #reconcileExecutorService()}, if configured via {@link
+   * ConfigurationService#reconcileConcurrencyLimit()}.
+   *
+   * @return the optional concurrency limit of the reconcile executor
+   * @since 5.6.0
+   */
+  public Optional<ConcurrencyLimit> reconcileConcurrencyLimit() {
+    return Optional.ofNullable(reconcileConcurrencyLimit);
+  }
+
   public ExecutorService workflowExecutorService() {
     lazyInitWorkflowExecutorService();
     return workflowExecutor;
@@ -132,18 +163,44 @@ public class ExecutorServiceManager {
     return scheduledExecutorService;
   }
 
+  /**
+   * The executor shared by all controllers to start their event sources, bounding the number of
+   * event sources started concurrently, if configured via {@link
+   * ConfigurationService#eventSourceStartupConcurrency()}.
+   *
+   * @return the optional executor to start event sources on
+   * @since 5.6.0
+   */
+  public synchronized Optional<ExecutorService> eventSourceStartupExecutorService() {
+    return Optional.ofNullable(eventSourceStartupExecutorService);
+  }
+
   public synchronized void start(ConfigurationService configurationService) {
     if (!started) {
       this.configurationService = configurationService; // used to lazy init workflow executor
       this.cachingExecutorService = Executors.newCachedThreadPool();
       this.scheduledExecutorService = Executors.newScheduledThreadPool(0);
-      this.executor = new InstrumentedExecutorService(configurationService.getExecutorService());
+      final var startupConcurrency = configurationService.eventSourceStartupConcurrency();
+      this.eventSourceStartupExecutorService =
+          startupConcurrency > 0 ? Executors.newFixedThreadPool(startupConcurrency) : null;
+      this.reconcileConcurrencyLimit =
+          configurationService.reconcileConcurrencyLimit().orElse(null);
+      final var reconcileExecutor = configurationService.getExecutorService();
+      this.executor =
+          new InstrumentedExecutorService(
+              reconcileConcurrencyLimit != null
+                  ? new ConcurrencyLimitingExecutorService(
+                      reconcileExecutor, reconcileConcurrencyLimit)
+                  : reconcileExecutor,
+              reconcileExecutor instanceof ThreadPoolExecutor threadPool
+                  ? threadPool.getMaximumPoolSize()
+                  : configurationService.concurrentReconciliationThreads());
       started = true;
     }
   }
 
   public synchronized void stop(Duration gracefulShutdownTimeout) {
-    var parallelExec = Executors.newFixedThreadPool(4);
+    var parallelExec = Executors.newFixedThreadPool(5);
     try {
       log.debug("Closing executor");
       parallelExec.invokeAll(
@@ -151,7 +208,8 @@ public class ExecutorServiceManager {
               shutdown(executor, gracefulShutdownTimeout),
               shutdown(workflowExecutor, gracefulShutdownTimeout),
               shutdown(cachingExecutorService, gracefulShutdownTimeout),
-              shutdown(scheduledExecutorService, gracefulShutdownTimeout)));
+              shutdown(scheduledExecutorService, gracefulShutdownTimeout),
+              shutdown(eventSourceStartupExecutorService, gracefulShutdownTimeout)));
     } catch (InterruptedException e) {
       log.debug("Exception closing executor: {}", e.getLocalizedMessage());
       Thread.currentThread().interrupt();
@@ -161,6 +219,7 @@ public class ExecutorServiceManager {
       // silently leaving the manager with already terminated executors
       parallelExec.shutdownNow();
       workflowExecutor = null;
+      eventSourceStartupExecutorService = null;
       started = false;
     }
   }
@@ -168,7 +227,7 @@ public class ExecutorServiceManager {
   private static Callable<Void> shutdown(
       ExecutorService executorService, Duration gracefulShutdownTimeout) {
     return () -> {
-      // workflow executor can be null
+      // workflow and event source startup executors can be null
       if (executorService == null) {
         return null;
       }
@@ -181,18 +240,62 @@ public class ExecutorServiceManager {
     };
   }
 
-  private static class InstrumentedExecutorService implements ExecutorService {
+  private static class InstrumentedExecutorService
+      implements ExecutorService, ExecutorServiceStatistics {
     private final boolean debug;
     private final ExecutorService executor;
+    private final int maximumParallelism;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
 
     private InstrumentedExecutorService(ExecutorService executor) {
+      this(
+          executor,
+          executor instanceof ThreadPoolExecutor threadPool ? threadPool.getMaximumPoolSize() : -1);
+    }
+
+    private InstrumentedExecutorService(ExecutorService executor, int maximumParallelism) {
       if (executor == null) {
         throw new NullPointerException();
       }
       this.executor = executor;
+      this.maximumParallelism = maximumParallelism;
       debug = Utils.debugThreadPool();
     }
 
+    @Override
+    public int queueSize() {
+      return queued.get();
+    }
+
+    @Override
+    public int activeCount() {
+      return active.get();
+    }
+
+    @Override
+    public long completedCount() {
+      return completed.sum();
+    }
+
+    @Override
+    public long rejectedCount() {
+      return rejected.sum();
+    }
+
+    @Override
+    public long totalQueueWaitNanos() {
+      return totalQueueWaitNanos.sum();
+    }
+
+    @Override
+    public int maximumParallelism() {
+      return maximumParallelism;
+    }
+
     @Override
     public void shutdown() {
       if (debug) {
@@ -223,32 +326,53 @@ public class ExecutorServiceManager {
 
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-      return executor.submit(task);
+      final var tracked = new TrackedTask<>(task);
+      try {
+        return executor.submit((Callable<T>) tracked);
+      } catch (RejectedExecutionException e) {
+        tracked.rejected();
+        throw e;
+      }
     }
 
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-      return executor.submit(task, result);
+      return submit(Executors.callable(task, result));
     }
 
     @Override
     public Future<?> submit(Runnable task) {
-      return executor.submit(task);
+      return submit(Executors.callable(task));
     }
 
     @Override
     public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
         throws InterruptedException {
-      return executor.invokeAll(tasks);
+      final var tracked = track(tasks);
+      try {
+        return executor.invokeAll(tracked);
+      } finally {
+        tracked.forEach(TrackedTask::untrackIfNotStarted);
+      }
     }
 
     @Override
     public <T> List<Future<T>> invokeAll(
         Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
         throws InterruptedException {
-      return executor.invokeAll(tasks, timeout, unit);
+      final var tracked = track(tasks);
+      try {
+        return executor.invokeAll(tracked, timeout, unit);
+      } finally {
+        tracked.forEach(TrackedTask::untrackIfNotStarted);
+      }
     }
 
+    private <T> List<TrackedTask<T>> track(Collection<? extends Callable<T>> tasks) {
+      return tasks.stream().map(TrackedTask::new).collect(Collectors.toList());
+    }
+
+    // as only one of the tasks is expected to complete, these are not tracked
     @Override
     public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
         throws InterruptedException, ExecutionException {
@@ -263,7 +387,67 @@ public class ExecutorServiceManager {
 
     @Override
     public void execute(Runnable command) {
-      executor.execute(command);
+      final var tracked = new TrackedTask<>(Executors.callable(command));
+      try {
+        executor.execute(tracked);
+      } catch (RejectedExecutionException e) {
+        tracked.rejected();
+        throw e;
+      }
+    }
+
+    private class TrackedTask<T> implements Callable<T>, Runnable {
+      private final Callable<T> task;
+      private final long submittedAt = System.nanoTime();
+      private final AtomicBoolean dequeued = new AtomicBoolean();
+
+      private TrackedTask(Callable<T> task) {
+        this.task = task;
+        queued.incrementAndGet();
+      }
+
+      private boolean dequeue() {
+        if (dequeued.compareAndSet(false, true)) {
+          queued.decrementAndGet();
+          return true;
+        }
+        return false;
+      }
+
+      private void rejected() {
+        if (dequeue()) {
+          rejected.increment();
+        }
+      }
+
+      private void untrackIfNotStarted() {
+        dequeue();
+      }
+
+      @Override
+      public T call() throws Exception {
+        dequeue();
+        totalQueueWaitNanos.add(System.nanoTime() - submittedAt);
+        active.incrementAndGet();
+        try {
+          return task.call();
+        } finally {
+          active.decrementAndGet();
+          completed.increment();
+        }
+      }
+
+      @Override
+      public void run() {
+        try {
+          call();
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          // cannot happen as only callables adapted from runnables are executed as runnables
+          throw new OperatorException(e);
+        }
+      }
     }
   }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * Statistics about the work submitted to an {@link java.util.concurrent.ExecutorService} managed by
+ * the {@link ExecutorServiceManager}, allowing to find out whether it is saturated or oversized.
+ * Values are sampled without locking and might therefore be slightly out of sync with each other.
+ *
+ * @since 5.6.0
+ */
+public interface ExecutorServiceStatistics {
+
+  /**
+   * @return the number of tasks submitted but not started yet
+   */
+  int queueSize();
+
+  /**
+   * @return the number of tasks currently executing
+   */
+  int activeCount();
+
+  /**
+   * @return the number of tasks that finished executing, successfully or not
+   */
+  long completedCount();
+
+  /**
+   * @return the number of tasks rejected by the executor
+   */
+  long rejectedCount();
+
+  /**
+   * @return the accumulated time tasks spent queued before starting, in nanoseconds
+   */
+  long totalQueueWaitNanos();
+
+  /**
+   * @return the maximum number of tasks the executor can run in parallel, or {@code -1} if unknown
+   */
+  int maximumParallelism();
+
+  /**
+   * @return the ratio of currently executing tasks to {@link #maximumParallelism()}, or {@code
+   *     Double.NaN} if the maximum parallelism is unknown
+   */
+  default double utilization() {
+    final var max = maximumParallelism();
+    return max > 0 ? (double) activeCount() / max : Double.NaN;
+  }
+}
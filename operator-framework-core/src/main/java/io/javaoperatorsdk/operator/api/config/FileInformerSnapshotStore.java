@@ -0,0 +1,130 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+/**
+ * {@link InformerSnapshotStore} keeping each snapshot in its own file of a local directory, e.g. on
+ * a persistent volume. The first line of a file holds the resource version of the snapshot, each of
+ * the following lines a resource serialized as JSON. Files are written to a temporary file first
+ * and then moved, so that a crash while saving never leaves a truncated snapshot behind.
+ *
+ * @since 5.6.0
+ */
+public class FileInformerSnapshotStore implements InformerSnapshotStore {
+
+  private static final Logger log = LoggerFactory.getLogger(FileInformerSnapshotStore.class);
+  private static final String EXTENSION = ".snapshot";
+
+  private final Path directory;
+  private final KubernetesSerialization serialization;
+
+  public FileInformerSnapshotStore(Path directory, KubernetesSerialization serialization) {
+    this.directory = directory;
+    this.serialization = serialization;
+  }
+
+  @Override
+  public <R extends HasMetadata> Optional<Snapshot<R>> load(String key, Class<R> resourceClass) {
+    final var file = fileFor(key);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      final var resourceVersion = reader.readLine();
+      if (resourceVersion == null) {
+        return Optional.empty();
+      }
+      final var resources = new ArrayList<R>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        resources.add(serialization.unmarshal(line, resourceClass));
+      }
+      return Optional.of(new Snapshot<>(resourceVersion, resources));
+    } catch (Exception e) {
+      log.warn("Couldn't load informer snapshot {} from {}, ignoring it", key, file, e);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void save(String key, Snapshot<? extends HasMetadata> snapshot) {
+    final var file = fileFor(key);
+    Path temporary = null;
+    try {
+      Files.createDirectories(directory);
+      temporary = Files.createTempFile(directory, fileName(key), ".tmp");
+      try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+        writer.write(snapshot.resourceVersion());
+        for (var resource : snapshot.resources()) {
+          writer.newLine();
+          writer.write(serialization.asJson(resource));
+        }
+      }
+      try {
+        Files.move(
+            temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      log.debug(
+          "Saved informer snapshot {} with {} resources to {}",
+          key,
+          snapshot.resources().size(),
+          file);
+    } catch (IOException e) {
+      log.warn("Couldn't save informer snapshot {} to {}", key, file, e);
+      deleteQuietly(temporary);
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.debug("Couldn't delete temporary snapshot file {}", path, e);
+    }
+  }
+
+  Path fileFor(String key) {
+    return directory.resolve(fileName(key));
+  }
+
+  // keys contain characters that are not valid in file names
+  private static String fileName(String key) {
+    return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + EXTENSION;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Persists snapshots of informer caches so that informers can be warm-started from them, see {@link
+ * ConfigurationService#informerSnapshotStore()}. Implementations must be thread-safe since
+ * informers are started and stopped concurrently. Failing to load or save a snapshot must not
+ * prevent the informer from starting or stopping: implementations should rather log the issue and,
+ * when loading, return an empty result so that the informer starts from scratch.
+ *
+ * @since 5.6.0
+ */
+public interface InformerSnapshotStore {
+
+  /**
+   * Loads the latest snapshot saved for the given key.
+   *
+   * @param key identifies the informer, derived from the controller, event source, namespace and
+   *     selectors of the informer
+   * @param resourceClass the class of the cached resources
+   * @return the snapshot, empty if none is available
+   * @param <R> the type of the cached resources
+   */
+  <R extends HasMetadata> Optional<Snapshot<R>> load(String key, Class<R> resourceClass);
+
+  /**
+   * Saves the snapshot for the given key, replacing any previously saved one.
+   *
+   * @param key identifies the informer
+   * @param snapshot the snapshot to save
+   */
+  void save(String key, Snapshot<? extends HasMetadata> snapshot);
+
+  /**
+   * Content of an informer cache at a given point in time.
+   *
+   * @param resourceVersion the last resource version the informer was synced to when the snapshot
+   *     was taken
+   * @param resources the cached resources
+   * @param <R> the type of the cached resources
+   */
+  record Snapshot<R extends HasMetadata>(String resourceVersion, List<R> resources) {}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.javaoperatorsdk.operator.OperatorException;
+
+/**
+ * A {@link WriteBudget} backed by one token bucket per {@link WriteBudget.Verb}. Each bucket
+ * refills at a constant rate of permits per second and can accumulate up to {@code burst} permits
+ * when idle. Verbs without a configured limit are not restricted.
+ *
+ * <p>Permits are shared fairly between controllers: a controller waits for at most one permit of a
+ * given verb at a time, further writes of the same controller queue up behind it. Thus when the
+ * budget is exhausted, contending controllers are served in turn instead of proportionally to the
+ * number of their reconciliation threads, so a single busy controller cannot starve the others.
+ *
+ * @since 5.6.0
+ */
+public class TokenBucketWriteBudget implements WriteBudget {
+
+  private final Map<Verb, Bucket> buckets = new EnumMap<>(Verb.class);
+
+  /** Creates a budget without limits, use {@link #withLimit(Verb, double, int)} to add some. */
+  public TokenBucketWriteBudget() {}
+
+  /**
+   * Creates a budget applying the same limit to every verb, each verb having its own bucket.
+   *
+   * @param permitsPerSecond the rate at which permits are refilled
+   * @param burst the maximum number of permits that can be acquired without waiting after an idle
+   *     period, at least 1
+   */
+  public TokenBucketWriteBudget(double permitsPerSecond, int burst) {
+    for (Verb verb : Verb.values()) {
+      withLimit(verb, permitsPerSecond, burst);
+    }
+  }
+
+  /**
+   * Sets the limit for the given verb, replacing any previously configured one. Meant to be called
+   * while configuring the operator, before the budget is in use.
+   *
+   * @param verb the verb to limit
+   * @param permitsPerSecond the rate at which permits are refilled
+   * @param burst the maximum number of permits that can be acquired without waiting after an idle
+   *     period, at least 1
+   * @return this budget
+   */
+  public TokenBucketWriteBudget withLimit(Verb verb, double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException(
+          "Permits per second must be positive and burst at least 1, got: "
+              + permitsPerSecond
+              + " and "
+              + burst);
+    }
+    buckets.put(verb, new Bucket(permitsPerSecond, burst));
+    return this;
+  }
+
+  @Override
+  public long acquire(Verb verb, String controllerName) {
+    var bucket = buckets.get(verb);
+    if (bucket == null) {
+      return 0;
+    }
+    try {
+      return bucket.acquire(controllerName);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OperatorException(
+          "Interrupted while waiting for "
+              + verb
+              + " write budget of controller: "
+              + controllerName,
+          e);
+    }
+  }
+
+  private static class Bucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final Map<String, ControllerQueue> controllerQueues = new ConcurrentHashMap<>();
+    // theoretical arrival time of the next permit, as in the generic cell rate algorithm
+    private long nextPermitAt;
+
+    private Bucket(double permitsPerSecond, int burst) {
+      this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+      this.burstToleranceNanos = (burst - 1) * intervalNanos;
+      this.nextPermitAt = System.nanoTime();
+    }
+
+    long acquire(String controllerName) throws InterruptedException {
+      var queue = controllerQueues.get(controllerName);
+      if (queue == null) {
+        queue = controllerQueues.computeIfAbsent(controllerName, k -> new ControllerQueue());
+      }
+      final long start = System.nanoTime();
+      while (true) {
+        long wait;
+        boolean reserved = false;
+        queue.lock.lockInterruptibly();
+        try {
+          long now = System.nanoTime();
+          wait = queue.permitAt - now;
+          // a controller reserves a permit only once its previous one is due, so other threads of
+          // the same controller cannot reserve permits ahead of the other controllers
+          if (wait <= 0) {
+            wait = reserve(now);
+            queue.permitAt = now + wait;
+            reserved = true;
+          }
+        } finally {
+          queue.lock.unlock();
+        }
+        // waiting without holding the lock, so that the threads of the controller are not parked
+        // on it for the whole duration
+        if (wait > 0) {
+          TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        if (reserved) {
+          return System.nanoTime() - start;
+        }
+      }
+    }
+
+    /** Reserves the next permit, returning how long the caller has to wait before using it. */
+    private synchronized long reserve(long now) {
+      long arrival = Math.max(nextPermitAt, now);
+      nextPermitAt = arrival + intervalNanos;
+      return Math.max(0, arrival - burstToleranceNanos - now);
+    }
+  }
+
+  private static class ControllerQueue {
+    private final ReentrantLock lock = new ReentrantLock(true);
+    // when the last permit reserved by the controller can be used, guarded by the lock
+    private long permitAt = System.nanoTime();
+  }
+}
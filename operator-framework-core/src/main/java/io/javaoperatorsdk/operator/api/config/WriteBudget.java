@@ -0,0 +1,52 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * Operator-wide budget for write requests (create, update, patch, delete) issued to the Kubernetes
+ * API server by the SDK on behalf of all controllers. Used to keep the aggregated write traffic of
+ * an operator below a configured rate, independently of how many controllers or reconciliation
+ * threads are active. Writes done through {@link
+ * io.javaoperatorsdk.operator.api.reconciler.ResourceOperations} and by Kubernetes dependent
+ * resources acquire a permit from the budget before being sent; writes skipped because the actual
+ * state already matches the desired one do not consume any permit.
+ *
+ * @see TokenBucketWriteBudget
+ * @see ConfigurationService#writeBudget()
+ * @since 5.6.0
+ */
+public interface WriteBudget {
+
+  /** The kind of write request a permit is acquired for. */
+  enum Verb {
+    CREATE,
+    UPDATE,
+    PATCH,
+    DELETE
+  }
+
+  /**
+   * Blocks until a permit for the given verb is available.
+   *
+   * @param verb the kind of write about to be performed
+   * @param controllerName name of the controller performing the write, used to share the budget
+   *     fairly between controllers
+   * @return the time spent waiting for the permit, in nanoseconds
+   * @throws io.javaoperatorsdk.operator.OperatorException if the thread is interrupted while
+   *     waiting, the interrupt flag of the thread is restored in that case
+   */
+  long acquire(Verb verb, String controllerName);
+}
@@ -153,6 +153,29 @@ public @interface Informer {
    */
   boolean comparableResourceVersions() default DEFAULT_COMPARABLE_RESOURCE_VERSION;
 
+  /**
+   * Only caches the metadata of the watched resources (name, namespace, uid, resource version,
+   * generation, labels, annotations, owner references, finalizers and timestamps), dropping their
+   * spec, status and managed fields. Meant for secondary resources that are only watched to trigger
+   * reconciliations of their primaries, where caching full objects, e.g. all the Secrets of a
+   * cluster, would be too memory-hungry. Resources read from the cache will only hold metadata
+   * unless {@link #fetchFullResourceOnGet()} is also set. Ignored if a custom {@link #itemStore()}
+   * is configured.
+   *
+   * @since 5.6.0
+   */
+  boolean metadataOnly() default false;
+
+  /**
+   * When {@link #metadataOnly()} is set, retrieves the full resource from the API server when a
+   * secondary resource is read by the reconciler, e.g. using {@link
+   * io.javaoperatorsdk.operator.api.reconciler.Context#getSecondaryResource(Class)}. Event handling
+   * and mapping keep relying on the cached metadata only.
+   *
+   * @since 5.6.0
+   */
+  boolean fetchFullResourceOnGet() default false;
+
   /**
    * @deprecated Ghost resource checking is now triggered by the informer's onList callback. This
    *     setting is no longer used.
@@ -16,9 +16,11 @@
 package io.javaoperatorsdk.operator.api.config.informer;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,12 +31,14 @@ import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtilsInternal;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.config.Utils;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector.Field;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore;
 import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnAddFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnDeleteFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnUpdateFilter;
+import io.javaoperatorsdk.operator.processing.event.source.filter.SelectorFilter;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.*;
 
@@ -56,6 +60,8 @@ public class InformerConfiguration<R extends HasMetadata> {
   private Long informerListLimit;
   private FieldSelector fieldSelector;
   private Boolean comparableResourceVersions;
+  private Boolean metadataOnly;
+  private Boolean fetchFullResourceOnGet;
 
   protected InformerConfiguration(
       Class<R> resourceClass,
@@ -72,6 +78,8 @@ public class InformerConfiguration<R extends HasMetadata> {
       Long informerListLimit,
       FieldSelector fieldSelector,
       Boolean comparableResourceVersions,
+      Boolean metadataOnly,
+      Boolean fetchFullResourceOnGet,
       // TODO for removal in major release
       Duration ghostResourceCacheCheckInterval) {
     this(resourceClass);
@@ -88,6 +96,8 @@ public class InformerConfiguration<R extends HasMetadata> {
     this.informerListLimit = informerListLimit;
     this.fieldSelector = fieldSelector;
     this.comparableResourceVersions = comparableResourceVersions;
+    this.metadataOnly = metadataOnly;
+    this.fetchFullResourceOnGet = fetchFullResourceOnGet;
   }
 
   private InformerConfiguration(Class<R> resourceClass) {
@@ -125,6 +135,8 @@ public class InformerConfiguration<R extends HasMetadata> {
             original.informerListLimit,
             original.fieldSelector,
             original.comparableResourceVersions,
+            original.metadataOnly,
+            original.fetchFullResourceOnGet,
             null)
         .builder;
   }
@@ -280,6 +292,62 @@ public class InformerConfiguration<R extends HasMetadata> {
     return genericFilter;
   }
 
+  /**
+   * Computes the label selector used by the informer: the {@link #getLabelSelector() label
+   * selector} combined with the label requirements of the generic filter, if it is a {@link
+   * SelectorFilter}.
+   *
+   * @return the label selector of the informer, {@code null} if resources are not selected by
+   *     labels
+   * @since 5.6.0
+   */
+  public String getEffectiveLabelSelector() {
+    if (!(genericFilter instanceof SelectorFilter<?> selectorFilter)
+        || selectorFilter.getLabelSelector() == null) {
+      return labelSelector;
+    }
+    return labelSelector == null || labelSelector.isBlank()
+        ? selectorFilter.getLabelSelector()
+        : labelSelector + "," + selectorFilter.getLabelSelector();
+  }
+
+  /**
+   * Computes the field selector used by the informer: the {@link #getFieldSelector() field
+   * selector} combined with the field requirements of the generic filter, if it is a {@link
+   * SelectorFilter}.
+   *
+   * @return the field selector of the informer, {@code null} if resources are not selected by
+   *     fields
+   * @since 5.6.0
+   */
+  public FieldSelector getEffectiveFieldSelector() {
+    if (!(genericFilter instanceof SelectorFilter<?> selectorFilter)
+        || selectorFilter.getFields().isEmpty()) {
+      return fieldSelector;
+    }
+    final var fields =
+        new ArrayList<>(fieldSelector != null ? fieldSelector.getFields() : List.of());
+    selectorFilter.getFields().forEach((path, value) -> fields.add(new Field(path, value)));
+    return new FieldSelector(fields);
+  }
+
+  /**
+   * Computes the generic filter evaluated on the events of the informer: if the {@link
+   * #getGenericFilter() generic filter} is a {@link SelectorFilter}, only its requirements that are
+   * not part of the {@link #getEffectiveLabelSelector() label} and {@link
+   * #getEffectiveFieldSelector() field} selectors.
+   *
+   * @return the generic filter evaluated on the events, {@code null} if there is none
+   * @since 5.6.0
+   */
+  @SuppressWarnings("unchecked")
+  public GenericFilter<? super R> getEffectiveGenericFilter() {
+    if (genericFilter instanceof SelectorFilter<?> selectorFilter) {
+      return (GenericFilter<? super R>) selectorFilter.getClientSideFilter();
+    }
+    return genericFilter;
+  }
+
   /**
    * Replaces the item store in informer. See underlying <a href=
    * "https://github.com/fabric8io/kubernetes-client/blob/43b67939fde91046ab7fb0c362f500c2b46eb59e/kubernetes-client/src/main/java/io/fabric8/kubernetes/client/informers/impl/DefaultSharedIndexInformer.java#L273">method</a>
@@ -313,6 +381,29 @@ public class InformerConfiguration<R extends HasMetadata> {
     return comparableResourceVersions;
   }
 
+  /**
+   * Whether the informer only caches the metadata of the resources it watches, see {@link
+   * Informer#metadataOnly()}.
+   *
+   * @return {@code true} if only the metadata of the watched resources is cached
+   * @since 5.6.0
+   */
+  public boolean isMetadataOnly() {
+    return metadataOnly;
+  }
+
+  /**
+   * Whether secondary resources cached as {@link #isMetadataOnly() metadata only} are retrieved in
+   * full from the API server when read from the reconciler, see {@link
+   * Informer#fetchFullResourceOnGet()}.
+   *
+   * @return {@code true} if the full resource is fetched on read
+   * @since 5.6.0
+   */
+  public boolean isFetchFullResourceOnGet() {
+    return fetchFullResourceOnGet;
+  }
+
   @SuppressWarnings("UnusedReturnValue")
   public class Builder {
 
@@ -330,6 +421,12 @@ public class InformerConfiguration<R extends HasMetadata> {
       if (comparableResourceVersions == null) {
         comparableResourceVersions = DEFAULT_COMPARABLE_RESOURCE_VERSION;
       }
+      if (metadataOnly == null) {
+        metadataOnly = false;
+      }
+      if (fetchFullResourceOnGet == null) {
+        fetchFullResourceOnGet = false;
+      }
 
       return InformerConfiguration.this;
     }
@@ -345,6 +442,12 @@ public class InformerConfiguration<R extends HasMetadata> {
       if (comparableResourceVersions == null) {
         comparableResourceVersions = DEFAULT_COMPARABLE_RESOURCE_VERSION;
       }
+      if (metadataOnly == null) {
+        metadataOnly = false;
+      }
+      if (fetchFullResourceOnGet == null) {
+        fetchFullResourceOnGet = false;
+      }
 
       return InformerConfiguration.this;
     }
@@ -398,6 +501,8 @@ public class InformerConfiguration<R extends HasMetadata> {
                     .map(f -> new FieldSelector.Field(f.path(), f.value(), f.negated()))
                     .toList()));
         withComparableResourceVersions(informerConfig.comparableResourceVersions());
+        withMetadataOnly(informerConfig.metadataOnly());
+        withFetchFullResourceOnGet(informerConfig.fetchFullResourceOnGet());
       }
       return this;
     }
@@ -484,6 +589,14 @@ public class InformerConfiguration<R extends HasMetadata> {
       return this;
     }
 
+    /**
+     * Sets the filter applied to all the events of the informer. When using a {@link
+     * SelectorFilter}, its label and field requirements are added to the selectors of the informer
+     * when the informer is created, see {@link InformerConfiguration#getEffectiveLabelSelector()}.
+     *
+     * @param genericFilter the filter applied to all the events
+     * @return the builder instance so that calls can be chained fluently
+     */
     public Builder withGenericFilter(GenericFilter<? super R> genericFilter) {
       InformerConfiguration.this.genericFilter = genericFilter;
       return this;
@@ -509,6 +622,16 @@ public class InformerConfiguration<R extends HasMetadata> {
       return this;
     }
 
+    public Builder withMetadataOnly(boolean metadataOnly) {
+      InformerConfiguration.this.metadataOnly = metadataOnly;
+      return this;
+    }
+
+    public Builder withFetchFullResourceOnGet(boolean fetchFullResourceOnGet) {
+      InformerConfiguration.this.fetchFullResourceOnGet = fetchFullResourceOnGet;
+      return this;
+    }
+
     @Deprecated(forRemoval = true)
     public Builder withGhostResourceCacheCheckInterval(Duration ghostResourceCacheCheckInterval) {
       return this;
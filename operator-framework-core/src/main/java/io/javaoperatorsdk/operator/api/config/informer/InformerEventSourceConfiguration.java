@@ -296,6 +296,16 @@ public interface InformerEventSourceConfiguration<R extends HasMetadata> extends
       return this;
     }
 
+    public Builder<R> withMetadataOnly(boolean metadataOnly) {
+      config.withMetadataOnly(metadataOnly);
+      return this;
+    }
+
+    public Builder<R> withFetchFullResourceOnGet(boolean fetchFullResourceOnGet) {
+      config.withFetchFullResourceOnGet(fetchFullResourceOnGet);
+      return this;
+    }
+
     @Deprecated(forRemoval = true)
     public Builder<R> withGhostResourceCacheCheckInterval(
         Duration ghostResourceCacheCheckInterval) {
@@ -18,8 +18,10 @@ package io.javaoperatorsdk.operator.api.monitoring;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.Event;
@@ -104,6 +106,35 @@ public final class AggregatedMetrics implements Metrics {
     metricsList.forEach(metrics -> metrics.reconciliationFinished(resource, retryInfo, metadata));
   }
 
+  @Override
+  public void reconciliationLatencies(
+      HasMetadata resource, ReconciliationLatencies latencies, Map<String, Object> metadata) {
+    metricsList.forEach(metrics -> metrics.reconciliationLatencies(resource, latencies, metadata));
+  }
+
+  @Override
+  public void writeBudgetAcquired(
+      WriteBudget.Verb verb, long waitNanos, Map<String, Object> metadata) {
+    metricsList.forEach(metrics -> metrics.writeBudgetAcquired(verb, waitNanos, metadata));
+  }
+
+  @Override
+  public void memoizationLookup(
+      String dependentName, String kind, boolean hit, Map<String, Object> metadata) {
+    metricsList.forEach(metrics -> metrics.memoizationLookup(dependentName, kind, hit, metadata));
+  }
+
+  @Override
+  public void memoizedValueEvicted(Map<String, Object> metadata) {
+    metricsList.forEach(metrics -> metrics.memoizedValueEvicted(metadata));
+  }
+
+  @Override
+  public void namespacesChanged(
+      Controller<? extends HasMetadata> controller, Set<String> namespaces) {
+    metricsList.forEach(metrics -> metrics.namespacesChanged(controller, namespaces));
+  }
+
   @Override
   public void cleanupDone(ResourceID resourceID, Map<String, Object> metadata) {
     metricsList.forEach(metrics -> metrics.cleanupDone(resourceID, metadata));
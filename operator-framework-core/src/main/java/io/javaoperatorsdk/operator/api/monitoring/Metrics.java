@@ -16,8 +16,10 @@
 package io.javaoperatorsdk.operator.api.monitoring;
 
 import java.util.Map;
+import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
@@ -111,6 +113,67 @@ public interface Metrics {
   default void reconciliationFinished(
       HasMetadata resource, RetryInfo retryInfo, Map<String, Object> metadata) {}
 
+  /**
+   * Called after a reconciliation that was reported via {@link #reconciliationStarted(HasMetadata,
+   * Map)} has finished, with latencies linking the reconciliation to the events that triggered it.
+   * This makes it possible to measure how long events wait before being reconciled and how much of
+   * that time is spent in the executor queue, rate limiting or retry backoff.
+   *
+   * @param resource the resource that was reconciled
+   * @param latencies the latencies associated with the reconciliation
+   * @param metadata metadata associated with the resource being processed
+   * @since 5.6.0
+   */
+  default void reconciliationLatencies(
+      HasMetadata resource, ReconciliationLatencies latencies, Map<String, Object> metadata) {}
+
+  /**
+   * Called each time a permit was acquired from the operator-wide {@link WriteBudget} before
+   * writing to the Kubernetes API server, with the time spent waiting for it.
+   *
+   * @param verb the kind of write the permit was acquired for
+   * @param waitNanos the time spent waiting for the permit, in nanoseconds
+   * @param metadata metadata associated with the controller performing the write
+   * @see io.javaoperatorsdk.operator.api.config.ConfigurationService#writeBudget()
+   * @since 5.6.0
+   */
+  default void writeBudgetAcquired(
+      WriteBudget.Verb verb, long waitNanos, Map<String, Object> metadata) {}
+
+  /**
+   * Called each time a value memoized across reconciliations for a dependent is looked up.
+   *
+   * @param dependentName the name of the dependent the value is computed for
+   * @param kind the kind of value, {@code desired} or the type of a condition
+   * @param hit {@code true} if the memoized value could be reused, {@code false} if it had to be
+   *     computed
+   * @param metadata metadata associated with the controller of the dependent
+   * @see
+   *     io.javaoperatorsdk.operator.api.config.ConfigurationService#dependentMemoizationCacheSize()
+   * @since 5.6.0
+   */
+  default void memoizationLookup(
+      String dependentName, String kind, boolean hit, Map<String, Object> metadata) {}
+
+  /**
+   * Called each time a memoized value is evicted because the memoization cache is full.
+   *
+   * @param metadata metadata associated with the controller owning the memoization cache
+   * @since 5.6.0
+   */
+  default void memoizedValueEvicted(Map<String, Object> metadata) {}
+
+  /**
+   * Called when the namespaces watched by the specified controller have been changed, allowing
+   * implementations to release the state kept for the namespaces that are not watched anymore.
+   *
+   * @param controller the controller which namespaces changed
+   * @param namespaces the namespaces now watched by the controller
+   * @since 5.6.0
+   */
+  default void namespacesChanged(
+      Controller<? extends HasMetadata> controller, Set<String> namespaces) {}
+
   /**
    * Called when the resource associated with the specified {@link ResourceID} has been successfully
    * deleted and the cleanup of internal caches is completed.
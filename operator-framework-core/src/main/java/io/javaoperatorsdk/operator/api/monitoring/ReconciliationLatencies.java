@@ -0,0 +1,41 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.monitoring;
+
+/**
+ * Latencies linking the events that triggered a reconciliation to its execution. All values are in
+ * nanoseconds, measured with {@link System#nanoTime()} by the SDK from the moment the earliest
+ * event not yet covered by a reconciliation was received by the event processor.
+ *
+ * @param eventToStartNanos time from the arrival of the earliest pending event to the start of the
+ *     reconciliation, including time spent waiting for a previous reconciliation of the same
+ *     resource to finish, rate limiting and queuing in the executor
+ * @param queueWaitNanos time the reconciliation spent queued in the reconcile executor, i.e. from
+ *     submission to the start of the execution
+ * @param rateLimitDelayNanos time the submission was delayed by the rate limiter, {@code 0} if the
+ *     reconciliation was not rate limited
+ * @param retryBackoffNanos time spent waiting for a retry after a failed reconciliation, {@code 0}
+ *     if the reconciliation was not a retry
+ * @param eventToCompletionNanos time from the arrival of the earliest pending event to the end of
+ *     the reconciliation
+ * @since 5.6.0
+ */
+public record ReconciliationLatencies(
+    long eventToStartNanos,
+    long queueWaitNanos,
+    long rateLimitDelayNanos,
+    long retryBackoffNanos,
+    long eventToCompletionNanos) {}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.util.concurrent.CompletionStage;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import static io.javaoperatorsdk.operator.api.reconciler.Experimental.API_MIGHT_CHANGE;
+
+/**
+ * A {@link Reconciler} whose reconciliation completes asynchronously, typically when calls to slow
+ * external systems made with a non-blocking client complete. The reconcile thread is released as
+ * soon as {@link #reconcileAsync(HasMetadata, Context)} returns, while the resource is still
+ * considered under reconciliation until the returned stage completes, so that reconciliations of
+ * the same resource never overlap. The resulting {@link UpdateControl} is then processed on a
+ * reconcile thread, and an exceptionally completed stage is handled like an exception thrown by
+ * {@link Reconciler#reconcile(HasMetadata, Context)}, including retries and {@link
+ * #updateErrorStatus(HasMetadata, Context, Exception)}.
+ *
+ * <p>Managed dependent resources, if any, are still reconciled synchronously before {@link
+ * #reconcileAsync(HasMetadata, Context)} is called, and {@link Cleaner#cleanup(HasMetadata,
+ * Context)} remains synchronous. See {@link ResourceOperations#async(java.util.function.Function)}
+ * to run blocking operations on Kubernetes resources without blocking the reconcile thread.
+ *
+ * @param <P> the type of the primary resource
+ * @since 5.6.0
+ */
+@Experimental(API_MIGHT_CHANGE)
+public interface AsyncReconciler<P extends HasMetadata> extends Reconciler<P> {
+
+  /**
+   * Starts the reconciliation of the given resource. Like {@link #reconcile(HasMetadata, Context)},
+   * the implementation is required to be idempotent. The context must not be used once the returned
+   * stage completed.
+   *
+   * @param resource the resource that has been created or updated
+   * @param context the context with which the operation is executed
+   * @return a stage completed with the {@link UpdateControl} to apply when the reconciliation is
+   *     done
+   * @throws Exception if the reconciliation could not be started
+   */
+  CompletionStage<UpdateControl<P>> reconcileAsync(P resource, Context<P> context) throws Exception;
+
+  /**
+   * Reconciles the resource synchronously, waiting for {@link #reconcileAsync(HasMetadata,
+   * Context)} to complete. Not used by the SDK.
+   */
+  @Override
+  default UpdateControl<P> reconcile(P resource, Context<P> context) throws Exception {
+    return reconcileAsync(resource, context).toCompletableFuture().get();
+  }
+}
@@ -261,4 +261,20 @@ public interface Context<P extends HasMetadata> {
    * @since 5.2.0
    */
   boolean isPrimaryResourceFinalStateUnknown();
+
+  /**
+   * Names of the event sources whose events triggered the current reconciliation, when all these
+   * events come from event sources for secondary resources. This allows to only consider the
+   * secondary resources that might have changed, see for example {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useIncrementalWorkflowReconciliation()}.
+   *
+   * @return the names of the triggering event sources or {@link Optional#empty()} if the
+   *     reconciliation was triggered, also, by an event for the primary resource, a retry, a
+   *     rescheduling or for any other reason which requires all the secondary resources to be
+   *     considered
+   * @since 5.6.0
+   */
+  default Optional<Set<String>> getTriggeringEventSourceNames() {
+    return Optional.empty();
+  }
 }
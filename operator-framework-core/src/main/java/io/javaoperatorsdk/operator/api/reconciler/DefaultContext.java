@@ -33,6 +33,8 @@ import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.ManagedWorkflowAndDependentResourceContext;
 import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.dependent.MemoizationCache;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.ReadEventSources;
 import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
 import io.javaoperatorsdk.operator.processing.event.NoEventSourceForClassException;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
@@ -49,6 +51,7 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
   private final boolean primaryResourceFinalStateUnknown;
   private final Map<DependentResource<?, P>, Object> desiredStates = new ConcurrentHashMap<>();
   private final ResourceOperations<P> resourceOperations;
+  private final Set<String> triggeringEventSourceNames;
 
   public DefaultContext(
       RetryInfo retryInfo,
@@ -56,6 +59,23 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
       P primaryResource,
       boolean primaryResourceDeleted,
       boolean primaryResourceFinalStateUnknown) {
+    this(
+        retryInfo,
+        controller,
+        primaryResource,
+        primaryResourceDeleted,
+        primaryResourceFinalStateUnknown,
+        null);
+  }
+
+  public DefaultContext(
+      RetryInfo retryInfo,
+      Controller<P> controller,
+      P primaryResource,
+      boolean primaryResourceDeleted,
+      boolean primaryResourceFinalStateUnknown,
+      Set<String> triggeringEventSourceNames) {
+    this.triggeringEventSourceNames = triggeringEventSourceNames;
     this.retryInfo = retryInfo;
     this.controller = controller;
     this.primaryResource = primaryResource;
@@ -72,6 +92,11 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
     return Optional.ofNullable(retryInfo);
   }
 
+  @Override
+  public Optional<Set<String>> getTriggeringEventSourceNames() {
+    return Optional.ofNullable(triggeringEventSourceNames);
+  }
+
   @Override
   public <T> Set<T> getSecondaryResources(Class<T> expectedType, boolean deduplicate) {
     if (deduplicate) {
@@ -82,8 +107,17 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
   }
 
   public <R> Stream<R> getSecondaryResourcesAsStream(Class<R> expectedType, boolean deduplicate) {
+    return recordRead(
+        doGetSecondaryResourcesAsStream(expectedType, deduplicate),
+        c -> c.getSecondaryResourcesAsStream(expectedType, deduplicate));
+  }
+
+  private <R> Stream<R> doGetSecondaryResourcesAsStream(
+      Class<R> expectedType, boolean deduplicate) {
+    final var eventSources = controller.getEventSourceManager().getEventSourcesFor(expectedType);
+    eventSources.forEach(es -> ReadEventSources.recordRead(es.name()));
     final var stream =
-        controller.getEventSourceManager().getEventSourcesFor(expectedType).stream()
+        eventSources.stream()
             .<R>mapMulti(
                 (es, consumer) -> es.getSecondaryResources(primaryResource).forEach(consumer));
     if (deduplicate) {
@@ -129,11 +163,17 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
 
   @Override
   public <T> Optional<T> getSecondaryResource(Class<T> expectedType, String eventSourceName) {
+    return recordRead(
+        doGetSecondaryResource(expectedType, eventSourceName),
+        c -> c.getSecondaryResource(expectedType, eventSourceName));
+  }
+
+  private <T> Optional<T> doGetSecondaryResource(Class<T> expectedType, String eventSourceName) {
     try {
-      return controller
-          .getEventSourceManager()
-          .getEventSourceFor(expectedType, eventSourceName)
-          .getSecondaryResource(primaryResource);
+      final var eventSource =
+          controller.getEventSourceManager().getEventSourceFor(expectedType, eventSourceName);
+      ReadEventSources.recordRead(eventSource.name());
+      return eventSource.getSecondaryResource(primaryResource);
     } catch (NoEventSourceForClassException e) {
       if (isMissingEventSourceExpected(eventSourceName, expectedType)) {
         return Optional.empty();
@@ -145,9 +185,17 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
   @Override
   public <R extends HasMetadata> Optional<R> getSecondaryResource(
       Class<R> expectedType, String eventSourceName, String name, String namespace) {
+    return recordRead(
+        doGetSecondaryResource(expectedType, eventSourceName, name, namespace),
+        c -> c.getSecondaryResource(expectedType, eventSourceName, name, namespace));
+  }
+
+  private <R extends HasMetadata> Optional<R> doGetSecondaryResource(
+      Class<R> expectedType, String eventSourceName, String name, String namespace) {
     try {
       final var eventSource =
           controller.getEventSourceManager().getEventSourceFor(expectedType, eventSourceName);
+      ReadEventSources.recordRead(eventSource.name());
       final var resourceID = new ResourceID(name, namespace);
       if (eventSource instanceof Cache<?> cache) {
         return cache.get(resourceID).map(expectedType::cast);
@@ -166,9 +214,17 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
   @Override
   public <R> Stream<R> getSecondaryResourcesAsStream(
       Class<R> expectedType, String eventSourceName) {
+    return recordRead(
+        doGetSecondaryResourcesAsStream(expectedType, eventSourceName),
+        c -> c.getSecondaryResourcesAsStream(expectedType, eventSourceName));
+  }
+
+  private <R> Stream<R> doGetSecondaryResourcesAsStream(
+      Class<R> expectedType, String eventSourceName) {
     try {
       final var eventSource =
           controller.getEventSourceManager().getEventSourceFor(expectedType, eventSourceName);
+      ReadEventSources.recordRead(eventSource.name());
       if (eventSource instanceof ResourceCache<?> resourceCache) {
         final var ns = primaryResource.getMetadata().getNamespace();
         final Stream<?> stream = ns == null ? resourceCache.list() : resourceCache.list(ns);
@@ -183,6 +239,24 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
     }
   }
 
+  /**
+   * Records reads of secondary resources made while computing a value memoized across
+   * reconciliations, so that it can be reused only if these secondary resources didn't change.
+   */
+  private static <T> Optional<T> recordRead(Optional<T> result, Function<Context<?>, Object> read) {
+    MemoizationCache.recordRead(result, read);
+    return result;
+  }
+
+  private static <T> Stream<T> recordRead(Stream<T> result, Function<Context<?>, Object> read) {
+    if (!MemoizationCache.isRecording()) {
+      return result;
+    }
+    final var resources = result.toList();
+    MemoizationCache.recordRead(resources, read);
+    return resources.stream();
+  }
+
   @Override
   public ControllerConfiguration<P> getControllerConfiguration() {
     return controllerConfiguration;
@@ -247,11 +321,32 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
     return this;
   }
 
+  /**
+   * The cache of values memoized across reconciliations for the dependents of the controller.
+   *
+   * @return the memoization cache or {@link Optional#empty()} if memoization is disabled
+   * @since 5.6.0
+   */
+  public Optional<MemoizationCache> getMemoizationCache() {
+    return controller.getMemoizationCache();
+  }
+
   @SuppressWarnings("unchecked")
   public <R> R getOrComputeDesiredStateFor(
       DependentResource<R, P> dependentResource, Function<P, R> desiredStateComputer) {
     return (R)
         desiredStates.computeIfAbsent(
-            dependentResource, ignored -> desiredStateComputer.apply(getPrimaryResource()));
+            dependentResource,
+            ignored ->
+                getMemoizationCache()
+                    .map(
+                        cache ->
+                            cache.getOrCompute(
+                                dependentResource.name(),
+                                MemoizationCache.DESIRED,
+                                primaryResource,
+                                this,
+                                () -> desiredStateComputer.apply(primaryResource)))
+                    .orElseGet(() -> desiredStateComputer.apply(primaryResource)));
   }
 }
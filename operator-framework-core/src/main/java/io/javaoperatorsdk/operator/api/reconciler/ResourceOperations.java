@@ -16,7 +16,10 @@
 package io.javaoperatorsdk.operator.api.reconciler;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
@@ -28,6 +31,8 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
+import io.javaoperatorsdk.operator.api.config.WriteBudget.Verb;
 import io.javaoperatorsdk.operator.api.reconciler.matcher.Matcher;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
@@ -153,16 +158,18 @@ public class ResourceOperations<P extends HasMetadata> {
   public <R extends HasMetadata> R serverSideApply(R resource, Options options) {
     return resourcePatch(
         resource,
-        r ->
-            context
-                .getClient()
-                .resource(r)
-                .patch(
-                    new PatchContext.Builder()
-                        .withForce(true)
-                        .withFieldManager(context.getControllerConfiguration().fieldManager())
-                        .withPatchType(PatchType.SERVER_SIDE_APPLY)
-                        .build()),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r ->
+                context
+                    .getClient()
+                    .resource(r)
+                    .patch(
+                        new PatchContext.Builder()
+                            .withForce(true)
+                            .withFieldManager(context.getControllerConfiguration().fieldManager())
+                            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                            .build())),
         options);
   }
 
@@ -200,16 +207,18 @@ public class ResourceOperations<P extends HasMetadata> {
     }
     return resourcePatch(
         resource,
-        r ->
-            context
-                .getClient()
-                .resource(r)
-                .patch(
-                    new PatchContext.Builder()
-                        .withForce(true)
-                        .withFieldManager(context.getControllerConfiguration().fieldManager())
-                        .withPatchType(PatchType.SERVER_SIDE_APPLY)
-                        .build()),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r ->
+                context
+                    .getClient()
+                    .resource(r)
+                    .patch(
+                        new PatchContext.Builder()
+                            .withForce(true)
+                            .withFieldManager(context.getControllerConfiguration().fieldManager())
+                            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                            .build())),
         informerEventSource,
         options);
   }
@@ -226,17 +235,19 @@ public class ResourceOperations<P extends HasMetadata> {
   public <R extends HasMetadata> R serverSideApplyStatus(R resource, Options options) {
     return resourcePatch(
         resource,
-        r ->
-            context
-                .getClient()
-                .resource(r)
-                .subresource("status")
-                .patch(
-                    new PatchContext.Builder()
-                        .withForce(true)
-                        .withFieldManager(context.getControllerConfiguration().fieldManager())
-                        .withPatchType(PatchType.SERVER_SIDE_APPLY)
-                        .build()),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r ->
+                context
+                    .getClient()
+                    .resource(r)
+                    .subresource("status")
+                    .patch(
+                        new PatchContext.Builder()
+                            .withForce(true)
+                            .withFieldManager(context.getControllerConfiguration().fieldManager())
+                            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                            .build())),
         options);
   }
 
@@ -276,16 +287,18 @@ public class ResourceOperations<P extends HasMetadata> {
   public P serverSideApplyPrimary(P resource, Options options) {
     return resourcePatch(
         resource,
-        r ->
-            context
-                .getClient()
-                .resource(r)
-                .patch(
-                    new PatchContext.Builder()
-                        .withForce(true)
-                        .withFieldManager(context.getControllerConfiguration().fieldManager())
-                        .withPatchType(PatchType.SERVER_SIDE_APPLY)
-                        .build()),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r ->
+                context
+                    .getClient()
+                    .resource(r)
+                    .patch(
+                        new PatchContext.Builder()
+                            .withForce(true)
+                            .withFieldManager(context.getControllerConfiguration().fieldManager())
+                            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                            .build())),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -314,17 +327,19 @@ public class ResourceOperations<P extends HasMetadata> {
   public P serverSideApplyPrimaryStatus(P desired, Options options) {
     return resourcePatch(
         desired,
-        r ->
-            context
-                .getClient()
-                .resource(r)
-                .subresource("status")
-                .patch(
-                    new PatchContext.Builder()
-                        .withForce(true)
-                        .withFieldManager(context.getControllerConfiguration().fieldManager())
-                        .withPatchType(PatchType.SERVER_SIDE_APPLY)
-                        .build()),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r ->
+                context
+                    .getClient()
+                    .resource(r)
+                    .subresource("status")
+                    .patch(
+                        new PatchContext.Builder()
+                            .withForce(true)
+                            .withFieldManager(context.getControllerConfiguration().fieldManager())
+                            .withPatchType(PatchType.SERVER_SIDE_APPLY)
+                            .build())),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -357,7 +372,10 @@ public class ResourceOperations<P extends HasMetadata> {
    * @return the updated resource as returned by the API server
    */
   public <R extends HasMetadata> R update(R desired, Options options) {
-    return resourcePatch(desired, r -> context.getClient().resource(r).update(), options);
+    return resourcePatch(
+        desired,
+        new WriteOperation<>(Verb.UPDATE, r -> context.getClient().resource(r).update()),
+        options);
   }
 
   /**
@@ -394,7 +412,10 @@ public class ResourceOperations<P extends HasMetadata> {
       return update(resource);
     }
     return resourcePatch(
-        resource, r -> context.getClient().resource(r).update(), informerEventSource, options);
+        resource,
+        new WriteOperation<>(Verb.UPDATE, r -> context.getClient().resource(r).update()),
+        informerEventSource,
+        options);
   }
 
   /**
@@ -428,7 +449,10 @@ public class ResourceOperations<P extends HasMetadata> {
       throw new IllegalArgumentException(
           "Create operation does not support matcher. There is nothing to match.");
     }
-    return resourcePatch(resource, r -> context.getClient().resource(r).create(), options);
+    return resourcePatch(
+        resource,
+        new WriteOperation<>(Verb.CREATE, r -> context.getClient().resource(r).create()),
+        options);
   }
 
   /**
@@ -449,7 +473,10 @@ public class ResourceOperations<P extends HasMetadata> {
     }
     // see the note on create(R) about why filtering the own event is safe here
     return resourcePatch(
-        resource, r -> context.getClient().resource(r).create(), informerEventSource, options);
+        resource,
+        new WriteOperation<>(Verb.CREATE, r -> context.getClient().resource(r).create()),
+        informerEventSource,
+        options);
   }
 
   /**
@@ -477,7 +504,10 @@ public class ResourceOperations<P extends HasMetadata> {
    * @return the updated resource as returned by the API server
    */
   public <R extends HasMetadata> R updateStatus(R resource, Options options) {
-    return resourcePatch(resource, r -> context.getClient().resource(r).updateStatus(), options);
+    return resourcePatch(
+        resource,
+        new WriteOperation<>(Verb.UPDATE, r -> context.getClient().resource(r).updateStatus()),
+        options);
   }
 
   /**
@@ -505,7 +535,7 @@ public class ResourceOperations<P extends HasMetadata> {
   public P updatePrimary(P desired, Options options) {
     return resourcePatch(
         desired,
-        r -> context.getClient().resource(r).update(),
+        new WriteOperation<>(Verb.UPDATE, r -> context.getClient().resource(r).update()),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -523,7 +553,7 @@ public class ResourceOperations<P extends HasMetadata> {
   public P updatePrimaryStatus(P desired) {
     return resourcePatch(
         desired,
-        r -> context.getClient().resource(r).updateStatus(),
+        new WriteOperation<>(Verb.UPDATE, r -> context.getClient().resource(r).updateStatus()),
         context.eventSourceRetriever().getControllerEventSource(),
         Options.filterWithOptimisticLocking(UpdateType.UPDATE_STATUS));
   }
@@ -562,7 +592,8 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).edit(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH, r -> context.getClient().resource(actualResource).edit(rr -> desired)),
         options);
   }
 
@@ -586,7 +617,8 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).edit(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH, r -> context.getClient().resource(actualResource).edit(rr -> desired)),
         informerEventSource,
         options);
   }
@@ -626,7 +658,9 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).editStatus(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(actualResource).editStatus(rr -> desired)),
         options);
   }
 
@@ -651,7 +685,9 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).editStatus(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(actualResource).editStatus(rr -> desired)),
         informerEventSource,
         options);
   }
@@ -686,7 +722,8 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).edit(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH, r -> context.getClient().resource(actualResource).edit(rr -> desired)),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -723,7 +760,9 @@ public class ResourceOperations<P extends HasMetadata> {
     return resourcePatch(
         desired,
         actualResource,
-        r -> context.getClient().resource(actualResource).status().edit(rr -> desired),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(actualResource).status().edit(rr -> desired)),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -755,7 +794,9 @@ public class ResourceOperations<P extends HasMetadata> {
   public <R extends HasMetadata> R jsonMergePatch(R desired, Options options) {
     return resourcePatch(
         desired,
-        r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE)),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE))),
         options);
   }
 
@@ -773,7 +814,9 @@ public class ResourceOperations<P extends HasMetadata> {
       R desired, InformerEventSource<R, P> informerEventSource, Options options) {
     return resourcePatch(
         desired,
-        r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE)),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE))),
         informerEventSource,
         options);
   }
@@ -802,7 +845,10 @@ public class ResourceOperations<P extends HasMetadata> {
    * @return the patched resource as returned by the API server
    */
   public <R extends HasMetadata> R jsonMergePatchStatus(R resource, Options options) {
-    return resourcePatch(resource, r -> context.getClient().resource(r).patchStatus(), options);
+    return resourcePatch(
+        resource,
+        new WriteOperation<>(Verb.PATCH, r -> context.getClient().resource(r).patchStatus()),
+        options);
   }
 
   /**
@@ -819,7 +865,10 @@ public class ResourceOperations<P extends HasMetadata> {
   public <R extends HasMetadata> R jsonMergePatchStatus(
       R resource, InformerEventSource<R, P> informerEventSource, Options options) {
     return resourcePatch(
-        resource, r -> context.getClient().resource(r).patchStatus(), informerEventSource, options);
+        resource,
+        new WriteOperation<>(Verb.PATCH, r -> context.getClient().resource(r).patchStatus()),
+        informerEventSource,
+        options);
   }
 
   /**
@@ -846,7 +895,9 @@ public class ResourceOperations<P extends HasMetadata> {
   public P jsonMergePatchPrimary(P resource, Options options) {
     return resourcePatch(
         resource,
-        r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE)),
+        new WriteOperation<>(
+            Verb.PATCH,
+            r -> context.getClient().resource(r).patch(PatchContext.of(PatchType.JSON_MERGE))),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -876,7 +927,7 @@ public class ResourceOperations<P extends HasMetadata> {
   public P jsonMergePatchPrimaryStatus(P resource, Options options) {
     return resourcePatch(
         resource,
-        r -> context.getClient().resource(r).patchStatus(),
+        new WriteOperation<>(Verb.PATCH, r -> context.getClient().resource(r).patchStatus()),
         context.eventSourceRetriever().getControllerEventSource(),
         options);
   }
@@ -961,7 +1012,9 @@ public class ResourceOperations<P extends HasMetadata> {
    *
    * <p>When a {@link Matcher} is present but {@code actualResource} is {@code null}, the actual
    * state is looked up from the given event source's cache. If the states already match, the write
-   * is skipped and the actual resource is returned unchanged.
+   * is skipped and the actual resource is returned unchanged. Otherwise a permit is acquired from
+   * the {@link WriteBudget}, if configured, before writing; custom operations not issued by this
+   * class are accounted as {@link Verb#UPDATE}.
    *
    * @param desiredResource the desired resource; may be {@code null} for JSON Patch operations,
    *     where {@code actualResource} is used as the base instead
@@ -1018,6 +1071,10 @@ public class ResourceOperations<P extends HasMetadata> {
               + ResourceID.fromResource(desiredResource));
     }
 
+    acquireWriteBudget(
+        updateOperation instanceof WriteOperation<?> writeOperation
+            ? writeOperation.verb()
+            : Verb.UPDATE);
     if (options.getMode() == Mode.CACHE_ONLY) {
       return ies.updateAndCacheResource(desiredResource, updateOperation);
     } else {
@@ -1025,6 +1082,78 @@ public class ResourceOperations<P extends HasMetadata> {
     }
   }
 
+  /**
+   * Runs the given operation on the {@link
+   * io.javaoperatorsdk.operator.api.config.ExecutorServiceManager#cachingExecutorService()}, so
+   * that an {@link AsyncReconciler} can write resources without blocking its reconcile thread, for
+   * example to patch resources once a call to an external system completed. Since the Kubernetes
+   * client is blocking, the operation still occupies a thread of that executor while it runs.
+   *
+   * @param operation the operation to run, typically one of the methods of this class
+   * @return the future completed with the result of the operation
+   * @param <R> the type of the result
+   * @since 5.6.0
+   */
+  public <R> CompletableFuture<R> async(Function<ResourceOperations<P>, R> operation) {
+    return CompletableFuture.supplyAsync(
+        () -> operation.apply(this),
+        context
+            .getControllerConfiguration()
+            .getConfigurationService()
+            .getExecutorServiceManager()
+            .cachingExecutorService());
+  }
+
+  /**
+   * Asynchronous variant of {@link #serverSideApply(HasMetadata)}, see {@link #async(Function)}.
+   *
+   * @param resource fresh resource for server side apply
+   * @return the future completed with the updated resource
+   * @param <R> resource type
+   * @since 5.6.0
+   */
+  public <R extends HasMetadata> CompletableFuture<R> serverSideApplyAsync(R resource) {
+    return async(operations -> operations.serverSideApply(resource));
+  }
+
+  /**
+   * Asynchronous variant of {@link #serverSideApplyPrimaryStatus(HasMetadata)}, see {@link
+   * #async(Function)}.
+   *
+   * @param desired primary resource with the desired status
+   * @return the future completed with the updated primary resource
+   * @since 5.6.0
+   */
+  public CompletableFuture<P> serverSideApplyPrimaryStatusAsync(P desired) {
+    return async(operations -> operations.serverSideApplyPrimaryStatus(desired));
+  }
+
+  /**
+   * Acquires a permit for the given verb from the operator-wide {@link WriteBudget}, blocking until
+   * one is available; does nothing if no budget is configured. All write operations of this class
+   * acquire permits on their own, this is meant for writes done directly through the client, like
+   * deleting a resource.
+   *
+   * @param verb the kind of write about to be performed
+   * @see io.javaoperatorsdk.operator.api.config.ConfigurationService#writeBudget()
+   * @since 5.6.0
+   */
+  public void acquireWriteBudget(Verb verb) {
+    var controllerConfiguration = context.getControllerConfiguration();
+    var configurationService = controllerConfiguration.getConfigurationService();
+    configurationService
+        .writeBudget()
+        .ifPresent(
+            budget -> {
+              var controllerName = controllerConfiguration.getName();
+              long waitNanos = budget.acquire(verb, controllerName);
+              configurationService
+                  .getMetrics()
+                  .writeBudgetAcquired(
+                      verb, waitNanos, Map.of(Constants.CONTROLLER_NAME, controllerName));
+            });
+  }
+
   /**
    * Adds the default finalizer (from controller configuration) to the primary resource. This is a
    * convenience method that calls {@link #addFinalizer(String)} with the configured finalizer name.
@@ -1278,6 +1407,15 @@ public class ResourceOperations<P extends HasMetadata> {
     }
   }
 
+  /** A write operation tagged with its verb, so the right {@link WriteBudget} permit is used. */
+  private record WriteOperation<R>(Verb verb, UnaryOperator<R> operation)
+      implements UnaryOperator<R> {
+    @Override
+    public R apply(R resource) {
+      return operation.apply(resource);
+    }
+  }
+
   /**
    * Controls how an update/patch/create operation of {@link ResourceOperations} handles the own
    * event resulting from the write. This is the entry point users interact with to tune caching and
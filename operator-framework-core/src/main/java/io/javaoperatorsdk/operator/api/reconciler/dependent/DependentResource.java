@@ -103,6 +103,20 @@ public interface DependentResource<R, P extends HasMetadata> {
     return this instanceof Deleter;
   }
 
+  /**
+   * Determines whether reconciling this dependent is cheap enough, typically because it only reads
+   * cached state and does not call remote services, to be run inline on the thread that made it
+   * ready instead of being handed off to the workflow executor when inline workflow execution is
+   * enabled, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useInlineWorkflowExecution()}.
+   *
+   * @return {@code true} if this dependent can be reconciled inline, {@code false} otherwise
+   * @since 5.6.0
+   */
+  default boolean isCheapToReconcile() {
+    return false;
+  }
+
   /**
    * Retrieves the name identifying this DependentResource implementation, useful to refer to this
    * in {@link io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow} instances
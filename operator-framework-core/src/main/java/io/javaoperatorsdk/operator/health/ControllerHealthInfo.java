@@ -73,6 +73,18 @@ public class ControllerHealthInfo {
     return filteredEventSources(INFORMER).collect(NAME_TO_ES_HEALTH_MAP);
   }
 
+  /**
+   * Progress of the start of the event sources of the associated {@link
+   * io.javaoperatorsdk.operator.processing.Controller}, available while the controller is being
+   * started, which makes it possible to find out which event sources are slow to sync.
+   *
+   * @return the startup progress keyed by event source name
+   * @since 5.6.0
+   */
+  public Map<String, EventSourceStartupProgress> eventSourceStartupProgress() {
+    return eventSourceManager.startupProgress();
+  }
+
   /**
    * @return Map with event sources that wraps an informer. Thus, either a {@link
    *     ControllerEventSource} or an {@link
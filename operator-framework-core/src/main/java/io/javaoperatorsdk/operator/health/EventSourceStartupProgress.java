@@ -0,0 +1,43 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.health;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the progress of the start of an event source, as reported by {@link
+ * ControllerHealthInfo#eventSourceStartupProgress()}. Meant to help diagnosing slow operator
+ * startups.
+ *
+ * @param name the name of the event source
+ * @param state the current state of the start
+ * @param elapsed the time spent starting the event source, up to now if it is still starting,
+ *     {@link Duration#ZERO} if not started yet
+ * @param cachedResources the number of resources currently listed in the caches of the informers of
+ *     the event source, including while they are being synced, {@code -1} if the event source is
+ *     not backed by informers
+ * @since 5.6.0
+ */
+public record EventSourceStartupProgress(
+    String name, State state, Duration elapsed, long cachedResources) {
+
+  public enum State {
+    PENDING,
+    STARTING,
+    STARTED,
+    FAILED
+  }
+}
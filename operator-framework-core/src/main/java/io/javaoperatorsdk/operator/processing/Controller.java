@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +42,7 @@ import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.api.config.workflow.WorkflowSpec;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics.ControllerExecution;
+import io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler;
 import io.javaoperatorsdk.operator.api.reconciler.Cleaner;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
@@ -53,6 +55,7 @@ import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.EventSourceNotFoundException;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.EventSourceReferencer;
 import io.javaoperatorsdk.operator.health.ControllerHealthInfo;
+import io.javaoperatorsdk.operator.processing.dependent.MemoizationCache;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.WorkflowCleanupResult;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.WorkflowReconcileResult;
@@ -88,6 +91,7 @@ public class Controller<P extends HasMetadata>
   private final EventSourceManager<P> eventSourceManager;
   private final boolean contextInitializer;
   private final boolean isCleaner;
+  private final boolean async;
   private final Metrics metrics;
   private final Workflow<P> managedWorkflow;
   private final boolean explicitWorkflowInvocation;
@@ -96,6 +100,7 @@ public class Controller<P extends HasMetadata>
   private final EventProcessor<P> eventProcessor;
   private final ControllerHealthInfo controllerHealthInfo;
   private final EventSourceContext<P> eventSourceContext;
+  private final MemoizationCache memoizationCache;
 
   public Controller(
       Reconciler<P> reconciler,
@@ -111,6 +116,15 @@ public class Controller<P extends HasMetadata>
     this.metrics = Optional.ofNullable(configurationService.getMetrics()).orElse(Metrics.NOOP);
     contextInitializer = reconciler instanceof ContextInitializer;
     isCleaner = reconciler instanceof Cleaner;
+    async = reconciler instanceof AsyncReconciler;
+    final var memoizationCacheSize = configurationService.dependentMemoizationCacheSize();
+    memoizationCache =
+        memoizationCacheSize > 0
+            ? new MemoizationCache(
+                memoizationCacheSize,
+                metrics,
+                Map.of(Constants.CONTROLLER_NAME, configuration.getName()))
+            : null;
 
     final var managed = configurationService.getWorkflowFactory().workflowFor(configuration);
     managedWorkflow = managed.resolve(kubernetesClient, configuration);
@@ -179,20 +193,49 @@ public class Controller<P extends HasMetadata>
 
           @Override
           public UpdateControl<P> execute() throws Exception {
-            initContextIfNeeded(resource, context);
-            configuration
-                .getWorkflowSpec()
-                .ifPresent(
-                    ws -> {
-                      if (!managedWorkflow.isEmpty() && !explicitWorkflowInvocation) {
-                        managedWorkflow.reconcile(resource, context);
-                      }
-                    });
+            prepareReconciliation(resource, context);
             return reconciler.reconcile(resource, context);
           }
         });
   }
 
+  /**
+   * Reconciles the given resource with the {@link AsyncReconciler} of this controller, see {@link
+   * #isAsync()}. The execution is not timed by {@link Metrics#timeControllerExecution}, since it
+   * only covers the synchronous part of the reconciliation.
+   *
+   * @param resource the resource to reconcile
+   * @param context the context of the reconciliation
+   * @return the stage completed when the reconciliation is done
+   * @throws Exception if the reconciliation could not be started
+   * @since 5.6.0
+   */
+  public CompletionStage<UpdateControl<P>> reconcileAsync(P resource, Context<P> context)
+      throws Exception {
+    prepareReconciliation(resource, context);
+    return ((AsyncReconciler<P>) reconciler).reconcileAsync(resource, context);
+  }
+
+  private void prepareReconciliation(P resource, Context<P> context) {
+    initContextIfNeeded(resource, context);
+    configuration
+        .getWorkflowSpec()
+        .ifPresent(
+            ws -> {
+              if (!managedWorkflow.isEmpty() && !explicitWorkflowInvocation) {
+                managedWorkflow.reconcile(resource, context);
+              }
+            });
+  }
+
+  /**
+   * @return whether the reconciler of this controller is an {@link AsyncReconciler}
+   * @since 5.6.0
+   */
+  public boolean isAsync() {
+    return async;
+  }
+
   @Override
   public DeleteControl cleanup(P resource, Context<P> context) {
     try {
@@ -415,6 +458,14 @@ public class Controller<P extends HasMetadata>
       throw new OperatorException(
           "Watching all namespaces, but additional specific namespace is present");
     }
+    if (configuration.getConfigurationService().incrementalNamespaceChanges()
+        && eventSourceManager.changesNamespacesInPlace(namespaces)) {
+      // events of the retained namespaces keep being processed during the change
+      eventSourceManager.changeNamespaces(namespaces);
+      eventProcessor.cleanupForUnwatchedNamespaces(namespaces);
+      metrics.namespacesChanged(this, namespaces);
+      return;
+    }
     // if the processor was not running, for example because the controller
     // was not leading in a HA setup, we don't want to stop and
     // mainly start the processor on namespace change.
@@ -423,6 +474,7 @@ public class Controller<P extends HasMetadata>
       eventProcessor.stop();
     }
     eventSourceManager.changeNamespaces(namespaces);
+    metrics.namespacesChanged(this, namespaces);
     if (eventProcessorWasRunning) {
       eventProcessor.start();
     }
@@ -492,6 +544,19 @@ public class Controller<P extends HasMetadata>
     return getConfiguration().getConfigurationService().getExecutorServiceManager();
   }
 
+  /**
+   * The cache of values computed for the dependents of this controller memoized across
+   * reconciliations, if enabled.
+   *
+   * @return the memoization cache or {@link Optional#empty()} if memoization is disabled
+   * @see
+   *     io.javaoperatorsdk.operator.api.config.ConfigurationService#dependentMemoizationCacheSize()
+   * @since 5.6.0
+   */
+  public Optional<MemoizationCache> getMemoizationCache() {
+    return Optional.ofNullable(memoizationCache);
+  }
+
   public EventSourceContext<P> eventSourceContext() {
     return eventSourceContext;
   }
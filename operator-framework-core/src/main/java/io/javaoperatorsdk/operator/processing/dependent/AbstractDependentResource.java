@@ -257,6 +257,17 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
     return deletable;
   }
 
+  /**
+   * Read-only dependents, i.e. dependents that are neither {@link Creator} nor {@link Updater},
+   * only retrieve their secondary resource when reconciled and are thus considered cheap.
+   *
+   * @return {@code true} if this dependent is read-only, {@code false} otherwise
+   */
+  @Override
+  public boolean isCheapToReconcile() {
+    return !creatable && !updatable;
+  }
+
   @Override
   public String name() {
     return name;
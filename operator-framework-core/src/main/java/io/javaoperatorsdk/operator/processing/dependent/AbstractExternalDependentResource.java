@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.WriteBudget.Verb;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.ResourceIDMapper;
 import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
@@ -88,6 +89,7 @@ public abstract class AbstractExternalDependentResource<
   @SuppressWarnings({"unchecked", "unused"})
   private void handleExplicitStateDelete(P primary, R secondary, Context<P> context) {
     var res = dependentResourceWithExplicitState.stateResource(primary, secondary);
+    context.resourceOperations().acquireWriteBudget(Verb.DELETE);
     context.getClient().resource(res).delete();
   }
 
@@ -106,6 +108,7 @@ public abstract class AbstractExternalDependentResource<
   @SuppressWarnings("unchecked")
   public void deleteTargetResource(P primary, R resource, String key, Context<P> context) {
     if (isDependentResourceWithExplicitState) {
+      context.resourceOperations().acquireWriteBudget(Verb.DELETE);
       context
           .getClient()
           .resource(dependentResourceWithExplicitState.stateResource(primary, resource))
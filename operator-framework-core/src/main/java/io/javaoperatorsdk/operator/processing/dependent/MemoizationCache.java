@@ -0,0 +1,285 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+
+/**
+ * Bounded cache of values computed for dependents, typically desired states and condition results,
+ * reused across reconciliations as long as their inputs did not change. A value is keyed on the
+ * primary resource's generation, or resource version if it has none, as well as on its labels and
+ * annotations, and recorded along with the secondary resources read through the {@link Context}
+ * while computing it. The key ignores the primary resource's {@code status}: as long as the
+ * generation is set, status updates don't cause values to be recomputed, so dependents computing
+ * values from the primary's status should not be memoized. A cached value is only reused if reading
+ * the recorded secondary resources again yields the same resource versions. Secondary resources
+ * obtained without going through the {@link Context}, e.g. directly from an event source or from
+ * remote services, are not tracked, so dependents relying on them should not be memoized.
+ *
+ * <p>Values are returned as is, without being copied: a memoized value is shared by the subsequent
+ * reconciliations of the same primary resource and must not be modified, apart from the metadata
+ * the framework adds to desired states, e.g. owner references, which is the same for each
+ * reconciliation. Once the configured maximum size is reached, values are evicted following a
+ * second chance policy approximating least recently used eviction, lookups not needing any lock.
+ *
+ * @see io.javaoperatorsdk.operator.api.config.ConfigurationService#dependentMemoizationCacheSize()
+ * @since 5.6.0
+ */
+public class MemoizationCache {
+
+  public static final String DESIRED = "desired";
+
+  // reads recorded by the computations currently in progress on a thread, innermost last, null if
+  // there are none
+  private static final ThreadLocal<Deque<List<Read>>> recordedReads = new ThreadLocal<>();
+
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  // keys in insertion order, only accessed when adding values
+  private final Deque<Key> evictionQueue = new ArrayDeque<>();
+  private final int maxSize;
+  private final Metrics metrics;
+  private final Map<String, Object> metricsMetadata;
+
+  public MemoizationCache(int maxSize, Metrics metrics, Map<String, Object> metricsMetadata) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Memoization cache size must be positive: " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+    this.metricsMetadata = metricsMetadata;
+  }
+
+  /**
+   * Returns the value memoized for the given dependent and kind of computation if its inputs didn't
+   * change, computing and memoizing it otherwise.
+   *
+   * @param dependentName the name of the dependent the value is computed for
+   * @param kind the kind of computation, e.g. {@link #DESIRED} or a condition type
+   * @param primary the primary resource the value is computed for
+   * @param context the context of the current reconciliation
+   * @param computation computes the value, reading secondary resources through the context
+   * @param <T> the type of the value
+   * @return the memoized or computed value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getOrCompute(
+      String dependentName,
+      String kind,
+      HasMetadata primary,
+      Context<?> context,
+      Supplier<T> computation) {
+    final var key = Key.of(dependentName, kind, primary);
+    final var cached = entries.get(key);
+    if (cached != null && cached.isUpToDate(context)) {
+      metrics.memoizationLookup(dependentName, kind, true, metricsMetadata);
+      cached.accessed = true;
+      // values computed from this one depend on the same inputs
+      addToEnclosingComputation(cached.reads);
+      return (T) cached.value;
+    }
+    metrics.memoizationLookup(dependentName, kind, false, metricsMetadata);
+
+    final var reads = new ArrayList<Read>();
+    startRecording(reads);
+    final T value;
+    try {
+      value = computation.get();
+    } finally {
+      stopRecording();
+    }
+    addToEnclosingComputation(reads);
+    if (value != null && entries.put(key, new Entry(value, List.copyOf(reads))) == null) {
+      synchronized (evictionQueue) {
+        evictionQueue.addLast(key);
+        evictIfNeeded();
+      }
+    }
+    return value;
+  }
+
+  private void evictIfNeeded() {
+    while (entries.size() > maxSize) {
+      final var key = evictionQueue.pollFirst();
+      if (key == null) {
+        return;
+      }
+      final var entry = entries.get(key);
+      if (entry == null) {
+        continue;
+      }
+      if (entry.accessed) {
+        // values used since they were added or last considered for eviction get a second chance
+        entry.accessed = false;
+        evictionQueue.addLast(key);
+      } else if (entries.remove(key, entry)) {
+        metrics.memoizedValueEvicted(metricsMetadata);
+      } else {
+        // the value was replaced concurrently
+        evictionQueue.addLast(key);
+      }
+    }
+  }
+
+  private static void addToEnclosingComputation(List<Read> reads) {
+    final var stack = recordedReads.get();
+    if (stack != null) {
+      stack.getLast().addAll(reads);
+    }
+  }
+
+  private static void startRecording(List<Read> reads) {
+    var stack = recordedReads.get();
+    if (stack == null) {
+      stack = new ArrayDeque<>();
+      recordedReads.set(stack);
+    }
+    stack.addLast(reads);
+  }
+
+  private static void stopRecording() {
+    final var stack = recordedReads.get();
+    stack.removeLast();
+    if (stack.isEmpty()) {
+      recordedReads.remove();
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Whether values are being computed on the current thread, in which case secondary resources read
+   * through the context need to be {@link #recordRead(Object, Function) recorded}.
+   *
+   * @return {@code true} if reads need to be recorded
+   */
+  public static boolean isRecording() {
+    return recordedReads.get() != null;
+  }
+
+  /**
+   * Records a read of secondary resources made by the computation in progress on the current
+   * thread, if any.
+   *
+   * @param result the result of the read, a resource, an {@link Optional} or a {@link Collection}
+   * @param read performs the same read again with the context of a later reconciliation
+   */
+  public static void recordRead(Object result, Function<Context<?>, Object> read) {
+    final var stack = recordedReads.get();
+    if (stack != null) {
+      stack.getLast().add(new Read(read, fingerprint(result)));
+    }
+  }
+
+  /**
+   * Computes a value identifying the version of the given read result: the resource version of
+   * Kubernetes resources, the objects themselves otherwise.
+   */
+  static Object fingerprint(Object result) {
+    if (result instanceof Optional<?> optional) {
+      return optional.map(MemoizationCache::fingerprint).orElse(null);
+    }
+    if (result instanceof Collection<?> collection) {
+      return fingerprintAll(collection.stream());
+    }
+    if (result instanceof Stream<?> stream) {
+      return fingerprintAll(stream);
+    }
+    if (result instanceof HasMetadata resource) {
+      final var metadata = resource.getMetadata();
+      return List.of(
+          Objects.toString(metadata.getUid()),
+          Objects.toString(metadata.getNamespace()),
+          Objects.toString(metadata.getName()),
+          Objects.toString(metadata.getResourceVersion()));
+    }
+    return result;
+  }
+
+  private static Object fingerprintAll(Stream<?> stream) {
+    final var fingerprints = new HashSet<>();
+    stream.forEach(r -> fingerprints.add(fingerprint(r)));
+    return fingerprints;
+  }
+
+  private record Key(
+      String dependentName,
+      String kind,
+      String primaryUid,
+      Long primaryGeneration,
+      // only set if the primary resource has no generation, e.g. resources without spec
+      String primaryResourceVersion,
+      // labels and annotations changes don't increase the generation
+      int primaryLabelsAndAnnotationsHash) {
+
+    private static Key of(String dependentName, String kind, HasMetadata primary) {
+      final var metadata = primary.getMetadata();
+      final var generation = metadata.getGeneration();
+      return new Key(
+          dependentName,
+          kind,
+          metadata.getUid(),
+          generation,
+          generation == null ? metadata.getResourceVersion() : null,
+          Objects.hash(metadata.getLabels(), metadata.getAnnotations()));
+    }
+  }
+
+  private record Read(Function<Context<?>, Object> read, Object fingerprint) {}
+
+  private static class Entry {
+    private final Object value;
+    private final List<Read> reads;
+    private volatile boolean accessed;
+
+    private Entry(Object value, List<Read> reads) {
+      this.value = value;
+      this.reads = reads;
+    }
+
+    private boolean isUpToDate(Context<?> context) {
+      // reads made to check the cached value don't belong to the enclosing computation, if any
+      startRecording(new ArrayList<>());
+      try {
+        for (Read r : reads) {
+          if (!Objects.equals(r.fingerprint(), fingerprint(r.read().apply(context)))) {
+            return false;
+          }
+        }
+        return true;
+      } finally {
+        stopRecording();
+      }
+    }
+  }
+}
@@ -25,9 +25,11 @@ import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Namespaced;
+import io.javaoperatorsdk.operator.api.config.WriteBudget.Verb;
 import io.javaoperatorsdk.operator.api.config.dependent.Configured;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.DefaultContext;
 import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.api.reconciler.Ignore;
 import io.javaoperatorsdk.operator.api.reconciler.ResourceOperations;
@@ -82,6 +84,16 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
                   .DEFAULT_CREATE_RESOURCE_ONLY_IF_NOT_EXISTING_WITH_SSA
               : kubernetesDependentResourceConfig.createResourceOnlyIfNotExistingWithSSA();
       if (createIfNotExisting) {
+        if (context instanceof DefaultContext<P> defaultContext
+            && defaultContext.getMemoizationCache().isPresent()) {
+          // memoized desired states are reused by later reconciliations so must not be modified
+          desired =
+              context
+                  .getControllerConfiguration()
+                  .getConfigurationService()
+                  .getResourceCloner()
+                  .clone(desired);
+        }
         desired.getMetadata().setResourceVersion("1");
       }
     }
@@ -190,12 +202,14 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
   @Override
   protected void handleDelete(P primary, R secondary, Context<P> context) {
     if (secondary != null) {
+      context.resourceOperations().acquireWriteBudget(Verb.DELETE);
       context.getClient().resource(secondary).delete();
     }
   }
 
   @SuppressWarnings("unused")
   public void deleteTargetResource(P primary, R resource, ResourceID key, Context<P> context) {
+    context.resourceOperations().acquireWriteBudget(Verb.DELETE);
     context.getClient().resource(resource).delete();
   }
 
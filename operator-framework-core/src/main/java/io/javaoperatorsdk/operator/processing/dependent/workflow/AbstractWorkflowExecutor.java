@@ -15,7 +15,7 @@
  */
 package io.javaoperatorsdk.operator.processing.dependent.workflow;
 
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,7 +29,9 @@ import org.slf4j.Logger;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.DefaultContext;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 @SuppressWarnings("rawtypes")
@@ -44,7 +46,7 @@ abstract class AbstractWorkflowExecutor<P extends HasMetadata> {
   /** Covers both deleted and reconciled */
   private final Map<DependentResourceNode, Future<?>> actualExecutions = new ConcurrentHashMap<>();
 
-  private final ExecutorService executorService;
+  protected final ExecutorService executorService;
 
   protected AbstractWorkflowExecutor(DefaultWorkflow<P> workflow, P primary, Context<P> context) {
     this.workflow = workflow;
@@ -52,7 +54,7 @@ abstract class AbstractWorkflowExecutor<P extends HasMetadata> {
     this.context = context;
     this.primaryID = ResourceID.fromResource(primary);
     executorService = context.getWorkflowExecutorService();
-    results = new HashMap<>(workflow.getDependentResourcesByName().size());
+    results = new ConcurrentHashMap<>(workflow.size());
   }
 
   protected abstract Logger logger();
@@ -162,19 +164,96 @@ abstract class AbstractWorkflowExecutor<P extends HasMetadata> {
               if (existingResult.isPresent()) {
                 return existingResult.get();
               }
-              final DetailedCondition.Result<?> r = c.detailedIsMet(dr, primary, context);
-              synchronized (this) {
-                results
-                    .computeIfAbsent(
-                        dependentResource, unused -> new BaseWorkflowResult.DetailBuilder())
-                    .withResultForCondition(c, r);
-              }
+              final DetailedCondition.Result<?> r =
+                  ReadEventSources.recording(
+                      workflow.readEventSourceNames(dependentResource), () -> evaluate(c, dr));
+              recordConditionResult(dependentResource, c, r);
               return r;
             })
         .orElse(DetailedCondition.Result.metWithoutResult)
         .isSuccess();
   }
 
+  private <R> DetailedCondition.Result<?> evaluate(
+      ConditionWithType<R, P, ?> condition, DependentResource<R, P> dependentResource) {
+    // activation conditions and delete postconditions usually depend on state not tracked by the
+    // memoization cache, e.g. the presence of CRDs or the progress of a deletion
+    final var type = condition.type();
+    if ((type == Condition.Type.READY || type == Condition.Type.RECONCILE)
+        && context instanceof DefaultContext<P> defaultContext) {
+      final var memoizationCache = defaultContext.getMemoizationCache();
+      if (memoizationCache.isPresent()) {
+        return memoizationCache
+            .get()
+            .getOrCompute(
+                dependentResource.name(),
+                type.name().toLowerCase(Locale.ROOT),
+                primary,
+                context,
+                () -> condition.detailedIsMet(dependentResource, primary, context));
+      }
+    }
+    return condition.detailedIsMet(dependentResource, primary, context);
+  }
+
+  protected <R> ReconcileResult<R> reconcileDependent(
+      DependentResourceNode<R, P> dependentResourceNode) {
+    return ReadEventSources.recording(
+        workflow.readEventSourceNames(dependentResourceNode),
+        () -> dependentResourceNode.getDependentResource().reconcile(primary, context));
+  }
+
+  /**
+   * Adds the dependents skipped by an incremental reconciliation to the result as they were left by
+   * the previous reconciliation: not reconciled and, as their inputs did not change, with the same
+   * ready postcondition result, evaluated again. Dependents are only added if their dependencies
+   * are ready, as they would have been after a full reconciliation.
+   *
+   * @param affectedDependents the dependents the reconciliation was restricted to
+   */
+  @SuppressWarnings("unchecked")
+  protected void carryForwardSkippedDependents(AffectedDependents affectedDependents) {
+    if (affectedDependents.isAll()) {
+      return;
+    }
+    for (DependentResourceNode node : workflow.getDependentResourceNodes()) {
+      carryForward(node, affectedDependents);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> void carryForward(
+      DependentResourceNode<R, P> node, AffectedDependents affectedDependents) {
+    if (affectedDependents.shouldVisit(node)
+        || getResultFor(node).isPresent()
+        || !node.getDependsOn().stream()
+            .allMatch(d -> alreadyVisited(d) && isReady(d) && !isInError(d))) {
+      return;
+    }
+    logger().debug("Carrying forward not affected node: {} primaryID: {}", node, primaryID);
+    if (!isConditionMet(node.getActivationCondition(), node)) {
+      return;
+    }
+    if (!isConditionMet(node.getReconcilePrecondition(), node)) {
+      createOrGetResultFor(node).markForDelete();
+      return;
+    }
+    final var ready = isConditionMet(node.getReadyPostcondition(), node);
+    createOrGetResultFor(node).markAsVisited();
+    if (ready) {
+      for (DependentResourceNode dependent : node.getParents()) {
+        carryForward(dependent, affectedDependents);
+      }
+    }
+  }
+
+  protected synchronized void recordConditionResult(
+      DependentResourceNode<?, P> dependentResourceNode,
+      ConditionWithType<?, P, ?> condition,
+      DetailedCondition.Result<?> result) {
+    createOrGetResultFor(dependentResourceNode).withResultForCondition(condition, result);
+  }
+
   protected <R> void submit(
       DependentResourceNode<R, P> dependentResourceNode,
       NodeExecutor<R, P> nodeExecutor,
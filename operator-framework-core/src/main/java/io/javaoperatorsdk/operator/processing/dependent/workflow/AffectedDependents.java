@@ -0,0 +1,110 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent.workflow;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The dependents an incremental workflow reconciliation is restricted to. Affected dependents are
+ * reconciled, the dependents they depend on are only visited, so that their conditions are
+ * evaluated to decide whether the affected dependents can be reconciled, while all the other
+ * dependents are skipped.
+ */
+@SuppressWarnings("rawtypes")
+class AffectedDependents {
+
+  static final AffectedDependents ALL = new AffectedDependents(null, null);
+
+  // null meaning all the dependents
+  private final Set<DependentResourceNode> affected;
+  private final Set<DependentResourceNode> visited;
+
+  private AffectedDependents(
+      Set<DependentResourceNode> affected, Set<DependentResourceNode> visited) {
+    this.affected = affected;
+    this.visited = visited;
+  }
+
+  /**
+   * Computes the dependents affected by events from the given event sources, i.e. the dependents
+   * using or reading secondary resources from one of these event sources, the dependents for which
+   * no event source is known, and all the dependents depending on them.
+   *
+   * @param nodes all the nodes of the workflow
+   * @param triggeringEventSourceNames names of the event sources which triggered the reconciliation
+   * @param eventSourceName resolves the name of the event source of a node, {@code null} if unknown
+   * @param readEventSourceNames resolves the names of the event sources a node was seen reading
+   * @return the affected dependents
+   */
+  static AffectedDependents of(
+      Collection<DependentResourceNode> nodes,
+      Set<String> triggeringEventSourceNames,
+      Function<DependentResourceNode, String> eventSourceName,
+      Function<DependentResourceNode, Set<String>> readEventSourceNames) {
+    final Set<DependentResourceNode> affected = new HashSet<>();
+    final Deque<DependentResourceNode> toProcess = new ArrayDeque<>();
+    for (DependentResourceNode node : nodes) {
+      final var name = eventSourceName.apply(node);
+      if (name == null
+          || triggeringEventSourceNames.contains(name)
+          || !Collections.disjoint(readEventSourceNames.apply(node), triggeringEventSourceNames)) {
+        toProcess.add(node);
+      }
+    }
+    closure(toProcess, affected, DependentResourceNode::getParents);
+    final Set<DependentResourceNode> visited = new HashSet<>(affected.size());
+    closure(new ArrayDeque<>(affected), visited, DependentResourceNode::getDependsOn);
+    return new AffectedDependents(affected, visited);
+  }
+
+  private static void closure(
+      Deque<DependentResourceNode> toProcess,
+      Set<DependentResourceNode> result,
+      Function<DependentResourceNode, List<DependentResourceNode>> next) {
+    DependentResourceNode node;
+    while ((node = toProcess.poll()) != null) {
+      if (result.add(node)) {
+        toProcess.addAll(next.apply(node));
+      }
+    }
+  }
+
+  boolean isAll() {
+    return affected == null;
+  }
+
+  /** Whether the node needs to be reconciled */
+  boolean isAffected(DependentResourceNode<?, ?> node) {
+    return affected == null || affected.contains(node);
+  }
+
+  /** Whether the node needs to be visited, being affected or a dependency of an affected node */
+  boolean shouldVisit(DependentResourceNode<?, ?> node) {
+    return visited == null || visited.contains(node);
+  }
+
+  @Override
+  public String toString() {
+    return isAll() ? "AffectedDependents{all}" : "AffectedDependents{" + affected + '}';
+  }
+}
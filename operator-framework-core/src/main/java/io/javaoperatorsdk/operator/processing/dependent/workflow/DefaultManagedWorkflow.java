@@ -109,7 +109,10 @@ public class DefaultManagedWorkflow<P extends HasMetadata> implements ManagedWor
         bottom,
         top,
         configuration.getWorkflowSpec().map(w -> !w.handleExceptionsInReconciler()).orElseThrow(),
-        hasCleaner);
+        hasCleaner,
+        configuration.getConfigurationService().useLockFreeWorkflowExecution(),
+        configuration.getConfigurationService().useInlineWorkflowExecution(),
+        configuration.getConfigurationService().useIncrementalWorkflowReconciliation());
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
@@ -15,19 +15,23 @@
  */
 package io.javaoperatorsdk.operator.processing.dependent.workflow;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Deleter;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.GarbageCollected;
+import io.javaoperatorsdk.operator.processing.dependent.AbstractEventSourceHolderDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
 
 import static io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext.CLEANUP_RESULT_KEY;
 import static io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext.RECONCILE_RESULT_KEY;
@@ -46,6 +50,14 @@ class DefaultWorkflow<P extends HasMetadata> implements Workflow<P> {
 
   private final boolean throwExceptionAutomatically;
   private final boolean hasCleaner;
+  private final boolean lockFreeExecution;
+  private final boolean inlineExecution;
+  private final boolean incrementalReconciliation;
+  private final Map<DependentResourceNode, String> eventSourceNames = new ConcurrentHashMap<>();
+  // event sources read by each node across reconciliations, only recorded when reconciling
+  // incrementally
+  private final Map<DependentResourceNode, Set<String>> readEventSourceNames =
+      new ConcurrentHashMap<>();
 
   DefaultWorkflow(Set<DependentResourceNode> dependentResourceNodes) {
     this(dependentResourceNodes, THROW_EXCEPTION_AUTOMATICALLY_DEFAULT, false);
@@ -55,8 +67,21 @@ class DefaultWorkflow<P extends HasMetadata> implements Workflow<P> {
       Set<DependentResourceNode> dependentResourceNodes,
       boolean throwExceptionAutomatically,
       boolean hasCleaner) {
+    this(dependentResourceNodes, throwExceptionAutomatically, hasCleaner, false, false, false);
+  }
+
+  DefaultWorkflow(
+      Set<DependentResourceNode> dependentResourceNodes,
+      boolean throwExceptionAutomatically,
+      boolean hasCleaner,
+      boolean lockFreeExecution,
+      boolean inlineExecution,
+      boolean incrementalReconciliation) {
     this.throwExceptionAutomatically = throwExceptionAutomatically;
     this.hasCleaner = hasCleaner;
+    this.lockFreeExecution = lockFreeExecution;
+    this.inlineExecution = inlineExecution;
+    this.incrementalReconciliation = incrementalReconciliation;
 
     if (dependentResourceNodes == null) {
       this.topLevelResources = Collections.emptySet();
@@ -75,8 +100,31 @@ class DefaultWorkflow<P extends HasMetadata> implements Workflow<P> {
       Set<DependentResourceNode> topLevelResources,
       boolean throwExceptionAutomatically,
       boolean hasCleaner) {
+    this(
+        dependentResourceNodes,
+        bottomLevelResource,
+        topLevelResources,
+        throwExceptionAutomatically,
+        hasCleaner,
+        false,
+        false,
+        false);
+  }
+
+  protected DefaultWorkflow(
+      Map<String, DependentResourceNode> dependentResourceNodes,
+      Set<DependentResourceNode> bottomLevelResource,
+      Set<DependentResourceNode> topLevelResources,
+      boolean throwExceptionAutomatically,
+      boolean hasCleaner,
+      boolean lockFreeExecution,
+      boolean inlineExecution,
+      boolean incrementalReconciliation) {
     this.throwExceptionAutomatically = throwExceptionAutomatically;
     this.hasCleaner = hasCleaner;
+    this.lockFreeExecution = lockFreeExecution;
+    this.inlineExecution = inlineExecution;
+    this.incrementalReconciliation = incrementalReconciliation;
     this.topLevelResources = topLevelResources;
     this.bottomLevelResource = bottomLevelResource;
     this.dependentResourceNodes = dependentResourceNodes;
@@ -110,9 +158,10 @@ class DefaultWorkflow<P extends HasMetadata> implements Workflow<P> {
 
   @Override
   public WorkflowReconcileResult reconcile(P primary, Context<P> context) {
-    WorkflowReconcileExecutor<P> workflowReconcileExecutor =
-        new WorkflowReconcileExecutor<>(this, primary, context);
-    var result = workflowReconcileExecutor.reconcile();
+    var result =
+        lockFreeExecution || inlineExecution
+            ? new LockFreeWorkflowReconcileExecutor<>(this, primary, context).reconcile()
+            : new WorkflowReconcileExecutor<>(this, primary, context).reconcile();
     context.managedWorkflowAndDependentResourceContext().put(RECONCILE_RESULT_KEY, result);
     if (throwExceptionAutomatically) {
       result.throwAggregateExceptionIfErrorsPresent();
@@ -136,6 +185,61 @@ class DefaultWorkflow<P extends HasMetadata> implements Workflow<P> {
     return topLevelResources;
   }
 
+  Collection<DependentResourceNode> getDependentResourceNodes() {
+    return dependentResourceNodes.values();
+  }
+
+  boolean isLockFreeExecution() {
+    return lockFreeExecution;
+  }
+
+  boolean isInlineExecution() {
+    return inlineExecution;
+  }
+
+  /**
+   * Determines the dependents to reconcile when reconciling incrementally, based on the event
+   * sources which triggered the reconciliation.
+   */
+  AffectedDependents affectedDependents(Context<P> context) {
+    if (!incrementalReconciliation) {
+      return AffectedDependents.ALL;
+    }
+    return context
+        .getTriggeringEventSourceNames()
+        .map(
+            names ->
+                AffectedDependents.of(
+                    dependentResourceNodes.values(),
+                    names,
+                    this::eventSourceName,
+                    n -> readEventSourceNames.getOrDefault(n, Set.of())))
+        .orElse(AffectedDependents.ALL);
+  }
+
+  /**
+   * @return the set to record the names of the event sources read by the given node into, {@code
+   *     null} if reads don't need to be recorded
+   */
+  Set<String> readEventSourceNames(DependentResourceNode node) {
+    return incrementalReconciliation
+        ? readEventSourceNames.computeIfAbsent(node, n -> ConcurrentHashMap.newKeySet())
+        : null;
+  }
+
+  private String eventSourceName(DependentResourceNode node) {
+    // names are only cached once known, as the event source of some dependents is only resolved
+    // when they are first reconciled. The event source is not created here if not yet resolved,
+    // dependents with an unknown event source then being considered affected.
+    return eventSourceNames.computeIfAbsent(
+        node,
+        n ->
+            n.getDependentResource()
+                    instanceof AbstractEventSourceHolderDependentResource<?, ?, ?> holder
+                ? holder.eventSource().map(EventSource::name).orElse(null)
+                : null);
+  }
+
   public Set<DependentResourceNode> getBottomLevelDependentResources() {
     return bottomLevelResource;
   }
@@ -0,0 +1,383 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent.workflow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.Deleter;
+import io.javaoperatorsdk.operator.processing.MDCUtils;
+
+/**
+ * Reconciles a workflow like {@link WorkflowReconcileExecutor}, but without synchronizing on the
+ * executor. The number of dependencies not yet reconciled and ready (and of dependents not yet
+ * deleted) is precomputed for every node and atomically decremented as nodes complete, so a node is
+ * scheduled exactly once by the execution that brings its counter to zero, without rescanning its
+ * parents. The calling thread waits on a {@link CompletableFuture} completed when the last
+ * scheduled execution finishes.
+ *
+ * <p>With inline execution enabled, the nodes made ready by a thread, including the calling thread
+ * for the top-level nodes, are run by that same thread when they are {@link
+ * io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource#isCheapToReconcile() cheap
+ * to reconcile}, as is one of the remaining ones; only the others are submitted to the executor.
+ * Inline nodes are queued and run one after the other, so that long chains do not grow the stack.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+class LockFreeWorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowExecutor<P> {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(LockFreeWorkflowReconcileExecutor.class);
+  private static final String RECONCILE = "reconcile";
+  private static final String DELETE = "delete";
+
+  private final boolean inlineExecution;
+  private final AffectedDependents affectedDependents;
+  private final Map<DependentResourceNode, NodeState> nodeStates;
+  // starts at one for the calling thread so that completion cannot be signaled before all the
+  // top-level nodes are scheduled
+  private final AtomicInteger scheduledExecutions = new AtomicInteger(1);
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+  LockFreeWorkflowReconcileExecutor(DefaultWorkflow<P> workflow, P primary, Context<P> context) {
+    super(workflow, primary, context);
+    inlineExecution = workflow.isInlineExecution();
+    affectedDependents = workflow.affectedDependents(context);
+    final var nodes = workflow.getDependentResourceNodes();
+    nodeStates = new IdentityHashMap<>(nodes.size());
+    for (DependentResourceNode node : nodes) {
+      nodeStates.put(node, new NodeState(node));
+    }
+  }
+
+  public WorkflowReconcileResult reconcile() {
+    // the calling thread already has the MDC set up for the primary
+    final var inlineNodes = new ArrayDeque<NodeReconcileExecutor<?>>();
+    reconcileReadyNodes(workflow.getTopLevelDependentResources(), inlineNodes);
+    runInline(inlineNodes);
+    executionFinished();
+    waitForScheduledExecutionsToRun();
+    carryForwardSkippedDependents(affectedDependents);
+    return new DefaultWorkflowReconcileResult(asDetails());
+  }
+
+  @Override
+  protected Logger logger() {
+    return log;
+  }
+
+  /**
+   * Checks the conditions of nodes whose dependencies are all reconciled and ready, then schedules
+   * the ones to reconcile.
+   *
+   * @param readyNodes the nodes made ready by the current thread
+   * @param inlineNodes the queue of nodes the current thread runs once done with the current node
+   */
+  private void reconcileReadyNodes(
+      Collection<DependentResourceNode> readyNodes, Deque<NodeReconcileExecutor<?>> inlineNodes) {
+    final List<DependentResourceNode> toReconcile = new ArrayList<>(readyNodes.size());
+    for (DependentResourceNode dependentResourceNode : readyNodes) {
+      if (!affectedDependents.shouldVisit(dependentResourceNode)) {
+        log.debug("Skipping not affected node: {} primaryID: {}", dependentResourceNode, primaryID);
+      } else if (shouldReconcile(dependentResourceNode)) {
+        toReconcile.add(dependentResourceNode);
+      } else {
+        markForDelete(dependentResourceNode);
+      }
+    }
+    if (!inlineExecution) {
+      toReconcile.forEach(this::submitReconcile);
+      return;
+    }
+    DependentResourceNode continuation = null;
+    for (DependentResourceNode dependentResourceNode : toReconcile) {
+      if (dependentResourceNode.getDependentResource().isCheapToReconcile()) {
+        enqueueInline(dependentResourceNode, inlineNodes);
+      } else if (continuation == null) {
+        continuation = dependentResourceNode;
+      } else {
+        submitReconcile(dependentResourceNode);
+      }
+    }
+    if (continuation != null) {
+      enqueueInline(continuation, inlineNodes);
+    }
+  }
+
+  private <R> boolean shouldReconcile(DependentResourceNode<R, P> dependentResourceNode) {
+    log.debug("Considering for reconcile: {} primaryID: {}", dependentResourceNode, primaryID);
+    boolean activationConditionMet =
+        isConditionMet(dependentResourceNode.getActivationCondition(), dependentResourceNode);
+    registerOrDeregisterEventSourceBasedOnActivation(activationConditionMet, dependentResourceNode);
+    return activationConditionMet
+        && isConditionMet(dependentResourceNode.getReconcilePrecondition(), dependentResourceNode);
+  }
+
+  private <R> void submitReconcile(DependentResourceNode<R, P> dependentResourceNode) {
+    log.debug("Submitting to {}: {} primaryID: {}", RECONCILE, dependentResourceNode, primaryID);
+    final var inlineNodes = new ArrayDeque<NodeReconcileExecutor<?>>();
+    inlineNodes.add(new NodeReconcileExecutor<>(dependentResourceNode, inlineNodes));
+    execute(() -> MDCUtils.withMDCForResource(primary, () -> runInline(inlineNodes)));
+  }
+
+  private <R> void enqueueInline(
+      DependentResourceNode<R, P> dependentResourceNode,
+      Deque<NodeReconcileExecutor<?>> inlineNodes) {
+    log.debug("Scheduling inline: {} primaryID: {}", dependentResourceNode, primaryID);
+    scheduledExecutions.incrementAndGet();
+    inlineNodes.add(new NodeReconcileExecutor<>(dependentResourceNode, inlineNodes));
+  }
+
+  private void runInline(Deque<NodeReconcileExecutor<?>> inlineNodes) {
+    try {
+      NodeReconcileExecutor<?> next;
+      while ((next = inlineNodes.poll()) != null) {
+        next.runWithinMDC();
+      }
+    } finally {
+      // only happens if an Error interrupted the loop, the remaining nodes won't run
+      while (inlineNodes.poll() != null) {
+        executionFinished();
+      }
+    }
+  }
+
+  private void handleDependentsReconcile(
+      DependentResourceNode<?, P> dependentResourceNode,
+      Deque<NodeReconcileExecutor<?>> inlineNodes) {
+    final List<DependentResourceNode> readyDependents = new ArrayList<>();
+    for (DependentResourceNode dependent : dependentResourceNode.getParents()) {
+      if (nodeStates.get(dependent).pendingDependsOn.decrementAndGet() == 0) {
+        readyDependents.add(dependent);
+      } else {
+        log.debug(
+            "Dependent: {} of: {} still waiting on other dependencies primaryID: {}",
+            dependent,
+            dependentResourceNode,
+            primaryID);
+      }
+    }
+    if (!readyDependents.isEmpty()) {
+      reconcileReadyNodes(readyDependents, inlineNodes);
+    }
+  }
+
+  /**
+   * Marks the node and, transitively, all the nodes depending on it for delete. Deletion starts
+   * from the nodes without dependents and proceeds as their dependents are deleted.
+   */
+  private void markForDelete(DependentResourceNode<?, P> dependentResourceNode) {
+    final var state = nodeStates.get(dependentResourceNode);
+    if (!state.markedForDelete.compareAndSet(false, true)) {
+      return;
+    }
+    createOrGetResultFor(dependentResourceNode).markForDelete();
+    for (DependentResourceNode dependent : dependentResourceNode.getParents()) {
+      markForDelete(dependent);
+    }
+    submitDeleteIfReady(dependentResourceNode, state);
+  }
+
+  private void handleDependentDeleted(DependentResourceNode<?, P> dependentResourceNode) {
+    for (DependentResourceNode dependsOn : dependentResourceNode.getDependsOn()) {
+      final var state = nodeStates.get(dependsOn);
+      state.pendingDependents.decrementAndGet();
+      submitDeleteIfReady(dependsOn, state);
+    }
+  }
+
+  private <R> void submitDeleteIfReady(
+      DependentResourceNode<R, P> dependentResourceNode, NodeState state) {
+    // the counter and the flag are checked after being updated by both the marking and the
+    // deleting threads, so at least one of them sees both conditions hold, the last flag making
+    // sure the node is submitted only once
+    if (state.markedForDelete.get()
+        && state.pendingDependents.get() == 0
+        && state.deleteSubmitted.compareAndSet(false, true)) {
+      submit(dependentResourceNode, new NodeDeleteExecutor<>(dependentResourceNode), DELETE);
+    }
+  }
+
+  @Override
+  protected <R> void submit(
+      DependentResourceNode<R, P> dependentResourceNode,
+      NodeExecutor<R, P> nodeExecutor,
+      String operation) {
+    log.debug("Submitting to {}: {} primaryID: {}", operation, dependentResourceNode, primaryID);
+    execute(nodeExecutor);
+  }
+
+  private void execute(Runnable execution) {
+    scheduledExecutions.incrementAndGet();
+    try {
+      executorService.execute(execution);
+    } catch (RuntimeException e) {
+      executionFinished();
+      throw e;
+    }
+  }
+
+  @Override
+  protected void handleNodeExecutionFinish(DependentResourceNode<?, P> dependentResourceNode) {
+    log.trace("Finished execution for: {} primary: {}", dependentResourceNode, primaryID);
+    executionFinished();
+  }
+
+  private void executionFinished() {
+    if (scheduledExecutions.decrementAndGet() == 0) {
+      completion.complete(null);
+    }
+  }
+
+  @Override
+  protected void waitForScheduledExecutionsToRun() {
+    try {
+      completion.get();
+    } catch (InterruptedException e) {
+      if (completion.isDone()) {
+        log.debug("interrupted, no more executions for: {}", primaryID);
+      } else {
+        log.error("Thread interrupted for primary: {}", primaryID, e);
+        throw new OperatorException(e);
+      }
+    } catch (ExecutionException e) {
+      throw new OperatorException(e.getCause());
+    }
+  }
+
+  @Override
+  protected boolean noMoreExecutionsScheduled() {
+    return completion.isDone();
+  }
+
+  @Override
+  protected BaseWorkflowResult.DetailBuilder createOrGetResultFor(
+      DependentResourceNode<?, P> dependentResourceNode) {
+    return results.computeIfAbsent(
+        dependentResourceNode, unused -> new BaseWorkflowResult.DetailBuilder());
+  }
+
+  @Override
+  protected Optional<BaseWorkflowResult.DetailBuilder<?>> getResultFor(
+      DependentResourceNode<?, P> dependentResourceNode) {
+    return Optional.ofNullable(results.get(dependentResourceNode));
+  }
+
+  @Override
+  protected void recordConditionResult(
+      DependentResourceNode<?, P> dependentResourceNode,
+      ConditionWithType<?, P, ?> condition,
+      DetailedCondition.Result<?> result) {
+    createOrGetResultFor(dependentResourceNode).withResultForCondition(condition, result);
+  }
+
+  @Override
+  protected void handleExceptionInExecutor(
+      DependentResourceNode<?, P> dependentResourceNode, Exception e) {
+    createOrGetResultFor(dependentResourceNode).withError(e);
+  }
+
+  private static class NodeState {
+    private final AtomicInteger pendingDependsOn;
+    private final AtomicInteger pendingDependents;
+    private final AtomicBoolean markedForDelete = new AtomicBoolean();
+    private final AtomicBoolean deleteSubmitted = new AtomicBoolean();
+
+    private NodeState(DependentResourceNode<?, ?> node) {
+      pendingDependsOn = new AtomicInteger(node.getDependsOn().size());
+      pendingDependents = new AtomicInteger(node.getParents().size());
+    }
+  }
+
+  private class NodeReconcileExecutor<R> extends NodeExecutor<R, P> {
+
+    private final Deque<NodeReconcileExecutor<?>> inlineNodes;
+
+    private NodeReconcileExecutor(
+        DependentResourceNode<R, P> dependentResourceNode,
+        Deque<NodeReconcileExecutor<?>> inlineNodes) {
+      super(dependentResourceNode, LockFreeWorkflowReconcileExecutor.this);
+      this.inlineNodes = inlineNodes;
+    }
+
+    @Override
+    protected void doRun(DependentResourceNode<R, P> dependentResourceNode) {
+      final var detailBuilder = createOrGetResultFor(dependentResourceNode);
+      if (affectedDependents.isAffected(dependentResourceNode)) {
+        log.debug("Reconciling for primary: {} node: {} ", primaryID, dependentResourceNode);
+        detailBuilder.withReconcileResult(reconcileDependent(dependentResourceNode));
+      } else {
+        log.debug(
+            "Skipping reconcile of not affected node: {} primaryID: {}",
+            dependentResourceNode,
+            primaryID);
+      }
+
+      boolean isReadyPostconditionMet =
+          isConditionMet(dependentResourceNode.getReadyPostcondition(), dependentResourceNode);
+      detailBuilder.markAsVisited();
+      if (isReadyPostconditionMet) {
+        log.debug(
+            "Setting already reconciled for: {} primaryID: {}", dependentResourceNode, primaryID);
+        handleDependentsReconcile(dependentResourceNode, inlineNodes);
+      } else {
+        log.debug("Setting already reconciled but not ready for: {}", dependentResourceNode);
+      }
+    }
+  }
+
+  private class NodeDeleteExecutor<R> extends NodeExecutor<R, P> {
+
+    private NodeDeleteExecutor(DependentResourceNode<R, P> dependentResourceNode) {
+      super(dependentResourceNode, LockFreeWorkflowReconcileExecutor.this);
+    }
+
+    @Override
+    protected void doRun(DependentResourceNode<R, P> dependentResourceNode) {
+      boolean deletePostConditionMet = true;
+      var active =
+          isConditionMet(dependentResourceNode.getActivationCondition(), dependentResourceNode);
+      registerOrDeregisterEventSourceBasedOnActivation(active, dependentResourceNode);
+      if (active) {
+        final var dependentResource = dependentResourceNode.getDependentResource();
+        if (dependentResource instanceof Deleter) {
+          ((Deleter<P>) dependentResource).delete(primary, context);
+        }
+        deletePostConditionMet =
+            isConditionMet(dependentResourceNode.getDeletePostcondition(), dependentResourceNode);
+      }
+      createOrGetResultFor(dependentResourceNode).markAsVisited();
+      if (deletePostConditionMet) {
+        handleDependentDeleted(dependentResourceNode);
+      }
+    }
+  }
+}
@@ -37,22 +37,23 @@ abstract class NodeExecutor<R, P extends HasMetadata> implements Runnable {
 
   @Override
   public void run() {
-    MDCUtils.withMDCForResource(
-        workflowExecutor.primary,
-        () -> {
-          try {
-            doRun(dependentResourceNode);
-          } catch (Exception e) {
-            // Exception is required because of Kotlin
-            workflowExecutor.handleExceptionInExecutor(dependentResourceNode, e);
-          } catch (Error e) {
-            // without this user would see no sign about the error
-            log.error("java.lang.Error during execution", e);
-            throw e;
-          } finally {
-            workflowExecutor.handleNodeExecutionFinish(dependentResourceNode);
-          }
-        });
+    MDCUtils.withMDCForResource(workflowExecutor.primary, this::runWithinMDC);
+  }
+
+  /** Executes the node on a thread for which the MDC is already set up for the primary resource */
+  void runWithinMDC() {
+    try {
+      doRun(dependentResourceNode);
+    } catch (Exception e) {
+      // Exception is required because of Kotlin
+      workflowExecutor.handleExceptionInExecutor(dependentResourceNode, e);
+    } catch (Error e) {
+      // without this user would see no sign about the error
+      log.error("java.lang.Error during execution", e);
+      throw e;
+    } finally {
+      workflowExecutor.handleNodeExecutionFinish(dependentResourceNode);
+    }
   }
 
   protected abstract void doRun(DependentResourceNode<R, P> dependentResourceNode);
@@ -0,0 +1,66 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent.workflow;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Records the event sources from which secondary resources are read while a dependent is reconciled
+ * or its conditions evaluated, so that incremental workflow reconciliations also consider a
+ * dependent affected when an event source it reads, and not only its own, triggered the
+ * reconciliation.
+ *
+ * @since 5.6.0
+ */
+public final class ReadEventSources {
+
+  // names of the event sources read by the dependent processed on the current thread, null if
+  // reads are not recorded
+  private static final ThreadLocal<Set<String>> recorded = new ThreadLocal<>();
+
+  private ReadEventSources() {}
+
+  /**
+   * Records a read from the given event source by the dependent processed on the current thread, if
+   * any.
+   *
+   * @param eventSourceName the name of the event source secondary resources were read from
+   */
+  public static void recordRead(String eventSourceName) {
+    final var names = recorded.get();
+    if (names != null && eventSourceName != null) {
+      names.add(eventSourceName);
+    }
+  }
+
+  static <T> T recording(Set<String> names, Supplier<T> action) {
+    if (names == null) {
+      return action.get();
+    }
+    final var previous = recorded.get();
+    recorded.set(names);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        recorded.remove();
+      } else {
+        recorded.set(previous);
+      }
+    }
+  }
+}
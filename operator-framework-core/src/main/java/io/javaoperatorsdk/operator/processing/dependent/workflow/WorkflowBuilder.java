@@ -32,6 +32,9 @@ public class WorkflowBuilder<P extends HasMetadata> {
   private final Map<String, DependentResourceNode<?, P>> dependentResourceNodes = new HashMap<>();
   private boolean throwExceptionAutomatically = THROW_EXCEPTION_AUTOMATICALLY_DEFAULT;
   private boolean isCleaner = false;
+  private boolean lockFreeExecution = false;
+  private boolean inlineExecution = false;
+  private boolean incrementalReconciliation = false;
 
   public WorkflowNodeConfigurationBuilder addDependentResourceAndConfigure(
       DependentResource dependentResource) {
@@ -70,13 +73,62 @@ public class WorkflowBuilder<P extends HasMetadata> {
     return this;
   }
 
+  /**
+   * Reconciles the workflow with an executor scheduling dependents using per-node dependency
+   * counters instead of synchronizing on the whole workflow, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useLockFreeWorkflowExecution()}.
+   *
+   * @param lockFreeExecution whether to use the lock-free executor
+   * @return this builder
+   * @since 5.6.0
+   */
+  public WorkflowBuilder<P> withLockFreeExecution(boolean lockFreeExecution) {
+    this.lockFreeExecution = lockFreeExecution;
+    return this;
+  }
+
+  /**
+   * Runs dependents inline on the thread that made them ready when they are cheap to reconcile or
+   * when no other dependent needs to run concurrently, only submitting actually parallel branches
+   * to the workflow executor, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useInlineWorkflowExecution()}.
+   * Implies {@link #withLockFreeExecution(boolean)}.
+   *
+   * @param inlineExecution whether to execute dependents inline when possible
+   * @return this builder
+   * @since 5.6.0
+   */
+  public WorkflowBuilder<P> withInlineExecution(boolean inlineExecution) {
+    this.inlineExecution = inlineExecution;
+    return this;
+  }
+
+  /**
+   * Only reconciles the dependents affected by the events which triggered the reconciliation,
+   * falling back to all the dependents when this cannot be determined, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useIncrementalWorkflowReconciliation()}.
+   *
+   * @param incrementalReconciliation whether to reconcile the workflow incrementally
+   * @return this builder
+   * @since 5.6.0
+   */
+  public WorkflowBuilder<P> withIncrementalReconciliation(boolean incrementalReconciliation) {
+    this.incrementalReconciliation = incrementalReconciliation;
+    return this;
+  }
+
   public Workflow<P> build() {
     return buildAsDefaultWorkflow();
   }
 
   DefaultWorkflow<P> buildAsDefaultWorkflow() {
     return new DefaultWorkflow(
-        new HashSet<>(dependentResourceNodes.values()), throwExceptionAutomatically, isCleaner);
+        new HashSet<>(dependentResourceNodes.values()),
+        throwExceptionAutomatically,
+        isCleaner,
+        lockFreeExecution,
+        inlineExecution,
+        incrementalReconciliation);
   }
 
   public class WorkflowNodeConfigurationBuilder {
@@ -108,6 +160,18 @@ public class WorkflowBuilder<P extends HasMetadata> {
       return WorkflowBuilder.this.withThrowExceptionFurther(throwExceptionFurther);
     }
 
+    public WorkflowBuilder<P> withLockFreeExecution(boolean lockFreeExecution) {
+      return WorkflowBuilder.this.withLockFreeExecution(lockFreeExecution);
+    }
+
+    public WorkflowBuilder<P> withInlineExecution(boolean inlineExecution) {
+      return WorkflowBuilder.this.withInlineExecution(inlineExecution);
+    }
+
+    public WorkflowBuilder<P> withIncrementalReconciliation(boolean incrementalReconciliation) {
+      return WorkflowBuilder.this.withIncrementalReconciliation(incrementalReconciliation);
+    }
+
     public WorkflowNodeConfigurationBuilder dependsOn(Set<DependentResource> dependentResources) {
       for (var dependentResource : dependentResources) {
         var dependsOn = getNodeByDependentResource(dependentResource);
@@ -25,7 +25,6 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Deleter;
-import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowExecutor<P> {
@@ -34,8 +33,11 @@ class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowE
   private static final String RECONCILE = "reconcile";
   private static final String DELETE = "delete";
 
+  private final AffectedDependents affectedDependents;
+
   public WorkflowReconcileExecutor(DefaultWorkflow<P> workflow, P primary, Context<P> context) {
     super(workflow, primary, context);
+    affectedDependents = workflow.affectedDependents(context);
   }
 
   public synchronized WorkflowReconcileResult reconcile() {
@@ -43,6 +45,7 @@ class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowE
       handleReconcile(dependentResourceNode);
     }
     waitForScheduledExecutionsToRun();
+    carryForwardSkippedDependents(affectedDependents);
     return createReconcileResult();
   }
 
@@ -59,11 +62,13 @@ class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowE
     final var isWaitingOnParents = !allParentsReconciledAndReady(dependentResourceNode);
     final var isMarkedForDelete = isMarkedForDelete(dependentResourceNode);
     final var hasErroredParent = hasErroredParent(dependentResourceNode);
+    final var notAffected = !affectedDependents.shouldVisit(dependentResourceNode);
     if (isWaitingOnParents
         || alreadyVisited
         || executingNow
         || isMarkedForDelete
-        || hasErroredParent) {
+        || hasErroredParent
+        || notAffected) {
       if (log.isDebugEnabled()) {
         final var causes = new ArrayList<String>();
         if (alreadyVisited) {
@@ -81,6 +86,9 @@ class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowE
         if (hasErroredParent) {
           causes.add("errored parent");
         }
+        if (notAffected) {
+          causes.add("not affected by triggering events");
+        }
         log.debug(
             "Skipping: {} primaryID: {} causes: {}",
             dependentResourceNode,
@@ -155,14 +163,20 @@ class WorkflowReconcileExecutor<P extends HasMetadata> extends AbstractWorkflowE
 
     @Override
     protected void doRun(DependentResourceNode<R, P> dependentResourceNode) {
-      final var dependentResource = dependentResourceNode.getDependentResource();
-      log.debug("Reconciling for primary: {} node: {} ", primaryID, dependentResourceNode);
-      ReconcileResult reconcileResult = dependentResource.reconcile(primary, context);
       final var detailBuilder = createOrGetResultFor(dependentResourceNode);
+      if (affectedDependents.isAffected(dependentResourceNode)) {
+        log.debug("Reconciling for primary: {} node: {} ", primaryID, dependentResourceNode);
+        detailBuilder.withReconcileResult(reconcileDependent(dependentResourceNode));
+      } else {
+        log.debug(
+            "Skipping reconcile of not affected node: {} primaryID: {}",
+            dependentResourceNode,
+            primaryID);
+      }
 
       boolean isReadyPostconditionMet =
           isConditionMet(dependentResourceNode.getReadyPostcondition(), dependentResourceNode);
-      detailBuilder.withReconcileResult(reconcileResult).markAsVisited();
+      detailBuilder.markAsVisited();
       if (isReadyPostconditionMet) {
         log.debug(
             "Setting already reconciled for: {} primaryID: {}", dependentResourceNode, primaryID);
@@ -17,10 +17,15 @@ package io.javaoperatorsdk.operator.processing.event;
 
 import java.net.HttpURLConnection;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,9 +33,12 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.ConcurrencyLimit;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.monitoring.ReconciliationLatencies;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.MDCUtils;
@@ -67,6 +75,8 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private final ResourceStateManager resourceStateManager = new ResourceStateManager();
   private final Map<String, Object> metricsMetadata;
   private ExecutorService executor;
+  private ConcurrencyLimit concurrencyLimit;
+  private final EventQueue eventQueue;
 
   public EventProcessor(
       EventSourceManager<P> eventSourceManager, ConfigurationService configurationService) {
@@ -116,6 +126,19 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
                         Constants.RESOURCE_GVK_KEY, c.getAssociatedGroupVersionKind(),
                         Constants.CONTROLLER_NAME, controllerConfiguration.getName()))
             .orElseGet(HashMap::new);
+
+    final ConfigurationService configurationService =
+        controllerConfiguration.getConfigurationService();
+    final var eventQueueCapacity =
+        configurationService != null ? configurationService.eventQueueCapacity() : 0;
+    eventQueue =
+        eventQueueCapacity > 0
+            ? new EventQueue(
+                eventQueueCapacity,
+                configurationService.eventQueueOverflowStrategy(),
+                () -> configurationService.getExecutorServiceManager().cachingExecutorService(),
+                this::handleQueuedEvents)
+            : null;
   }
 
   /**
@@ -124,10 +147,49 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
    * immediate processing or, if this processor has not been {@link #start() started} yet, marks it
    * in the resource state so it can be replayed by {@link #handleAlreadyMarkedEvents()} once the
    * processor starts. Events received during the start-up window between event source readiness and
-   * processor start are therefore deferred rather than dropped.
+   * processor start are therefore deferred rather than dropped. When an event queue is configured,
+   * see {@link ConfigurationService#eventQueueCapacity()}, the event is only queued on the calling
+   * thread and processed asynchronously.
    */
   @Override
-  public synchronized void handleEvent(Event event) {
+  public void handleEvent(Event event) {
+    handleEvent(event, null);
+  }
+
+  /**
+   * Returns an {@link EventHandler} recording the name of the event source the events originate
+   * from, so that reconciliations triggered only by events from secondary event sources can expose
+   * them through {@link
+   * io.javaoperatorsdk.operator.api.reconciler.Context#getTriggeringEventSourceNames()}.
+   *
+   * @param eventSourceName the name of the event source the returned handler is used by
+   * @return an {@link EventHandler} for the given event source
+   */
+  EventHandler eventHandlerFor(String eventSourceName) {
+    return event -> handleEvent(event, eventSourceName);
+  }
+
+  private void handleEvent(Event event, String eventSourceName) {
+    final var receivedAt = System.nanoTime();
+    if (eventQueue == null || !eventQueue.offer(event, eventSourceName, receivedAt)) {
+      handleEventSynchronously(event, eventSourceName, receivedAt);
+    }
+  }
+
+  private synchronized void handleEventSynchronously(
+      Event event, String eventSourceName, long receivedAt) {
+    processEvent(event, Collections.singletonList(eventSourceName), receivedAt);
+  }
+
+  private synchronized void handleQueuedEvents(List<List<EventQueue.QueuedEvent>> batch) {
+    for (var events : batch) {
+      for (var queued : events) {
+        processEvent(queued.event(), queued.eventSourceNames(), queued.receivedAt());
+      }
+    }
+  }
+
+  private void processEvent(Event event, List<String> eventSourceNames, long receivedAt) {
     try {
       log.debug("Received event: {}", event);
 
@@ -143,6 +205,8 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       final var resourceID = event.getRelatedCustomResourceID();
       MDCUtils.addResourceIDInfo(resourceID);
       metrics.eventReceived(event, metricsMetadata);
+      state.eventReceivedAt(receivedAt);
+      eventSourceNames.forEach(state::eventReceivedFrom);
       handleEventMarking(event, state);
       if (!this.running) {
         if (state.deleteEventPresent()) {
@@ -176,11 +240,13 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
           && (maybeLatest.isPresent() || isTriggerOnAllEventAndDeleteEventPresent(state))) {
         var rateLimit = state.getRateLimit();
         if (rateLimit == null) {
-          rateLimit = rateLimiter.initState();
+          rateLimit = rateLimiter.initState(resourceID, maybeLatest.orElse(null));
           state.setRateLimit(rateLimit);
         }
         var rateLimiterPermission = rateLimiter.isLimited(rateLimit);
+        final var now = System.nanoTime();
         if (rateLimiterPermission.isPresent()) {
+          state.rateLimitedAt(now);
           handleRateLimitedSubmission(resourceID, rateLimiterPermission.get());
           return;
         }
@@ -190,14 +256,38 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         // during processing an event
         ExecutionScope<P> executionScope =
             new ExecutionScope<>(
-                latest,
-                state.getRetry(),
-                state.deleteEventPresent(),
-                state.isDeleteFinalStateUnknown());
+                    latest,
+                    state.getRetry(),
+                    state.deleteEventPresent(),
+                    state.isDeleteFinalStateUnknown())
+                .withSubmissionTimings(
+                    state.getPendingEventReceivedAt() != ResourceState.NOT_SET
+                        ? state.getPendingEventReceivedAt()
+                        : now,
+                    now,
+                    state.getRateLimitedSince() != ResourceState.NOT_SET
+                        ? now - state.getRateLimitedSince()
+                        : 0,
+                    state.getRetryScheduledAt() != ResourceState.NOT_SET
+                        ? now - state.getRetryScheduledAt()
+                        : 0)
+                .withTriggeringEventSourceNames(state.getAndResetPendingEventSourceNames());
+        state.resetTimestampsOnSubmission();
         state.unMarkEventReceived(triggerOnAllEvents());
         metrics.reconciliationSubmitted(latest, state.getRetry(), metricsMetadata);
         log.debug("Executing events for custom resource. Scope: {}", executionScope);
-        executor.execute(new ReconcilerExecutor(resourceID, executionScope));
+        try {
+          executor.execute(new ReconcilerExecutor(resourceID, executionScope, executor));
+        } catch (RejectedExecutionException e) {
+          // the submission is rolled back so that the resource is not considered under processing
+          // forever, and reconciled again once the executor accepts new tasks
+          log.warn("Reconciliation rejected by executor, rescheduling", e);
+          state.setUnderProcessing(false);
+          if (!state.deleteEventPresent()) {
+            state.markEventReceived(triggerOnAllEvents());
+          }
+          retryEventSource().scheduleOnce(resourceID, MINIMAL_RATE_LIMIT_RESCHEDULE_DURATION);
+        }
       } else {
         log.debug(
             "Skipping executing controller. Controller in execution: {}. Latest"
@@ -377,6 +467,7 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private void handleRetryOnException(
       ExecutionScope<P> executionScope, Exception exception, boolean errorHandledByReconciler) {
     final var state = getOrInitRetryExecution(executionScope);
+    state.setRetryScheduledAt(System.nanoTime());
     var resourceID = state.getId();
     boolean eventPresent =
         state.eventPresent()
@@ -457,7 +548,13 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private void cleanupOnSuccessfulExecution(ExecutionScope<P> executionScope) {
     log.debug("Cleanup for successful execution");
     if (isRetryConfigured()) {
-      resourceStateManager.getOrCreate(executionScope.getResourceID()).setRetry(null);
+      final var state = resourceStateManager.getOrCreate(executionScope.getResourceID());
+      if (state.getRetry() != null) {
+        state.getRetry().succeeded();
+        state.setRetry(null);
+      } else {
+        retry.reconciliationSucceeded(state.getId(), executionScope.getResource());
+      }
     }
     retryEventSource().cancelOnceSchedule(executionScope.getResourceID());
   }
@@ -466,7 +563,7 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     final var state = resourceStateManager.getOrCreate(executionScope.getResourceID());
     RetryExecution retryExecution = state.getRetry();
     if (retryExecution == null) {
-      retryExecution = retry.initExecution();
+      retryExecution = retry.initExecution(state.getId(), executionScope.getResource());
       state.setRetry(retryExecution);
     }
     return state;
@@ -499,15 +596,71 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   public synchronized void start() throws OperatorException {
     log.debug("Starting event processor: {}", this);
     // on restart new executor service is created and needs to be set here
-    executor =
-        controllerConfiguration
-            .getConfigurationService()
-            .getExecutorServiceManager()
-            .reconcileExecutorService();
+    final var executorServiceManager =
+        controllerConfiguration.getConfigurationService().getExecutorServiceManager();
+    executor = executorServiceManager.reconcileExecutorService();
+    concurrencyLimit = executorServiceManager.reconcileConcurrencyLimit().orElse(null);
     this.running = true;
     handleAlreadyMarkedEvents();
   }
 
+  /**
+   * Discards the state of the resources from the namespaces that are no longer watched, e.g. their
+   * pending events and retries, except for the resources currently being reconciled.
+   *
+   * @param namespaces the namespaces now watched
+   * @since 5.6.0
+   */
+  public synchronized void cleanupForUnwatchedNamespaces(Set<String> namespaces) {
+    if (InformerConfiguration.allNamespacesWatched(namespaces)) {
+      return;
+    }
+    for (var state : resourceStateManager.all()) {
+      final var resourceID = state.getId();
+      final var namespace = resourceID.getNamespace();
+      if (namespace.isPresent()
+          && !namespaces.contains(namespace.get())
+          && !state.isUnderProcessing()) {
+        log.debug("Cleaning up state of resource in unwatched namespace: {}", resourceID);
+        retryEventSource().cancelOnceSchedule(resourceID);
+        cleanupForDeletedEvent(resourceID);
+      }
+    }
+  }
+
+  /**
+   * @return the number of resources with events waiting to be reconciled
+   * @since 5.6.0
+   */
+  public int pendingEventCount() {
+    return resourceStateManager.countWithEventPresent();
+  }
+
+  /**
+   * @return the number of resources with events waiting in the event queue, {@code 0} if no event
+   *     queue is configured, see {@link ConfigurationService#eventQueueCapacity()}
+   * @since 5.6.0
+   */
+  public int queuedEventCount() {
+    return eventQueue != null ? eventQueue.size() : 0;
+  }
+
+  /**
+   * @return the number of events coalesced with an event already waiting in the event queue
+   * @since 5.6.0
+   */
+  public long coalescedEventCount() {
+    return eventQueue != null ? eventQueue.coalescedCount() : 0;
+  }
+
+  /**
+   * @return the number of events received while the event queue was full
+   * @since 5.6.0
+   */
+  public long eventQueueOverflowCount() {
+    return eventQueue != null ? eventQueue.overflowCount() : 0;
+  }
+
   public boolean isNextReconciliationImminent(ResourceID resourceID) {
     return resourceStateManager.getOrCreate(resourceID).eventPresent();
   }
@@ -522,10 +675,13 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private class ReconcilerExecutor implements Runnable {
     private final ExecutionScope<P> executionScope;
     private final ResourceID resourceID;
+    private final Executor executor;
 
-    private ReconcilerExecutor(ResourceID resourceID, ExecutionScope<P> executionScope) {
+    private ReconcilerExecutor(
+        ResourceID resourceID, ExecutionScope<P> executionScope, Executor executor) {
       this.executionScope = executionScope;
       this.resourceID = resourceID;
+      this.executor = executor;
     }
 
     @Override
@@ -544,6 +700,8 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       final var thread = Thread.currentThread();
       final var name = thread.getName();
       boolean reconciliationStarted = false;
+      boolean completesAsynchronously = false;
+      long startedAt = 0;
       try {
         // we try to get the most up-to-date resource from cache
         var actualResource = cache.get(resourceID);
@@ -578,16 +736,43 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         MDCUtils.addResourceInfo(executionScope.getResource());
         metrics.reconciliationStarted(executionScope.getResource(), metricsMetadata);
         reconciliationStarted = true;
+        startedAt = System.nanoTime();
         thread.setName("ReconcilerExecutor-" + controllerName() + "-" + thread.getId());
-        PostExecutionControl<P> postExecutionControl =
-            reconciliationDispatcher.handleExecution(executionScope);
-        eventProcessingFinished(executionScope, postExecutionControl);
+        if (reconciliationDispatcher.isAsync()) {
+          // the resource stays under processing, and the reconciliation is reported as finished,
+          // only once the asynchronous reconciliation completed
+          final var reconciliationStartedAt = startedAt;
+          final var reconciliation =
+              reconciliationDispatcher.handleExecutionAsync(executionScope, executor);
+          completesAsynchronously = true;
+          reconciliation.whenComplete(
+              (postExecutionControl, throwable) -> {
+                try {
+                  reconciliationExecuted(
+                      throwable == null
+                          ? postExecutionControl
+                          : PostExecutionControl.exceptionDuringExecution(
+                              throwable instanceof Exception e
+                                  ? e
+                                  : new OperatorException(throwable)),
+                      reconciliationStartedAt);
+                } catch (Exception e) {
+                  log.error(
+                      "Error completing asynchronous reconciliation of resource: {}",
+                      resourceID,
+                      e);
+                } finally {
+                  reconciliationFinished(reconciliationStartedAt);
+                }
+              });
+          return;
+        }
+        reconciliationExecuted(reconciliationDispatcher.handleExecution(executionScope), startedAt);
       } finally {
         // only report the reconciliation as finished if it was reported as started, otherwise
         // gauges tracking in-flight reconciliations drift on every skipped execution
-        if (reconciliationStarted) {
-          metrics.reconciliationFinished(
-              executionScope.getResource(), executionScope.getRetryInfo(), metricsMetadata);
+        if (reconciliationStarted && !completesAsynchronously) {
+          reconciliationFinished(startedAt);
         }
         // restore original name
         thread.setName(name);
@@ -595,6 +780,35 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       }
     }
 
+    private void reconciliationExecuted(
+        PostExecutionControl<P> postExecutionControl, long startedAt) {
+      if (concurrencyLimit != null) {
+        concurrencyLimit.onReconciliationFinished(
+            System.nanoTime() - startedAt, postExecutionControl.getRuntimeException().orElse(null));
+      }
+      eventProcessingFinished(executionScope, postExecutionControl);
+    }
+
+    private void reconciliationFinished(long startedAt) {
+      reportLatencies(startedAt);
+      metrics.reconciliationFinished(
+          executionScope.getResource(), executionScope.getRetryInfo(), metricsMetadata);
+    }
+
+    private void reportLatencies(long startedAt) {
+      final var finishedAt = System.nanoTime();
+      final var eventReceivedAt = executionScope.getEventReceivedAt();
+      metrics.reconciliationLatencies(
+          executionScope.getResource(),
+          new ReconciliationLatencies(
+              startedAt - eventReceivedAt,
+              startedAt - executionScope.getSubmittedAt(),
+              executionScope.getRateLimitDelay(),
+              executionScope.getRetryBackoff(),
+              finishedAt - eventReceivedAt),
+          metricsMetadata);
+    }
+
     @Override
     public String toString() {
       return controllerName()
@@ -0,0 +1,234 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.api.config.EventQueueOverflowStrategy;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
+import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+
+/**
+ * Bounded queue handing events over from the event sources to the {@link EventProcessor}, holding
+ * at most one entry per resource. Consecutive events for a resource are coalesced, only delete
+ * events being kept in sequence so that they are processed exactly as if they were received
+ * directly. Queued events are processed in batches by a single drain task at a time, in the order
+ * the resources were first queued.
+ */
+class EventQueue {
+
+  private static final Logger log = LoggerFactory.getLogger(EventQueue.class);
+  static final int DRAIN_BATCH_SIZE = 64;
+
+  private final int capacity;
+  private final EventQueueOverflowStrategy overflowStrategy;
+  private final Supplier<Executor> drainExecutor;
+  private final Consumer<List<List<QueuedEvent>>> handler;
+  private final Map<ResourceID, List<QueuedEvent>> queued = new LinkedHashMap<>();
+  // resources which events are being processed by the drain task
+  private final Set<ResourceID> draining = new HashSet<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder overflowed = new LongAdder();
+  private boolean drainScheduled;
+
+  /**
+   * @param capacity maximum number of resources with queued events
+   * @param overflowStrategy what to do when an event is received for a new resource while full
+   * @param drainExecutor provides the executor running the drain task
+   * @param handler processes batches of queued entries, each entry holding the events of a resource
+   *     in the order they need to be processed
+   */
+  EventQueue(
+      int capacity,
+      EventQueueOverflowStrategy overflowStrategy,
+      Supplier<Executor> drainExecutor,
+      Consumer<List<List<QueuedEvent>>> handler) {
+    this.capacity = capacity;
+    this.overflowStrategy = overflowStrategy;
+    this.drainExecutor = drainExecutor;
+    this.handler = handler;
+  }
+
+  /**
+   * Queues the given event, blocking while the queue is full if the overflow strategy is {@link
+   * EventQueueOverflowStrategy#BLOCK}.
+   *
+   * @return {@code true} if the event was queued, {@code false} if it must be processed by the
+   *     caller
+   */
+  boolean offer(Event event, String eventSourceName, long receivedAt) {
+    final var resourceID = event.getRelatedCustomResourceID();
+    lock.lock();
+    try {
+      var events = queued.get(resourceID);
+      // events for resources being drained are always queued, even above the capacity, so that
+      // they are not processed before the events being drained
+      if (events == null && !draining.contains(resourceID) && queued.size() >= capacity) {
+        overflowed.increment();
+        if (overflowStrategy == EventQueueOverflowStrategy.CALLER_RUNS) {
+          return false;
+        }
+        while (events == null && !draining.contains(resourceID) && queued.size() >= capacity) {
+          notFull.await();
+          events = queued.get(resourceID);
+        }
+      }
+      if (events == null) {
+        events = new ArrayList<>(1);
+        queued.put(resourceID, events);
+      }
+      final var last = events.isEmpty() ? null : events.get(events.size() - 1);
+      if (last != null && !isDeleteEvent(last.event) && !isDeleteEvent(event)) {
+        last.coalesce(event, eventSourceName);
+        coalesced.increment();
+      } else {
+        events.add(new QueuedEvent(event, eventSourceName, receivedAt));
+      }
+      if (drainScheduled) {
+        return true;
+      }
+      drainScheduled = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      drainExecutor.get().execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      // the executor is shut down, e.g. while the operator stops
+      log.debug("Draining event queue on the calling thread", e);
+      drain();
+    }
+    return true;
+  }
+
+  void drain() {
+    while (true) {
+      final var batch = new ArrayList<List<QueuedEvent>>(DRAIN_BATCH_SIZE);
+      lock.lock();
+      try {
+        draining.clear();
+        final var iterator = queued.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < DRAIN_BATCH_SIZE) {
+          final var entry = iterator.next();
+          draining.add(entry.getKey());
+          batch.add(entry.getValue());
+          iterator.remove();
+        }
+        if (batch.isEmpty()) {
+          drainScheduled = false;
+          return;
+        }
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      try {
+        handler.accept(batch);
+      } catch (RuntimeException e) {
+        log.error("Error processing queued events", e);
+      }
+    }
+  }
+
+  private static boolean isDeleteEvent(Event event) {
+    return event instanceof ResourceEvent resourceEvent
+        && resourceEvent.getAction() == ResourceAction.DELETED;
+  }
+
+  /**
+   * @return the number of resources with queued events
+   */
+  int size() {
+    lock.lock();
+    try {
+      return queued.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of events merged into an already queued event since creation
+   */
+  long coalescedCount() {
+    return coalesced.sum();
+  }
+
+  /**
+   * @return the number of events received while the queue was full since creation
+   */
+  long overflowCount() {
+    return overflowed.sum();
+  }
+
+  /**
+   * An event waiting to be processed, standing for the events coalesced into it, which were
+   * received from the given event sources, the earliest one at the given time.
+   */
+  static class QueuedEvent {
+    private Event event;
+    private final List<String> eventSourceNames = new ArrayList<>(1);
+    private final long receivedAt;
+
+    private QueuedEvent(Event event, String eventSourceName, long receivedAt) {
+      this.event = event;
+      this.eventSourceNames.add(eventSourceName);
+      this.receivedAt = receivedAt;
+    }
+
+    private void coalesce(Event event, String eventSourceName) {
+      // resource events carry the latest state of the resource, which generic events don't
+      if (event instanceof ResourceEvent || !(this.event instanceof ResourceEvent)) {
+        this.event = event;
+      }
+      if (!eventSourceNames.contains(eventSourceName)) {
+        eventSourceNames.add(eventSourceName);
+      }
+    }
+
+    Event event() {
+      return event;
+    }
+
+    List<String> eventSourceNames() {
+      return eventSourceNames;
+    }
+
+    long receivedAt() {
+      return receivedAt;
+    }
+  }
+}
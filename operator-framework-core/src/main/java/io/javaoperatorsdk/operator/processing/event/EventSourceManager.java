@@ -15,11 +15,17 @@
  */
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -33,6 +39,7 @@ import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.api.config.NamespaceChangeable;
 import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
+import io.javaoperatorsdk.operator.health.EventSourceStartupProgress;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.event.source.EventSource;
@@ -51,6 +58,7 @@ public class EventSourceManager<P extends HasMetadata>
   private final EventSources<P> eventSources;
   private final Controller<P> controller;
   private final ExecutorServiceManager executorServiceManager;
+  private final Map<String, EventSourceStartupTracker> startupTrackers = new ConcurrentHashMap<>();
 
   public EventSourceManager(Controller<P> controller) {
     this(
@@ -81,9 +89,26 @@ public class EventSourceManager<P extends HasMetadata>
    *
    * <p>Now the event sources are also started sequentially, mainly because others might depend on
    * {@link ControllerEventSource} , which is started first.
+   *
+   * <p>If an executor is configured to start event sources, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#eventSourceStartupConcurrency()},
+   * all the event sources are submitted to it at once, only the {@link
+   * EventSourceStartPriority#DEFAULT} event sources waiting for the {@link
+   * EventSourceStartPriority#RESOURCE_STATE_LOADER} ones to be started.
    */
   @Override
   public synchronized void start() {
+    startupTrackers.clear();
+    Stream.concat(
+            Stream.of(eventSources.controllerEventSource()), eventSources.additionalEventSources())
+        .forEach(es -> startupTrackers.put(es.name(), new EventSourceStartupTracker(es)));
+
+    final var startupExecutor = executorServiceManager.eventSourceStartupExecutorService();
+    if (startupExecutor.isPresent()) {
+      startConcurrently(startupExecutor.get());
+      return;
+    }
+
     startEventSource(eventSources.controllerEventSource());
 
     executorServiceManager.boundedExecuteAndWaitForAllToComplete(
@@ -101,6 +126,66 @@ public class EventSourceManager<P extends HasMetadata>
         getThreadNamer("start"));
   }
 
+  private void startConcurrently(ExecutorService executor) {
+    final var controllerEventSource = startAsync(eventSources.controllerEventSource(), executor);
+    final var defaultEventSources =
+        startAllAsync(EventSourceStartPriority.RESOURCE_STATE_LOADER, executor)
+            .thenCompose(v -> startAllAsync(EventSourceStartPriority.DEFAULT, executor));
+    try {
+      CompletableFuture.allOf(controllerEventSource, defaultEventSources).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new OperatorException(e.getCause());
+    }
+  }
+
+  private CompletableFuture<Void> startAllAsync(
+      EventSourceStartPriority priority, ExecutorService executor) {
+    return CompletableFuture.allOf(
+        eventSources
+            .additionalEventSources()
+            .filter(es -> es.priority().equals(priority))
+            .map(es -> startAsync(es, executor))
+            .toArray(CompletableFuture[]::new));
+  }
+
+  @SuppressWarnings("rawtypes")
+  private CompletableFuture<Void> startAsync(EventSource eventSource, ExecutorService executor) {
+    final var threadNamer = getThreadNamer("start");
+    return CompletableFuture.runAsync(
+        () -> {
+          // change thread name for easier debugging
+          final var thread = Thread.currentThread();
+          final var name = thread.getName();
+          thread.setName(threadNamer.apply(eventSource));
+          try {
+            startEventSource(eventSource);
+          } finally {
+            thread.setName(name);
+          }
+        },
+        executor);
+  }
+
+  /**
+   * Progress of the start of the event sources of the associated controller, from the last time
+   * this manager was started, keyed by event source name, the {@link ControllerEventSource} first.
+   *
+   * @return the startup progress of each event source
+   * @since 5.6.0
+   */
+  public Map<String, EventSourceStartupProgress> startupProgress() {
+    final var res = new LinkedHashMap<String, EventSourceStartupProgress>();
+    Stream.concat(
+            Stream.of(eventSources.controllerEventSource()), eventSources.additionalEventSources())
+        .map(es -> startupTrackers.get(es.name()))
+        .filter(Objects::nonNull)
+        .forEach(t -> res.put(t.name(), t.progress()));
+    return res;
+  }
+
   @SuppressWarnings("rawtypes")
   private static Function<EventSource, String> getThreadNamer(String stage) {
     return es -> es.priority() + " " + stage + " -> " + es.name();
@@ -125,18 +210,42 @@ public class EventSourceManager<P extends HasMetadata>
   }
 
   private <R> Void startEventSource(EventSource<R, P> eventSource) {
+    final var tracker = startupTrackers.get(eventSource.name());
+    var started = false;
     try {
       logEventSourceEvent(eventSource, "Starting");
+      if (tracker != null) {
+        tracker.starting();
+      }
       eventSource.start();
+      started = true;
       logEventSourceEvent(eventSource, "Started");
     } catch (MissingCRDException e) {
       throw e; // leave untouched
     } catch (Exception e) {
       throw new OperatorException("Couldn't start source " + eventSource.name(), e);
+    } finally {
+      if (tracker != null) {
+        tracker.finished(started);
+        logStartupProgress(tracker);
+      }
     }
     return null;
   }
 
+  private void logStartupProgress(EventSourceStartupTracker tracker) {
+    if (log.isDebugEnabled()) {
+      final var progress = tracker.progress();
+      log.debug(
+          "Event source {} of controller {} {} in {} ms with {} cached resources",
+          progress.name(),
+          controller.getConfiguration().getName(),
+          progress.state() == EventSourceStartupProgress.State.STARTED ? "started" : "failed",
+          progress.elapsed().toMillis(),
+          progress.cachedResources());
+    }
+  }
+
   private <R> Void stopEventSource(EventSource<R, P> eventSource) {
     try {
       logEventSourceEvent(eventSource, "Stopping");
@@ -157,7 +266,8 @@ public class EventSourceManager<P extends HasMetadata>
         managedInformerEventSource.setControllerConfiguration(controller.getConfiguration());
       }
       eventSources.add(eventSource);
-      eventSource.setEventHandler(controller.getEventProcessor());
+      eventSource.setEventHandler(
+          controller.getEventProcessor().eventHandlerFor(eventSource.name()));
     } catch (IllegalStateException | MissingCRDException e) {
       throw e; // leave untouched
     } catch (Exception e) {
@@ -211,6 +321,28 @@ public class EventSourceManager<P extends HasMetadata>
         getEventSourceThreadNamer("changeNamespace"));
   }
 
+  /**
+   * Whether the event sources following the namespaces of the controller can change them without
+   * recreating the informers of the retained namespaces, so that the events of these namespaces can
+   * keep being processed during the change.
+   *
+   * @param namespaces the namespaces to watch
+   * @return {@code true} if no informer of the retained namespaces is recreated
+   */
+  public boolean changesNamespacesInPlace(Set<String> namespaces) {
+    return eventSources.controllerEventSource().changesNamespacesInPlace(namespaces)
+        && eventSources
+            .additionalEventSources()
+            .filter(NamespaceChangeable.class::isInstance)
+            .map(NamespaceChangeable.class::cast)
+            .filter(NamespaceChangeable::allowsNamespaceChanges)
+            // other event sources might do anything on namespace changes
+            .allMatch(
+                e ->
+                    e instanceof ManagedInformerEventSource<?, ?, ?> informerEventSource
+                        && informerEventSource.changesNamespacesInPlace(namespaces));
+  }
+
   public Set<EventSource<?, P>> getRegisteredEventSources() {
     return eventSources.flatMappedSources().collect(Collectors.toCollection(LinkedHashSet::new));
   }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.time.Duration;
+
+import io.javaoperatorsdk.operator.health.EventSourceStartupProgress;
+import io.javaoperatorsdk.operator.health.EventSourceStartupProgress.State;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.informer.ManagedInformerEventSource;
+
+/** Tracks the start of a single event source. */
+@SuppressWarnings("rawtypes")
+class EventSourceStartupTracker {
+
+  private final EventSource eventSource;
+  private volatile State state = State.PENDING;
+  private volatile long startedAt;
+  private volatile long finishedAt;
+
+  EventSourceStartupTracker(EventSource eventSource) {
+    this.eventSource = eventSource;
+  }
+
+  String name() {
+    return eventSource.name();
+  }
+
+  void starting() {
+    startedAt = System.nanoTime();
+    state = State.STARTING;
+  }
+
+  void finished(boolean successfully) {
+    finishedAt = System.nanoTime();
+    state = successfully ? State.STARTED : State.FAILED;
+  }
+
+  Duration elapsed() {
+    return switch (state) {
+      case PENDING -> Duration.ZERO;
+      case STARTING -> Duration.ofNanos(System.nanoTime() - startedAt);
+      case STARTED, FAILED -> Duration.ofNanos(finishedAt - startedAt);
+    };
+  }
+
+  long cachedResources() {
+    if (eventSource instanceof ManagedInformerEventSource<?, ?, ?> informerEventSource) {
+      return informerEventSource.cachedResourceCount();
+    }
+    return -1;
+  }
+
+  EventSourceStartupProgress progress() {
+    return new EventSourceStartupProgress(eventSource.name(), state, elapsed(), cachedResources());
+  }
+}
@@ -15,6 +15,8 @@
  */
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.Set;
+
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 
@@ -25,6 +27,13 @@ class ExecutionScope<R extends HasMetadata> {
   private final RetryInfo retryInfo;
   private boolean deleteEvent;
   private boolean isDeleteFinalStateUnknown;
+  // System.nanoTime() based timestamps and durations used for latency metrics
+  private long eventReceivedAt;
+  private long submittedAt;
+  private long rateLimitDelay;
+  private long retryBackoff;
+  // null if the reconciliation needs to consider all secondary resources
+  private Set<String> triggeringEventSourceNames;
 
   ExecutionScope(
       R resource, RetryInfo retryInfo, boolean deleteEvent, boolean isDeleteFinalStateUnknown) {
@@ -63,6 +72,40 @@ class ExecutionScope<R extends HasMetadata> {
     isDeleteFinalStateUnknown = deleteFinalStateUnknown;
   }
 
+  ExecutionScope<R> withSubmissionTimings(
+      long eventReceivedAt, long submittedAt, long rateLimitDelay, long retryBackoff) {
+    this.eventReceivedAt = eventReceivedAt;
+    this.submittedAt = submittedAt;
+    this.rateLimitDelay = rateLimitDelay;
+    this.retryBackoff = retryBackoff;
+    return this;
+  }
+
+  ExecutionScope<R> withTriggeringEventSourceNames(Set<String> triggeringEventSourceNames) {
+    this.triggeringEventSourceNames = triggeringEventSourceNames;
+    return this;
+  }
+
+  public Set<String> getTriggeringEventSourceNames() {
+    return triggeringEventSourceNames;
+  }
+
+  public long getEventReceivedAt() {
+    return eventReceivedAt;
+  }
+
+  public long getSubmittedAt() {
+    return submittedAt;
+  }
+
+  public long getRateLimitDelay() {
+    return rateLimitDelay;
+  }
+
+  public long getRetryBackoff() {
+    return retryBackoff;
+  }
+
   @Override
   public String toString() {
     return "ExecutionScope{"
@@ -74,6 +117,8 @@ class ExecutionScope<R extends HasMetadata> {
         + deleteEvent
         + ", isDeleteFinalStateUnknown="
         + isDeleteFinalStateUnknown
+        + ", triggeringEventSourceNames="
+        + triggeringEventSourceNames
         + '}';
   }
 
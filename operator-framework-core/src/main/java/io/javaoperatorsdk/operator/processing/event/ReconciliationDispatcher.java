@@ -16,6 +16,11 @@
 package io.javaoperatorsdk.operator.processing.event;
 
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +40,7 @@ import io.javaoperatorsdk.operator.api.reconciler.ResourceOperations;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.MDCUtils;
 
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.*;
 
@@ -79,6 +85,112 @@ class ReconciliationDispatcher<P extends HasMetadata> {
     }
   }
 
+  /**
+   * @return whether reconciliations need to be dispatched with {@link
+   *     #handleExecutionAsync(ExecutionScope, Executor)}
+   */
+  boolean isAsync() {
+    return controller.isAsync();
+  }
+
+  /**
+   * Dispatches the execution to an {@link
+   * io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler}. Only the reconciliation itself is
+   * asynchronous: adding the finalizer and cleaning up are done synchronously, like for other
+   * reconcilers.
+   *
+   * @param executionScope the execution scope
+   * @param executor the executor used to process the result of the reconciliation
+   * @return the stage completed with the outcome of the execution, never exceptionally
+   */
+  CompletionStage<PostExecutionControl<P>> handleExecutionAsync(
+      ExecutionScope<P> executionScope, Executor executor) {
+    try {
+      return dispatchAsync(executionScope, executor);
+    } catch (Exception e) {
+      return CompletableFuture.completedFuture(PostExecutionControl.exceptionDuringExecution(e));
+    }
+  }
+
+  private CompletionStage<PostExecutionControl<P>> dispatchAsync(
+      ExecutionScope<P> executionScope, Executor executor) {
+    validateExecutionScope(executionScope);
+    final var originalResource = executionScope.getResource();
+    if (!triggerOnAllEvents()
+        && (originalResource.isMarkedForDeletion()
+            || (controller.useFinalizer()
+                && !originalResource.hasFinalizer(configuration().getFinalizerName())))) {
+      return CompletableFuture.completedFuture(handleExecution(executionScope));
+    }
+    log.debug("Handling asynchronous dispatch");
+    final var resourceForExecution = cloneResource(originalResource);
+    final var context = createContext(executionScope, resourceForExecution);
+    CompletionStage<UpdateControl<P>> reconciliation;
+    try {
+      log.debug("Reconciling resource execution scope: {}", executionScope);
+      reconciliation = controller.reconcileAsync(resourceForExecution, context);
+      if (reconciliation == null) {
+        throw new OperatorException(
+            "Asynchronous reconciliation returned no stage for: " + executionScope);
+      }
+    } catch (Exception e) {
+      reconciliation = CompletableFuture.failedFuture(e);
+    }
+    final CompletableFuture<PostExecutionControl<P>> result = new CompletableFuture<>();
+    reconciliation.whenComplete(
+        (updateControl, throwable) -> {
+          try {
+            executor.execute(
+                () ->
+                    MDCUtils.withMDCForResource(
+                        originalResource,
+                        () ->
+                            result.complete(
+                                handleReconcileResult(
+                                    executionScope,
+                                    resourceForExecution,
+                                    originalResource,
+                                    context,
+                                    updateControl,
+                                    throwable))));
+          } catch (Exception e) {
+            // e.g. the executor was shut down meanwhile
+            result.complete(PostExecutionControl.exceptionDuringExecution(e));
+          }
+        });
+    return result;
+  }
+
+  private PostExecutionControl<P> handleReconcileResult(
+      ExecutionScope<P> executionScope,
+      P resourceForExecution,
+      P originalResource,
+      Context<P> context,
+      UpdateControl<P> updateControl,
+      Throwable throwable) {
+    try {
+      try {
+        if (throwable != null) {
+          throw asException(throwable);
+        }
+        return handleUpdateControl(executionScope, updateControl, originalResource, context);
+      } catch (Exception e) {
+        return handleErrorStatusHandler(resourceForExecution, originalResource, context, e);
+      }
+    } catch (Exception e) {
+      return PostExecutionControl.exceptionDuringExecution(e);
+    }
+  }
+
+  private static Exception asException(Throwable throwable) {
+    var cause = throwable;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause instanceof Exception exception ? exception : new OperatorException(cause);
+  }
+
   // visible for testing
   PostExecutionControl<P> handleDispatch(ExecutionScope<P> executionScope, Context<P> context)
       throws Exception {
@@ -94,15 +206,7 @@ class ReconciliationDispatcher<P extends HasMetadata> {
       return PostExecutionControl.defaultDispatch();
     }
     // context can be provided only for testing purposes
-    context =
-        context == null
-            ? new DefaultContext<>(
-                executionScope.getRetryInfo(),
-                controller,
-                resourceForExecution,
-                executionScope.isDeleteEvent(),
-                executionScope.isDeleteFinalStateUnknown())
-            : context;
+    context = context == null ? createContext(executionScope, resourceForExecution) : context;
 
     // checking the cleaner for all-event-mode
     if (!triggerOnAllEvents() && markedForDeletion) {
@@ -112,6 +216,16 @@ class ReconciliationDispatcher<P extends HasMetadata> {
     }
   }
 
+  private Context<P> createContext(ExecutionScope<P> executionScope, P resourceForExecution) {
+    return new DefaultContext<>(
+        executionScope.getRetryInfo(),
+        controller,
+        resourceForExecution,
+        executionScope.isDeleteEvent(),
+        executionScope.isDeleteFinalStateUnknown(),
+        executionScope.getTriggeringEventSourceNames());
+  }
+
   private boolean shouldNotDispatchToCleanupWhenMarkedForDeletion(P resource) {
     var alreadyRemovedFinalizer =
         controller.useFinalizer() && !resource.hasFinalizer(configuration().getFinalizerName());
@@ -162,7 +276,15 @@ class ReconciliationDispatcher<P extends HasMetadata> {
     log.debug("Reconciling resource execution scope: {}", executionScope);
 
     UpdateControl<P> updateControl = controller.reconcile(resourceForExecution, context);
+    return handleUpdateControl(executionScope, updateControl, originalResource, context);
+  }
 
+  private PostExecutionControl<P> handleUpdateControl(
+      ExecutionScope<P> executionScope,
+      UpdateControl<P> updateControl,
+      P originalResource,
+      Context<P> context)
+      throws Exception {
     final P toUpdate;
     P updatedCustomResource = null;
     if (useSSA) {
@@ -15,6 +15,9 @@
  */
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +29,9 @@ class ResourceState {
 
   private static final Logger log = LoggerFactory.getLogger(ResourceState.class);
 
+  /** Value of the timestamps which are not set. */
+  static final long NOT_SET = Long.MIN_VALUE;
+
   /**
    * Manages the state of received events. Basically there can be only three distinct states
    * relevant for event processing. Either an event is received, so we eventually process or no
@@ -51,15 +57,46 @@ class ResourceState {
   private boolean underProcessing;
   private RetryExecution retry;
   private EventingState eventing;
+  // counts the states with an event present, null once the state is discarded
+  private ResourceStateManager manager;
   private RateLimitState rateLimit;
   private HasMetadata lastKnownResource;
   private boolean isDeleteFinalStateUnknown = false;
+  // System.nanoTime() based timestamps, which can be 0 or negative, NOT_SET meaning not set
+  private long pendingEventReceivedAt = NOT_SET;
+  private long rateLimitedSince = NOT_SET;
+  private long retryScheduledAt = NOT_SET;
+  // names of the secondary event sources whose events are not yet covered by a reconciliation
+  private final Set<String> pendingEventSourceNames = new HashSet<>();
+  private boolean pendingEventRequiresFullReconciliation;
 
   public ResourceState(ResourceID id) {
+    this(id, null);
+  }
+
+  ResourceState(ResourceID id, ResourceStateManager manager) {
     this.id = id;
+    this.manager = manager;
     eventing = EventingState.NO_EVENT_PRESENT;
   }
 
+  private void setEventing(EventingState newState) {
+    final var wasPresent = eventing == EventingState.EVENT_PRESENT;
+    final var present = newState == EventingState.EVENT_PRESENT;
+    if (manager != null && wasPresent != present) {
+      manager.eventPresenceChanged(present);
+    }
+    eventing = newState;
+  }
+
+  /** Stops counting this state, e.g. when it is removed, in the count of states with an event. */
+  void discard() {
+    if (manager != null && eventing == EventingState.EVENT_PRESENT) {
+      manager.eventPresenceChanged(false);
+    }
+    manager = null;
+  }
+
   public ResourceID getId() {
     return id;
   }
@@ -80,6 +117,72 @@ class ResourceState {
     this.retry = retry;
   }
 
+  /**
+   * Records the arrival time of an event, keeping the earliest one until a reconciliation covering
+   * it is submitted, see {@link #resetTimestampsOnSubmission()}.
+   */
+  public void eventReceivedAt(long nanoTime) {
+    if (pendingEventReceivedAt == NOT_SET) {
+      pendingEventReceivedAt = nanoTime;
+    }
+  }
+
+  /**
+   * Records the event source an event was received from, {@code null} meaning that the event is not
+   * attributable to a secondary event source, e.g. an event for the primary resource or a timer
+   * event, and thus requires all secondary resources to be considered.
+   */
+  public void eventReceivedFrom(String eventSourceName) {
+    if (eventSourceName == null) {
+      pendingEventRequiresFullReconciliation = true;
+    } else if (!pendingEventRequiresFullReconciliation) {
+      pendingEventSourceNames.add(eventSourceName);
+    }
+  }
+
+  /**
+   * Returns the names of the event sources of the events received since the last submission, or
+   * {@code null} if any of them, or the retry of a failed reconciliation, requires all the
+   * secondary resources to be considered. Resets the recorded names.
+   */
+  public Set<String> getAndResetPendingEventSourceNames() {
+    final Set<String> result =
+        pendingEventRequiresFullReconciliation || pendingEventSourceNames.isEmpty() || retry != null
+            ? null
+            : Set.copyOf(pendingEventSourceNames);
+    pendingEventSourceNames.clear();
+    pendingEventRequiresFullReconciliation = false;
+    return result;
+  }
+
+  public long getPendingEventReceivedAt() {
+    return pendingEventReceivedAt;
+  }
+
+  public void rateLimitedAt(long nanoTime) {
+    if (rateLimitedSince == NOT_SET) {
+      rateLimitedSince = nanoTime;
+    }
+  }
+
+  public long getRateLimitedSince() {
+    return rateLimitedSince;
+  }
+
+  public void setRetryScheduledAt(long nanoTime) {
+    this.retryScheduledAt = nanoTime;
+  }
+
+  public long getRetryScheduledAt() {
+    return retryScheduledAt;
+  }
+
+  public void resetTimestampsOnSubmission() {
+    pendingEventReceivedAt = NOT_SET;
+    rateLimitedSince = NOT_SET;
+    retryScheduledAt = NOT_SET;
+  }
+
   public boolean isUnderProcessing() {
     return underProcessing;
   }
@@ -90,7 +193,7 @@ class ResourceState {
 
   public void markDeleteEventReceived(
       HasMetadata lastKnownResource, boolean isDeleteFinalStateUnknown) {
-    eventing = EventingState.DELETE_EVENT_PRESENT;
+    setEventing(EventingState.DELETE_EVENT_PRESENT);
     this.lastKnownResource = lastKnownResource;
     this.isDeleteFinalStateUnknown = isDeleteFinalStateUnknown;
   }
@@ -114,9 +217,9 @@ class ResourceState {
     }
     log.debug("Marking event received for: {}", getId());
     if (eventing == EventingState.DELETE_EVENT_PRESENT) {
-      eventing = EventingState.ADDITIONAL_EVENT_PRESENT_AFTER_DELETE_EVENT;
+      setEventing(EventingState.ADDITIONAL_EVENT_PRESENT_AFTER_DELETE_EVENT);
     } else {
-      eventing = EventingState.EVENT_PRESENT;
+      setEventing(EventingState.EVENT_PRESENT);
     }
   }
 
@@ -127,12 +230,12 @@ class ResourceState {
               + " event present");
     }
     log.debug("Marking additional event after delete event: {}", getId());
-    eventing = EventingState.ADDITIONAL_EVENT_PRESENT_AFTER_DELETE_EVENT;
+    setEventing(EventingState.ADDITIONAL_EVENT_PRESENT_AFTER_DELETE_EVENT);
   }
 
   public void markProcessedMarkForDeletion() {
     log.debug("Marking processed mark for deletion: {}", getId());
-    eventing = EventingState.PROCESSED_MARK_FOR_DELETION;
+    setEventing(EventingState.PROCESSED_MARK_FOR_DELETION);
   }
 
   public boolean eventPresent() {
@@ -154,7 +257,7 @@ class ResourceState {
   public void unMarkEventReceived(boolean isAllEventReconcileMode) {
     switch (eventing) {
       case EVENT_PRESENT:
-        eventing = EventingState.NO_EVENT_PRESENT;
+        setEventing(EventingState.NO_EVENT_PRESENT);
         break;
       case PROCESSED_MARK_FOR_DELETION:
         throw new IllegalStateException("Cannot unmark processed marked for deletion.");
@@ -168,7 +271,7 @@ class ResourceState {
           throw new IllegalStateException(
               "This state should not happen in non all-event-reconciliation mode");
         }
-        eventing = EventingState.DELETE_EVENT_PRESENT;
+        setEventing(EventingState.DELETE_EVENT_PRESENT);
         break;
       case NO_EVENT_PRESENT:
         // do nothing
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
@@ -28,6 +29,7 @@ class ResourceStateManager {
   // will process to avoid under- or over-sizing the state maps and avoid too many resizing that
   // take time and memory?
   private final Map<ResourceID, ResourceState> states = new ConcurrentHashMap<>(100);
+  private final AtomicInteger eventPresentCount = new AtomicInteger();
 
   public Optional<ResourceState> getOrCreateOnResourceEvent(Event event) {
     var resourceId = event.getRelatedCustomResourceID();
@@ -36,16 +38,16 @@ class ResourceStateManager {
       return Optional.of(state);
     }
     if (event instanceof ResourceEvent) {
-      state = new ResourceState(resourceId);
-      states.put(resourceId, state);
-      return Optional.of(state);
+      state = new ResourceState(resourceId, this);
+      final var existing = states.putIfAbsent(resourceId, state);
+      return Optional.of(existing != null ? existing : state);
     } else {
       return Optional.empty();
     }
   }
 
   public ResourceState getOrCreate(ResourceID resourceID) {
-    return states.computeIfAbsent(resourceID, ResourceState::new);
+    return states.computeIfAbsent(resourceID, id -> new ResourceState(id, this));
   }
 
   public Optional<ResourceState> get(ResourceID resourceID) {
@@ -53,13 +55,33 @@ class ResourceStateManager {
   }
 
   public ResourceState remove(ResourceID resourceID) {
-    return states.remove(resourceID);
+    final var state = states.remove(resourceID);
+    if (state != null) {
+      state.discard();
+    }
+    return state;
   }
 
   public boolean contains(ResourceID resourceID) {
     return states.containsKey(resourceID);
   }
 
+  public List<ResourceState> all() {
+    return List.copyOf(states.values());
+  }
+
+  void eventPresenceChanged(boolean present) {
+    if (present) {
+      eventPresentCount.incrementAndGet();
+    } else {
+      eventPresentCount.decrementAndGet();
+    }
+  }
+
+  public int countWithEventPresent() {
+    return eventPresentCount.get();
+  }
+
   public List<ResourceState> resourcesWithEventPresent() {
     return states.values().stream()
         .filter(state -> !state.noEventPresent())
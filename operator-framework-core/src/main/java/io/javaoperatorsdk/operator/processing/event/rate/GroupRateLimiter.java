@@ -0,0 +1,146 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Rate limits groups of resources together, for example all the resources of a namespace, so that a
+ * noisy group is throttled without affecting the others. Resources are assigned to a group when
+ * their rate limit state is created; resources not belonging to any group are only subject to the
+ * optional per-resource limit.
+ *
+ * <p>The state of a group is shared by all the resources of the group, thus the group limiter must
+ * support concurrent access to its state, like {@link TokenBucketRateLimiter} or {@link
+ * SlidingWindowRateLimiter}. Group states are kept for the lifetime of the limiter, so groups
+ * should be bounded, which is the case for namespaces or label values identifying tenants.
+ *
+ * @since 5.6.0
+ */
+public class GroupRateLimiter implements RateLimiter<GroupRateLimiter.State> {
+
+  private final BiFunction<ResourceID, HasMetadata, String> groupResolver;
+  private final RateLimiter<?> groupLimiter;
+  private final Map<String, RateLimitState> groupStates = new ConcurrentHashMap<>();
+  private RateLimiter<?> resourceLimiter;
+
+  /**
+   * @param groupResolver resolves the group of a resource from its id and latest known version,
+   *     which can be {@code null}; returning {@code null} means that the resource is in no group
+   * @param groupLimiter the limiter applied to each group
+   */
+  public GroupRateLimiter(
+      BiFunction<ResourceID, HasMetadata, String> groupResolver, RateLimiter<?> groupLimiter) {
+    this.groupResolver = groupResolver;
+    this.groupLimiter = groupLimiter;
+  }
+
+  /**
+   * Limits the resources of each namespace together.
+   *
+   * @param groupLimiter the limiter applied to each namespace
+   * @return the rate limiter
+   */
+  public static GroupRateLimiter perNamespace(RateLimiter<?> groupLimiter) {
+    return new GroupRateLimiter(
+        (resourceID, resource) -> resourceID.getNamespace().orElse(null), groupLimiter);
+  }
+
+  /**
+   * Limits the resources having the same value for the given label together. Resources without the
+   * label are not part of any group.
+   *
+   * @param labelKey the key of the label identifying the group
+   * @param groupLimiter the limiter applied to each group
+   * @return the rate limiter
+   */
+  public static GroupRateLimiter perLabel(String labelKey, RateLimiter<?> groupLimiter) {
+    return new GroupRateLimiter(
+        (resourceID, resource) -> {
+          if (resource == null || resource.getMetadata().getLabels() == null) {
+            return null;
+          }
+          return resource.getMetadata().getLabels().get(labelKey);
+        },
+        groupLimiter);
+  }
+
+  /**
+   * Additionally limits each resource individually. The resource limit is checked first, so that a
+   * resource exceeding its own limit does not consume a permit of its group.
+   *
+   * @param resourceLimiter the limiter applied to each resource
+   * @return this rate limiter
+   */
+  public GroupRateLimiter withResourceLimiter(RateLimiter<?> resourceLimiter) {
+    this.resourceLimiter = resourceLimiter;
+    return this;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!(rateLimitState instanceof State state)) {
+      return Optional.empty();
+    }
+    if (state.resourceState != null) {
+      final var limited = resourceLimiter.isLimited(state.resourceState);
+      if (limited.isPresent()) {
+        return limited;
+      }
+    }
+    if (state.groupState != null) {
+      return groupLimiter.isLimited(state.groupState);
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public State initState() {
+    return new State(null, resourceLimiter != null ? resourceLimiter.initState() : null);
+  }
+
+  @Override
+  public State initState(ResourceID resourceID, HasMetadata resource) {
+    final var group = groupResolver.apply(resourceID, resource);
+    RateLimitState groupState = null;
+    if (group != null) {
+      groupState = groupStates.get(group);
+      if (groupState == null) {
+        groupState = groupStates.computeIfAbsent(group, g -> groupLimiter.initState());
+      }
+    }
+    return new State(
+        groupState,
+        resourceLimiter != null ? resourceLimiter.initState(resourceID, resource) : null);
+  }
+
+  static class State implements RateLimitState {
+    private final RateLimitState groupState;
+    private final RateLimitState resourceState;
+
+    private State(RateLimitState groupState, RateLimitState resourceState) {
+      this.groupState = groupState;
+      this.resourceState = resourceState;
+    }
+  }
+}
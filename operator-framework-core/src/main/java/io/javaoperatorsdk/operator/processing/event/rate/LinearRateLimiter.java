@@ -16,7 +16,6 @@
 package io.javaoperatorsdk.operator.processing.event.rate;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
@@ -33,6 +32,7 @@ public class LinearRateLimiter
       Duration.ofSeconds(DEFAULT_REFRESH_PERIOD_SECONDS);
 
   private Duration refreshPeriod;
+  private long refreshPeriodNanos;
   private int limitForPeriod;
 
   public static LinearRateLimiter deactivatedRateLimiter() {
@@ -45,6 +45,7 @@ public class LinearRateLimiter
 
   public LinearRateLimiter(Duration refreshPeriod, int limitForPeriod) {
     this.refreshPeriod = refreshPeriod;
+    this.refreshPeriodNanos = refreshPeriod.toNanos();
     this.limitForPeriod = limitForPeriod;
   }
 
@@ -53,17 +54,17 @@ public class LinearRateLimiter
     if (!isActivated() || !(rateLimitState instanceof RateState actualState)) {
       return Optional.empty();
     }
-    var now = LocalDateTime.now();
     if (actualState.getCount() < limitForPeriod) {
       actualState.increaseCount();
       return Optional.empty();
-    } else if (actualState.getLastRefreshTime().isBefore(now.minus(refreshPeriod))) {
+    }
+    final var sinceRefresh = System.nanoTime() - actualState.getLastRefreshTime();
+    if (sinceRefresh > refreshPeriodNanos) {
       actualState.reset();
       actualState.increaseCount();
       return Optional.empty();
     } else {
-      var remaining = Duration.between(now, actualState.getLastRefreshTime().plus(refreshPeriod));
-      return Optional.of(remaining.isNegative() ? Duration.ZERO : remaining);
+      return Optional.of(Duration.ofNanos(refreshPeriodNanos - sinceRefresh));
     }
   }
 
@@ -75,6 +76,7 @@ public class LinearRateLimiter
   @Override
   public void initFrom(RateLimited configuration) {
     this.refreshPeriod = Duration.of(configuration.within(), configuration.unit().toChronoUnit());
+    this.refreshPeriodNanos = refreshPeriod.toNanos();
     this.limitForPeriod = configuration.maxReconciliations();
   }
 
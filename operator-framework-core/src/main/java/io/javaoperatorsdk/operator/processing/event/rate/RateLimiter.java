@@ -18,6 +18,8 @@ package io.javaoperatorsdk.operator.processing.event.rate;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 
 public interface RateLimiter<S extends RateLimitState> {
@@ -31,4 +33,18 @@ public interface RateLimiter<S extends RateLimitState> {
   Optional<Duration> isLimited(RateLimitState rateLimitState);
 
   S initState();
+
+  /**
+   * Creates the state for the given resource, called by the SDK when the resource is first
+   * submitted for reconciliation. Implementations can override it to share state between resources,
+   * for example to limit all the resources of a namespace together.
+   *
+   * @param resourceID the id of the resource the state is created for
+   * @param resource the latest known version of the resource, can be {@code null}
+   * @return the state to use for the resource
+   * @since 5.6.0
+   */
+  default S initState(ResourceID resourceID, HasMetadata resource) {
+    return initState();
+  }
 }
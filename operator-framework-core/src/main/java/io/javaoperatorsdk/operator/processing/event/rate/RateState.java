@@ -15,20 +15,18 @@
  */
 package io.javaoperatorsdk.operator.processing.event.rate;
 
-import java.time.LocalDateTime;
-
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 
 class RateState implements RateLimitState {
 
-  private LocalDateTime lastRefreshTime;
+  private long lastRefreshTime;
   private int count;
 
   public static RateState initialState() {
-    return new RateState(LocalDateTime.now(), 0);
+    return new RateState(System.nanoTime(), 0);
   }
 
-  RateState(LocalDateTime lastRefreshTime, int count) {
+  RateState(long lastRefreshTime, int count) {
     this.lastRefreshTime = lastRefreshTime;
     this.count = count;
   }
@@ -38,11 +36,14 @@ class RateState implements RateLimitState {
   }
 
   public void reset() {
-    lastRefreshTime = LocalDateTime.now();
+    lastRefreshTime = System.nanoTime();
     count = 0;
   }
 
-  public LocalDateTime getLastRefreshTime() {
+  /**
+   * @return the time of the last refresh as returned by {@link System#nanoTime()}
+   */
+  public long getLastRefreshTime() {
     return lastRefreshTime;
   }
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+
+/**
+ * A rate limiter allowing at most {@code limitForWindow} permits within any sliding window. The
+ * number of permits acquired in the sliding window is approximated from the counts of the current
+ * and the previous fixed windows, weighting the previous count by how much of the previous window
+ * still overlaps with the sliding one. This avoids the bursts of up to twice the limit allowed by
+ * {@link LinearRateLimiter} around the end of a period, while keeping constant-size state.
+ *
+ * <p>The state is an immutable snapshot updated with a compare-and-set, so it can be safely shared
+ * between threads, for example by a {@link GroupRateLimiter}.
+ *
+ * @since 5.6.0
+ */
+public class SlidingWindowRateLimiter
+    implements RateLimiter<SlidingWindowRateLimiter.State>, AnnotationConfigurable<RateLimited> {
+
+  private long windowNanos;
+  private int limitForWindow;
+
+  /** Creates a deactivated rate limiter, meant to be configured from {@link RateLimited}. */
+  public SlidingWindowRateLimiter() {}
+
+  /**
+   * @param window the length of the sliding window
+   * @param limitForWindow the maximum number of permits within the window
+   */
+  public SlidingWindowRateLimiter(Duration window, int limitForWindow) {
+    init(window, limitForWindow);
+  }
+
+  private void init(Duration window, int limitForWindow) {
+    if (limitForWindow < 1 || window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException(
+          "Window must be positive and limit at least 1, got: " + window + ", " + limitForWindow);
+    }
+    this.windowNanos = window.toNanos();
+    this.limitForWindow = limitForWindow;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!isActivated() || !(rateLimitState instanceof State state)) {
+      return Optional.empty();
+    }
+    final var now = System.nanoTime();
+    while (true) {
+      final var window = state.window.get();
+      final var current = window.slideTo(now, windowNanos);
+      final var elapsed = now - current.start;
+      final var overlap = (double) (windowNanos - elapsed) / windowNanos;
+      if (current.previousCount * overlap + current.currentCount + 1 > limitForWindow) {
+        return Optional.of(Duration.ofNanos(waitNanos(current, elapsed)));
+      }
+      if (state.window.compareAndSet(
+          window, new Window(current.start, current.previousCount, current.currentCount + 1))) {
+        return Optional.empty();
+      }
+    }
+  }
+
+  private long waitNanos(Window window, long elapsed) {
+    final var remainingForPrevious = limitForWindow - 1 - window.currentCount;
+    long wait;
+    if (remainingForPrevious >= 0 && window.previousCount > 0) {
+      // wait until the weighted count of the previous window leaves room for one more permit
+      wait =
+          windowNanos
+              - elapsed
+              - (long) ((double) remainingForPrevious * windowNanos / window.previousCount);
+    } else {
+      // wait for the next window, in which the current count becomes the previous one
+      final var intoNextWindow =
+          window.currentCount > 0
+              ? windowNanos
+                  - (long) ((double) (limitForWindow - 1) * windowNanos / window.currentCount)
+              : 0;
+      wait = windowNanos - elapsed + Math.max(0, intoNextWindow);
+    }
+    return Math.max(1, wait);
+  }
+
+  @Override
+  public State initState() {
+    return new State(System.nanoTime());
+  }
+
+  @Override
+  public void initFrom(RateLimited configuration) {
+    init(
+        Duration.of(configuration.within(), configuration.unit().toChronoUnit()),
+        configuration.maxReconciliations());
+  }
+
+  public boolean isActivated() {
+    return limitForWindow > 0;
+  }
+
+  static class State implements RateLimitState {
+    private final AtomicReference<Window> window;
+
+    private State(long now) {
+      this.window = new AtomicReference<>(new Window(now, 0, 0));
+    }
+  }
+
+  private record Window(long start, int previousCount, int currentCount) {
+
+    /** Returns the fixed window containing {@code now}, this one if it is still current. */
+    Window slideTo(long now, long windowNanos) {
+      final var elapsed = now - start;
+      if (elapsed < windowNanos) {
+        return this;
+      }
+      final var windows = elapsed / windowNanos;
+      return new Window(start + windows * windowNanos, windows == 1 ? currentCount : 0, 0);
+    }
+  }
+}
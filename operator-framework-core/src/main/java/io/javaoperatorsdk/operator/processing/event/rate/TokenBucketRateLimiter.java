@@ -0,0 +1,122 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+
+/**
+ * A token bucket rate limiter implemented with the generic cell rate algorithm: permits are
+ * refilled at a constant rate of {@code limitForPeriod} per period, and up to {@code burst} permits
+ * can be acquired at once after an idle period. Unlike {@link LinearRateLimiter}, permits are
+ * spread evenly over time instead of being reset at the end of each period.
+ *
+ * <p>The state only consists of a single {@link System#nanoTime()} based timestamp updated with a
+ * compare-and-set, so it can be safely shared between threads, for example by a {@link
+ * GroupRateLimiter}.
+ *
+ * @since 5.6.0
+ */
+public class TokenBucketRateLimiter
+    implements RateLimiter<TokenBucketRateLimiter.State>, AnnotationConfigurable<RateLimited> {
+
+  private long emissionIntervalNanos;
+  private long burstToleranceNanos;
+
+  /** Creates a deactivated rate limiter, meant to be configured from {@link RateLimited}. */
+  public TokenBucketRateLimiter() {}
+
+  /**
+   * Creates a rate limiter allowing {@code limitForPeriod} permits per period, all of which can be
+   * acquired at once after an idle period.
+   *
+   * @param period the period
+   * @param limitForPeriod the number of permits per period
+   */
+  public TokenBucketRateLimiter(Duration period, int limitForPeriod) {
+    this(period, limitForPeriod, limitForPeriod);
+  }
+
+  /**
+   * @param period the period
+   * @param limitForPeriod the number of permits per period
+   * @param burst the maximum number of permits that can be acquired at once after an idle period
+   */
+  public TokenBucketRateLimiter(Duration period, int limitForPeriod, int burst) {
+    init(period, limitForPeriod, burst);
+  }
+
+  private void init(Duration period, int limitForPeriod, int burst) {
+    if (limitForPeriod < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException(
+          "Period must be positive, limit and burst at least 1, got: "
+              + period
+              + ", "
+              + limitForPeriod
+              + ", "
+              + burst);
+    }
+    this.emissionIntervalNanos = Math.max(1, period.toNanos() / limitForPeriod);
+    this.burstToleranceNanos = (burst - 1) * emissionIntervalNanos;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!isActivated() || !(rateLimitState instanceof State state)) {
+      return Optional.empty();
+    }
+    final var now = System.nanoTime();
+    while (true) {
+      final var theoreticalArrival = state.theoreticalArrivalTime.get();
+      final var arrival = theoreticalArrival - now > 0 ? theoreticalArrival : now;
+      final var wait = arrival - burstToleranceNanos - now;
+      if (wait > 0) {
+        return Optional.of(Duration.ofNanos(wait));
+      }
+      if (state.theoreticalArrivalTime.compareAndSet(
+          theoreticalArrival, arrival + emissionIntervalNanos)) {
+        return Optional.empty();
+      }
+    }
+  }
+
+  @Override
+  public State initState() {
+    return new State(System.nanoTime());
+  }
+
+  @Override
+  public void initFrom(RateLimited configuration) {
+    final var period = Duration.of(configuration.within(), configuration.unit().toChronoUnit());
+    init(period, configuration.maxReconciliations(), configuration.maxReconciliations());
+  }
+
+  public boolean isActivated() {
+    return emissionIntervalNanos > 0;
+  }
+
+  static class State implements RateLimitState {
+    // theoretical arrival time of the next permit, as returned by System.nanoTime()
+    private final AtomicLong theoreticalArrivalTime;
+
+    private State(long now) {
+      this.theoreticalArrivalTime = new AtomicLong(now);
+    }
+  }
+}
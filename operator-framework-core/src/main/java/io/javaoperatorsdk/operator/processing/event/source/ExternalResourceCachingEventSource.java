@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +56,10 @@ import io.javaoperatorsdk.operator.processing.event.ResourceID;
  * a new resource(s) is received or actually updated or deleted. Delete is detected by a missing
  * key.
  *
+ * <p>Comparing with equals can be costly for large external objects polled often. In that case a
+ * fingerprint function can be set using {@link #setResourceFingerprint(ToLongFunction)}; a compact
+ * hash is then kept for every cached resource and updates are detected by comparing those instead.
+ *
  * @param <R> type of polled external secondary resource
  * @param <P> primary resource
  */
@@ -67,6 +73,11 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
 
   protected Map<ResourceID, Map<ID, R>> cache = new ConcurrentHashMap<>();
 
+  // fingerprints of the cached resources, only maintained when a fingerprint function is set. An
+  // entry missing for a cached primary is recomputed from the cache when needed.
+  private final Map<ResourceID, Map<ID, Long>> fingerprints = new ConcurrentHashMap<>();
+  private ToLongFunction<? super R> resourceFingerprint;
+
   protected ExternalResourceCachingEventSource(
       Class<R> resourceClass, ResourceIDMapper<R, ID> resourceIDMapper) {
     this(null, resourceClass, resourceIDMapper);
@@ -85,7 +96,24 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
     this.resourceIDMapper = resourceIDMapper;
   }
 
+  /**
+   * Enables fingerprint based change detection: instead of comparing cached and newly fetched
+   * resources using equals, the given function is used to compute a hash of each resource, and only
+   * the hashes are compared. The function must return the same value for equal resources and should
+   * make collisions between different versions of a resource unlikely, since a collision means the
+   * update is not detected.
+   *
+   * @param resourceFingerprint computes the fingerprint of a resource, {@code null} to compare
+   *     resources using equals
+   * @since 5.6.0
+   */
+  public synchronized void setResourceFingerprint(ToLongFunction<? super R> resourceFingerprint) {
+    this.resourceFingerprint = resourceFingerprint;
+    fingerprints.clear();
+  }
+
   protected synchronized void handleDelete(ResourceID primaryID) {
+    fingerprints.remove(primaryID);
     var res = cache.remove(primaryID);
     if (res != null && deleteAcceptedByFilter(res.values())) {
       getEventHandler().handleEvent(new Event(primaryID));
@@ -105,6 +133,7 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
     if (!isRunning()) {
       return;
     }
+    fingerprints.remove(primaryID);
     var cachedValues = cache.get(primaryID);
     List<R> removedResources =
         cachedValues == null
@@ -149,14 +178,52 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
     var newResourcesMap =
         newResources.stream().collect(Collectors.toMap(resourceIDMapper::idFor, r -> r));
     cache.put(primaryID, newResourcesMap);
-    if (propagateEvent
-        && !newResourcesMap.equals(cachedResources)
-        && acceptedByFiler(cachedResources, newResourcesMap)) {
+    if (!propagateEvent) {
+      fingerprints.remove(primaryID);
+      return;
+    }
+
+    final Predicate<ID> updated;
+    if (resourceFingerprint != null) {
+      var cachedFingerprints = fingerprints.get(primaryID);
+      if (cachedFingerprints == null) {
+        cachedFingerprints = fingerprintsOf(cachedResources);
+      }
+      var newFingerprints = fingerprintsOf(newResourcesMap);
+      fingerprints.put(primaryID, newFingerprints);
+      if (newFingerprints.equals(cachedFingerprints)) {
+        return;
+      }
+      final var previous = cachedFingerprints;
+      updated = id -> !newFingerprints.get(id).equals(previous.get(id));
+    } else {
+      if (newResourcesMap.equals(cachedResources)) {
+        return;
+      }
+      final var previous = cachedResources;
+      updated = id -> !newResourcesMap.get(id).equals(previous.get(id));
+    }
+    // without filters any difference is enough, no need to work out what actually changed
+    if (!filtersConfigured() || acceptedByFiler(cachedResources, newResourcesMap, updated)) {
       getEventHandler().handleEvent(new Event(primaryID));
     }
   }
 
-  private boolean acceptedByFiler(Map<ID, R> cachedResourceMap, Map<ID, R> newResourcesMap) {
+  private Map<ID, Long> fingerprintsOf(Map<ID, R> resources) {
+    var res = new HashMap<ID, Long>(resources.size());
+    resources.forEach((id, r) -> res.put(id, resourceFingerprint.applyAsLong(r)));
+    return res;
+  }
+
+  private boolean filtersConfigured() {
+    return onAddFilter != null
+        || onUpdateFilter != null
+        || onDeleteFilter != null
+        || genericFilter != null;
+  }
+
+  private boolean acceptedByFiler(
+      Map<ID, R> cachedResourceMap, Map<ID, R> newResourcesMap, Predicate<ID> updated) {
 
     var addedResources = new HashMap<>(newResourcesMap);
     addedResources.keySet().removeAll(cachedResourceMap.keySet());
@@ -186,10 +253,7 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
 
     Map<ID, R> possibleUpdatedResources = new HashMap<>(cachedResourceMap);
     possibleUpdatedResources.keySet().retainAll(newResourcesMap.keySet());
-    possibleUpdatedResources =
-        possibleUpdatedResources.entrySet().stream()
-            .filter(entry -> !newResourcesMap.get(entry.getKey()).equals(entry.getValue()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    possibleUpdatedResources.keySet().removeIf(updated.negate());
 
     if (onUpdateFilter != null || genericFilter != null) {
       return possibleUpdatedResources.entrySet().stream()
@@ -220,6 +284,7 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
 
   @Override
   public synchronized void handleRecentResourceCreate(ResourceID primaryID, R resource) {
+    fingerprints.remove(primaryID);
     var actualValues = cache.get(primaryID);
     var resourceId = resourceIDMapper.idFor(resource);
     if (actualValues == null) {
@@ -234,6 +299,7 @@ public abstract class ExternalResourceCachingEventSource<R, P extends HasMetadat
   @Override
   public synchronized void handleRecentResourceUpdate(
       ResourceID primaryID, R resource, R previousVersionOfResource) {
+    fingerprints.remove(primaryID);
     var actualValues = cache.get(primaryID);
     if (actualValues != null) {
       var resourceId = resourceIDMapper.idFor(resource);
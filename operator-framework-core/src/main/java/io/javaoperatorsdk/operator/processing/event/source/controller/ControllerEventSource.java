@@ -70,7 +70,8 @@ public class ControllerEventSource<T extends HasMetadata>
       setOnUpdateFilter(userFilter != null ? userFilter : (newResource, oldResource) -> true);
     }
 
-    Optional.ofNullable(informerConfig.getGenericFilter()).ifPresent(this::setGenericFilter);
+    Optional.ofNullable(informerConfig.getEffectiveGenericFilter())
+        .ifPresent(this::setGenericFilter);
     setControllerConfiguration(config);
   }
 
@@ -200,6 +201,16 @@ public class ControllerEventSource<T extends HasMetadata>
         "onDeleteFilter is not supported for controller resource event source");
   }
 
+  /**
+   * Primary resources are not warm-started from snapshots: only the resources differing from a
+   * snapshot would be propagated as events, so unchanged primary resources would not be reconciled
+   * on start, and events received but not processed before the snapshot was taken would be lost.
+   */
+  @Override
+  protected boolean supportsSnapshots() {
+    return false;
+  }
+
   @Override
   public String name() {
     return NAME;
@@ -0,0 +1,242 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link GenericFilter} expressed as requirements on the labels, fields and annotations of the
+ * resources. When set as the generic filter of an informer configuration, the requirements on
+ * labels and fields are added to the label and field selectors of the informer: the resources not
+ * matching them are then filtered out by the API server, and are thus neither transferred nor
+ * cached. Only the other requirements, i.e. on annotations and the filters added using {@link
+ * #and(GenericFilter)}, are evaluated on the received events.
+ *
+ * <p>As with selectors, resources which stop matching the label or field requirements are then
+ * removed from the cache and propagated as deleted. When not used as the generic filter of an
+ * informer configuration, e.g. when combined using {@link #or(GenericFilter)}, all the requirements
+ * are evaluated on the received events.
+ *
+ * @param <R> the type of the resource the events relate to
+ * @since 5.6.0
+ */
+public class SelectorFilter<R extends HasMetadata> implements GenericFilter<R> {
+
+  private static final KubernetesSerialization SERIALIZATION = new KubernetesSerialization();
+
+  private final Map<String, List<String>> labels;
+  private final Map<String, String> fields;
+  private final List<String> annotations;
+  private final GenericFilter<R> additionalFilter;
+
+  public SelectorFilter() {
+    this(Map.of(), Map.of(), List.of(), null);
+  }
+
+  private SelectorFilter(
+      Map<String, List<String>> labels,
+      Map<String, String> fields,
+      List<String> annotations,
+      GenericFilter<R> additionalFilter) {
+    this.labels = labels;
+    this.fields = fields;
+    this.annotations = annotations;
+    this.additionalFilter = additionalFilter;
+  }
+
+  /**
+   * Requires the resources to have the given label with the given value.
+   *
+   * @param key the label key
+   * @param value the required value
+   * @return a new filter also requiring the label
+   */
+  public SelectorFilter<R> withLabel(String key, String value) {
+    return withLabelIn(key, value);
+  }
+
+  /**
+   * Requires the resources to have the given label with one of the given values.
+   *
+   * @param key the label key
+   * @param values the accepted values
+   * @return a new filter also requiring the label
+   */
+  public SelectorFilter<R> withLabelIn(String key, String... values) {
+    Objects.requireNonNull(key, "label key");
+    if (values == null || values.length == 0) {
+      throw new IllegalArgumentException("At least one value is required for label: " + key);
+    }
+    if (labels.containsKey(key)) {
+      throw new IllegalArgumentException("Label already required: " + key);
+    }
+    final var newLabels = new LinkedHashMap<>(labels);
+    newLabels.put(key, List.of(values));
+    return new SelectorFilter<>(
+        Collections.unmodifiableMap(newLabels), fields, annotations, additionalFilter);
+  }
+
+  /**
+   * Requires the given field of the resources to have the given value. Note that, apart from {@code
+   * metadata.name} and {@code metadata.namespace}, the fields supported in field selectors depend
+   * on the type of the resources.
+   *
+   * @param path the path of the field, e.g. {@code status.phase}
+   * @param value the required value
+   * @return a new filter also requiring the field value
+   */
+  public SelectorFilter<R> withField(String path, String value) {
+    Objects.requireNonNull(path, "field path");
+    Objects.requireNonNull(value, "field value");
+    if (fields.containsKey(path)) {
+      throw new IllegalArgumentException("Field already required: " + path);
+    }
+    final var newFields = new LinkedHashMap<>(fields);
+    newFields.put(path, value);
+    return new SelectorFilter<>(
+        labels, Collections.unmodifiableMap(newFields), annotations, additionalFilter);
+  }
+
+  /**
+   * Requires the resources to have the given annotation, whatever its value. As annotations cannot
+   * be selected by the API server, this requirement is evaluated on the received events.
+   *
+   * @param key the annotation key
+   * @return a new filter also requiring the annotation
+   */
+  public SelectorFilter<R> withAnnotation(String key) {
+    Objects.requireNonNull(key, "annotation key");
+    final var newAnnotations = new ArrayList<>(annotations);
+    newAnnotations.add(key);
+    return new SelectorFilter<>(labels, fields, List.copyOf(newAnnotations), additionalFilter);
+  }
+
+  /**
+   * Also requires the given filter to accept the resources, evaluated on the received events.
+   *
+   * @param genericFilter the other filter to combine with this one
+   * @return a new filter also requiring the given filter to accept the resources
+   */
+  @Override
+  public SelectorFilter<R> and(GenericFilter<R> genericFilter) {
+    Objects.requireNonNull(genericFilter, "filter");
+    return new SelectorFilter<>(
+        labels,
+        fields,
+        annotations,
+        additionalFilter == null ? genericFilter : additionalFilter.and(genericFilter));
+  }
+
+  /**
+   * @return the label selector equivalent to the label requirements, {@code null} if there are none
+   */
+  public String getLabelSelector() {
+    if (labels.isEmpty()) {
+      return null;
+    }
+    return labels.entrySet().stream()
+        .map(
+            label ->
+                label.getValue().size() == 1
+                    ? label.getKey() + "=" + label.getValue().get(0)
+                    : label.getKey() + " in (" + String.join(",", label.getValue()) + ")")
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * @return the required values of the fields, by path
+   */
+  public Map<String, String> getFields() {
+    return fields;
+  }
+
+  /**
+   * @return the filter evaluating the requirements that cannot be expressed as selectors, {@code
+   *     null} if all of them can
+   */
+  public GenericFilter<R> getClientSideFilter() {
+    if (annotations.isEmpty()) {
+      return additionalFilter;
+    }
+    final GenericFilter<R> annotationsFilter = this::hasAnnotations;
+    return additionalFilter == null ? annotationsFilter : annotationsFilter.and(additionalFilter);
+  }
+
+  @Override
+  public boolean accept(R resource) {
+    return hasLabels(resource)
+        && hasFields(resource)
+        && hasAnnotations(resource)
+        && (additionalFilter == null || additionalFilter.accept(resource));
+  }
+
+  private boolean hasLabels(R resource) {
+    if (labels.isEmpty()) {
+      return true;
+    }
+    final var resourceLabels = resource.getMetadata().getLabels();
+    return resourceLabels != null
+        && labels.entrySet().stream()
+            .allMatch(
+                label -> {
+                  final var value = resourceLabels.get(label.getKey());
+                  return value != null && label.getValue().contains(value);
+                });
+  }
+
+  private boolean hasFields(R resource) {
+    if (fields.isEmpty()) {
+      return true;
+    }
+    JsonNode node = null;
+    for (var field : fields.entrySet()) {
+      final String value;
+      switch (field.getKey()) {
+        case "metadata.name" -> value = resource.getMetadata().getName();
+        case "metadata.namespace" -> value = resource.getMetadata().getNamespace();
+        default -> {
+          if (node == null) {
+            node = SERIALIZATION.convertValue(resource, JsonNode.class);
+          }
+          value = node.at("/" + field.getKey().replace('.', '/')).asText();
+        }
+      }
+      if (!field.getValue().equals(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean hasAnnotations(R resource) {
+    if (annotations.isEmpty()) {
+      return true;
+    }
+    final var resourceAnnotations = resource.getMetadata().getAnnotations();
+    return resourceAnnotations != null && resourceAnnotations.keySet().containsAll(annotations);
+  }
+}
@@ -15,84 +15,122 @@
  */
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
+/**
+ * Registry of the {@link EventFilterWindow}s of the resources currently being modified by the
+ * operator. Windows are kept in a concurrent map and each operation on a window is performed
+ * atomically for its resource only, so that own writes and events for different resources do not
+ * contend with each other. Events for resources without a window, by far the most common case, are
+ * propagated without taking any lock.
+ */
 class EventFilterSupport {
 
   private static final Logger log = LoggerFactory.getLogger(EventFilterSupport.class);
 
-  private final Map<ResourceID, EventFilterWindow> eventFilterWindows = new HashMap<>();
-  private boolean ongoingReList = false;
+  private final Map<ResourceID, EventFilterWindow> eventFilterWindows = new ConcurrentHashMap<>();
+  private volatile boolean ongoingReList = false;
 
-  public synchronized void startEventFilteringModify(ResourceID resourceID) {
-    var existing = eventFilterWindows.get(resourceID);
-    var ed =
-        eventFilterWindows.computeIfAbsent(resourceID, id -> new EventFilterWindow(ongoingReList));
-    ed.increaseActiveUpdates();
-    log.debug(
-        "startEventFilteringModify: id={}, windowReused={}, ongoingReList={}",
+  public void startEventFilteringModify(ResourceID resourceID) {
+    eventFilterWindows.compute(
         resourceID,
-        existing != null,
-        ongoingReList);
+        (id, existing) -> {
+          var ed = existing == null ? new EventFilterWindow(ongoingReList) : existing;
+          ed.increaseActiveUpdates();
+          log.debug(
+              "startEventFilteringModify: id={}, windowReused={}, ongoingReList={}",
+              resourceID,
+              existing != null,
+              ongoingReList);
+          return ed;
+        });
   }
 
-  public synchronized Optional<ExtendedResourceEvent> doneEventFilterModify(ResourceID resourceID) {
-    var ed = eventFilterWindows.get(resourceID);
-    if (ed == null) {
-      log.debug("doneEventFilterModify: no window for id={}", resourceID);
-      return Optional.empty();
-    }
-    ed.decreaseActiveUpdates();
-    log.debug("doneEventFilterModify: id={}", resourceID);
-    return check(ed, resourceID);
+  public Optional<ExtendedResourceEvent> doneEventFilterModify(ResourceID resourceID) {
+    final var result = new AtomicReference<Optional<ExtendedResourceEvent>>(Optional.empty());
+    eventFilterWindows.compute(
+        resourceID,
+        (id, ed) -> {
+          if (ed == null) {
+            log.debug("doneEventFilterModify: no window for id={}", resourceID);
+            return null;
+          }
+          ed.decreaseActiveUpdates();
+          log.debug("doneEventFilterModify: id={}", resourceID);
+          return check(ed, resourceID, result);
+        });
+    return result.get();
   }
 
-  public synchronized Optional<ExtendedResourceEvent> processEvent(
+  public Optional<ExtendedResourceEvent> processEvent(
       ResourceID resourceId, ExtendedResourceEvent extendedResourceEvent) {
-    var ed = eventFilterWindows.get(resourceId);
-    if (ed != null) {
-      log.debug(
-          "processEvent: buffering event in window. id={}, action={}, rv={}",
-          resourceId,
-          extendedResourceEvent.getAction(),
-          extendedResourceEvent
-              .getResource()
-              .map(r -> r.getMetadata().getResourceVersion())
-              .orElse("?"));
-      ed.addRelatedEvent(extendedResourceEvent);
-      return check(ed, resourceId);
-    } else {
+    // lock-free fast path: no own write is in progress for this resource
+    if (!eventFilterWindows.containsKey(resourceId)) {
       log.debug(
           "processEvent: no active window, surfacing directly. id={}, action={}",
           resourceId,
           extendedResourceEvent.getAction());
       return Optional.of(extendedResourceEvent);
     }
+    final var result = new AtomicReference<>(Optional.of(extendedResourceEvent));
+    eventFilterWindows.computeIfPresent(
+        resourceId,
+        (id, ed) -> {
+          log.debug(
+              "processEvent: buffering event in window. id={}, action={}, rv={}",
+              resourceId,
+              extendedResourceEvent.getAction(),
+              extendedResourceEvent
+                  .getResource()
+                  .map(r -> r.getMetadata().getResourceVersion())
+                  .orElse("?"));
+          // the re-list state is synced here since the window might have been created concurrently
+          // with a re-list starting or finishing
+          if (ongoingReList) {
+            ed.setReListStarted();
+          } else {
+            ed.setReListFinished();
+          }
+          ed.addRelatedEvent(extendedResourceEvent);
+          return check(ed, resourceId, result);
+        });
+    return result.get();
   }
 
-  private Optional<ExtendedResourceEvent> check(
-      EventFilterWindow eventFilterWindow, ResourceID resourceID) {
-    var res = eventFilterWindow.check();
+  /**
+   * Checks the window, storing the outcome in the given reference, and returns the window if it
+   * needs to be kept, {@code null} otherwise so that it gets removed from the registry.
+   */
+  private EventFilterWindow check(
+      EventFilterWindow eventFilterWindow,
+      ResourceID resourceID,
+      AtomicReference<Optional<ExtendedResourceEvent>> result) {
+    result.set(eventFilterWindow.check());
     if (eventFilterWindow.canBeRemoved()) {
       log.debug("Removing empty event filter window. id={}", resourceID);
-      eventFilterWindows.remove(resourceID);
+      return null;
     }
-    return res;
+    return eventFilterWindow;
   }
 
-  public synchronized void addToOwnResourceVersions(ResourceID resourceId, String resourceVersion) {
-    var window = eventFilterWindows.get(resourceId);
-    if (window != null) {
-      log.debug("Recording own resourceVersion. id={}, rv={}", resourceId, resourceVersion);
-      window.addToOwnUpdateVersions(resourceVersion);
-    } else {
+  public void addToOwnResourceVersions(ResourceID resourceId, String resourceVersion) {
+    var window =
+        eventFilterWindows.computeIfPresent(
+            resourceId,
+            (id, w) -> {
+              log.debug("Recording own resourceVersion. id={}, rv={}", resourceId, resourceVersion);
+              w.addToOwnUpdateVersions(resourceVersion);
+              return w;
+            });
+    if (window == null) {
       log.debug(
           "addToOwnResourceVersions: no active window for id={}, rv={} (skipped)",
           resourceId,
@@ -100,29 +138,29 @@ class EventFilterSupport {
     }
   }
 
-  public synchronized void handleGhostResourceRemoval(ResourceID resourceId) {
+  public void handleGhostResourceRemoval(ResourceID resourceId) {
     log.debug("Ghost resource removal: discarding event filter window. id={}", resourceId);
     eventFilterWindows.remove(resourceId);
   }
 
   // for testing purposes
-  synchronized Map<ResourceID, EventFilterWindow> getEventFilterWindows() {
+  Map<ResourceID, EventFilterWindow> getEventFilterWindows() {
     return eventFilterWindows;
   }
 
-  public synchronized void setStartingReList() {
+  public void setStartingReList() {
     log.debug("ReList starting: tagging {} active window(s)", eventFilterWindows.size());
     ongoingReList = true;
     eventFilterWindows.values().forEach(EventFilterWindow::setReListStarted);
   }
 
-  public synchronized void setRelistFinished() {
+  public void setRelistFinished() {
     log.debug("ReList finished: clearing tag from {} active window(s)", eventFilterWindows.size());
     ongoingReList = false;
     eventFilterWindows.values().forEach(EventFilterWindow::setReListFinished);
   }
 
-  public synchronized boolean isActiveUpdateFor(ResourceID resourceId) {
+  public boolean isActiveUpdateFor(ResourceID resourceId) {
     return eventFilterWindows.containsKey(resourceId);
   }
 }
@@ -15,11 +15,10 @@
  */
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.SortedMap;
-import java.util.SortedSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,13 +51,16 @@ import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
  *       already started. We should emit the synth event from this check method as soon as we
  *       received an event that has same resource version or newer as our resource.
  * </ul>
+ *
+ * <p>Resource versions are kept as primitive {@code long}s in small sorted arrays, since windows
+ * typically only hold a handful of versions and are created for each own write.
  */
 class EventFilterWindow {
 
   private static final Logger log = LoggerFactory.getLogger(EventFilterWindow.class);
 
-  private final SortedMap<Long, ExtendedResourceEvent> relatedEvents = new TreeMap<>();
-  private final SortedSet<Long> ownUpdateVersions = new TreeSet<>();
+  private final RelatedEvents relatedEvents = new RelatedEvents();
+  private final SortedVersions ownUpdateVersions = new SortedVersions();
   private boolean reListOnGoing;
   private int activeUpdates = 0;
 
@@ -82,7 +84,7 @@ class EventFilterWindow {
   private String snapshotState() {
     return String.format(
         "relatedEvents=%s, ownResourceVersions=%s, activeUpdates=%d, reListOnGoing=%s",
-        relatedEvents.keySet(), ownUpdateVersions, activeUpdates, reListOnGoing);
+        relatedEvents, ownUpdateVersions, activeUpdates, reListOnGoing);
   }
 
   private Optional<ExtendedResourceEvent> doCheck() {
@@ -92,28 +94,20 @@ class EventFilterWindow {
     }
     // cleanup events which are not related to our updates
     if (activeUpdates == 0 && ownUpdateVersions.isEmpty()) {
-      return eventForRangeAndClear(relatedEvents, ownUpdateVersions);
+      return eventForRangeAndClear(relatedEvents.size(), ownUpdateVersions.size());
     }
     // this is a special case that if we receive a delete event we
     // early clean it up, since we don't do filtering for deletes
     if (ownUpdateVersions.isEmpty()
-        && getFirstRelatedEvent().getAction().equals(ResourceAction.DELETED)) {
-      return eventForRangeAndClear(relatedEvents, ownUpdateVersions);
+        && relatedEvents.event(0).getAction().equals(ResourceAction.DELETED)) {
+      return eventForRangeAndClear(relatedEvents.size(), ownUpdateVersions.size());
     }
-    var lastEventVersion = relatedEvents.lastKey();
-    var numberOwnUpdatesSelected = 0;
-    long lastOwnVersion = -1;
+    var lastEventVersion = relatedEvents.version(relatedEvents.size() - 1);
     // we find the last own update version for which we have event for
     // so those are the once we are going to clear our in this execution
-    for (long ownVersion : ownUpdateVersions) {
-      if (ownVersion <= lastEventVersion) {
-        numberOwnUpdatesSelected++;
-        lastOwnVersion = ownVersion;
-      } else {
-        break;
-      }
-    }
+    var numberOwnUpdatesSelected = ownUpdateVersions.countUpTo(lastEventVersion);
     if (numberOwnUpdatesSelected > 0) {
+      long lastOwnVersion = ownUpdateVersions.version(numberOwnUpdatesSelected - 1);
       // If we selected all own update versions we process the whole range.
       // We check also if there is no active update, since if there still is
       // an event might have come which is newer than own version what it is for the ongoing update.
@@ -121,7 +115,7 @@ class EventFilterWindow {
       // we select all events [1,2,3,4] because for the active
       // update we might add own version 4.
       if (numberOwnUpdatesSelected == ownUpdateVersions.size() && activeUpdates == 0) {
-        return eventForRangeAndClear(relatedEvents, ownUpdateVersions);
+        return eventForRangeAndClear(relatedEvents.size(), ownUpdateVersions.size());
       } else {
         // if we select only a subset of own updates, we select related events
         // up to the next own version (what is not selected).
@@ -129,9 +123,9 @@ class EventFilterWindow {
         // we select all those events (also 4) that happened before own version 5
         // for which we don't have event yet.
         if (numberOwnUpdatesSelected < ownUpdateVersions.size()) {
+          var nextOwnVersion = ownUpdateVersions.version(numberOwnUpdatesSelected);
           return eventForRangeAndClear(
-              relatedEvents.headMap(ownUpdateVersions.tailSet(lastOwnVersion + 1).first()),
-              ownUpdateVersions.headSet(lastOwnVersion + 1));
+              relatedEvents.countUpTo(nextOwnVersion - 1), numberOwnUpdatesSelected);
         } else
           // this is essentially when we numberOwnUpdatesSelected == ownUpdateVersions.size() but
           // with active update > 0. In that case we:
@@ -139,59 +133,55 @@ class EventFilterWindow {
           // we select only events [1,2,3] (so no 4), because for the active
           // update we might add own version 4.
           return eventForRangeAndClear(
-              relatedEvents.headMap(lastOwnVersion + 1),
-              ownUpdateVersions.headSet(lastOwnVersion + 1));
+              relatedEvents.countUpTo(lastOwnVersion), numberOwnUpdatesSelected);
       }
     }
     return Optional.empty();
   }
 
-  // calculates and clears events and own resources for a sorted range of events and own resources
-  Optional<ExtendedResourceEvent> eventForRangeAndClear(
-      SortedMap<Long, ExtendedResourceEvent> events, SortedSet<Long> ownResourceVersions) {
+  // calculates and clears events and own resources for the given number of the oldest events and
+  // own resource versions
+  Optional<ExtendedResourceEvent> eventForRangeAndClear(int eventCount, int ownVersionCount) {
 
-    if (events.isEmpty()) {
+    if (eventCount == 0) {
       return Optional.empty();
     }
 
-    var lastEvent = getLastRelatedEvent(events);
+    var lastEvent = relatedEvents.event(eventCount - 1);
     if (lastEvent.getAction() == ResourceAction.DELETED) {
-      events.clear();
-      ownResourceVersions.clear();
+      clear(eventCount, ownVersionCount);
       return Optional.of(lastEvent);
     }
 
     // if any of the events is part of re-list (including first delete) we detect it
     var isAnyEventFromReList = false;
-    for (var e : events.values()) {
-      if (e.isPartOfReList()) {
+    for (int i = 0; i < eventCount; i++) {
+      if (relatedEvents.event(i).isPartOfReList()) {
         isAnyEventFromReList = true;
         break;
       }
     }
 
-    var first = getFirstRelatedEvent(events);
+    var firstIndex = 0;
+    var first = relatedEvents.event(firstIndex);
     // if delete event is first in the row and more events we can discard that
     // since won't play role in synthesized (synt) event.
-    if (events.size() > 1 && first.getAction() == ResourceAction.DELETED) {
-      events.remove(events.firstKey());
-      first = getFirstRelatedEvent(events);
+    if (eventCount > 1 && first.getAction() == ResourceAction.DELETED) {
+      firstIndex++;
+      first = relatedEvents.event(firstIndex);
     }
 
     // if all updates are related to own updates we don't return event.
     //
-    if (events.keySet().equals(ownResourceVersions) && !isAnyEventFromReList) {
-      events.clear();
-      ownResourceVersions.clear();
+    if (sameVersions(firstIndex, eventCount, ownVersionCount) && !isAnyEventFromReList) {
+      clear(eventCount, ownVersionCount);
       return Optional.empty();
     }
 
     // if only one event we return that
-    if (events.size() == 1) {
-      ownResourceVersions.clear();
-      var res = Optional.of(events.values().iterator().next());
-      events.clear();
-      return res;
+    if (eventCount - firstIndex == 1) {
+      clear(eventCount, ownVersionCount);
+      return Optional.of(first);
     }
 
     // if none above we create a synt event that contains from the oldest know resource
@@ -205,22 +195,25 @@ class EventFilterWindow {
                     ? first.getResource().orElseThrow()
                     : first.getPreviousResource().orElseThrow(),
                 null));
-    events.clear();
-    ownResourceVersions.clear();
+    clear(eventCount, ownVersionCount);
     return res;
   }
 
-  private ExtendedResourceEvent getFirstRelatedEvent() {
-    return getFirstRelatedEvent(relatedEvents);
-  }
-
-  private ExtendedResourceEvent getFirstRelatedEvent(
-      SortedMap<Long, ExtendedResourceEvent> subMap) {
-    return subMap.get(subMap.firstKey());
+  private boolean sameVersions(int firstEventIndex, int eventCount, int ownVersionCount) {
+    if (eventCount - firstEventIndex != ownVersionCount) {
+      return false;
+    }
+    for (int i = 0; i < ownVersionCount; i++) {
+      if (relatedEvents.version(firstEventIndex + i) != ownUpdateVersions.version(i)) {
+        return false;
+      }
+    }
+    return true;
   }
 
-  private ExtendedResourceEvent getLastRelatedEvent(SortedMap<Long, ExtendedResourceEvent> subMap) {
-    return subMap.get(subMap.lastKey());
+  private void clear(int eventCount, int ownVersionCount) {
+    relatedEvents.removeFirst(eventCount);
+    ownUpdateVersions.removeFirst(ownVersionCount);
   }
 
   public synchronized boolean canBeRemoved() {
@@ -231,7 +224,7 @@ class EventFilterWindow {
   }
 
   public synchronized void addToOwnUpdateVersions(String resourceVersion) {
-    ownUpdateVersions.add(Long.valueOf(resourceVersion));
+    ownUpdateVersions.add(Long.parseLong(resourceVersion));
   }
 
   public synchronized void addRelatedEvent(ExtendedResourceEvent event) {
@@ -239,8 +232,7 @@ class EventFilterWindow {
       event.setPartOfReList(true);
     }
 
-    relatedEvents.put(
-        Long.valueOf(event.getResource().orElseThrow().getMetadata().getResourceVersion()), event);
+    relatedEvents.put(event.getResourceVersion(), event);
   }
 
   public synchronized void setReListStarted() {
@@ -259,11 +251,122 @@ class EventFilterWindow {
     activeUpdates--;
   }
 
-  synchronized SortedMap<Long, ExtendedResourceEvent> getRelatedEvents() {
-    return relatedEvents;
+  // for testing purposes
+  synchronized List<ExtendedResourceEvent> getRelatedEvents() {
+    var events = new ArrayList<ExtendedResourceEvent>(relatedEvents.size());
+    for (int i = 0; i < relatedEvents.size(); i++) {
+      events.add(relatedEvents.event(i));
+    }
+    return events;
+  }
+
+  // for testing purposes
+  synchronized List<Long> getOwnResourceVersions() {
+    return Arrays.stream(ownUpdateVersions.versions, 0, ownUpdateVersions.size).boxed().toList();
   }
 
-  synchronized SortedSet<Long> getOwnResourceVersions() {
-    return ownUpdateVersions;
+  /** Resource versions sorted in ascending order, without duplicates. */
+  private static class SortedVersions {
+    private static final int INITIAL_CAPACITY = 4;
+
+    long[] versions = new long[INITIAL_CAPACITY];
+    int size;
+
+    /**
+     * @return the index of the given version if present, otherwise {@code -(insertion point) - 1}
+     */
+    int indexOf(long version) {
+      return Arrays.binarySearch(versions, 0, size, version);
+    }
+
+    boolean add(long version) {
+      var index = indexOf(version);
+      if (index >= 0) {
+        return false;
+      }
+      insertAt(-index - 1, version);
+      return true;
+    }
+
+    void insertAt(int index, long version) {
+      if (size == versions.length) {
+        grow();
+      }
+      System.arraycopy(versions, index, versions, index + 1, size - index);
+      versions[index] = version;
+      size++;
+    }
+
+    void grow() {
+      versions = Arrays.copyOf(versions, versions.length * 2);
+    }
+
+    long version(int index) {
+      return versions[index];
+    }
+
+    /** Number of versions lower than or equal to the given one. */
+    int countUpTo(long version) {
+      var index = indexOf(version);
+      return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    void removeFirst(int count) {
+      System.arraycopy(versions, count, versions, 0, size - count);
+      size -= count;
+    }
+
+    int size() {
+      return size;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(Arrays.copyOf(versions, size));
+    }
+  }
+
+  /**
+   * Events sorted by the resource version of their resource, keeping only the latest event for a
+   * given version.
+   */
+  private static class RelatedEvents extends SortedVersions {
+    private ExtendedResourceEvent[] events = new ExtendedResourceEvent[versions.length];
+
+    void put(long version, ExtendedResourceEvent event) {
+      var index = indexOf(version);
+      if (index >= 0) {
+        events[index] = event;
+        return;
+      }
+      index = -index - 1;
+      if (size == versions.length) {
+        grow();
+      }
+      System.arraycopy(events, index, events, index + 1, size - index);
+      events[index] = event;
+      insertAt(index, version);
+    }
+
+    @Override
+    void grow() {
+      super.grow();
+      events = Arrays.copyOf(events, versions.length);
+    }
+
+    ExtendedResourceEvent event(int index) {
+      return events[index];
+    }
+
+    @Override
+    void removeFirst(int count) {
+      System.arraycopy(events, count, events, 0, size - count);
+      Arrays.fill(events, size - count, size, null);
+      super.removeFirst(count);
+    }
   }
 }
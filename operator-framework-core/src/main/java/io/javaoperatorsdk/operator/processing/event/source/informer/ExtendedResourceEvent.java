@@ -29,6 +29,9 @@ public class ExtendedResourceEvent extends ResourceEvent {
   private final HasMetadata previousResource;
   private final Boolean lastStateUnknown;
   private boolean partOfReList = false;
+  // parsed lazily, only needed when the event goes through event filtering
+  private long resourceVersion;
+  private boolean resourceVersionParsed;
 
   public ExtendedResourceEvent(
       ResourceAction action,
@@ -77,8 +80,19 @@ public class ExtendedResourceEvent extends ResourceEvent {
     return Objects.hash(super.hashCode(), previousResource);
   }
 
+  /**
+   * The resource version of the latest resource, parsed once and then reused for all the
+   * comparisons performed during event filtering.
+   *
+   * @return the resource version of the latest resource as a {@code long}
+   */
   public long getResourceVersion() {
-    return Long.parseLong(getResource().orElseThrow().getMetadata().getResourceVersion());
+    if (!resourceVersionParsed) {
+      resourceVersion =
+          Long.parseLong(getResource().orElseThrow().getMetadata().getResourceVersion());
+      resourceVersionParsed = true;
+    }
+    return resourceVersion;
   }
 
   public boolean isPartOfReList() {
@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
@@ -53,6 +54,7 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
   // we need direct control for the indexer to propagate the just update resource also to the index
   private final PrimaryToSecondaryIndex<R> primaryToSecondaryIndex;
   private final PrimaryToSecondaryMapper<P> primaryToSecondaryMapper;
+  private final boolean fetchFullResourceOnGet;
 
   public InformerEventSource(
       InformerEventSourceConfiguration<R> configuration, EventSourceContext<P> context) {
@@ -82,7 +84,23 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
     onAddFilter = informerConfig.getOnAddFilter();
     onUpdateFilter = informerConfig.getOnUpdateFilter();
     onDeleteFilter = informerConfig.getOnDeleteFilter();
-    genericFilter = informerConfig.getGenericFilter();
+    genericFilter = informerConfig.getEffectiveGenericFilter();
+    fetchFullResourceOnGet =
+        informerConfig.isMetadataOnly()
+            && informerConfig.getItemStore() == null
+            && informerConfig.isFetchFullResourceOnGet();
+  }
+
+  @Override
+  protected Optional<String> sharedInformerResourceKey() {
+    final var configuration = configuration();
+    if (configuration.getKubernetesClient().isPresent()) {
+      return Optional.empty();
+    }
+    return configuration
+        .getGroupVersionKind()
+        .map(gvk -> gvk.apiVersion() + "/" + gvk.getKind())
+        .or(super::sharedInformerResourceKey);
   }
 
   @Override
@@ -252,12 +270,32 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
           secondaryIDs);
     }
     return secondaryIDs.stream()
-        .map(this::get)
+        .map(this::getSecondaryResource)
         .filter(Optional::isPresent)
         .map(Optional::get)
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Only the metadata of the resources is cached in metadata-only mode: if requested, the full
+   * resource is then retrieved from the API server, as long as it is still present in the cache.
+   */
+  @SuppressWarnings("unchecked")
+  private Optional<R> getSecondaryResource(ResourceID resourceID) {
+    final var cached = get(resourceID);
+    if (!fetchFullResourceOnGet || cached.isEmpty()) {
+      return cached;
+    }
+    log.debug("Fetching full resource for metadata-only cached resource: {}", resourceID);
+    final MixedOperation<R, ?, Resource<R>> operation = client;
+    final var name = resourceID.getName();
+    return Optional.ofNullable(
+        resourceID
+            .getNamespace()
+            .map(ns -> operation.inNamespace(ns).withName(name).get())
+            .orElseGet(() -> operation.withName(name).get()));
+  }
+
   @Override
   public void handleRecentResourceUpdate(
       ResourceID resourceID, R resource, R previousVersionOfResource) {
@@ -19,6 +19,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,6 +32,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtilsInternal;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
@@ -54,24 +56,58 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
   private final MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client;
   private final ResourceEventHandler<R> eventHandler;
   private final Map<String, Function<R, List<String>>> indexers = new HashMap<>();
+  private final String sharedInformerResourceKey;
   private ControllerConfiguration<R> controllerConfiguration;
+  private String eventSourceName;
+  private volatile boolean snapshotsSupported = true;
+  // the source watching all namespaces, if any, avoiding a lookup in the sources on each access
+  private volatile InformerWrapper<R> clusterWideSource;
 
   InformerManager(
       MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client,
       C configuration,
       ResourceEventHandler<R> eventHandler) {
+    this(client, configuration, eventHandler, null);
+  }
+
+  /**
+   * @param sharedInformerResourceKey identifies the watched resources if the informers can be
+   *     shared with other event sources when enabled, see {@link
+   *     io.javaoperatorsdk.operator.api.config.ConfigurationService#useSharedInformers()}, {@code
+   *     null} if they must not be shared
+   */
+  InformerManager(
+      MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client,
+      C configuration,
+      ResourceEventHandler<R> eventHandler,
+      String sharedInformerResourceKey) {
     this.client = client;
     this.configuration = configuration;
     this.eventHandler = eventHandler;
+    this.sharedInformerResourceKey = sharedInformerResourceKey;
   }
 
   void setControllerConfiguration(ControllerConfiguration<R> controllerConfiguration) {
     this.controllerConfiguration = controllerConfiguration;
   }
 
+  /** Used to identify the snapshots of the informers, see {@link #snapshotKey(String)}. */
+  void setEventSourceName(String eventSourceName) {
+    this.eventSourceName = eventSourceName;
+  }
+
+  /** Prevents the informers from being warm-started from snapshots, see {@link #start()}. */
+  void disableSnapshots() {
+    this.snapshotsSupported = false;
+  }
+
   @Override
   public void start() throws OperatorException {
-    initSources();
+    initSources(configuration.getInformerConfig().getEffectiveNamespaces(controllerConfiguration));
+    startSources();
+  }
+
+  private void startSources() {
     // make sure informers are all started before proceeding further
     controllerConfiguration
         .getConfigurationService()
@@ -89,29 +125,85 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
                     + configuration.getResourceClass().getSimpleName());
   }
 
-  private void initSources() {
+  private void initSources(Set<String> targetNamespaces) {
     if (!sources.isEmpty()) {
       throw new IllegalStateException("Some sources already initialized.");
     }
-    final var targetNamespaces =
-        configuration.getInformerConfig().getEffectiveNamespaces(controllerConfiguration);
     if (InformerConfiguration.allNamespacesWatched(targetNamespaces)) {
-      var source = createEventSourceForNamespace(WATCH_ALL_NAMESPACES);
+      var source = createEventSourceForNamespace(WATCH_ALL_NAMESPACES, null);
       log.debug("Registered {} -> {} for any namespace", this, source);
+    } else if (useClusterWideInformer(targetNamespaces)) {
+      var source = createEventSourceForNamespace(WATCH_ALL_NAMESPACES, targetNamespaces);
+      log.debug(
+          "Registered {} -> {} for any namespace, filtered to namespaces: {}",
+          this,
+          source,
+          targetNamespaces);
     } else {
       targetNamespaces.forEach(
           ns -> {
-            final var source = createEventSourceForNamespace(ns);
+            final var source = createEventSourceForNamespace(ns, null);
             log.debug("Registered {} -> {} for namespace: {}", this, source, ns);
           });
     }
   }
 
+  private boolean useClusterWideInformer(Set<String> namespaces) {
+    final var threshold =
+        controllerConfiguration.getConfigurationService().clusterWideInformerNamespaceThreshold();
+    return threshold > 0
+        && namespaces.size() > threshold
+        && !InformerConfiguration.allNamespacesWatched(namespaces);
+  }
+
+  private boolean isFilteringClusterWide() {
+    final var source = clusterWideSource;
+    return source != null && source.isFilteringNamespaces();
+  }
+
+  /**
+   * Whether changing the watched namespaces to the given ones keeps the informers of the retained
+   * namespaces running, as opposed to recreating all the informers.
+   *
+   * @param namespaces the namespaces to watch
+   * @return {@code true} if the informers of the retained namespaces are not recreated
+   */
+  public boolean changesNamespacesInPlace(Set<String> namespaces) {
+    final var filteringClusterWide = isFilteringClusterWide();
+    final var useClusterWideInformer = useClusterWideInformer(namespaces);
+    if (filteringClusterWide && useClusterWideInformer) {
+      return controllerConfiguration.getConfigurationService().incrementalNamespaceChanges();
+    }
+    return !filteringClusterWide && !useClusterWideInformer;
+  }
+
   public void changeNamespaces(Set<String> namespaces) {
+    final var clusterWide = clusterWideSource;
+    if (isFilteringClusterWide()
+        && useClusterWideInformer(namespaces)
+        && controllerConfiguration.getConfigurationService().incrementalNamespaceChanges()) {
+      log.debug("Changing filtered namespaces of {} to: {}", this, namespaces);
+      clusterWide.changeFilteredNamespaces(namespaces);
+      return;
+    }
+    if (isFilteringClusterWide() || useClusterWideInformer(namespaces)) {
+      // switching to, from or between filtered cluster-wide informers recreates the informers
+      log.debug("Recreating informers of {} for namespaces: {}", this, namespaces);
+      stop();
+      initSources(namespaces);
+      startSources();
+      return;
+    }
     var sourcesToRemove =
         sources.keySet().stream().filter(k -> !namespaces.contains(k)).collect(Collectors.toSet());
     log.debug("Stopped informer {} for namespaces: {}", this, sourcesToRemove);
-    sourcesToRemove.forEach(k -> sources.remove(k).stop());
+    sourcesToRemove.forEach(
+        k -> {
+          if (WATCH_ALL_NAMESPACES.equals(k)) {
+            clusterWideSource = null;
+          }
+          sources.remove(k).stop();
+        });
 
     var newNamespaces =
         namespaces.stream().filter(ns -> !sources.containsKey(ns)).collect(Collectors.toList());
@@ -125,7 +217,7 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
         .boundedExecuteAndWaitForAllToComplete(
             newNamespaces.stream(),
             ns -> {
-              final var source = createEventSourceForNamespace(ns);
+              final var source = createEventSourceForNamespace(ns, null);
               source.start();
               log.debug("Registered new {} -> {} for namespace: {}", this, source, ns);
               return null;
@@ -133,14 +225,21 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
             ns -> "InformerStarter-" + ns + "-" + configuration.getResourceClass().getSimpleName());
   }
 
-  private InformerWrapper<R> createEventSourceForNamespace(String namespace) {
+  /**
+   * @param namespaces the namespaces the resources are exposed from when watching all namespaces on
+   *     behalf of specific namespaces, {@code null} to expose all the watched resources
+   */
+  private InformerWrapper<R> createEventSourceForNamespace(
+      String namespace, Set<String> namespaces) {
     final InformerWrapper<R> source;
-    final var labelSelector = configuration.getInformerConfig().getLabelSelector();
+    final var labelSelector = configuration.getInformerConfig().getEffectiveLabelSelector();
     final var shardSelector = configuration.getInformerConfig().getShardSelector();
     if (namespace.equals(WATCH_ALL_NAMESPACES)) {
       final var filteredBySelectorClient =
           client.inAnyNamespace().withLabelSelector(labelSelector).withShardSelector(shardSelector);
-      source = createEventSource(filteredBySelectorClient, eventHandler, WATCH_ALL_NAMESPACES);
+      source =
+          createEventSource(
+              filteredBySelectorClient, eventHandler, WATCH_ALL_NAMESPACES, namespaces);
     } else {
       source =
           createEventSource(
@@ -149,7 +248,8 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
                   .withLabelSelector(labelSelector)
                   .withShardSelector(shardSelector),
               eventHandler,
-              namespace);
+              namespace,
+              null);
     }
     source.addIndexers(indexers);
     return source;
@@ -158,12 +258,13 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
   private InformerWrapper<R> createEventSource(
       FilterWatchListDeletable<R, KubernetesResourceList<R>, Resource<R>> filteredBySelectorClient,
       ResourceEventHandler<R> eventHandler,
-      String namespaceIdentifier) {
+      String namespaceIdentifier,
+      Set<String> namespaces) {
     final var informerConfig = configuration.getInformerConfig();
 
-    if (informerConfig.getFieldSelector() != null
-        && !informerConfig.getFieldSelector().getFields().isEmpty()) {
-      for (var f : informerConfig.getFieldSelector().getFields()) {
+    final var fieldSelector = informerConfig.getEffectiveFieldSelector();
+    if (fieldSelector != null && !fieldSelector.getFields().isEmpty()) {
+      for (var f : fieldSelector.getFields()) {
         if (f.negated()) {
           filteredBySelectorClient = filteredBySelectorClient.withoutField(f.path(), f.value());
         } else {
@@ -172,20 +273,86 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
       }
     }
 
-    var informer =
-        Optional.ofNullable(informerConfig.getInformerListLimit())
-            .map(filteredBySelectorClient::withLimit)
-            .orElse(filteredBySelectorClient)
-            .runnableInformer(0);
-    Optional.ofNullable(informerConfig.getItemStore()).ifPresent(informer::itemStore);
+    final var selectedClient = filteredBySelectorClient;
+    final Supplier<SharedIndexInformer<R>> informerFactory =
+        () -> {
+          var informer =
+              Optional.ofNullable(informerConfig.getInformerListLimit())
+                  .map(selectedClient::withLimit)
+                  .orElse(selectedClient)
+                  .runnableInformer(0);
+          if (informerConfig.getItemStore() != null) {
+            informer.itemStore(informerConfig.getItemStore());
+          } else if (informerConfig.isMetadataOnly()) {
+            informer.itemStore(new MetadataOnlyItemStore<>());
+          }
+          InformerWrapper.configure(informer, controllerConfiguration.getConfigurationService());
+          return informer;
+        };
+    final var configurationService = controllerConfiguration.getConfigurationService();
+    final var sharedInformerKey = sharedInformerKey(namespaceIdentifier);
+    final var informer =
+        sharedInformerKey == null
+            ? informerFactory.get()
+            : SharedInformerRegistry.INSTANCE.acquire(sharedInformerKey, informerFactory);
     var source =
         new InformerWrapper<>(
-            informer, controllerConfiguration.getConfigurationService(), namespaceIdentifier);
+            informer, configurationService, namespaceIdentifier, sharedInformerKey);
+    if (sharedInformerKey == null && snapshotsSupported) {
+      configurationService
+          .informerSnapshotStore()
+          .ifPresent(store -> source.enableSnapshots(store, snapshotKey(namespaceIdentifier)));
+    }
+    if (namespaces != null) {
+      source.filterNamespaces(namespaces);
+    }
     source.addEventHandler(eventHandler);
     sources.put(namespaceIdentifier, source);
+    if (WATCH_ALL_NAMESPACES.equals(namespaceIdentifier)) {
+      clusterWideSource = source;
+    }
     return source;
   }
 
+  /**
+   * Snapshots are identified by the controller and event source names, which are stable across
+   * restarts, and by everything that changes which resources are cached, so that a snapshot taken
+   * with different settings is never used.
+   */
+  String snapshotKey(String namespaceIdentifier) {
+    final var informerConfig = configuration.getInformerConfig();
+    final var fieldSelector = informerConfig.getEffectiveFieldSelector();
+    return String.join(
+        "|",
+        controllerConfiguration.getName(),
+        String.valueOf(eventSourceName),
+        configuration.getResourceClass().getName(),
+        namespaceIdentifier,
+        String.valueOf(informerConfig.getEffectiveLabelSelector()),
+        String.valueOf(informerConfig.getShardSelector()),
+        fieldSelector == null ? "" : fieldSelector.getFields().toString(),
+        String.valueOf(informerConfig.isMetadataOnly()));
+  }
+
+  private SharedInformerRegistry.Key sharedInformerKey(String namespaceIdentifier) {
+    final var configurationService = controllerConfiguration.getConfigurationService();
+    if (sharedInformerResourceKey == null || !configurationService.useSharedInformers()) {
+      return null;
+    }
+    final var informerConfig = configuration.getInformerConfig();
+    final var fieldSelector = informerConfig.getEffectiveFieldSelector();
+    return new SharedInformerRegistry.Key(
+        configurationService,
+        sharedInformerResourceKey,
+        namespaceIdentifier,
+        informerConfig.getEffectiveLabelSelector(),
+        informerConfig.getShardSelector(),
+        fieldSelector == null ? List.of() : List.copyOf(fieldSelector.getFields()),
+        informerConfig.getInformerListLimit(),
+        informerConfig.getItemStore(),
+        informerConfig.isMetadataOnly());
+  }
+
   @Override
   public void stop() {
     sources.forEach(
@@ -198,6 +365,7 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
           }
         });
     sources.clear();
+    clusterWideSource = null;
   }
 
   @Override
@@ -210,10 +378,9 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
 
   @Override
   public Stream<R> list(String namespace, Predicate<R> predicate) {
-    if (isWatchingAllNamespaces()) {
-      return getSource(WATCH_ALL_NAMESPACES)
-          .map(source -> source.list(namespace, predicate))
-          .orElseGet(Stream::empty);
+    final var clusterWide = clusterWideSource;
+    if (clusterWide != null) {
+      return clusterWide.list(namespace, predicate);
     } else {
       return getSource(namespace).map(source -> source.list(predicate)).orElseGet(Stream::empty);
     }
@@ -237,8 +404,8 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
     return sources.values().stream().flatMap(Cache::keys);
   }
 
-  private boolean isWatchingAllNamespaces() {
-    return sources.containsKey(WATCH_ALL_NAMESPACES);
+  long cachedResourceCount() {
+    return sources.values().stream().mapToLong(InformerWrapper::cachedResourceCount).sum();
   }
 
   public boolean isWatchingNamespace(String namespace) {
@@ -247,14 +414,18 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
     if (namespace == null) {
       return true;
     }
-    if (isWatchingAllNamespaces()) {
-      return true;
+    final var clusterWide = clusterWideSource;
+    if (clusterWide != null) {
+      return clusterWide.isWatchingNamespace(namespace);
     }
     return sources.containsKey(namespace);
   }
 
   private Optional<InformerWrapper<R>> getSource(String namespace) {
-    namespace = isWatchingAllNamespaces() || namespace == null ? WATCH_ALL_NAMESPACES : namespace;
+    final var clusterWide = clusterWideSource;
+    if (clusterWide != null || namespace == null) {
+      return Optional.ofNullable(clusterWide);
+    }
     return Optional.ofNullable(sources.get(namespace));
   }
 
@@ -280,7 +451,7 @@ class InformerManager<R extends HasMetadata, C extends Informable<R>>
   @Override
   public String toString() {
     final var informerConfig = configuration.getInformerConfig();
-    final var labelSelector = informerConfig.getLabelSelector();
+    final var labelSelector = informerConfig.getEffectiveLabelSelector();
     final var shardSelector = informerConfig.getShardSelector();
     return "InformerManager ["
         + ReconcilerUtilsInternal.getResourceTypeNameWithVersion(configuration.getResourceClass())
@@ -15,12 +15,16 @@
  */
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -37,6 +41,7 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtilsInternal;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.InformerSnapshotStore;
 import io.javaoperatorsdk.operator.health.InformerHealthIndicator;
 import io.javaoperatorsdk.operator.health.Status;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
@@ -48,52 +53,137 @@ class InformerWrapper<T extends HasMetadata>
 
   private static final Logger log = LoggerFactory.getLogger(InformerWrapper.class);
 
+  private static final AtomicLong sharedIndexerIds = new AtomicLong();
+
   private final SharedIndexInformer<T> informer;
   private final Cache<T> cache;
   private final String namespaceIdentifier;
   private final ConfigurationService configurationService;
+  private final SharedInformerRegistry.Key sharedInformerKey;
+  // indexers of shared informers are prefixed to avoid clashes between the event sources using them
+  private final String indexerPrefix;
+  private final List<ResourceEventHandler<T>> eventHandlers = new ArrayList<>();
+  private final List<String> indexerNames = new ArrayList<>();
+  private InformerSnapshotStore snapshotStore;
+  private String snapshotKey;
+  // namespaces the resources are exposed from when watching all namespaces on behalf of an event
+  // source watching specific namespaces, null if all resources are exposed
+  private volatile Set<String> namespaces;
+  // serializes the events dispatched by the informer with the ones replayed on namespace changes
+  private final Object dispatchLock = new Object();
 
   public InformerWrapper(
       SharedIndexInformer<T> informer,
       ConfigurationService configurationService,
       String namespaceIdentifier) {
+    this(informer, configurationService, namespaceIdentifier, null);
+  }
+
+  /**
+   * @param sharedInformerKey the key the informer is registered with in the {@link
+   *     SharedInformerRegistry}, {@code null} if the informer is not shared
+   */
+  InformerWrapper(
+      SharedIndexInformer<T> informer,
+      ConfigurationService configurationService,
+      String namespaceIdentifier,
+      SharedInformerRegistry.Key sharedInformerKey) {
     this.informer = informer;
     this.namespaceIdentifier = namespaceIdentifier;
     this.cache = (Cache<T>) informer.getStore();
     this.configurationService = configurationService;
+    this.sharedInformerKey = sharedInformerKey;
+    this.indexerPrefix =
+        sharedInformerKey == null ? "" : "shared-" + sharedIndexerIds.incrementAndGet() + "-";
+  }
+
+  /**
+   * Warm-starts the informer from the snapshot stored with the given key, if any, and saves a new
+   * snapshot when stopped. Must be called before the informer is started.
+   */
+  void enableSnapshots(InformerSnapshotStore snapshotStore, String snapshotKey) {
+    this.snapshotStore = snapshotStore;
+    this.snapshotKey = snapshotKey;
+  }
+
+  /**
+   * Only exposes the resources from the given namespaces, both through the cache and as events.
+   * Must be called before registering the event handler.
+   */
+  void filterNamespaces(Set<String> namespaces) {
+    this.namespaces = Set.copyOf(namespaces);
+  }
+
+  /**
+   * Changes the namespaces the resources are exposed from, the cached resources from the added
+   * namespaces being propagated as added to the event handlers, while the retained namespaces are
+   * not affected. The added resources are propagated while no event is being dispatched by the
+   * informer, so that they are not delivered concurrently with, nor after, more recent events.
+   */
+  void changeFilteredNamespaces(Set<String> namespaces) {
+    synchronized (dispatchLock) {
+      final var previous = this.namespaces;
+      filterNamespaces(namespaces);
+      namespaces.stream()
+          .filter(namespace -> !previous.contains(namespace))
+          .flatMap(namespace -> cache.byIndex(Cache.NAMESPACE_INDEX, namespace).stream())
+          .forEach(resource -> eventHandlers.forEach(handler -> handler.onAdd(resource)));
+    }
+  }
+
+  boolean isFilteringNamespaces() {
+    return namespaces != null;
+  }
+
+  boolean isWatchingNamespace(String namespace) {
+    final var watched = namespaces;
+    return watched == null || namespace == null || watched.contains(namespace);
+  }
+
+  private boolean isWatched(T resource) {
+    return isWatchingNamespace(resource.getMetadata().getNamespace());
+  }
+
+  /**
+   * Registers the stopped and exception handlers of a newly created informer. Must be called once
+   * per informer, before it is started: a shared informer might already be running when another
+   * event source starts using it, and fabric8 rejects setting the exception handler of a running
+   * informer.
+   */
+  static void configure(
+      SharedIndexInformer<?> informer, ConfigurationService configurationService) {
+    // register stopped handler if we have one defined
+    configurationService
+        .getInformerStoppedHandler()
+        .ifPresent(
+            ish -> {
+              final var stopped = informer.stopped();
+              if (stopped != null) {
+                stopped.handle(
+                    (res, ex) -> {
+                      ish.onStop(informer, ex);
+                      return null;
+                    });
+              } else {
+                final var apiTypeClass = informer.getApiTypeClass();
+                final var fullResourceName = HasMetadata.getFullResourceName(apiTypeClass);
+                final var version = HasMetadata.getVersion(apiTypeClass);
+                throw new IllegalStateException(
+                    "Cannot retrieve 'stopped' callback to listen to informer stopping for"
+                        + " informer for "
+                        + fullResourceName
+                        + "/"
+                        + version);
+              }
+            });
+    if (!configurationService.stopOnInformerErrorDuringStartup()) {
+      informer.exceptionHandler((b, t) -> !ExceptionHandler.isDeserializationException(t));
+    }
   }
 
   @Override
   public void start() throws OperatorException {
     try {
-
-      // register stopped handler if we have one defined
-      configurationService
-          .getInformerStoppedHandler()
-          .ifPresent(
-              ish -> {
-                final var stopped = informer.stopped();
-                if (stopped != null) {
-                  stopped.handle(
-                      (res, ex) -> {
-                        ish.onStop(informer, ex);
-                        return null;
-                      });
-                } else {
-                  final var apiTypeClass = informer.getApiTypeClass();
-                  final var fullResourceName = HasMetadata.getFullResourceName(apiTypeClass);
-                  final var version = HasMetadata.getVersion(apiTypeClass);
-                  throw new IllegalStateException(
-                      "Cannot retrieve 'stopped' callback to listen to informer stopping for"
-                          + " informer for "
-                          + fullResourceName
-                          + "/"
-                          + version);
-                }
-              });
-      if (!configurationService.stopOnInformerErrorDuringStartup()) {
-        informer.exceptionHandler((b, t) -> !ExceptionHandler.isDeserializationException(t));
-      }
       // change thread name for easier debugging
       final var thread = Thread.currentThread();
       final var name = thread.getName();
@@ -102,7 +192,27 @@ class InformerWrapper<T extends HasMetadata>
         final var resourceName = informer.getApiTypeClass().getSimpleName();
         log.debug(
             "Starting informer for namespace: {} resource: {}", namespaceIdentifier, resourceName);
+        final var warmStarted = warmStartFromSnapshot();
         var start = informer.start();
+        if (warmStarted) {
+          // the cache is already populated, the initial list is performed in the background and
+          // only the differences with the snapshot are propagated
+          start.whenComplete(
+              (res, ex) -> {
+                if (ex != null) {
+                  log.warn(
+                      "Informer warm-started from snapshot failed to sync. Informer: {}",
+                      informer,
+                      ex);
+                } else {
+                  log.debug(
+                      "Informer warm-started from snapshot synced for namespace: {} resource: {}",
+                      namespaceIdentifier,
+                      resourceName);
+                }
+              });
+          return;
+        }
         // note that in case we don't put here timeout and stopOnInformerErrorDuringStartup is
         // false, and there is a rbac issue the get never returns; therefore operator never really
         // starts
@@ -138,6 +248,37 @@ class InformerWrapper<T extends HasMetadata>
     }
   }
 
+  private boolean warmStartFromSnapshot() {
+    if (snapshotStore == null || informer.isRunning()) {
+      return false;
+    }
+    final var snapshot = snapshotStore.load(snapshotKey, informer.getApiTypeClass());
+    if (snapshot.isEmpty()) {
+      return false;
+    }
+    log.info(
+        "Warm-starting informer for namespace: {} from snapshot with {} resources at resource"
+            + " version: {}",
+        namespaceIdentifier,
+        snapshot.get().resources().size(),
+        snapshot.get().resourceVersion());
+    informer.initialState(snapshot.get().resources().stream());
+    return true;
+  }
+
+  private void saveSnapshot() {
+    if (snapshotStore == null || !informer.hasSynced()) {
+      return;
+    }
+    try {
+      snapshotStore.save(
+          snapshotKey,
+          new InformerSnapshotStore.Snapshot<>(informer.lastSyncResourceVersion(), cache.list()));
+    } catch (RuntimeException e) {
+      log.warn("Couldn't save snapshot of informer: {}", this, e);
+    }
+  }
+
   private String versionedFullResourceName() {
     final var apiTypeClass = informer.getApiTypeClass();
     if (apiTypeClass.isAssignableFrom(GenericKubernetesResource.class)) {
@@ -148,11 +289,25 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public void stop() throws OperatorException {
-    informer.stop();
+    if (sharedInformerKey == null) {
+      saveSnapshot();
+      informer.stop();
+      return;
+    }
+    // other event sources might still be using the informer
+    eventHandlers.forEach(informer::removeEventHandler);
+    indexerNames.forEach(informer::removeIndexer);
+    if (SharedInformerRegistry.INSTANCE.release(sharedInformerKey, informer)) {
+      log.debug("Stopping shared informer: {}", this);
+      informer.stop();
+    }
   }
 
   @Override
   public Optional<T> get(ResourceID resourceID) {
+    if (!isWatchingNamespace(resourceID.getNamespace().orElse(null))) {
+      return Optional.empty();
+    }
     return Optional.ofNullable(cache.getByKey(getKey(resourceID)));
   }
 
@@ -166,33 +321,59 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public Stream<T> list(Predicate<T> predicate) {
+    final var watched = namespaces;
+    if (watched != null) {
+      return watched.stream().flatMap(namespace -> list(namespace, predicate));
+    }
     return cache.list().stream().filter(predicate);
   }
 
   @Override
   public Stream<T> list(String namespace, Predicate<T> predicate) {
-    final var stream =
-        cache.list().stream().filter(r -> namespace.equals(r.getMetadata().getNamespace()));
+    if (!isWatchingNamespace(namespace)) {
+      return Stream.empty();
+    }
+    // the namespace index is maintained by default by the informer cache
+    final var stream = cache.byIndex(Cache.NAMESPACE_INDEX, namespace).stream();
     return predicate != null ? stream.filter(predicate) : stream;
   }
 
   @Override
   public Stream<ResourceID> keys() {
-    return cache.listKeys().stream().map(Mappers::fromString);
+    final var stream = cache.listKeys().stream().map(Mappers::fromString);
+    return namespaces != null
+        ? stream.filter(id -> isWatchingNamespace(id.getNamespace().orElse(null)))
+        : stream;
+  }
+
+  int cachedResourceCount() {
+    return namespaces != null ? (int) keys().count() : cache.listKeys().size();
   }
 
   public void addEventHandler(ResourceEventHandler<T> eventHandler) {
+    if (namespaces != null) {
+      eventHandler = new NamespaceFilteringEventHandler(eventHandler);
+    }
+    eventHandlers.add(eventHandler);
     informer.addEventHandler(eventHandler);
   }
 
   @Override
   public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
-    informer.getIndexer().addIndexers(indexers);
+    if (sharedInformerKey == null) {
+      informer.getIndexer().addIndexers(indexers);
+      return;
+    }
+    final var prefixed = new HashMap<String, Function<T, List<String>>>(indexers.size());
+    indexers.forEach((name, indexer) -> prefixed.put(indexerPrefix + name, indexer));
+    indexerNames.addAll(prefixed.keySet());
+    informer.getIndexer().addIndexers(prefixed);
   }
 
   @Override
   public List<T> byIndex(String indexName, String indexKey) {
-    return informer.getIndexer().byIndex(indexName, indexKey);
+    final var resources = informer.getIndexer().byIndex(indexerPrefix + indexName, indexKey);
+    return namespaces != null ? resources.stream().filter(this::isWatched).toList() : resources;
   }
 
   @Override
@@ -237,4 +418,44 @@ class InformerWrapper<T extends HasMetadata>
   public String getTargetNamespace() {
     return namespaceIdentifier;
   }
+
+  private class NamespaceFilteringEventHandler implements ResourceEventHandler<T> {
+    private final ResourceEventHandler<T> delegate;
+
+    private NamespaceFilteringEventHandler(ResourceEventHandler<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onAdd(T resource) {
+      synchronized (dispatchLock) {
+        if (isWatched(resource)) {
+          delegate.onAdd(resource);
+        }
+      }
+    }
+
+    @Override
+    public void onUpdate(T oldResource, T newResource) {
+      synchronized (dispatchLock) {
+        if (isWatched(newResource)) {
+          delegate.onUpdate(oldResource, newResource);
+        }
+      }
+    }
+
+    @Override
+    public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+      synchronized (dispatchLock) {
+        if (isWatched(resource)) {
+          delegate.onDelete(resource, deletedFinalStateUnknown);
+        }
+      }
+    }
+
+    @Override
+    public void onNothing() {
+      delegate.onNothing();
+    }
+  }
 }
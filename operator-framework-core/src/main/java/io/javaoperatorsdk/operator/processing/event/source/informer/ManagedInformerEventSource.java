@@ -91,6 +91,18 @@ public abstract class ManagedInformerEventSource<
     }
   }
 
+  /**
+   * Whether changing the watched namespaces to the given ones keeps the informers of the retained
+   * namespaces running, see {@link InformerManager#changesNamespacesInPlace(Set)}.
+   *
+   * @param namespaces the namespaces to watch
+   * @return {@code true} if the informers of the retained namespaces are not recreated
+   * @since 5.6.0
+   */
+  public boolean changesNamespacesInPlace(Set<String> namespaces) {
+    return !allowsNamespaceChanges() || manager().changesNamespacesInPlace(namespaces);
+  }
+
   /**
    * Updates the resource and makes sure that the response is available for the next reconciliation.
    * Also makes sure that the even produced by this update is filtered, thus does not trigger the
@@ -166,8 +178,14 @@ public abstract class ManagedInformerEventSource<
       return;
     }
     temporaryResourceCache = new TemporaryResourceCache<>(comparableResourceVersions, this);
-    this.cache = new InformerManager<>(client, configuration, this);
+    this.cache =
+        new InformerManager<>(
+            client, configuration, this, sharedInformerResourceKey().orElse(null));
     cache.setControllerConfiguration(controllerConfiguration);
+    cache.setEventSourceName(name());
+    if (!supportsSnapshots()) {
+      cache.disableSnapshots();
+    }
     cache.addIndexers(indexers);
     manager().start();
     super.start();
@@ -444,6 +462,42 @@ public abstract class ManagedInformerEventSource<
         managerKeys.stream(), tempKeys.stream().filter(k -> !managerKeys.contains(k)));
   }
 
+  /**
+   * Identifies the type of the watched resources so that informers can be shared with other event
+   * sources watching the same resources, when enabled by {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#useSharedInformers()}.
+   *
+   * @return the key identifying the watched resources, empty if the informers of this event source
+   *     must not be shared
+   * @since 5.6.0
+   */
+  /**
+   * Whether the informers can be warm-started from snapshots, see {@link
+   * io.javaoperatorsdk.operator.api.config.ConfigurationService#informerSnapshotStore()}.
+   *
+   * @return {@code true} if the informers can be warm-started from snapshots
+   */
+  protected boolean supportsSnapshots() {
+    return true;
+  }
+
+  protected Optional<String> sharedInformerResourceKey() {
+    return Optional.of(configuration.getResourceClass().getName());
+  }
+
+  /**
+   * Number of resources currently held by the informers, without the ones only present in the
+   * temporary resource cache. Can also be called while the informers are being synced, which allows
+   * following the progress of the initial listing.
+   *
+   * @return the number of resources in the informer caches, {@code 0} if not started
+   * @since 5.6.0
+   */
+  public long cachedResourceCount() {
+    final var manager = cache;
+    return manager == null ? 0 : manager.cachedResourceCount();
+  }
+
   @Override
   public Map<String, InformerHealthIndicator> informerHealthIndicators() {
     return cache.informerHealthIndicators();
@@ -0,0 +1,89 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.UnaryOperator;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.Utils;
+
+/**
+ * An {@link io.fabric8.kubernetes.client.informers.cache.ItemStore} only keeping the metadata of
+ * the resources it caches: spec, status and any other content is dropped, as are the managed
+ * fields. The retained metadata is what is needed to map resources to their primaries (labels,
+ * annotations and owner references) and to filter events (uid, generation, resource version,
+ * finalizers and deletion timestamp). Used by informers configured with {@link
+ * io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration#isMetadataOnly()}.
+ *
+ * @param <R> the type of the cached resources
+ * @since 5.6.0
+ */
+public class MetadataOnlyItemStore<R extends HasMetadata> extends TransformingItemStore<R> {
+
+  public MetadataOnlyItemStore() {
+    super(new MetadataStripper<>());
+  }
+
+  private static class MetadataStripper<R extends HasMetadata> implements UnaryOperator<R> {
+
+    private volatile Constructor<R> constructor;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(R resource) {
+      final var resourceClass = (Class<R>) resource.getClass();
+      var current = constructor;
+      if (current == null || !current.getDeclaringClass().equals(resourceClass)) {
+        current = Utils.getConstructor(resourceClass);
+        constructor = current;
+      }
+      final R stripped;
+      try {
+        stripped = current.newInstance();
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+        throw new OperatorException(
+            "Couldn't instantiate " + resourceClass.getName() + " to cache its metadata", e);
+      }
+      stripped.setApiVersion(resource.getApiVersion());
+      if (resource instanceof GenericKubernetesResource generic) {
+        ((GenericKubernetesResource) stripped).setKind(generic.getKind());
+      }
+      stripped.setMetadata(copyRelevantMetadata(resource.getMetadata()));
+      return stripped;
+    }
+
+    private static ObjectMeta copyRelevantMetadata(ObjectMeta metadata) {
+      final var copy = new ObjectMeta();
+      copy.setName(metadata.getName());
+      copy.setNamespace(metadata.getNamespace());
+      copy.setUid(metadata.getUid());
+      copy.setResourceVersion(metadata.getResourceVersion());
+      copy.setGeneration(metadata.getGeneration());
+      copy.setCreationTimestamp(metadata.getCreationTimestamp());
+      copy.setDeletionTimestamp(metadata.getDeletionTimestamp());
+      copy.setLabels(metadata.getLabels());
+      copy.setAnnotations(metadata.getAnnotations());
+      copy.setOwnerReferences(metadata.getOwnerReferences());
+      copy.setFinalizers(metadata.getFinalizers());
+      return copy;
+    }
+  }
+}
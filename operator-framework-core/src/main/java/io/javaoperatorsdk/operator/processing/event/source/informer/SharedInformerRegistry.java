@@ -0,0 +1,111 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector;
+
+/**
+ * Registry of the informers shared by the event sources watching the same resources with the same
+ * settings, see {@link ConfigurationService#useSharedInformers()}. Informers are reference counted:
+ * the first event source acquiring an informer creates it, the last one releasing it has to stop
+ * it.
+ */
+final class SharedInformerRegistry {
+
+  static final SharedInformerRegistry INSTANCE = new SharedInformerRegistry();
+
+  /**
+   * Identifies a shared informer. The configuration service is part of the key so that informers
+   * are only shared within an operator, and so are the item store, metadata-only mode and list
+   * limit since they change how the informer lists and stores resources.
+   */
+  record Key(
+      ConfigurationService configurationService,
+      String resourceKey,
+      String namespace,
+      String labelSelector,
+      String shardSelector,
+      List<FieldSelector.Field> fieldSelector,
+      Long listLimit,
+      Object itemStore,
+      boolean metadataOnly) {}
+
+  private static final class Entry {
+    private final SharedIndexInformer<?> informer;
+    private int references;
+
+    private Entry(SharedIndexInformer<?> informer) {
+      this.informer = informer;
+    }
+  }
+
+  private final Map<Key, Entry> informers = new HashMap<>();
+
+  SharedInformerRegistry() {}
+
+  /**
+   * Returns the informer registered for the key, creating it if needed, and increments its
+   * reference count. An informer which stopped, e.g. because of an unrecoverable error, is not
+   * handed out anymore: a new one is created and replaces it for subsequent acquisitions.
+   */
+  @SuppressWarnings("unchecked")
+  synchronized <R extends HasMetadata> SharedIndexInformer<R> acquire(
+      Key key, Supplier<SharedIndexInformer<R>> informerFactory) {
+    var entry = informers.get(key);
+    if (entry == null || isStopped(entry.informer)) {
+      entry = new Entry(informerFactory.get());
+      informers.put(key, entry);
+    }
+    entry.references++;
+    return (SharedIndexInformer<R>) entry.informer;
+  }
+
+  private static boolean isStopped(SharedIndexInformer<?> informer) {
+    final var stopped = informer.stopped();
+    return stopped != null && stopped.toCompletableFuture().isDone();
+  }
+
+  /**
+   * Decrements the reference count of the informer.
+   *
+   * @return {@code true} if the informer isn't used anymore and must be stopped by the caller
+   */
+  synchronized boolean release(Key key, SharedIndexInformer<?> informer) {
+    final var entry = informers.get(key);
+    if (entry == null || entry.informer != informer) {
+      // the informer was replaced after it stopped, stopping it again is harmless
+      return true;
+    }
+    if (--entry.references > 0) {
+      return false;
+    }
+    informers.remove(key);
+    return true;
+  }
+
+  synchronized int references(Key key) {
+    final var entry = informers.get(key);
+    return entry == null ? 0 : entry.references;
+  }
+}
@@ -74,14 +74,14 @@ public class TemporaryResourceCache<T extends HasMetadata> {
     this.managedInformerEventSource = managedInformerEventSource;
   }
 
-  public synchronized void startEventFilteringModify(ResourceID resourceID) {
+  public void startEventFilteringModify(ResourceID resourceID) {
     if (!comparableResourceVersions) {
       return;
     }
     eventFilteringSupport.startEventFilteringModify(resourceID);
   }
 
-  public synchronized Optional<ExtendedResourceEvent> doneEventFilterModify(ResourceID resourceID) {
+  public Optional<ExtendedResourceEvent> doneEventFilterModify(ResourceID resourceID) {
     if (!comparableResourceVersions) {
       return Optional.empty();
     }
@@ -97,7 +97,7 @@ public class TemporaryResourceCache<T extends HasMetadata> {
     return onEvent(action, resource, prevResourceVersion, null);
   }
 
-  private synchronized Optional<ExtendedResourceEvent> onEvent(
+  private Optional<ExtendedResourceEvent> onEvent(
       ResourceAction action, T resource, T prevResourceVersion, Boolean unknownState) {
     ExtendedResourceEvent actualEvent =
         toGenericResourceEvent(action, resource, prevResourceVersion, unknownState);
@@ -111,24 +111,25 @@ public class TemporaryResourceCache<T extends HasMetadata> {
         action,
         resource.getMetadata().getResourceVersion(),
         unknownState);
-    var cached = cache.get(resourceId);
-    if (cached != null) {
-      int comp = ReconcilerUtilsInternal.compareResourceVersions(resource, cached);
-      if (comp >= 0 || Boolean.TRUE.equals(unknownState)) {
-        log.debug(
-            "Removing resource from temp cache. id={}, comparison={}, unknownState={}",
-            resourceId,
-            comp,
-            unknownState);
-        cache.remove(resourceId);
-      } else {
-        log.debug(
-            "Keeping temp cache entry; event rv {} is older than cached rv {}. id={}",
-            resource.getMetadata().getResourceVersion(),
-            cached.getMetadata().getResourceVersion(),
-            resourceId);
-      }
-    }
+    cache.computeIfPresent(
+        resourceId,
+        (id, cached) -> {
+          int comp = ReconcilerUtilsInternal.compareResourceVersions(resource, cached);
+          if (comp >= 0 || Boolean.TRUE.equals(unknownState)) {
+            log.debug(
+                "Removing resource from temp cache. id={}, comparison={}, unknownState={}",
+                resourceId,
+                comp,
+                unknownState);
+            return null;
+          }
+          log.debug(
+              "Keeping temp cache entry; event rv {} is older than cached rv {}. id={}",
+              resource.getMetadata().getResourceVersion(),
+              cached.getMetadata().getResourceVersion(),
+              resourceId);
+          return cached;
+        });
     return eventFilteringSupport.processEvent(resourceId, actualEvent);
   }
 
@@ -138,7 +139,7 @@ public class TemporaryResourceCache<T extends HasMetadata> {
   }
 
   /** put the item into the cache if it's for a later state than what has already been observed. */
-  public synchronized void putResource(T newResource) {
+  public void putResource(T newResource) {
     if (!comparableResourceVersions) {
       return;
     }
@@ -164,42 +165,45 @@ public class TemporaryResourceCache<T extends HasMetadata> {
       return;
     }
 
-    var cachedResource = getResourceFromCache(resourceId).orElse(null);
     eventFilteringSupport.addToOwnResourceVersions(
         resourceId, newResource.getMetadata().getResourceVersion());
 
-    // check against the latestResourceVersion processed by the TemporaryResourceCache
-    // If the resource is older, then we can safely ignore.
-    //
-    // this also prevents resurrecting recently deleted entities for which the delete event
-    // has already been processed
-    var latestRV = getLastSyncResourceVersion(ns);
-    if (latestRV != null
-        && ReconcilerUtilsInternal.compareResourceVersions(
-                latestRV, newResource.getMetadata().getResourceVersion())
-            > 0) {
-      log.debug(
-          "Resource {}: resourceVersion {} is not later than latest {}",
-          resourceId,
-          newResource.getMetadata().getResourceVersion(),
-          latestRV);
-      return;
-    }
-
-    if (cachedResource == null
-        || ReconcilerUtilsInternal.compareResourceVersions(newResource, cachedResource) > 0) {
-      log.debug(
-          "Temporarily moving ahead to target version {} for resource id: {}",
-          newResource.getMetadata().getResourceVersion(),
-          resourceId);
-      cache.put(resourceId, newResource);
-    } else {
-      log.debug(
-          "Skipping temp cache put; new rv {} is not later than cached rv {}. id={}",
-          newResource.getMetadata().getResourceVersion(),
-          cachedResource.getMetadata().getResourceVersion(),
-          resourceId);
-    }
+    cache.compute(
+        resourceId,
+        (id, cachedResource) -> {
+          // check against the latestResourceVersion processed by the TemporaryResourceCache
+          // If the resource is older, then we can safely ignore.
+          //
+          // this also prevents resurrecting recently deleted entities for which the delete event
+          // has already been processed. The check is done while computing the entry, so that it is
+          // serialized with the processing of the events for the same resource, see onEvent
+          var latestRV = getLastSyncResourceVersion(ns);
+          if (latestRV != null
+              && ReconcilerUtilsInternal.compareResourceVersions(
+                      latestRV, newResource.getMetadata().getResourceVersion())
+                  > 0) {
+            log.debug(
+                "Resource {}: resourceVersion {} is not later than latest {}",
+                resourceId,
+                newResource.getMetadata().getResourceVersion(),
+                latestRV);
+            return cachedResource;
+          }
+          if (cachedResource == null
+              || ReconcilerUtilsInternal.compareResourceVersions(newResource, cachedResource) > 0) {
+            log.debug(
+                "Temporarily moving ahead to target version {} for resource id: {}",
+                newResource.getMetadata().getResourceVersion(),
+                resourceId);
+            return newResource;
+          }
+          log.debug(
+              "Skipping temp cache put; new rv {} is not later than cached rv {}. id={}",
+              newResource.getMetadata().getResourceVersion(),
+              cachedResource.getMetadata().getResourceVersion(),
+              resourceId);
+          return cachedResource;
+        });
   }
 
   private String getLastSyncResourceVersion(String namespace) {
@@ -214,15 +218,13 @@ public class TemporaryResourceCache<T extends HasMetadata> {
    * explicitly add resources to this cache. Those are cleaned up by this check, which is triggered
    * by the informer's onList callback.
    */
-  public synchronized void checkGhostResources() {
+  public void checkGhostResources() {
     if (!comparableResourceVersions) {
       return;
     }
 
     log.debug("Checking for ghost resources.");
-    var iterator = cache.entrySet().iterator();
-    while (iterator.hasNext()) {
-      var e = iterator.next();
+    for (var e : cache.entrySet()) {
 
       var ns = e.getValue().getMetadata().getNamespace();
       // this can happen if followed namespaces are changed dynamically
@@ -232,8 +234,9 @@ public class TemporaryResourceCache<T extends HasMetadata> {
                 + " anymore: {}",
             e.getKey(),
             ns);
-        iterator.remove();
-        eventFilteringSupport.handleGhostResourceRemoval(e.getKey());
+        if (cache.remove(e.getKey(), e.getValue())) {
+          eventFilteringSupport.handleGhostResourceRemoval(e.getKey());
+        }
         continue;
       }
       if ((ReconcilerUtilsInternal.compareResourceVersions(
@@ -241,24 +244,27 @@ public class TemporaryResourceCache<T extends HasMetadata> {
               < 0)
           // making sure we have the situation where resource is missing from the cache
           && managedInformerEventSource.manager().get(e.getKey()).isEmpty()) {
-        log.debug("Removing ghost resource with ID: {}", e.getKey());
-        iterator.remove();
-        eventFilteringSupport.handleGhostResourceRemoval(e.getKey());
-        managedInformerEventSource.handleEvent(
-            ResourceAction.DELETED, e.getValue(), null, true, null);
+        // the entry might have been replaced or removed concurrently, in which case it is not a
+        // ghost anymore
+        if (cache.remove(e.getKey(), e.getValue())) {
+          log.debug("Removing ghost resource with ID: {}", e.getKey());
+          eventFilteringSupport.handleGhostResourceRemoval(e.getKey());
+          managedInformerEventSource.handleEvent(
+              ResourceAction.DELETED, e.getValue(), null, true, null);
+        }
       }
     }
   }
 
-  public synchronized Optional<T> getResourceFromCache(ResourceID resourceID) {
+  public Optional<T> getResourceFromCache(ResourceID resourceID) {
     return Optional.ofNullable(cache.get(resourceID));
   }
 
-  synchronized boolean isEmpty() {
+  boolean isEmpty() {
     return cache.isEmpty();
   }
 
-  synchronized Map<ResourceID, T> getResources() {
+  Map<ResourceID, T> getResources() {
     return Map.copyOf(cache);
   }
 
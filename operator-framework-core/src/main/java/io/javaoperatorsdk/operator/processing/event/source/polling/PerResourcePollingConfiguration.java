@@ -30,9 +30,11 @@ public record PerResourcePollingConfiguration<R, P extends HasMetadata, ID>(
     ResourceIDMapper<R, ID> resourceIDMapper,
     PerResourcePollingEventSource.ResourceFetcher<R, P> resourceFetcher,
     Predicate<P> registerPredicate,
-    Duration defaultPollingPeriod) {
+    Duration defaultPollingPeriod,
+    Duration batchingWindow) {
 
   public static final int DEFAULT_EXECUTOR_THREAD_NUMBER = 1;
+  public static final Duration DEFAULT_BATCHING_WINDOW = Duration.ofSeconds(1);
 
   public PerResourcePollingConfiguration(
       String name,
@@ -41,6 +43,30 @@ public record PerResourcePollingConfiguration<R, P extends HasMetadata, ID>(
       PerResourcePollingEventSource.ResourceFetcher<R, P> resourceFetcher,
       Predicate<P> registerPredicate,
       Duration defaultPollingPeriod) {
+    this(
+        name,
+        executorService,
+        resourceIDMapper,
+        resourceFetcher,
+        registerPredicate,
+        defaultPollingPeriod,
+        null);
+  }
+
+  /**
+   * @param batchingWindow the granularity with which fetches are grouped when the resource fetcher
+   *     is a {@link PerResourcePollingEventSource.BatchResourceFetcher}, {@link
+   *     #DEFAULT_BATCHING_WINDOW} if {@code null}; ignored otherwise
+   * @since 5.6.0
+   */
+  public PerResourcePollingConfiguration(
+      String name,
+      ScheduledExecutorService executorService,
+      ResourceIDMapper<R, ID> resourceIDMapper,
+      PerResourcePollingEventSource.ResourceFetcher<R, P> resourceFetcher,
+      Predicate<P> registerPredicate,
+      Duration defaultPollingPeriod,
+      Duration batchingWindow) {
     this.name = name;
     this.executorService =
         executorService == null
@@ -51,5 +77,9 @@ public record PerResourcePollingConfiguration<R, P extends HasMetadata, ID>(
     this.resourceFetcher = Objects.requireNonNull(resourceFetcher);
     this.registerPredicate = registerPredicate;
     this.defaultPollingPeriod = defaultPollingPeriod;
+    if (batchingWindow != null && (batchingWindow.isNegative() || batchingWindow.isZero())) {
+      throw new IllegalArgumentException("Batching window must be positive: " + batchingWindow);
+    }
+    this.batchingWindow = batchingWindow == null ? DEFAULT_BATCHING_WINDOW : batchingWindow;
   }
 }
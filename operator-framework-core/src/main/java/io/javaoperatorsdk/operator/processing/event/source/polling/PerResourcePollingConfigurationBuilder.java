@@ -31,6 +31,7 @@ public final class PerResourcePollingConfigurationBuilder<R, P extends HasMetada
   private Predicate<P> registerPredicate;
   private ScheduledExecutorService executorService;
   private ResourceIDMapper<R, ID> resourceIDMapper;
+  private Duration batchingWindow;
 
   public PerResourcePollingConfigurationBuilder(
       PerResourcePollingEventSource.ResourceFetcher<R, P> resourceFetcher,
@@ -58,6 +59,21 @@ public final class PerResourcePollingConfigurationBuilder<R, P extends HasMetada
     return this;
   }
 
+  /**
+   * Sets the granularity with which the fetches of a {@link
+   * PerResourcePollingEventSource.BatchResourceFetcher} are grouped: all the primary resources due
+   * within the same window are fetched together at the end of the window.
+   *
+   * @param batchingWindow the batching window
+   * @return this builder
+   * @since 5.6.0
+   */
+  public PerResourcePollingConfigurationBuilder<R, P, ID> withBatchingWindow(
+      Duration batchingWindow) {
+    this.batchingWindow = batchingWindow;
+    return this;
+  }
+
   public PerResourcePollingConfigurationBuilder<R, P, ID> withName(String name) {
     this.name = name;
     return this;
@@ -70,6 +86,7 @@ public final class PerResourcePollingConfigurationBuilder<R, P extends HasMetada
         resourceIDMapper,
         resourceFetcher,
         registerPredicate,
-        defaultPollingPeriod);
+        defaultPollingPeriod,
+        batchingWindow);
   }
 }
@@ -16,7 +16,9 @@
 package io.javaoperatorsdk.operator.processing.event.source.polling;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -42,6 +44,11 @@ import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
  * if there is no registerPredicate provided. If register predicate provided it is evaluated on
  * resource create and/or update to register polling for the event source.
  *
+ * <p>If the fetcher is a {@link BatchResourceFetcher}, the primary resources due within the same
+ * {@link PerResourcePollingConfiguration#batchingWindow() batching window} are fetched together in
+ * a single call, at the end of the window, using a single scheduled task per window instead of one
+ * per primary resource.
+ *
  * <p>For other behavior see {@link ExternalResourceCachingEventSource}
  *
  * @param <R> the resource polled by the event source
@@ -60,6 +67,11 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
   private final ResourceFetcher<R, P> resourceFetcher;
   private final Predicate<P> registerPredicate;
   private final Duration period;
+  // batching mode, batchResourceFetcher being null otherwise
+  private final BatchResourceFetcher<R, P> batchResourceFetcher;
+  private final long batchingWindowMillis;
+  private final Map<ResourceID, Long> scheduledBatches = new ConcurrentHashMap<>();
+  private final Map<Long, Set<ResourceID>> batches = new ConcurrentHashMap<>();
 
   public PerResourcePollingEventSource(
       Class<R> resourceClass,
@@ -71,6 +83,9 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
     this.registerPredicate = config.registerPredicate();
     this.executorService = config.executorService();
     this.period = config.defaultPollingPeriod();
+    this.batchResourceFetcher =
+        resourceFetcher instanceof BatchResourceFetcher<R, P> batchFetcher ? batchFetcher : null;
+    this.batchingWindowMillis = config.batchingWindow().toMillis();
   }
 
   private Set<R> getAndCacheResource(P primary, boolean fromGetter) {
@@ -85,6 +100,10 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
     var primaryID = ResourceID.fromResource(primary);
     var fetchDelay = resourceFetcher.fetchDelay(actualResources, primary);
     var fetchDuration = fetchDelay.orElse(period);
+    if (batchResourceFetcher != null) {
+      scheduleInBatch(primaryID, fetchDuration);
+      return;
+    }
 
     ScheduledFuture<Void> scheduledFuture =
         (ScheduledFuture<Void>)
@@ -93,6 +112,74 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
     scheduledFutures.put(primaryID, scheduledFuture);
   }
 
+  private void scheduleInBatch(ResourceID primaryID, Duration fetchDuration) {
+    final var now = System.currentTimeMillis();
+    // rounded up, so that primaries are never fetched earlier than their fetch delay
+    final var batch = -Math.floorDiv(-(now + fetchDuration.toMillis()), batchingWindowMillis);
+    scheduledBatches.put(primaryID, batch);
+    batches.compute(
+        batch,
+        (b, primaryIDs) -> {
+          if (primaryIDs == null) {
+            primaryIDs = ConcurrentHashMap.newKeySet();
+            executorService.schedule(
+                () -> fetchDueBatch(b), b * batchingWindowMillis - now, TimeUnit.MILLISECONDS);
+          }
+          primaryIDs.add(primaryID);
+          return primaryIDs;
+        });
+  }
+
+  private void fetchDueBatch(long batch) {
+    final var primaryIDs = batches.remove(batch);
+    if (primaryIDs == null) {
+      return;
+    }
+    if (!isRunning()) {
+      log.debug("Event source not yet started. Will not run for: {}", primaryIDs);
+      return;
+    }
+    final var primaries = new ArrayList<P>(primaryIDs.size());
+    for (ResourceID primaryID : primaryIDs) {
+      // skip primaries deleted or rescheduled meanwhile
+      if (scheduledBatches.getOrDefault(primaryID, -1L) != batch) {
+        continue;
+      }
+      // always use up-to-date resource from cache
+      primaryResourceCache
+          .get(primaryID)
+          .ifPresentOrElse(
+              primaries::add,
+              () -> log.warn("No resource in cache for resource ID: {}", primaryID));
+    }
+    final var maxBatchSize = Math.max(1, batchResourceFetcher.maxBatchSize());
+    for (int i = 0; i < primaries.size(); i += maxBatchSize) {
+      fetchBatch(primaries.subList(i, Math.min(primaries.size(), i + maxBatchSize)));
+    }
+  }
+
+  private void fetchBatch(List<P> primaries) {
+    final Map<ResourceID, Set<R>> fetched;
+    try {
+      fetched = batchResourceFetcher.fetchResources(primaries);
+    } catch (RuntimeException e) {
+      log.error("Error fetching resources for {} primary resources", primaries.size(), e);
+      primaries.forEach(primary -> scheduleNextExecution(primary, null));
+      return;
+    }
+    for (P primary : primaries) {
+      final var primaryID = ResourceID.fromResource(primary);
+      if (!scheduledBatches.containsKey(primaryID)) {
+        // deleted while fetching
+        continue;
+      }
+      final var values = fetched.getOrDefault(primaryID, Collections.emptySet());
+      handleResources(primaryID, values, true);
+      fetchedForPrimaries.add(primaryID);
+      scheduleNextExecution(primary, values);
+    }
+  }
+
   @Override
   public void onResourceCreated(P resource) {
     checkAndRegisterTask(resource);
@@ -111,6 +198,13 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
       log.debug("Canceling scheduledFuture for resource: {}", resource);
       scheduledFuture.cancel(true);
     }
+    final var batch = scheduledBatches.remove(resourceID);
+    if (batch != null) {
+      final var primaryIDs = batches.get(batch);
+      if (primaryIDs != null) {
+        primaryIDs.remove(resourceID);
+      }
+    }
     handleDelete(resourceID);
     fetchedForPrimaries.remove(resourceID);
   }
@@ -121,6 +215,7 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
   private void checkAndRegisterTask(P resource) {
     var primaryID = ResourceID.fromResource(resource);
     if (scheduledFutures.get(primaryID) == null
+        && !scheduledBatches.containsKey(primaryID)
         && (registerPredicate == null || registerPredicate.test(resource))) {
       var cachedResources = cachedResourcesFor(primaryID);
       var actualResources = cachedResources.isEmpty() ? null : cachedResources;
@@ -198,6 +293,41 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata, ID>
     }
   }
 
+  /**
+   * A {@link ResourceFetcher} fetching the resources of many primary resources in a single call,
+   * typically to a remote API supporting bulk queries, see {@link PerResourcePollingEventSource}.
+   *
+   * @param <R> the fetched resource type
+   * @param <P> the primary resource type
+   * @since 5.6.0
+   */
+  public interface BatchResourceFetcher<R, P extends HasMetadata> extends ResourceFetcher<R, P> {
+
+    /**
+     * Fetches the resources of the given primary resources.
+     *
+     * @param primaryResources the primary resources to fetch the resources for, at most {@link
+     *     #maxBatchSize()}
+     * @return the fetched resources by primary resource id, primary resources missing from the map
+     *     are considered to have no resources
+     */
+    Map<ResourceID, Set<R>> fetchResources(List<P> primaryResources);
+
+    /**
+     * @return the maximum number of primary resources fetched in a single call, larger batches are
+     *     split
+     */
+    default int maxBatchSize() {
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    default Set<R> fetchResources(P primaryResource) {
+      return fetchResources(List.of(primaryResource))
+          .getOrDefault(ResourceID.fromResource(primaryResource), Collections.emptySet());
+    }
+  }
+
   @Override
   public void stop() throws OperatorException {
     super.stop();
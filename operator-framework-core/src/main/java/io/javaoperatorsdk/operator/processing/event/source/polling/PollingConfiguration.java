@@ -24,17 +24,40 @@ public record PollingConfiguration<R, ID>(
     String name,
     PollingEventSource.GenericResourceFetcher<R> genericResourceFetcher,
     Duration period,
-    ResourceIDMapper<R, ID> resourceIDMapper) {
+    ResourceIDMapper<R, ID> resourceIDMapper,
+    Duration fullResyncPeriod) {
+
+  public static final Duration DEFAULT_FULL_RESYNC_PERIOD = Duration.ofMinutes(10);
 
   public PollingConfiguration(
       String name,
       PollingEventSource.GenericResourceFetcher<R> genericResourceFetcher,
       Duration period,
       ResourceIDMapper<R, ID> resourceIDMapper) {
+    this(name, genericResourceFetcher, period, resourceIDMapper, null);
+  }
+
+  /**
+   * @param fullResyncPeriod how often a complete listing is fetched when the fetcher is a {@link
+   *     PollingEventSource.DeltaResourceFetcher}, {@link #DEFAULT_FULL_RESYNC_PERIOD} if {@code
+   *     null}; ignored otherwise
+   * @since 5.6.0
+   */
+  public PollingConfiguration(
+      String name,
+      PollingEventSource.GenericResourceFetcher<R> genericResourceFetcher,
+      Duration period,
+      ResourceIDMapper<R, ID> resourceIDMapper,
+      Duration fullResyncPeriod) {
     this.name = name;
     this.genericResourceFetcher = Objects.requireNonNull(genericResourceFetcher);
     this.period = period;
     this.resourceIDMapper =
         resourceIDMapper == null ? ResourceIDMapper.resourceIdProviderMapper() : resourceIDMapper;
+    if (fullResyncPeriod != null && (fullResyncPeriod.isNegative() || fullResyncPeriod.isZero())) {
+      throw new IllegalArgumentException("Full resync period must be positive");
+    }
+    this.fullResyncPeriod =
+        fullResyncPeriod == null ? DEFAULT_FULL_RESYNC_PERIOD : fullResyncPeriod;
   }
 }
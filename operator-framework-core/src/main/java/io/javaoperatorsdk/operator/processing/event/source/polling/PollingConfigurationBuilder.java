@@ -24,6 +24,7 @@ public final class PollingConfigurationBuilder<R, ID> {
   private final PollingEventSource.GenericResourceFetcher<R> genericResourceFetcher;
   private ResourceIDMapper<R, ID> resourceIDMapper;
   private String name;
+  private Duration fullResyncPeriod;
 
   public PollingConfigurationBuilder(
       PollingEventSource.GenericResourceFetcher<R> fetcher, Duration period) {
@@ -42,7 +43,19 @@ public final class PollingConfigurationBuilder<R, ID> {
     return this;
   }
 
+  /**
+   * @param fullResyncPeriod how often a complete listing is fetched when using a {@link
+   *     PollingEventSource.DeltaResourceFetcher}
+   * @return this builder
+   * @since 5.6.0
+   */
+  public PollingConfigurationBuilder<R, ID> withFullResyncPeriod(Duration fullResyncPeriod) {
+    this.fullResyncPeriod = fullResyncPeriod;
+    return this;
+  }
+
   public PollingConfiguration<R, ID> build() {
-    return new PollingConfiguration<>(name, genericResourceFetcher, period, resourceIDMapper);
+    return new PollingConfiguration<>(
+        name, genericResourceFetcher, period, resourceIDMapper, fullResyncPeriod);
   }
 }
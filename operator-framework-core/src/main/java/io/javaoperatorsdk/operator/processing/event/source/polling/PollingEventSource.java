@@ -16,7 +16,10 @@
 package io.javaoperatorsdk.operator.processing.event.source.polling;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
@@ -54,6 +57,11 @@ import io.javaoperatorsdk.operator.processing.event.source.ExternalResourceCachi
  *       cache.
  * </ul>
  *
+ * <p>If the fetcher is a {@link DeltaResourceFetcher}, only the changes since the last poll are
+ * requested and applied to the cache, with a complete listing fetched on start, whenever the
+ * fetcher cannot serve the changes since the last watermark, and periodically as configured by
+ * {@link PollingConfiguration#fullResyncPeriod()}.
+ *
  * @param <R> type of the polled resource
  * @param <P> primary resource type
  */
@@ -65,12 +73,16 @@ public class PollingEventSource<R, P extends HasMetadata, ID>
   private Timer timer;
   private final GenericResourceFetcher<R> genericResourceFetcher;
   private final Duration period;
+  private final Duration fullResyncPeriod;
   private final AtomicBoolean healthy = new AtomicBoolean(true);
+  private String watermark;
+  private long lastFullResync;
 
   public PollingEventSource(Class<R> resourceClass, PollingConfiguration<R, ID> config) {
     super(config.name(), resourceClass, config.resourceIDMapper());
     this.genericResourceFetcher = config.genericResourceFetcher();
     this.period = config.period();
+    this.fullResyncPeriod = config.fullResyncPeriod();
   }
 
   @Override
@@ -104,14 +116,117 @@ public class PollingEventSource<R, P extends HasMetadata, ID>
   }
 
   protected synchronized void getStateAndFillCache() {
-    var values = genericResourceFetcher.fetchResources();
-    handleResources(values);
+    if (genericResourceFetcher instanceof DeltaResourceFetcher<R> deltaFetcher) {
+      applyDelta(deltaFetcher);
+    } else {
+      var values = genericResourceFetcher.fetchResources();
+      handleResources(values);
+    }
+  }
+
+  private void applyDelta(DeltaResourceFetcher<R> deltaFetcher) {
+    final var now = System.nanoTime();
+    final var resyncDue = watermark == null || now - lastFullResync >= fullResyncPeriod.toNanos();
+    var delta = deltaFetcher.fetchChanges(resyncDue ? null : watermark);
+    if (delta.full()) {
+      log.debug("Applying full listing for event source: {}", name());
+      handleResources(delta.upserted());
+      lastFullResync = now;
+    } else {
+      log.debug(
+          "Applying delta for event source: {}, changed primaries: {}, deleted from primaries: {}",
+          name(),
+          delta.upserted().size(),
+          delta.deleted().size());
+      final var primaries = new HashSet<>(delta.upserted().keySet());
+      primaries.addAll(delta.deleted().keySet());
+      primaries.forEach(
+          primaryID ->
+              applyChanges(
+                  primaryID,
+                  delta.upserted().getOrDefault(primaryID, Set.of()),
+                  delta.deleted().getOrDefault(primaryID, Set.of())));
+    }
+    watermark = delta.watermark();
+  }
+
+  // applied as a single update per primary so that at most one event is propagated for it
+  private void applyChanges(ResourceID primaryID, Set<R> upserted, Set<R> deleted) {
+    final var merged = new HashMap<ID, R>();
+    cachedResourcesFor(primaryID).forEach(r -> merged.put(resourceIDMapper.idFor(r), r));
+    deleted.forEach(r -> merged.remove(resourceIDMapper.idFor(r)));
+    upserted.forEach(r -> merged.put(resourceIDMapper.idFor(r), r));
+    if (merged.isEmpty()) {
+      handleDelete(primaryID);
+    } else {
+      handleResources(primaryID, new HashSet<>(merged.values()));
+    }
   }
 
   public interface GenericResourceFetcher<R> {
     Map<ResourceID, Set<R>> fetchResources();
   }
 
+  /**
+   * A fetcher able to return only what changed since a previous fetch, identified by an opaque
+   * watermark (a timestamp, a sequence number, an ETag, ...) that the fetcher hands out with each
+   * result.
+   *
+   * @param <R> type of the polled resource
+   * @since 5.6.0
+   */
+  public interface DeltaResourceFetcher<R> extends GenericResourceFetcher<R> {
+
+    /**
+     * Fetches the changes since the given watermark.
+     *
+     * @param watermark the watermark returned by the previous fetch, or {@code null} if a complete
+     *     listing is requested
+     * @return a {@link Delta#changes(Map, Map, String) delta}, or a {@link Delta#full(Map, String)
+     *     full listing} which must be returned when the watermark is {@code null} and can be
+     *     returned when the changes since the watermark are no longer available
+     */
+    Delta<R> fetchChanges(String watermark);
+
+    @Override
+    default Map<ResourceID, Set<R>> fetchResources() {
+      return fetchChanges(null).upserted();
+    }
+  }
+
+  /**
+   * Result of a {@link DeltaResourceFetcher}.
+   *
+   * @param upserted secondary resources per primary; the resources added or updated since the
+   *     watermark for a delta, all the resources for a full listing
+   * @param deleted secondary resources per primary removed since the watermark, always empty for a
+   *     full listing
+   * @param watermark the watermark to pass to the next fetch
+   * @param full whether this is a complete listing replacing the whole cache
+   * @param <R> type of the polled resource
+   * @since 5.6.0
+   */
+  public record Delta<R>(
+      Map<ResourceID, Set<R>> upserted,
+      Map<ResourceID, Set<R>> deleted,
+      String watermark,
+      boolean full) {
+
+    public Delta {
+      Objects.requireNonNull(upserted);
+      Objects.requireNonNull(deleted);
+    }
+
+    public static <R> Delta<R> full(Map<ResourceID, Set<R>> resources, String watermark) {
+      return new Delta<>(resources, Map.of(), watermark, true);
+    }
+
+    public static <R> Delta<R> changes(
+        Map<ResourceID, Set<R>> upserted, Map<ResourceID, Set<R>> deleted, String watermark) {
+      return new Delta<>(upserted, deleted, watermark, false);
+    }
+  }
+
   @Override
   public void stop() throws OperatorException {
     super.stop();
@@ -119,6 +234,9 @@ public class PollingEventSource<R, P extends HasMetadata, ID>
       timer.cancel();
       timer = null;
     }
+    synchronized (this) {
+      watermark = null;
+    }
   }
 
   @Override
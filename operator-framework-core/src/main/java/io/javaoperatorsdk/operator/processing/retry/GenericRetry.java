@@ -24,6 +24,7 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
   private long initialInterval = GradualRetry.DEFAULT_INITIAL_INTERVAL;
   private double intervalMultiplier = GradualRetry.DEFAULT_MULTIPLIER;
   private long maxInterval = GradualRetry.DEFAULT_MAX_INTERVAL;
+  private Jitter jitter = Jitter.NONE;
 
   /**
    * @deprecated use {@link GenericRetry#defaultLimitedExponentialRetry()} instead this instance.
@@ -103,6 +104,22 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
     return this.setMaxAttempts(-1);
   }
 
+  public Jitter getJitter() {
+    return jitter;
+  }
+
+  /**
+   * Randomizes the retry intervals, see {@link Jitter}.
+   *
+   * @param jitter the jitter to apply
+   * @return this retry
+   * @since 5.6.0
+   */
+  public GenericRetry setJitter(Jitter jitter) {
+    this.jitter = jitter;
+    return this;
+  }
+
   public GenericRetry withLinearRetry() {
     this.intervalMultiplier = 1;
     return this;
@@ -117,5 +134,6 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
         configuration.maxInterval() == GradualRetry.UNSET_VALUE
             ? GradualRetry.DEFAULT_MAX_INTERVAL
             : configuration.maxInterval();
+    this.jitter = configuration.jitter();
   }
 }
@@ -17,6 +17,7 @@ package io.javaoperatorsdk.operator.processing.retry;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GenericRetryExecution implements RetryExecution {
 
@@ -24,11 +25,13 @@ public class GenericRetryExecution implements RetryExecution {
 
   private int lastAttemptIndex = 0;
   private long currentInterval;
+  private long lastDelay;
   private Long lastNextDelayCallEpochMillis;
 
   public GenericRetryExecution(GenericRetry genericRetry) {
     this.genericRetry = genericRetry;
     this.currentInterval = genericRetry.getInitialInterval();
+    this.lastDelay = currentInterval;
   }
 
   public Optional<Long> nextDelay() {
@@ -41,9 +44,28 @@ public class GenericRetryExecution implements RetryExecution {
         currentInterval = genericRetry.getMaxInterval();
       }
     }
+    lastDelay = applyJitter();
     lastAttemptIndex++;
     lastNextDelayCallEpochMillis = System.currentTimeMillis();
-    return Optional.of(currentInterval);
+    return Optional.of(lastDelay);
+  }
+
+  private long applyJitter() {
+    final var random = ThreadLocalRandom.current();
+    return switch (genericRetry.getJitter()) {
+      case NONE -> currentInterval;
+      case FULL -> random.nextLong(currentInterval + 1);
+      case DECORRELATED -> {
+        final var initialInterval = genericRetry.getInitialInterval();
+        final var upperBound =
+            Math.max(initialInterval, (long) (lastDelay * genericRetry.getIntervalMultiplier()));
+        var delay = random.nextLong(initialInterval, upperBound + 1);
+        if (genericRetry.getMaxInterval() > -1) {
+          delay = Math.min(delay, genericRetry.getMaxInterval());
+        }
+        yield delay;
+      }
+    };
   }
 
   @Override
@@ -61,7 +83,7 @@ public class GenericRetryExecution implements RetryExecution {
     if (lastNextDelayCallEpochMillis == null) {
       return Optional.empty();
     }
-    long remaining = (lastNextDelayCallEpochMillis + currentInterval) - System.currentTimeMillis();
+    long remaining = (lastNextDelayCallEpochMillis + lastDelay) - System.currentTimeMillis();
     if (remaining <= 0) {
       return Optional.empty();
     }
@@ -44,4 +44,12 @@ public @interface GradualRetry {
   double intervalMultiplier() default DEFAULT_MULTIPLIER;
 
   long maxInterval() default UNSET_VALUE;
+
+  /**
+   * Randomization of the retry intervals.
+   *
+   * @return the jitter to apply
+   * @since 5.6.0
+   */
+  Jitter jitter() default Jitter.NONE;
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.retry;
+
+/**
+ * Randomization applied to the retry intervals computed by {@link GenericRetry}, so that resources
+ * failing at the same time, for example because a shared dependency is down, don't retry in
+ * synchronized waves.
+ *
+ * @since 5.6.0
+ */
+public enum Jitter {
+
+  /** The computed exponential intervals are used as is. */
+  NONE,
+
+  /**
+   * Each delay is picked uniformly between zero and the computed exponential interval, spreading
+   * retries the most at the cost of sometimes retrying almost immediately.
+   */
+  FULL,
+
+  /**
+   * Each delay is picked uniformly between the initial interval and the previous delay multiplied
+   * by the interval multiplier, capped by the max interval. Delays still grow on average, but
+   * independently for each resource.
+   */
+  DECORRELATED
+}
@@ -15,8 +15,34 @@
  */
 package io.javaoperatorsdk.operator.processing.retry;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
 @FunctionalInterface
 public interface Retry {
 
   RetryExecution initExecution();
+
+  /**
+   * Initializes the retry execution of the given resource, allowing implementations to share state
+   * between related resources, for example resources depending on the same external service.
+   *
+   * @param resourceID the id of the resource that failed to reconcile
+   * @param resource the latest known version of the resource, can be {@code null}
+   * @return the retry execution
+   * @since 5.6.0
+   */
+  default RetryExecution initExecution(ResourceID resourceID, HasMetadata resource) {
+    return initExecution();
+  }
+
+  /**
+   * Called each time the given resource is reconciled successfully, whether it had been retried or
+   * not, allowing implementations sharing state between related resources to reset it.
+   *
+   * @param resourceID the id of the resource that was reconciled successfully
+   * @param resource the reconciled resource, can be {@code null}
+   * @since 5.6.0
+   */
+  default void reconciliationSucceeded(ResourceID resourceID, HasMetadata resource) {}
 }
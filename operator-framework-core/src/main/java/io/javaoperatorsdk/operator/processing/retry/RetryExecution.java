@@ -37,4 +37,12 @@ public interface RetryExecution extends RetryInfo {
    * retry window should consume a retry attempt or simply be re-scheduled on the original deadline.
    */
   Optional<Duration> remainingDurationUntilNextRetry();
+
+  /**
+   * Called when a reconciliation succeeds after failed attempts, right before this execution is
+   * discarded.
+   *
+   * @since 5.6.0
+   */
+  default void succeeded() {}
 }
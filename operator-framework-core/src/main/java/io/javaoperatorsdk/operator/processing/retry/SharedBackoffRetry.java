@@ -0,0 +1,290 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Retry acting as a circuit breaker for the dependencies of the reconciled resources, for example a
+ * database or a cloud API. Failures are counted per dependency, the dependency of a resource being
+ * resolved when its retry execution is initialized. As long as fewer consecutive failures than the
+ * threshold have been recorded for a dependency, failed resources are retried on their own
+ * schedule, following the configured {@link GenericRetry}. Once the threshold is reached, the
+ * circuit opens: a shared backoff, growing exponentially each time the circuit opens again, is
+ * applied to all the resources of the dependency. When it elapses, only a few probe resources are
+ * retried, the others being spread over the following backoff interval. Any successful
+ * reconciliation of a resource of the dependency, retried or not, closes the circuit and resets the
+ * shared backoff.
+ *
+ * <p>The number of attempts of each resource is still limited by the configured {@link
+ * GenericRetry}, which can be configured from {@link GradualRetry}. Dependency states are kept for
+ * the lifetime of the retry, so dependencies should be bounded.
+ *
+ * @since 5.6.0
+ */
+public class SharedBackoffRetry implements Retry, AnnotationConfigurable<GradualRetry> {
+
+  public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  public static final int DEFAULT_PROBES = 1;
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(10);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+  public static final double DEFAULT_BACKOFF_MULTIPLIER = 2;
+
+  private static final String DEFAULT_DEPENDENCY = "";
+
+  private final BiFunction<ResourceID, HasMetadata, String> dependencyResolver;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private GenericRetry resourceRetry =
+      GenericRetry.defaultLimitedExponentialRetry().setJitter(Jitter.FULL);
+  private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+  private int probes = DEFAULT_PROBES;
+  private long initialBackoff = DEFAULT_INITIAL_BACKOFF.toMillis();
+  private long maxBackoff = DEFAULT_MAX_BACKOFF.toMillis();
+  private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+  /** Creates a retry where all the resources share a single dependency. */
+  public SharedBackoffRetry() {
+    this((resourceID, resource) -> DEFAULT_DEPENDENCY);
+  }
+
+  /**
+   * @param dependencyResolver resolves the dependency of a resource from its id and latest known
+   *     version, which can be {@code null}; returning {@code null} means that the resource is only
+   *     retried on its own schedule
+   */
+  public SharedBackoffRetry(BiFunction<ResourceID, HasMetadata, String> dependencyResolver) {
+    this.dependencyResolver = dependencyResolver;
+  }
+
+  /**
+   * @param resourceRetry the retry used for each resource while the circuit is closed, which also
+   *     limits the number of attempts
+   * @return this retry
+   */
+  public SharedBackoffRetry withResourceRetry(GenericRetry resourceRetry) {
+    this.resourceRetry = resourceRetry;
+    return this;
+  }
+
+  /**
+   * @param failureThreshold the number of consecutive failures of the resources of a dependency
+   *     opening the circuit
+   * @return this retry
+   */
+  public SharedBackoffRetry withFailureThreshold(int failureThreshold) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException(
+          "Failure threshold must be at least 1: " + failureThreshold);
+    }
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  /**
+   * @param probes the number of resources retried when the shared backoff elapses
+   * @return this retry
+   */
+  public SharedBackoffRetry withProbes(int probes) {
+    if (probes < 1) {
+      throw new IllegalArgumentException("Number of probes must be at least 1: " + probes);
+    }
+    this.probes = probes;
+    return this;
+  }
+
+  /**
+   * @param initialBackoff the shared backoff applied when the circuit opens for the first time
+   * @param multiplier the factor applied to the shared backoff each time the circuit opens again
+   * @param maxBackoff the maximum shared backoff
+   * @return this retry
+   */
+  public SharedBackoffRetry withBackoff(
+      Duration initialBackoff, double multiplier, Duration maxBackoff) {
+    if (initialBackoff.isNegative() || initialBackoff.isZero() || multiplier < 1) {
+      throw new IllegalArgumentException(
+          "Backoff must be positive and multiplier at least 1, got: "
+              + initialBackoff
+              + ", "
+              + multiplier);
+    }
+    this.initialBackoff = initialBackoff.toMillis();
+    this.backoffMultiplier = multiplier;
+    this.maxBackoff = Math.max(this.initialBackoff, maxBackoff.toMillis());
+    return this;
+  }
+
+  public GenericRetry getResourceRetry() {
+    return resourceRetry;
+  }
+
+  @Override
+  public void initFrom(GradualRetry configuration) {
+    resourceRetry.initFrom(configuration);
+  }
+
+  @Override
+  public RetryExecution initExecution() {
+    return initExecution(null, null);
+  }
+
+  @Override
+  public RetryExecution initExecution(ResourceID resourceID, HasMetadata resource) {
+    final var execution = resourceRetry.initExecution();
+    final var dependency = dependencyResolver.apply(resourceID, resource);
+    if (dependency == null) {
+      return execution;
+    }
+    var circuitBreaker = circuitBreakers.get(dependency);
+    if (circuitBreaker == null) {
+      circuitBreaker = circuitBreakers.computeIfAbsent(dependency, d -> new CircuitBreaker());
+    }
+    return new Execution(execution, circuitBreaker);
+  }
+
+  @Override
+  public void reconciliationSucceeded(ResourceID resourceID, HasMetadata resource) {
+    final var dependency = dependencyResolver.apply(resourceID, resource);
+    if (dependency == null) {
+      return;
+    }
+    final var circuitBreaker = circuitBreakers.get(dependency);
+    if (circuitBreaker != null) {
+      circuitBreaker.succeeded();
+    }
+  }
+
+  /**
+   * Whether the circuit of the given dependency is currently open, i.e. its resources are retried
+   * following the shared backoff.
+   *
+   * @param dependency the dependency
+   * @return {@code true} if the circuit is open
+   */
+  public boolean isOpen(String dependency) {
+    final var circuitBreaker = circuitBreakers.get(dependency);
+    return circuitBreaker != null && circuitBreaker.isOpen();
+  }
+
+  private class CircuitBreaker {
+    private int consecutiveFailures;
+    private long backoff;
+    private long openUntil;
+    private int remainingProbes;
+
+    private synchronized long failed(long resourceDelay, long now) {
+      recordFailure(now);
+      if (backoff == 0) {
+        return resourceDelay;
+      }
+      if (remainingProbes > 0) {
+        remainingProbes--;
+        return openUntil - now;
+      }
+      return openUntil - now + ThreadLocalRandom.current().nextLong(1, backoff + 1);
+    }
+
+    private synchronized void recordFailure(long now) {
+      consecutiveFailures++;
+      if (backoff == 0) {
+        if (consecutiveFailures >= failureThreshold) {
+          backoff = initialBackoff;
+          open(now);
+        }
+      } else if (now >= openUntil) {
+        // a probe failed, or a resource retried after the backoff elapsed
+        backoff = Math.min(maxBackoff, (long) (backoff * backoffMultiplier));
+        open(now);
+      }
+    }
+
+    private void open(long now) {
+      openUntil = now + backoff;
+      remainingProbes = probes;
+    }
+
+    private synchronized void succeeded() {
+      consecutiveFailures = 0;
+      backoff = 0;
+      openUntil = 0;
+    }
+
+    private synchronized boolean isOpen() {
+      return backoff > 0;
+    }
+  }
+
+  private static class Execution implements RetryExecution {
+    private final GenericRetryExecution resourceExecution;
+    private final CircuitBreaker circuitBreaker;
+    private long lastDelay;
+    private Long lastNextDelayCallEpochMillis;
+
+    private Execution(GenericRetryExecution resourceExecution, CircuitBreaker circuitBreaker) {
+      this.resourceExecution = resourceExecution;
+      this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Optional<Long> nextDelay() {
+      final var now = System.currentTimeMillis();
+      final var delay = resourceExecution.nextDelay();
+      if (delay.isEmpty()) {
+        // the resource is not retried anymore, but its failure still counts for the dependency
+        circuitBreaker.recordFailure(now);
+        return delay;
+      }
+      lastDelay = circuitBreaker.failed(delay.get(), now);
+      lastNextDelayCallEpochMillis = now;
+      return Optional.of(lastDelay);
+    }
+
+    @Override
+    public Optional<Duration> remainingDurationUntilNextRetry() {
+      if (lastNextDelayCallEpochMillis == null) {
+        return Optional.empty();
+      }
+      long remaining = (lastNextDelayCallEpochMillis + lastDelay) - System.currentTimeMillis();
+      if (remaining <= 0) {
+        return Optional.empty();
+      }
+      return Optional.of(Duration.ofMillis(remaining));
+    }
+
+    @Override
+    public void succeeded() {
+      circuitBreaker.succeeded();
+    }
+
+    @Override
+    public boolean isLastAttempt() {
+      return resourceExecution.isLastAttempt();
+    }
+
+    @Override
+    public int getAttemptCount() {
+      return resourceExecution.getAttemptCount();
+    }
+  }
+}
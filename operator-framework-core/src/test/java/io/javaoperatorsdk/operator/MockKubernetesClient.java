@@ -38,6 +38,7 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectorBuilder;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
@@ -109,6 +110,8 @@ public class MockKubernetesClient {
     Indexer mockIndexer = mock(Indexer.class);
 
     when(informer.getIndexer()).thenReturn(mockIndexer);
+    Cache<T> mockStore = mock(Cache.class);
+    when(informer.getStore()).thenReturn(mockStore);
 
     when(filterable.runnableInformer(anyLong())).thenReturn(informer);
 
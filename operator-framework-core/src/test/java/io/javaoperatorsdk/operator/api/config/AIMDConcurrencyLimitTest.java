@@ -0,0 +1,91 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.OperatorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AIMDConcurrencyLimitTest {
+
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+  private final AIMDConcurrencyLimit limit =
+      new AIMDConcurrencyLimit(2, 10, 4, 0.5, Duration.ofSeconds(1));
+
+  @Test
+  void increasesLimitByOneAfterAWindowOfSuccesses() {
+    for (int i = 0; i < 3; i++) {
+      limit.onReconciliationFinished(FAST, null);
+    }
+    assertThat(limit.getLimit()).isEqualTo(4);
+
+    limit.onReconciliationFinished(FAST, null);
+    assertThat(limit.getLimit()).isEqualTo(5);
+  }
+
+  @Test
+  void decreasesLimitOnSlowReconciliation() {
+    limit.onReconciliationFinished(SLOW, null);
+
+    assertThat(limit.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void decreasesLimitOnApiServerOverload() {
+    limit.onReconciliationFinished(
+        FAST, new OperatorException(new KubernetesClientException("throttled", 429, null)));
+
+    assertThat(limit.getLimit()).isEqualTo(2);
+  }
+
+  @Test
+  void doesNotChangeLimitOnOtherErrors() {
+    for (int i = 0; i < 10; i++) {
+      limit.onReconciliationFinished(FAST, new KubernetesClientException("conflict", 409, null));
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void staysWithinBounds() {
+    for (int i = 0; i < 5; i++) {
+      limit.onReconciliationFinished(SLOW, null);
+    }
+    assertThat(limit.getLimit()).isEqualTo(2);
+
+    for (int i = 0; i < 1000; i++) {
+      limit.onReconciliationFinished(FAST, null);
+    }
+    assertThat(limit.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void rejectsInvalidConfiguration() {
+    assertThatThrownBy(() -> new AIMDConcurrencyLimit(0, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AIMDConcurrencyLimit(2, 10, 5, 1.5, Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ConcurrencyLimitingExecutorServiceTest {
+
+  private final ExecutorService inner = mock(ExecutorService.class);
+  private final List<Runnable> handedOver = new ArrayList<>();
+  private boolean reject;
+  private final ConcurrencyLimitingExecutorService executor =
+      new ConcurrencyLimitingExecutorService(inner, new FixedLimit(1));
+
+  ConcurrencyLimitingExecutorServiceTest() {
+    doAnswer(
+            invocation -> {
+              if (reject) {
+                throw new RejectedExecutionException();
+              }
+              handedOver.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(inner)
+        .execute(any());
+  }
+
+  @Test
+  void keepsPendingTaskRejectedOnBehalfOfAnotherCaller() {
+    final var executed = new ArrayList<String>();
+    executor.execute(() -> executed.add("first"));
+    executor.execute(() -> executed.add("second"));
+    assertThat(handedOver).hasSize(1);
+
+    reject = true;
+    // dispatching the pending task when the first one completes does not fail the worker
+    handedOver.remove(0).run();
+    assertThat(executed).containsExactly("first");
+
+    reject = false;
+    executor.execute(() -> executed.add("third"));
+    handedOver.remove(0).run();
+    handedOver.remove(0).run();
+
+    assertThat(executed).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void notifiesCallerOfItsRejectedTask() {
+    reject = true;
+
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+
+    reject = false;
+    final var executed = new ArrayList<String>();
+    executor.execute(() -> executed.add("next"));
+    handedOver.remove(0).run();
+    // the rejected task is not executed and its slot was released
+    assertThat(executed).containsExactly("next");
+    assertThat(handedOver).isEmpty();
+  }
+
+  private record FixedLimit(int limit) implements ConcurrencyLimit {
+    @Override
+    public int getLimit() {
+      return limit;
+    }
+
+    @Override
+    public void onReconciliationFinished(long durationNanos, Exception exception) {}
+  }
+}
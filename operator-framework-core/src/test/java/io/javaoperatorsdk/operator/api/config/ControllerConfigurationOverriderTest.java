@@ -15,6 +15,7 @@
  */
 package io.javaoperatorsdk.operator.api.config;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -26,6 +27,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceConfigurationResolver;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector;
 import io.javaoperatorsdk.operator.api.config.informer.Informer;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
@@ -44,6 +46,7 @@ import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDep
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResourceConfig;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResourceConfigBuilder;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import io.javaoperatorsdk.operator.processing.event.source.filter.SelectorFilter;
 
 import static io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration.inheritsNamespacesFromController;
 import static org.junit.jupiter.api.Assertions.*;
@@ -195,6 +198,34 @@ class ControllerConfigurationOverriderTest {
     assertEquals(shardSelector, configuration.getInformerConfig().getShardSelector());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void selectorFilterShouldBePreservedWhenOverridingLabelSelector() {
+    var configuration =
+        (io.javaoperatorsdk.operator.api.config.ControllerConfiguration<ConfigMap>)
+            createConfiguration(new WatchCurrentReconciler());
+    final var selectorFilter =
+        new SelectorFilter<ConfigMap>().withLabel("app", "foo").withField("metadata.name", "bar");
+    configuration =
+        ControllerConfigurationOverrider.override(configuration)
+            .withGenericFilter(selectorFilter)
+            .build();
+
+    configuration =
+        ControllerConfigurationOverrider.override(configuration)
+            .withLabelSelector("tier=backend")
+            .build();
+
+    final var informerConfig = configuration.getInformerConfig();
+    assertEquals("tier=backend", informerConfig.getLabelSelector());
+    assertSame(selectorFilter, informerConfig.getGenericFilter());
+    assertEquals("tier=backend,app=foo", informerConfig.getEffectiveLabelSelector());
+    assertEquals(
+        List.of(new FieldSelector.Field("metadata.name", "bar")),
+        informerConfig.getEffectiveFieldSelector().getFields());
+    assertNull(informerConfig.getEffectiveGenericFilter());
+  }
+
   @Test
   void configuredDependentShouldNotChangeOnParentOverrideEvenWhenInitialConfigIsSame() {
     var configuration = createConfiguration(new OverriddenNSOnDepReconciler());
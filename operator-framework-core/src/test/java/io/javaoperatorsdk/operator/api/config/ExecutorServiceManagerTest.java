@@ -16,10 +16,14 @@
 package io.javaoperatorsdk.operator.api.config;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class ExecutorServiceManagerTest {
 
@@ -56,4 +60,101 @@ class ExecutorServiceManagerTest {
 
     manager.stop(SHUTDOWN_TIMEOUT);
   }
+
+  @Test
+  void reportsReconcileExecutorStatistics() throws Exception {
+    ConfigurationService configurationService =
+        ConfigurationService.newOverriddenConfigurationService(
+            o -> o.withConcurrentReconciliationThreads(1));
+    var manager = configurationService.getExecutorServiceManager();
+    var executor = manager.reconcileExecutorService();
+    var statistics = manager.reconcileExecutorStatistics();
+    var release = new CountDownLatch(1);
+    var started = new CountDownLatch(1);
+
+    try {
+      executor.execute(
+          () -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+          });
+      executor.execute(() -> {});
+      assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(statistics.maximumParallelism()).isEqualTo(1);
+      assertThat(statistics.activeCount()).isEqualTo(1);
+      assertThat(statistics.queueSize()).isEqualTo(1);
+      assertThat(statistics.utilization()).isEqualTo(1.0);
+
+      release.countDown();
+      await().untilAsserted(() -> assertThat(statistics.completedCount()).isEqualTo(2));
+      assertThat(statistics.activeCount()).isZero();
+      assertThat(statistics.queueSize()).isZero();
+      assertThat(statistics.totalQueueWaitNanos()).isPositive();
+    } finally {
+      release.countDown();
+      manager.stop(SHUTDOWN_TIMEOUT);
+    }
+  }
+
+  @Test
+  void limitsReconcileParallelismWithConcurrencyLimit() throws Exception {
+    var limit = new FixedLimit(1);
+    ConfigurationService configurationService =
+        ConfigurationService.newOverriddenConfigurationService(
+            o -> o.withConcurrentReconciliationThreads(3).withReconcileConcurrencyLimit(limit));
+    var manager = configurationService.getExecutorServiceManager();
+    var executor = manager.reconcileExecutorService();
+    var statistics = manager.reconcileExecutorStatistics();
+    var release = new CountDownLatch(1);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    try {
+      assertThat(manager.reconcileConcurrencyLimit()).contains(limit);
+      for (int i = 0; i < 3; i++) {
+        executor.execute(
+            () -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              awaitUninterruptibly(release);
+              running.decrementAndGet();
+            });
+      }
+      await().untilAsserted(() -> assertThat(statistics.activeCount()).isEqualTo(1));
+      assertThat(statistics.queueSize()).isEqualTo(2);
+      assertThat(maxRunning.get()).isEqualTo(1);
+
+      // raising the limit lets the queued tasks run as soon as a slot frees up
+      limit.value = 3;
+      release.countDown();
+      await().untilAsserted(() -> assertThat(statistics.completedCount()).isEqualTo(3));
+    } finally {
+      release.countDown();
+      manager.stop(SHUTDOWN_TIMEOUT);
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class FixedLimit implements ConcurrencyLimit {
+    private volatile int value;
+
+    private FixedLimit(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getLimit() {
+      return value;
+    }
+
+    @Override
+    public void onReconciliationFinished(long durationNanos, Exception exception) {}
+  }
 }
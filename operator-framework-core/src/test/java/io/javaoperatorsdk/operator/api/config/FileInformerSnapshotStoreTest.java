@@ -0,0 +1,92 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.javaoperatorsdk.operator.api.config.InformerSnapshotStore.Snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileInformerSnapshotStoreTest {
+
+  private static final String KEY = "controller|event-source|ns|label=value";
+
+  @TempDir Path directory;
+
+  @Test
+  void savesAndLoadsSnapshot() {
+    var store = new FileInformerSnapshotStore(directory, new KubernetesSerialization());
+    var resources = List.of(configMap("cm1", "line1\nline2"), configMap("cm2", "value"));
+
+    store.save(KEY, new Snapshot<>("42", resources));
+
+    assertThat(store.load(KEY, ConfigMap.class))
+        .hasValueSatisfying(
+            snapshot -> {
+              assertThat(snapshot.resourceVersion()).isEqualTo("42");
+              assertThat(snapshot.resources()).containsExactlyElementsOf(resources);
+            });
+    assertThat(store.load("other", ConfigMap.class)).isEmpty();
+  }
+
+  @Test
+  void replacesPreviousSnapshot() throws IOException {
+    var store = new FileInformerSnapshotStore(directory, new KubernetesSerialization());
+    store.save(KEY, new Snapshot<>("1", List.of(configMap("cm1", "value"))));
+
+    store.save(KEY, new Snapshot<>("2", List.of()));
+
+    assertThat(store.load(KEY, ConfigMap.class))
+        .hasValueSatisfying(
+            snapshot -> {
+              assertThat(snapshot.resourceVersion()).isEqualTo("2");
+              assertThat(snapshot.resources()).isEmpty();
+            });
+    try (var files = Files.list(directory)) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  @Test
+  void ignoresCorruptedSnapshot() throws IOException {
+    var store = new FileInformerSnapshotStore(directory, new KubernetesSerialization());
+    Files.writeString(store.fileFor(KEY), "42\n{not json");
+
+    assertThat(store.load(KEY, ConfigMap.class)).isEmpty();
+  }
+
+  private ConfigMap configMap(String name, String value) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName(name)
+        .withNamespace("default")
+        .withResourceVersion("1")
+        .endMetadata()
+        .withData(Map.of("key", value))
+        .build();
+  }
+}
@@ -16,13 +16,19 @@
 package io.javaoperatorsdk.operator.api.config;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
+import io.javaoperatorsdk.operator.processing.event.source.filter.SelectorFilter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,6 +73,63 @@ class InformerConfigurationTest {
         InformerConfiguration.currentNamespaceWatched(Set.of(Constants.WATCH_CURRENT_NAMESPACE)));
   }
 
+  @Test
+  void combinesSelectorFilterWithSelectors() {
+    final var selectorFilter =
+        new SelectorFilter<ConfigMap>()
+            .withLabel("tier", "backend")
+            .withLabelIn("env", "dev", "test")
+            .withField("metadata.name", "bar");
+    final var informerConfig =
+        InformerConfiguration.builder(ConfigMap.class)
+            .withLabelSelector("app=foo")
+            .withGenericFilter(selectorFilter)
+            .build();
+
+    // the configured values are kept as is, so that they can be overridden independently
+    assertEquals("app=foo", informerConfig.getLabelSelector());
+    assertNull(informerConfig.getFieldSelector());
+    assertSame(selectorFilter, informerConfig.getGenericFilter());
+
+    assertEquals(
+        "app=foo,tier=backend,env in (dev,test)", informerConfig.getEffectiveLabelSelector());
+    assertEquals(
+        List.of(new FieldSelector.Field("metadata.name", "bar")),
+        informerConfig.getEffectiveFieldSelector().getFields());
+    assertNull(informerConfig.getEffectiveGenericFilter());
+  }
+
+  @Test
+  void keepsSelectorFilterWhenRebuildingConfiguration() {
+    final var original =
+        InformerConfiguration.builder(ConfigMap.class)
+            .withGenericFilter(new SelectorFilter<ConfigMap>().withLabel("app", "foo"))
+            .build();
+
+    final var informerConfig =
+        InformerConfiguration.builder(original).withLabelSelector("tier=backend").build();
+
+    assertEquals("tier=backend", informerConfig.getLabelSelector());
+    assertEquals("tier=backend,app=foo", informerConfig.getEffectiveLabelSelector());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void keepsClientSideRequirementsOfSelectorFilterAsGenericFilter() {
+    final var informerConfig =
+        InformerConfiguration.builder(ConfigMap.class)
+            .withGenericFilter(
+                new SelectorFilter<ConfigMap>().withLabel("app", "foo").withAnnotation("managed"))
+            .buildForController();
+
+    assertEquals("app=foo", informerConfig.getEffectiveLabelSelector());
+    final var filter = (GenericFilter<ConfigMap>) informerConfig.getEffectiveGenericFilter();
+    assertTrue(filter.accept(configMap(Map.of(), Map.of("managed", ""))));
+    // the label requirement is left to the API server
+    assertTrue(filter.accept(configMap(Map.of("app", "other"), Map.of("managed", ""))));
+    assertFalse(filter.accept(configMap(Map.of("app", "foo"), Map.of())));
+  }
+
   @Test
   void nullLabelSelectorByDefault() {
     final var informerConfig = InformerConfiguration.builder(ConfigMap.class).build();
@@ -120,4 +183,14 @@ class InformerConfigurationTest {
     // should work
     InformerConfiguration.failIfNotValid(Set.of("foo", "bar"));
   }
+
+  private static ConfigMap configMap(Map<String, String> labels, Map<String, String> annotations) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("cm")
+        .withLabels(labels)
+        .withAnnotations(annotations)
+        .endMetadata()
+        .build();
+  }
 }
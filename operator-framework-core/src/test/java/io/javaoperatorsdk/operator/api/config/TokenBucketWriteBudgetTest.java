@@ -0,0 +1,108 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.api.config.WriteBudget.Verb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketWriteBudgetTest {
+
+  private static final String CONTROLLER = "controller";
+
+  @Test
+  void allowsBurstWithoutWaiting() {
+    var budget = new TokenBucketWriteBudget(1, 3);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(budget.acquire(Verb.UPDATE, CONTROLLER)).isLessThan(millis(500));
+    }
+  }
+
+  @Test
+  void waitsForPermitsAboveTheRate() {
+    var budget = new TokenBucketWriteBudget(20, 1);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 5; i++) {
+      budget.acquire(Verb.CREATE, CONTROLLER);
+    }
+    long waited = budget.acquire(Verb.CREATE, CONTROLLER);
+
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(millis(240));
+    assertThat(waited).isGreaterThan(0);
+  }
+
+  @Test
+  void verbsHaveSeparateBudgets() {
+    var budget = new TokenBucketWriteBudget().withLimit(Verb.DELETE, 0.1, 1);
+
+    budget.acquire(Verb.DELETE, CONTROLLER);
+
+    assertThat(budget.acquire(Verb.PATCH, CONTROLLER)).isZero();
+    assertThat(budget.acquire(Verb.UPDATE, CONTROLLER)).isZero();
+  }
+
+  @Test
+  void sharesBudgetFairlyBetweenControllers() throws InterruptedException {
+    var budget = new TokenBucketWriteBudget(100, 1);
+    var grants = Collections.synchronizedList(new ArrayList<String>());
+    var executor = Executors.newFixedThreadPool(5);
+    var done = new CountDownLatch(5);
+    // the busy controller writes from 4 threads, the other one from a single thread
+    for (int i = 0; i < 5; i++) {
+      var controller = i < 4 ? "busy" : "quiet";
+      executor.submit(
+          () -> {
+            for (int j = 0; j < 5; j++) {
+              budget.acquire(Verb.PATCH, controller);
+              grants.add(controller);
+            }
+            done.countDown();
+          });
+    }
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    executor.shutdownNow();
+
+    List<String> snapshot = List.copyOf(grants);
+    assertThat(snapshot).hasSize(25);
+    // served in turns, the quiet controller is done long before the busy one
+    assertThat(snapshot.lastIndexOf("quiet")).isLessThan(15);
+  }
+
+  @Test
+  void rejectsInvalidLimits() {
+    assertThatThrownBy(() -> new TokenBucketWriteBudget(0, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucketWriteBudget(1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long millis(long millis) {
+    return Duration.ofMillis(millis).toNanos();
+  }
+}
@@ -17,10 +17,12 @@ package io.javaoperatorsdk.operator.api.monitoring;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.Event;
@@ -128,6 +130,56 @@ class AggregatedMetricsTest {
     verifyNoMoreInteractions(metrics1, metrics2, metrics3);
   }
 
+  @Test
+  void reconciliationLatencies_shouldDelegateToAllMetricsInOrder() {
+    final var latencies = new ReconciliationLatencies(5, 1, 2, 0, 10);
+    aggregatedMetrics.reconciliationLatencies(resource, latencies, metadata);
+
+    final var inOrder = inOrder(metrics1, metrics2, metrics3);
+    inOrder.verify(metrics1).reconciliationLatencies(resource, latencies, metadata);
+    inOrder.verify(metrics2).reconciliationLatencies(resource, latencies, metadata);
+    inOrder.verify(metrics3).reconciliationLatencies(resource, latencies, metadata);
+    verifyNoMoreInteractions(metrics1, metrics2, metrics3);
+  }
+
+  @Test
+  void writeBudgetAcquired_shouldDelegateToAllMetricsInOrder() {
+    aggregatedMetrics.writeBudgetAcquired(WriteBudget.Verb.PATCH, 7, metadata);
+
+    final var inOrder = inOrder(metrics1, metrics2, metrics3);
+    inOrder.verify(metrics1).writeBudgetAcquired(WriteBudget.Verb.PATCH, 7, metadata);
+    inOrder.verify(metrics2).writeBudgetAcquired(WriteBudget.Verb.PATCH, 7, metadata);
+    inOrder.verify(metrics3).writeBudgetAcquired(WriteBudget.Verb.PATCH, 7, metadata);
+    verifyNoMoreInteractions(metrics1, metrics2, metrics3);
+  }
+
+  @Test
+  void memoizationLookup_shouldDelegateToAllMetricsInOrder() {
+    aggregatedMetrics.memoizationLookup("dependent", "desired", true, metadata);
+    aggregatedMetrics.memoizedValueEvicted(metadata);
+
+    final var inOrder = inOrder(metrics1, metrics2, metrics3);
+    inOrder.verify(metrics1).memoizationLookup("dependent", "desired", true, metadata);
+    inOrder.verify(metrics2).memoizationLookup("dependent", "desired", true, metadata);
+    inOrder.verify(metrics3).memoizationLookup("dependent", "desired", true, metadata);
+    inOrder.verify(metrics1).memoizedValueEvicted(metadata);
+    inOrder.verify(metrics2).memoizedValueEvicted(metadata);
+    inOrder.verify(metrics3).memoizedValueEvicted(metadata);
+    verifyNoMoreInteractions(metrics1, metrics2, metrics3);
+  }
+
+  @Test
+  void namespacesChanged_shouldDelegateToAllMetricsInOrder() {
+    final var namespaces = Set.of("ns1");
+    aggregatedMetrics.namespacesChanged(controller, namespaces);
+
+    final var inOrder = inOrder(metrics1, metrics2, metrics3);
+    inOrder.verify(metrics1).namespacesChanged(controller, namespaces);
+    inOrder.verify(metrics2).namespacesChanged(controller, namespaces);
+    inOrder.verify(metrics3).namespacesChanged(controller, namespaces);
+    verifyNoMoreInteractions(metrics1, metrics2, metrics3);
+  }
+
   @Test
   void cleanupDone_shouldDelegateToAllMetricsInOrder() {
     aggregatedMetrics.cleanupDone(resourceID, metadata);
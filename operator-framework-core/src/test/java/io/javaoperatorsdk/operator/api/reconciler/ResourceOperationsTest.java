@@ -17,6 +17,7 @@ package io.javaoperatorsdk.operator.api.reconciler;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
 
@@ -38,6 +39,8 @@ import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.config.Cloner;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.WriteBudget;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.matcher.Matcher;
 import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
 import io.javaoperatorsdk.operator.processing.event.source.EventSource;
@@ -701,4 +704,54 @@ class ResourceOperationsTest {
         .updateAndCacheResource(eq(resource), any(UnaryOperator.class));
     verify(verbClientResource, times(1)).updateStatus();
   }
+
+  // ---- write budget -------------------------------------------------------
+
+  private WriteBudget wireWriteBudget(Metrics metrics) {
+    var writeBudget = mock(WriteBudget.class);
+    when(writeBudget.acquire(any(), any())).thenReturn(5L);
+    var controllerConfiguration = context.getControllerConfiguration();
+    when(controllerConfiguration.getName()).thenReturn("test-controller");
+    var configService = controllerConfiguration.getConfigurationService();
+    when(configService.writeBudget()).thenReturn(Optional.of(writeBudget));
+    when(configService.getMetrics()).thenReturn(metrics);
+    return writeBudget;
+  }
+
+  @Test
+  void writesAcquireWriteBudgetForTheirVerb() {
+    var resource = TestUtils.testCustomResource1();
+    wireVerbMocks();
+    var metrics = mock(Metrics.class);
+    var writeBudget = wireWriteBudget(metrics);
+
+    resourceOperations.create(resource);
+    resourceOperations.jsonMergePatch(resource, ResourceOperations.Options.cacheOnly());
+
+    var inOrder = inOrder(writeBudget, verbClientResource);
+    inOrder.verify(writeBudget).acquire(WriteBudget.Verb.CREATE, "test-controller");
+    inOrder.verify(verbClientResource).create();
+    inOrder.verify(writeBudget).acquire(WriteBudget.Verb.PATCH, "test-controller");
+    inOrder.verify(verbClientResource).patch(any(PatchContext.class));
+    verify(metrics)
+        .writeBudgetAcquired(
+            WriteBudget.Verb.CREATE, 5L, Map.of(Constants.CONTROLLER_NAME, "test-controller"));
+    verify(metrics)
+        .writeBudgetAcquired(
+            WriteBudget.Verb.PATCH, 5L, Map.of(Constants.CONTROLLER_NAME, "test-controller"));
+  }
+
+  @Test
+  void skippedWriteDoesNotAcquireWriteBudget() {
+    var desired = TestUtils.testCustomResource1();
+    wireVerbMocks();
+    when(verbEventSource.get(any())).thenReturn(Optional.of(TestUtils.testCustomResource1()));
+    var matcher = mock(Matcher.class);
+    when(matcher.matches(any(), any(), any())).thenReturn(true);
+    var writeBudget = wireWriteBudget(mock(Metrics.class));
+
+    resourceOperations.update(desired, ResourceOperations.Options.matchAndFilter(matcher));
+
+    verifyNoInteractions(writeBudget);
+  }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class MemoizationCacheTest {
+
+  private static final Map<String, Object> METADATA = Map.of("controller.name", "test");
+
+  private final Metrics metrics = mock(Metrics.class);
+  private final Context<TestCustomResource> context = mock(Context.class);
+  private final AtomicInteger computations = new AtomicInteger();
+  private TestCustomResource primary;
+  private MemoizationCache cache;
+
+  @BeforeEach
+  void setup() {
+    primary = TestUtils.testCustomResource();
+    primary.getMetadata().setUid("uid");
+    cache = new MemoizationCache(2, metrics, METADATA);
+  }
+
+  @Test
+  void reusesValueIfInputsDidNotChange() {
+    secondary("1");
+
+    assertThat(desired("d1")).isEqualTo("1");
+    assertThat(desired("d1")).isEqualTo("1");
+
+    assertThat(computations).hasValue(1);
+    verify(metrics).memoizationLookup("d1", MemoizationCache.DESIRED, false, METADATA);
+    verify(metrics).memoizationLookup("d1", MemoizationCache.DESIRED, true, METADATA);
+  }
+
+  @Test
+  void recomputesValueIfSecondaryResourceChanged() {
+    secondary("1");
+    desired("d1");
+    secondary("2");
+
+    assertThat(desired("d1")).isEqualTo("2");
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void recomputesValueIfGenerationChanged() {
+    secondary("1");
+    desired("d1");
+    primary.getMetadata().setGeneration(2L);
+
+    desired("d1");
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void recomputesValueIfResourceVersionChangedWithoutGeneration() {
+    secondary("1");
+    primary.getMetadata().setGeneration(null);
+    primary.getMetadata().setResourceVersion("1");
+    desired("d1");
+    desired("d1");
+    primary.getMetadata().setResourceVersion("2");
+
+    desired("d1");
+    assertThat(computations).hasValue(2);
+  }
+
+  @Test
+  void recomputesValueIfLabelsOrAnnotationsChanged() {
+    secondary("1");
+    desired("d1");
+    primary.getMetadata().setLabels(Map.of("app", "foo"));
+    desired("d1");
+    primary.getMetadata().setAnnotations(Map.of("note", "bar"));
+
+    desired("d1");
+    assertThat(computations).hasValue(3);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedValues() {
+    secondary("1");
+    desired("d1");
+    desired("d2");
+    desired("d1");
+    desired("d3");
+
+    assertThat(cache.size()).isEqualTo(2);
+    verify(metrics).memoizedValueEvicted(METADATA);
+    desired("d1");
+    assertThat(computations).hasValue(3);
+    desired("d2");
+    assertThat(computations).hasValue(4);
+  }
+
+  @Test
+  void returnsMemoizedResourcesWithoutCopyingThem() {
+    final var first = cache.getOrCompute("d1", "desired", primary, context, this::computeConfigMap);
+
+    final var second =
+        cache.getOrCompute("d1", "desired", primary, context, this::computeConfigMap);
+    assertThat(second).isSameAs(first);
+    assertThat(computations).hasValue(1);
+  }
+
+  @Test
+  void staysBoundedWhenAccessedConcurrently() throws InterruptedException {
+    secondary("1");
+    final var executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 200; i++) {
+      final var name = "d" + (i % 10);
+      executor.execute(() -> desired(name));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(cache.size()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void propagatesReadsOfNestedComputations() {
+    secondary("1");
+    cache.getOrCompute("outer", "desired", primary, context, () -> desired("inner"));
+    secondary("2");
+
+    cache.getOrCompute("outer", "desired", primary, context, () -> desired("inner"));
+    // both the outer and the inner value are recomputed
+    assertThat(computations).hasValue(2);
+    verify(metrics, times(2)).memoizationLookup("outer", "desired", false, METADATA);
+  }
+
+  @Test
+  void doesNotRecordReadsOutsideOfComputations() {
+    assertThat(MemoizationCache.isRecording()).isFalse();
+    cache.getOrCompute(
+        "d1",
+        "desired",
+        primary,
+        context,
+        () -> {
+          assertThat(MemoizationCache.isRecording()).isTrue();
+          return "value";
+        });
+    assertThat(MemoizationCache.isRecording()).isFalse();
+  }
+
+  @Test
+  void stopsRecordingIfComputationFails() {
+    assertThatThrownBy(
+            () ->
+                cache.getOrCompute(
+                    "d1",
+                    "desired",
+                    primary,
+                    context,
+                    () -> {
+                      throw new IllegalStateException();
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(MemoizationCache.isRecording()).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  private void secondary(String resourceVersion) {
+    final var configMap = configMap();
+    configMap.getMetadata().setResourceVersion(resourceVersion);
+    when(context.getSecondaryResource(ConfigMap.class)).thenReturn(Optional.of(configMap));
+  }
+
+  private String desired(String dependentName) {
+    return cache.getOrCompute(
+        dependentName,
+        MemoizationCache.DESIRED,
+        primary,
+        context,
+        () -> {
+          computations.incrementAndGet();
+          // what DefaultContext does when reading secondary resources
+          final var secondary = context.getSecondaryResource(ConfigMap.class);
+          MemoizationCache.recordRead(secondary, c -> c.getSecondaryResource(ConfigMap.class));
+          return secondary.orElseThrow().getMetadata().getResourceVersion();
+        });
+  }
+
+  private ConfigMap computeConfigMap() {
+    computations.incrementAndGet();
+    return configMap();
+  }
+
+  private static ConfigMap configMap() {
+    return new ConfigMapBuilder().withNewMetadata().withName("cm").endMetadata().build();
+  }
+}
@@ -57,8 +57,13 @@ public class AbstractWorkflowExecutorTest {
 
   public class TestDependent extends KubernetesDependentResource<ConfigMap, TestCustomResource> {
 
+    @SuppressWarnings("unchecked")
     public TestDependent(String name) {
       super(ConfigMap.class, name);
+      // as done when registering the event sources of managed dependents
+      var mockIES = mock(InformerEventSource.class);
+      when(mockIES.name()).thenReturn(name);
+      setEventSource(mockIES);
     }
 
     @Override
@@ -72,9 +77,7 @@ public class AbstractWorkflowExecutorTest {
     @Override
     public synchronized Optional<InformerEventSource<ConfigMap, TestCustomResource>> eventSource(
         EventSourceContext<TestCustomResource> context) {
-      var mockIES = mock(InformerEventSource.class);
-      when(mockIES.name()).thenReturn(name);
-      return Optional.of(mockIES);
+      return eventSource();
     }
 
     @Override
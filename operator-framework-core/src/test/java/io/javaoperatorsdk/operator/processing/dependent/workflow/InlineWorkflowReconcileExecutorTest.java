@@ -0,0 +1,138 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent.workflow;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.processing.dependent.workflow.ExecutionAssert.assertThat;
+
+/** Runs all the reconcile executor scenarios with inline execution of dependents enabled. */
+class InlineWorkflowReconcileExecutorTest extends WorkflowReconcileExecutorTest {
+
+  private final Map<String, Thread> reconcilingThreads = new ConcurrentHashMap<>();
+
+  @Override
+  WorkflowBuilder<TestCustomResource> workflowBuilder() {
+    return super.workflowBuilder().withInlineExecution(true);
+  }
+
+  @Test
+  void runsCheapDependentsOnReconcilingThread() {
+    var root = new ThreadRecordingDependent("root", true);
+    var left = new ThreadRecordingDependent("left", true);
+    var right = new ThreadRecordingDependent("right", true);
+    var workflow =
+        workflowBuilder()
+            .addDependentResource(root)
+            .addDependentResourceAndConfigure(left)
+            .dependsOn(root)
+            .addDependentResourceAndConfigure(right)
+            .dependsOn(root)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    assertThat(executionHistory).reconciledInOrder(root, left).reconciledInOrder(root, right);
+    Assertions.assertThat(reconcilingThreads)
+        .hasSize(3)
+        .allSatisfy((n, t) -> Assertions.assertThat(t).isSameAs(Thread.currentThread()));
+  }
+
+  @Test
+  void runsLinearChainOnReconcilingThread() {
+    var builder = workflowBuilder();
+    var chain = new ThreadRecordingDependent[10];
+    for (int i = 0; i < chain.length; i++) {
+      chain[i] = new ThreadRecordingDependent("level-" + i, false);
+      if (i == 0) {
+        builder.addDependentResource(chain[i]);
+      } else {
+        builder.addDependentResourceAndConfigure(chain[i]).dependsOn(chain[i - 1]);
+      }
+    }
+
+    var res = builder.build().reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    assertThat(executionHistory).reconciledInOrder(chain);
+    Assertions.assertThat(reconcilingThreads)
+        .hasSize(chain.length)
+        .allSatisfy((n, t) -> Assertions.assertThat(t).isSameAs(Thread.currentThread()));
+  }
+
+  @Test
+  void submitsOnlyParallelBranchesToExecutor() {
+    var root = new ThreadRecordingDependent("root", false);
+    var left = new ThreadRecordingDependent("left", false);
+    var right = new ThreadRecordingDependent("right", false);
+    var sink = new ThreadRecordingDependent("sink", true);
+    var workflow =
+        workflowBuilder()
+            .addDependentResource(root)
+            .addDependentResourceAndConfigure(left)
+            .dependsOn(root)
+            .addDependentResourceAndConfigure(right)
+            .dependsOn(root)
+            .addDependentResourceAndConfigure(sink)
+            .dependsOn(left, right)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    assertThat(executionHistory)
+        .reconciledInOrder(root, left, sink)
+        .reconciledInOrder(root, right, sink);
+    var current = Thread.currentThread();
+    Assertions.assertThat(reconcilingThreads.get(root.name())).isSameAs(current);
+    Assertions.assertThat(
+            reconcilingThreads.get(left.name()) == current
+                ^ reconcilingThreads.get(right.name()) == current)
+        .isTrue();
+  }
+
+  private class ThreadRecordingDependent extends TestDependent {
+
+    private final boolean cheap;
+
+    private ThreadRecordingDependent(String name, boolean cheap) {
+      super(name);
+      this.cheap = cheap;
+    }
+
+    @Override
+    public ReconcileResult<ConfigMap> reconcile(
+        TestCustomResource primary, Context<TestCustomResource> context) {
+      reconcilingThreads.put(name(), Thread.currentThread());
+      return super.reconcile(primary, context);
+    }
+
+    @Override
+    public boolean isCheapToReconcile() {
+      return cheap;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.dependent.workflow;
+
+import java.util.ArrayList;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.processing.dependent.workflow.ExecutionAssert.assertThat;
+
+/** Runs all the reconcile executor scenarios against the lock-free executor. */
+class LockFreeWorkflowReconcileExecutorTest extends WorkflowReconcileExecutorTest {
+
+  @Override
+  WorkflowBuilder<TestCustomResource> workflowBuilder() {
+    return super.workflowBuilder().withLockFreeExecution(true);
+  }
+
+  @Test
+  void reconcilesWideWorkflow() {
+    var root = new TestDependent("root");
+    var sink = new TestDependent("sink");
+    var builder = workflowBuilder().addDependentResource(root);
+    var middle = new ArrayList<TestDependent>();
+    for (int i = 0; i < 50; i++) {
+      var dependent = new TestDependent("middle-" + i);
+      middle.add(dependent);
+      builder.addDependentResourceAndConfigure(dependent).dependsOn(root);
+    }
+    builder.addDependentResourceAndConfigure(sink).dependsOn(middle.toArray(TestDependent[]::new));
+
+    var res = builder.build().reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    Assertions.assertThat(res.getReconciledDependents()).hasSize(52);
+    for (var dependent : middle) {
+      assertThat(executionHistory).reconciledInOrder(root, dependent, sink);
+    }
+  }
+
+  @Test
+  void reconcilesDeepWorkflow() {
+    var builder = workflowBuilder();
+    var chain = new TestDependent[30];
+    for (int i = 0; i < chain.length; i++) {
+      chain[i] = new TestDependent("level-" + i);
+      if (i == 0) {
+        builder.addDependentResource(chain[i]);
+      } else {
+        builder.addDependentResourceAndConfigure(chain[i]).dependsOn(chain[i - 1]);
+      }
+    }
+
+    var res = builder.build().reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    Assertions.assertThat(res.getReconciledDependents()).hasSize(chain.length);
+    assertThat(executionHistory).reconciledInOrder(chain);
+  }
+}
@@ -15,6 +15,8 @@
  */
 package io.javaoperatorsdk.operator.processing.dependent.workflow;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -60,13 +62,13 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     when(mockContext.eventSourceRetriever()).thenReturn(eventSourceRetriever);
   }
 
+  WorkflowBuilder<TestCustomResource> workflowBuilder() {
+    return new WorkflowBuilder<>();
+  }
+
   @Test
   void reconcileTopLevelResources() {
-    var workflow =
-        new WorkflowBuilder<TestCustomResource>()
-            .addDependentResource(dr1)
-            .addDependentResource(dr2)
-            .build();
+    var workflow = workflowBuilder().addDependentResource(dr1).addDependentResource(dr2).build();
 
     var res = workflow.reconcile(new TestCustomResource(), mockContext);
 
@@ -78,7 +80,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void reconciliationWithSimpleDependsOn() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -97,7 +99,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   void reconciliationWithTwoTheDependsOns() {
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -117,7 +119,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void diamondShareWorkflowReconcile() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -142,10 +144,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void exceptionHandlingSimpleCases() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
-            .addDependentResource(drError)
-            .withThrowExceptionFurther(false)
-            .build();
+        workflowBuilder().addDependentResource(drError).withThrowExceptionFurther(false).build();
 
     var res = workflow.reconcile(new TestCustomResource(), mockContext);
 
@@ -160,7 +159,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void dependentsOnErroredResourceNotReconciled() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(drError)
             .dependsOn(dr1)
@@ -182,7 +181,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   void oneBranchErrorsOtherCompletes() {
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(drError)
             .dependsOn(dr1)
@@ -205,7 +204,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void onlyOneDependsOnErroredResourceNotReconciled() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResource(drError)
             .addDependentResourceAndConfigure(dr2)
@@ -237,7 +236,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
         };
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReconcilePrecondition(unmetWithResult)
             .addDependentResourceAndConfigure(dr2)
@@ -259,7 +258,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void triangleOnceConditionNotMet() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -281,7 +280,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter2 = new TestDeleterDependent("DR_DELETER_2");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -311,7 +310,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter2 = new TestDeleterDependent("DR_DELETER_2");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(drError)
             .addDependentResourceAndConfigure(drDeleter)
             .withReconcilePrecondition(notMetCondition)
@@ -334,7 +333,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void oneDependsOnConditionNotMet() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .withReconcilePrecondition(notMetCondition)
@@ -356,7 +355,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   void deletedIfReconcileConditionNotMet() {
     TestDeleterDependent drDeleter2 = new TestDeleterDependent("DR_DELETER_2");
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(drDeleter)
             .dependsOn(dr1)
@@ -383,7 +382,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter4 = new TestDeleterDependent("DR_DELETER_4");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(drDeleter)
             .withReconcilePrecondition(notMetCondition)
@@ -415,7 +414,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter4 = new TestDeleterDependent("DR_DELETER_4");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(drDeleter)
             .withReconcilePrecondition(notMetCondition)
             .addDependentResourceAndConfigure(drDeleter2)
@@ -445,7 +444,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter3 = new TestDeleterDependent("DR_DELETER_3");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(drDeleter)
             .withReconcilePrecondition(notMetCondition)
             .addDependentResourceAndConfigure(drDeleter2)
@@ -471,7 +470,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void readyConditionTrivialCase() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(metCondition)
             .addDependentResourceAndConfigure(dr2)
@@ -490,7 +489,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void readyConditionNotMetTrivialCase() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(notMetCondition)
             .addDependentResourceAndConfigure(dr2)
@@ -510,7 +509,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   void readyConditionNotMetInOneParent() {
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(notMetCondition)
             .addDependentResource(dr2)
@@ -529,7 +528,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void diamondShareWithReadyCondition() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResource(dr1)
             .addDependentResourceAndConfigure(dr2)
             .dependsOn(dr1)
@@ -556,7 +555,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void garbageCollectedResourceIsDeletedIfReconcilePreconditionDoesNotHold() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(gcDeleter)
             .withReconcilePrecondition(notMetCondition)
             .build();
@@ -570,7 +569,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void garbageCollectedDeepResourceIsDeletedIfReconcilePreconditionDoesNotHold() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReconcilePrecondition(notMetCondition)
             .addDependentResourceAndConfigure(gcDeleter)
@@ -586,7 +585,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void notReconciledIfActivationConditionNotMet() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .addDependentResource(dr2)
@@ -601,7 +600,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void dependentsOnANonActiveDependentNotReconciled() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .addDependentResource(dr2)
@@ -618,7 +617,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void readyConditionNotCheckedOnNonActiveDependent() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .withReadyPostcondition(notMetCondition)
@@ -638,7 +637,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     var precondition = mock(Condition.class);
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .withReconcilePrecondition(precondition)
@@ -655,7 +654,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     TestDeleterDependent drDeleter3 = new TestDeleterDependent("DR_DELETER_3");
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .addDependentResourceAndConfigure(drDeleter)
@@ -681,7 +680,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     when(condition.isMet(any(), any(), any())).thenReturn(false);
 
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(drDeleter)
             .withActivationCondition(condition)
             .addDependentResourceAndConfigure(drDeleter2)
@@ -698,7 +697,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @SuppressWarnings("unchecked")
   void activationConditionEventSourceRegistrationWithParentWithFalsePrecondition() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReconcilePrecondition(notMetCondition)
             .addDependentResourceAndConfigure(drDeleter)
@@ -716,7 +715,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @SuppressWarnings("unchecked")
   void activationConditionEventSourceRegistration() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .addDependentResourceAndConfigure(drDeleter)
             .withActivationCondition(notMetCondition)
@@ -732,7 +731,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void oneDependentWithActivationCondition() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withActivationCondition(notMetCondition)
             .build();
@@ -764,7 +763,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
           }
         };
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(resultCondition)
             .build();
@@ -798,7 +797,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
           }
         };
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(resultCondition)
             .build();
@@ -818,7 +817,7 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
   @Test
   void shouldReturnEmptyIfNoConditionResultExists() {
     var workflow =
-        new WorkflowBuilder<TestCustomResource>()
+        workflowBuilder()
             .addDependentResourceAndConfigure(dr1)
             .withReadyPostcondition(notMetCondition)
             .build();
@@ -826,4 +825,150 @@ class WorkflowReconcileExecutorTest extends AbstractWorkflowExecutorTest {
     final var reconcileResult = workflow.reconcile(new TestCustomResource(), mockContext);
     assertTrue(reconcileResult.getNotReadyDependentResult(dr1, Integer.class).isEmpty());
   }
+
+  @Test
+  void incrementalReconciliationOnlyReconcilesAffectedDependents() {
+    when(mockContext.getTriggeringEventSourceNames()).thenReturn(Optional.of(Set.of(dr2.name())));
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResource(dr1)
+            .addDependentResourceAndConfigure(dr2)
+            .dependsOn(dr1)
+            .addDependentResourceAndConfigure(dr3)
+            .dependsOn(dr2)
+            .addDependentResource(dr4)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    Assertions.assertThat(res.getErroredDependents()).isEmpty();
+    assertThat(executionHistory).reconciledInOrder(dr2, dr3).notReconciled(dr1, dr4);
+    Assertions.assertThat(res.getReconciledDependents()).containsExactlyInAnyOrder(dr2, dr3);
+  }
+
+  @Test
+  void incrementalReconciliationDoesNotCreateEventSources() {
+    when(mockContext.getTriggeringEventSourceNames()).thenReturn(Optional.of(Set.of(dr2.name())));
+    var unresolved = spy(new TestDependent("UNRESOLVED"));
+    unresolved.setEventSource(null);
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResource(dr1)
+            .addDependentResource(unresolved)
+            .build();
+
+    workflow.reconcile(new TestCustomResource(), mockContext);
+
+    // dependents with an unknown event source are considered affected
+    assertThat(executionHistory).reconciled(unresolved).notReconciled(dr1);
+    verify(unresolved, never()).eventSource(any());
+  }
+
+  @Test
+  void incrementalReconciliationChecksConditionsOfNotAffectedDependencies() {
+    when(mockContext.getTriggeringEventSourceNames()).thenReturn(Optional.of(Set.of(dr2.name())));
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResourceAndConfigure(dr1)
+            .withReadyPostcondition(notMetCondition)
+            .addDependentResourceAndConfigure(dr2)
+            .dependsOn(dr1)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    assertThat(executionHistory).notReconciled(dr1, dr2);
+    Assertions.assertThat(res.getNotReadyDependents()).containsExactly(dr1);
+  }
+
+  @Test
+  void incrementalReconciliationReportsNotAffectedDependents() {
+    final var notReady =
+        new DetailedCondition<>() {
+          @Override
+          public Result<Object> detailedIsMet(
+              DependentResource<Object, HasMetadata> dependentResource,
+              HasMetadata primary,
+              Context<HasMetadata> context) {
+            return new Result<>() {
+              @Override
+              public Object getDetail() {
+                return 42;
+              }
+
+              @Override
+              public boolean isSuccess() {
+                return false;
+              }
+            };
+          }
+        };
+    when(mockContext.getTriggeringEventSourceNames()).thenReturn(Optional.of(Set.of(dr2.name())));
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResource(dr1)
+            .addDependentResourceAndConfigure(dr2)
+            .dependsOn(dr1)
+            .addDependentResourceAndConfigure(dr3)
+            .withReadyPostcondition(notReady)
+            .addDependentResourceAndConfigure(dr4)
+            .dependsOn(dr3)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    assertThat(executionHistory).reconciled(dr2).notReconciled(dr1, dr3, dr4);
+    Assertions.assertThat(res.getReconciledDependents()).containsExactly(dr2);
+    Assertions.assertThat(res.getNotReadyDependents()).containsExactly(dr3);
+    Assertions.assertThat(res.allDependentResourcesReady()).isFalse();
+    Assertions.assertThat(res.getNotReadyDependentResult(dr3, Integer.class)).contains(42);
+    Assertions.assertThat(res.getDependentResourceByName(dr1.name())).contains(dr1);
+    // dr4 waits on a not ready dependency, as it would during a full reconciliation
+    Assertions.assertThat(res.getDependentResourceByName(dr4.name())).isEmpty();
+  }
+
+  @Test
+  void incrementalReconciliationReconcilesDependentsReadingTriggeringEventSources() {
+    Condition readsOtherEventSource =
+        (primary, secondary, context) -> {
+          ReadEventSources.recordRead("other");
+          return true;
+        };
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResourceAndConfigure(dr1)
+            .withReadyPostcondition(readsOtherEventSource)
+            .addDependentResource(dr2)
+            .build();
+    workflow.reconcile(new TestCustomResource(), mockContext);
+    executionHistory.clear();
+
+    when(mockContext.getTriggeringEventSourceNames()).thenReturn(Optional.of(Set.of("other")));
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    assertThat(executionHistory).reconciled(dr1).notReconciled(dr2);
+    Assertions.assertThat(res.getReconciledDependents()).containsExactly(dr1);
+    Assertions.assertThat(res.allDependentResourcesReady()).isTrue();
+  }
+
+  @Test
+  void incrementalReconciliationFallsBackToFullReconciliation() {
+    var workflow =
+        workflowBuilder()
+            .withIncrementalReconciliation(true)
+            .addDependentResource(dr1)
+            .addDependentResourceAndConfigure(dr2)
+            .dependsOn(dr1)
+            .build();
+
+    var res = workflow.reconcile(new TestCustomResource(), mockContext);
+
+    assertThat(executionHistory).reconciledInOrder(dr1, dr2);
+    Assertions.assertThat(res.getReconciledDependents()).containsExactlyInAnyOrder(dr1, dr2);
+  }
 }
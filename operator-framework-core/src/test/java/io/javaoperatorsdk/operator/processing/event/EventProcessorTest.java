@@ -18,7 +18,11 @@ package io.javaoperatorsdk.operator.processing.event;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +38,9 @@ import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.monitoring.ReconciliationLatencies;
 import io.javaoperatorsdk.operator.processing.event.rate.LinearRateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
@@ -62,6 +68,7 @@ import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -114,6 +121,7 @@ class EventProcessorTest {
     when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
     when(eventProcessorWithRetry.retryEventSource()).thenReturn(retryTimerEventSourceMock);
     when(rateLimiterMock.isLimited(any())).thenReturn(Optional.empty());
+    when(rateLimiterMock.initState(any(), any())).thenCallRealMethod();
   }
 
   @Test
@@ -181,6 +189,53 @@ class EventProcessorTest {
     verify(metricsMock, times(0)).reconciliationFinished(any(), any(), any());
   }
 
+  @Test
+  void keepsResourceUnderProcessingUntilAsyncReconciliationCompletes() {
+    var processorWithMetrics =
+        spy(
+            new EventProcessor(
+                controllerConfiguration(null, rateLimiterMock),
+                reconciliationDispatcherMock,
+                eventSourceManagerMock,
+                metricsMock));
+    processorWithMetrics.start();
+    when(processorWithMetrics.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var reconciliation = new CompletableFuture<PostExecutionControl>();
+    when(reconciliationDispatcherMock.isAsync()).thenReturn(true);
+    when(reconciliationDispatcherMock.handleExecutionAsync(any(), any()))
+        .thenReturn(reconciliation);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    processorWithMetrics.handleEvent(event);
+
+    verify(reconciliationDispatcherMock, timeout(1000)).handleExecutionAsync(any(), any());
+    verify(reconciliationDispatcherMock, never()).handleExecution(any());
+    assertThat(processorWithMetrics.isUnderProcessing(resourceID)).isTrue();
+    verify(metricsMock, never()).reconciliationFinished(any(), any(), any());
+
+    reconciliation.complete(PostExecutionControl.defaultDispatch());
+
+    assertThat(processorWithMetrics.isUnderProcessing(resourceID)).isFalse();
+    verify(metricsMock, times(1)).reconciliationFinished(any(), any(), any());
+  }
+
+  @Test
+  void finishesProcessingWhenAsyncReconciliationCompletesExceptionally() {
+    final var reconciliation = new CompletableFuture<PostExecutionControl>();
+    when(reconciliationDispatcherMock.isAsync()).thenReturn(true);
+    when(reconciliationDispatcherMock.handleExecutionAsync(any(), any()))
+        .thenReturn(reconciliation);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+    verify(reconciliationDispatcherMock, timeout(1000)).handleExecutionAsync(any(), any());
+    reconciliation.completeExceptionally(new IllegalStateException());
+
+    assertThat(eventProcessor.isUnderProcessing(resourceID)).isFalse();
+  }
+
   @Test
   void ifExecutionInProgressWaitsUntilItsFinished() {
     ResourceID resourceUid = eventAlreadyUnderProcessing();
@@ -284,6 +339,62 @@ class EventProcessorTest {
     assertThat(executionScopes.get(1).getRetryInfo().isLastAttempt()).isEqualTo(false);
   }
 
+  @Test
+  void exposesEventSourcesTriggeringReconciliation() {
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenAnswer(
+            new AnswersWithDelay(
+                DISPATCHING_DELAY, new Returns(PostExecutionControl.defaultDispatch())));
+    var event = prepareCREvent();
+    var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+    // received while the first reconciliation is in progress
+    eventProcessor.eventHandlerFor("configmaps").handleEvent(new Event(resourceID));
+    eventProcessor.eventHandlerFor("secrets").handleEvent(new Event(resourceID));
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    waitUntilProcessingFinished(eventProcessor, resourceID);
+
+    eventProcessor.eventHandlerFor("configmaps").handleEvent(new Event(resourceID));
+    // received while the third reconciliation is in progress
+    eventProcessor.eventHandlerFor("secrets").handleEvent(new Event(resourceID));
+    eventProcessor.handleEvent(event);
+
+    ArgumentCaptor<ExecutionScope> captor = ArgumentCaptor.forClass(ExecutionScope.class);
+    verify(reconciliationDispatcherMock, timeout(2L * SEPARATE_EXECUTION_TIMEOUT).times(4))
+        .handleExecution(captor.capture());
+    var scopes = captor.getAllValues();
+    assertThat(scopes.get(0).getTriggeringEventSourceNames()).isNull();
+    assertThat(scopes.get(1).getTriggeringEventSourceNames())
+        .containsExactlyInAnyOrder("configmaps", "secrets");
+    assertThat(scopes.get(2).getTriggeringEventSourceNames()).containsExactly("configmaps");
+    // the event for the primary resource requires a full reconciliation
+    assertThat(scopes.get(3).getTriggeringEventSourceNames()).isNull();
+  }
+
+  @Test
+  void retryRequiresFullReconciliation() {
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenAnswer(
+            new AnswersWithDelay(
+                DISPATCHING_DELAY,
+                new Returns(
+                    PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")))))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    var event = prepareCREvent();
+    var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessorWithRetry.handleEvent(event);
+    eventProcessorWithRetry.eventHandlerFor("configmaps").handleEvent(new Event(resourceID));
+
+    ArgumentCaptor<ExecutionScope> captor = ArgumentCaptor.forClass(ExecutionScope.class);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(captor.capture());
+    assertThat(captor.getAllValues().get(1).getRetryInfo()).isNotNull();
+    assertThat(captor.getAllValues().get(1).getTriggeringEventSourceNames()).isNull();
+  }
+
   private void waitUntilProcessingFinished(
       EventProcessor eventProcessor, ResourceID relatedCustomResourceID) {
     await()
@@ -475,6 +586,127 @@ class EventProcessorTest {
         .scheduleOnce((ResourceID) any(), eq(refreshPeriod.toMillis()));
   }
 
+  @Test
+  void reportsLatenciesLinkingEventsToReconciliation() throws InterruptedException {
+    var processorWithMetrics =
+        spy(
+            new EventProcessor(
+                controllerConfiguration(null, rateLimiterMock),
+                reconciliationDispatcherMock,
+                eventSourceManagerMock,
+                metricsMock));
+    processorWithMetrics.start();
+    when(processorWithMetrics.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenAnswer(
+            new AnswersWithDelay(
+                DISPATCHING_DELAY, new Returns(PostExecutionControl.defaultDispatch())));
+    final var rateLimit = new RateLimitState() {};
+    when(rateLimiterMock.initState()).thenReturn(rateLimit);
+    when(rateLimiterMock.isLimited(rateLimit))
+        .thenReturn(Optional.of(Duration.ofMillis(100)))
+        .thenReturn(Optional.empty());
+    var event = prepareCREvent();
+
+    processorWithMetrics.handleEvent(event);
+    Thread.sleep(100);
+    // simulates the event from the timer event source triggered after the rate limit delay
+    processorWithMetrics.handleEvent(new Event(event.getRelatedCustomResourceID()));
+
+    var captor = ArgumentCaptor.forClass(ReconciliationLatencies.class);
+    verify(metricsMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .reconciliationLatencies(any(), captor.capture(), any());
+    var latencies = captor.getValue();
+    assertThat(latencies.rateLimitDelayNanos()).isGreaterThanOrEqualTo(millisToNanos(100));
+    assertThat(latencies.retryBackoffNanos()).isZero();
+    assertThat(latencies.eventToStartNanos())
+        .isGreaterThanOrEqualTo(latencies.rateLimitDelayNanos())
+        .isGreaterThanOrEqualTo(latencies.queueWaitNanos());
+    assertThat(latencies.eventToCompletionNanos())
+        .isGreaterThanOrEqualTo(latencies.eventToStartNanos() + millisToNanos(DISPATCHING_DELAY));
+  }
+
+  @Test
+  void rollsBackSubmissionRejectedByExecutor() {
+    var reconcileExecutor = mock(ExecutorService.class);
+    var executorServiceManager = mock(ExecutorServiceManager.class);
+    when(executorServiceManager.reconcileExecutorService()).thenReturn(reconcileExecutor);
+    var configurationService = spy(new BaseConfigurationService());
+    when(configurationService.getExecutorServiceManager()).thenReturn(executorServiceManager);
+    var rejectingProcessor =
+        spy(
+            new EventProcessor(
+                controllerConfiguration(null, rateLimiterMock, configurationService, false),
+                reconciliationDispatcherMock,
+                eventSourceManagerMock,
+                null));
+    rejectingProcessor.start();
+    when(rejectingProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    doThrow(new RejectedExecutionException("test"))
+        .doNothing()
+        .when(reconcileExecutor)
+        .execute(any());
+    var event = prepareCREvent();
+
+    rejectingProcessor.handleEvent(event);
+    verify(retryTimerEventSourceMock)
+        .scheduleOnce(eq(event.getRelatedCustomResourceID()), anyLong());
+
+    // the resource is not considered under processing anymore
+    rejectingProcessor.handleEvent(event);
+    verify(reconcileExecutor, times(2)).execute(any());
+  }
+
+  @Test
+  void cleansUpStateOfResourcesInUnwatchedNamespaces() {
+    eventProcessor.stop();
+    var event = prepareCREvent();
+    eventProcessor.handleEvent(event);
+    assertThat(eventProcessor.pendingEventCount()).isEqualTo(1);
+
+    eventProcessor.cleanupForUnwatchedNamespaces(Set.of(TEST_NAMESPACE, "other"));
+    assertThat(eventProcessor.pendingEventCount()).isEqualTo(1);
+
+    eventProcessor.cleanupForUnwatchedNamespaces(Set.of("other"));
+    assertThat(eventProcessor.pendingEventCount()).isZero();
+    verify(retryTimerEventSourceMock).cancelOnceSchedule(event.getRelatedCustomResourceID());
+  }
+
+  @Test
+  void processesQueuedEventsAsynchronouslyWhenEventQueueConfigured() {
+    var configurationService =
+        ConfigurationService.newOverriddenConfigurationService(
+            new BaseConfigurationService(), o -> o.withEventQueueCapacity(10));
+    // not spied, as the event queue processes the events on the instance it was created by
+    var queueingProcessor =
+        new EventProcessor(
+            controllerConfiguration(null, rateLimiterMock, configurationService, false),
+            reconciliationDispatcherMock,
+            eventSourceManagerMock,
+            null);
+    queueingProcessor.start();
+    when(eventSourceManagerMock.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenAnswer(
+            new AnswersWithDelay(
+                DISPATCHING_DELAY, new Returns(PostExecutionControl.defaultDispatch())));
+    var event = prepareCREvent();
+
+    queueingProcessor.handleEvent(event);
+    await().untilAsserted(() -> assertThat(queueingProcessor.queuedEventCount()).isZero());
+    queueingProcessor.handleEvent(event);
+    queueingProcessor.handleEvent(event);
+
+    verify(reconciliationDispatcherMock, timeout(4 * DISPATCHING_DELAY).times(2))
+        .handleExecution(any());
+    verify(reconciliationDispatcherMock, after(2 * DISPATCHING_DELAY).times(2))
+        .handleExecution(any());
+  }
+
+  private static long millisToNanos(long millis) {
+    return Duration.ofMillis(millis).toNanos();
+  }
+
   @Test
   void schedulesRetryForMarReconciliationInterval() {
     TestCustomResource customResource = testCustomResource();
@@ -492,7 +724,7 @@ class EventProcessorTest {
     RetryExecution mockRetryExecution = mock(RetryExecution.class);
     when(mockRetryExecution.nextDelay()).thenReturn(Optional.empty());
     Retry retry = mock(Retry.class);
-    when(retry.initExecution()).thenReturn(mockRetryExecution);
+    when(retry.initExecution(any(), any())).thenReturn(mockRetryExecution);
     eventProcessorWithRetry =
         spy(
             new EventProcessor(
@@ -519,7 +751,7 @@ class EventProcessorTest {
     when(mockRetryExecution.remainingDurationUntilNextRetry())
         .thenReturn(Optional.of(Duration.ofMillis(50_000)));
     Retry retry = mock(Retry.class);
-    when(retry.initExecution()).thenReturn(mockRetryExecution);
+    when(retry.initExecution(any(), any())).thenReturn(mockRetryExecution);
     eventProcessorWithRetry =
         spy(
             new EventProcessor(
@@ -543,6 +775,60 @@ class EventProcessorTest {
         .scheduleOnce(eq(ResourceID.fromResource(customResource)), eq(50_000L));
   }
 
+  @Test
+  void notifiesRetryExecutionOfSuccessfulRetry() {
+    RetryExecution mockRetryExecution = mock(RetryExecution.class);
+    when(mockRetryExecution.nextDelay()).thenReturn(Optional.of(60_000L));
+    Retry retry = mock(Retry.class);
+    TestCustomResource customResource = testCustomResource();
+    when(retry.initExecution(eq(ResourceID.fromResource(customResource)), eq(customResource)))
+        .thenReturn(mockRetryExecution);
+    eventProcessorWithRetry =
+        spy(
+            new EventProcessor(
+                controllerConfiguration(retry, LinearRateLimiter.deactivatedRateLimiter()),
+                reconciliationDispatcherMock,
+                eventSourceManagerMock,
+                metricsMock));
+    eventProcessorWithRetry.start();
+    when(eventProcessorWithRetry.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    ExecutionScope executionScope =
+        new ExecutionScope(null, null, false, false).setResource(customResource);
+
+    eventProcessorWithRetry.eventProcessingFinished(
+        executionScope,
+        PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")));
+    verify(mockRetryExecution, never()).succeeded();
+
+    eventProcessorWithRetry.eventProcessingFinished(
+        executionScope, PostExecutionControl.defaultDispatch());
+    verify(mockRetryExecution, times(1)).succeeded();
+  }
+
+  @Test
+  void notifiesRetryOfSuccessfulFirstAttempt() {
+    Retry retry = mock(Retry.class);
+    TestCustomResource customResource = testCustomResource();
+    eventProcessorWithRetry =
+        spy(
+            new EventProcessor(
+                controllerConfiguration(retry, LinearRateLimiter.deactivatedRateLimiter()),
+                reconciliationDispatcherMock,
+                eventSourceManagerMock,
+                metricsMock));
+    eventProcessorWithRetry.start();
+    when(eventProcessorWithRetry.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    ExecutionScope executionScope =
+        new ExecutionScope(null, null, false, false).setResource(customResource);
+
+    eventProcessorWithRetry.eventProcessingFinished(
+        executionScope, PostExecutionControl.defaultDispatch());
+
+    verify(retry, times(1))
+        .reconciliationSucceeded(ResourceID.fromResource(customResource), customResource);
+    verify(retry, never()).initExecution(any(), any());
+  }
+
   @Test
   void consumesRetryAttemptWhenRemainingDurationAtOrBelowThreshold() {
     RetryExecution mockRetryExecution = mock(RetryExecution.class);
@@ -550,7 +836,7 @@ class EventProcessorTest {
     when(mockRetryExecution.remainingDurationUntilNextRetry())
         .thenReturn(Optional.of(Duration.ofMillis(2_000)));
     Retry retry = mock(Retry.class);
-    when(retry.initExecution()).thenReturn(mockRetryExecution);
+    when(retry.initExecution(any(), any())).thenReturn(mockRetryExecution);
     eventProcessorWithRetry =
         spy(
             new EventProcessor(
@@ -580,7 +866,7 @@ class EventProcessorTest {
     when(mockRetryExecution.nextDelay()).thenReturn(Optional.of(60_000L));
     when(mockRetryExecution.remainingDurationUntilNextRetry()).thenReturn(Optional.empty());
     Retry retry = mock(Retry.class);
-    when(retry.initExecution()).thenReturn(mockRetryExecution);
+    when(retry.initExecution(any(), any())).thenReturn(mockRetryExecution);
     eventProcessorWithRetry =
         spy(
             new EventProcessor(
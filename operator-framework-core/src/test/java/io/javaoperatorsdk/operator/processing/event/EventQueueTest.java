@@ -0,0 +1,116 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.api.config.EventQueueOverflowStrategy;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceAction;
+import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceDeleteEvent;
+import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class EventQueueTest {
+
+  private final List<Runnable> drainTasks = new CopyOnWriteArrayList<>();
+  private final Executor executor = drainTasks::add;
+  private final List<List<EventQueue.QueuedEvent>> processed = new CopyOnWriteArrayList<>();
+
+  @Test
+  void coalescesEventsOfResourceKeepingDeleteEventsInSequence() {
+    var queue = queue(10, EventQueueOverflowStrategy.CALLER_RUNS);
+    var resource = testCustomResource();
+    var other = testCustomResource();
+    var id = ResourceID.fromResource(resource);
+
+    assertThat(queue.offer(updateEvent(resource), null, 1)).isTrue();
+    assertThat(queue.offer(new Event(id), "secondary", 2)).isTrue();
+    assertThat(queue.offer(updateEvent(other), null, 3)).isTrue();
+    assertThat(queue.offer(deleteEvent(resource), null, 4)).isTrue();
+    assertThat(queue.offer(updateEvent(resource), "secondary", 5)).isTrue();
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.coalescedCount()).isEqualTo(1);
+    assertThat(drainTasks).hasSize(1);
+    drainTasks.get(0).run();
+
+    assertThat(processed).hasSize(2);
+    var events = processed.get(0);
+    assertThat(events).hasSize(3);
+    // the resource event is kept over the generic event, with the earliest reception time
+    assertThat(events.get(0).event()).isInstanceOf(ResourceEvent.class);
+    assertThat(events.get(0).receivedAt()).isEqualTo(1);
+    assertThat(events.get(0).eventSourceNames()).containsExactly(null, "secondary");
+    assertThat(events.get(1).event()).isInstanceOf(ResourceDeleteEvent.class);
+    assertThat(events.get(2).receivedAt()).isEqualTo(5);
+    assertThat(processed.get(1).get(0).event().getRelatedCustomResourceID())
+        .isEqualTo(ResourceID.fromResource(other));
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void letsCallerProcessEventsOfNewResourcesWhenFull() {
+    var queue = queue(1, EventQueueOverflowStrategy.CALLER_RUNS);
+    var resource = testCustomResource();
+
+    assertThat(queue.offer(updateEvent(resource), null, 1)).isTrue();
+    assertThat(queue.offer(updateEvent(resource), null, 2)).isTrue();
+    assertThat(queue.offer(updateEvent(testCustomResource()), null, 3)).isFalse();
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.overflowCount()).isEqualTo(1);
+  }
+
+  @Test
+  void blocksCallerUntilQueueHasRoomWhenFull() {
+    var queue = queue(1, EventQueueOverflowStrategy.BLOCK);
+    queue.offer(updateEvent(testCustomResource()), null, 1);
+
+    var offered =
+        CompletableFuture.supplyAsync(
+            () -> queue.offer(updateEvent(testCustomResource()), null, 2));
+
+    await().untilAsserted(() -> assertThat(queue.overflowCount()).isEqualTo(1));
+    assertThat(offered).isNotDone();
+    drainTasks.get(0).run();
+
+    await().untilAsserted(() -> assertThat(offered).isCompletedWithValue(true));
+    // the second event is either processed by the running drain task or waiting in the queue
+    assertThat(processed.size() + queue.size()).isEqualTo(2);
+  }
+
+  private EventQueue queue(int capacity, EventQueueOverflowStrategy strategy) {
+    return new EventQueue(capacity, strategy, () -> executor, processed::addAll);
+  }
+
+  private static ResourceEvent updateEvent(TestCustomResource resource) {
+    return new ResourceEvent(ResourceAction.UPDATED, ResourceID.fromResource(resource), resource);
+  }
+
+  private static ResourceEvent deleteEvent(TestCustomResource resource) {
+    return new ResourceDeleteEvent(
+        ResourceAction.DELETED, ResourceID.fromResource(resource), resource, false);
+  }
+}
@@ -15,7 +15,9 @@
  */
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
@@ -24,9 +26,11 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.MockControllerConfiguration;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.health.EventSourceStartupProgress;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.EventSource;
@@ -99,6 +103,92 @@ class EventSourceManagerTest {
     verify(eventSource2, times(1)).start();
   }
 
+  @Test
+  void tracksEventSourceStartupProgress() {
+    EventSource eventSource = mockEventSource("name1", EventSourceStartPriority.DEFAULT);
+    EventSource failing = mockEventSource("failing", EventSourceStartPriority.DEFAULT);
+    doThrow(new IllegalStateException("test")).when(failing).start();
+    eventSourceManager.registerEventSource(eventSource);
+    eventSourceManager.registerEventSource(failing);
+
+    assertThrows(OperatorException.class, eventSourceManager::start);
+
+    Map<String, EventSourceStartupProgress> progress = eventSourceManager.startupProgress();
+    assertThat(progress.get("name1").state()).isEqualTo(EventSourceStartupProgress.State.STARTED);
+    assertThat(progress.get("name1").cachedResources()).isEqualTo(-1);
+    assertThat(progress.get("failing").state()).isEqualTo(EventSourceStartupProgress.State.FAILED);
+    var controllerEventSourceProgress =
+        progress.get(eventSourceManager.getControllerEventSource().name());
+    assertThat(controllerEventSourceProgress.state())
+        .isEqualTo(EventSourceStartupProgress.State.STARTED);
+    assertThat(controllerEventSourceProgress.cachedResources()).isZero();
+  }
+
+  @Test
+  void startsEventSourcesConcurrentlyRespectingPriorities() {
+    var manager =
+        initManager(
+            ConfigurationService.newOverriddenConfigurationService(
+                o -> o.withEventSourceStartupConcurrency(2)));
+    var loaderStarted = new AtomicBoolean();
+    var startedAfterLoader = new AtomicBoolean();
+    EventSource loader = mockEventSource("loader", EventSourceStartPriority.RESOURCE_STATE_LOADER);
+    doAnswer(
+            invocation -> {
+              Thread.sleep(50);
+              loaderStarted.set(true);
+              return null;
+            })
+        .when(loader)
+        .start();
+    EventSource eventSource = mockEventSource("name1", EventSourceStartPriority.DEFAULT);
+    doAnswer(
+            invocation -> {
+              startedAfterLoader.set(loaderStarted.get());
+              return null;
+            })
+        .when(eventSource)
+        .start();
+    manager.registerEventSource(loader);
+    manager.registerEventSource(eventSource);
+
+    manager.start();
+
+    assertThat(startedAfterLoader).isTrue();
+    Map<String, EventSourceStartupProgress> progress = manager.startupProgress();
+    assertThat(progress.values())
+        .allMatch(p -> p.state() == EventSourceStartupProgress.State.STARTED);
+    assertThat(progress.get("loader").elapsed().toMillis()).isGreaterThanOrEqualTo(50);
+  }
+
+  @Test
+  void concurrentStartupPropagatesFailures() {
+    var manager =
+        initManager(
+            ConfigurationService.newOverriddenConfigurationService(
+                o -> o.withEventSourceStartupConcurrency(2)));
+    EventSource loader = mockEventSource("loader", EventSourceStartPriority.RESOURCE_STATE_LOADER);
+    doThrow(new IllegalStateException("test")).when(loader).start();
+    EventSource eventSource = mockEventSource("name1", EventSourceStartPriority.DEFAULT);
+    manager.registerEventSource(loader);
+    manager.registerEventSource(eventSource);
+
+    assertThatExceptionOfType(OperatorException.class)
+        .isThrownBy(manager::start)
+        .withMessageContaining("loader");
+    verify(eventSource, never()).start();
+    Map<String, EventSourceStartupProgress> progress = manager.startupProgress();
+    assertThat(progress.get("name1").state()).isEqualTo(EventSourceStartupProgress.State.PENDING);
+  }
+
+  private EventSource mockEventSource(String name, EventSourceStartPriority priority) {
+    EventSource eventSource = mock(EventSource.class);
+    when(eventSource.priority()).thenReturn(priority);
+    when(eventSource.name()).thenReturn(name);
+    when(eventSource.resourceType()).thenReturn(EventSource.class);
+    return eventSource;
+  }
+
   @Test
   void retrievingEventSourceForClassShouldWork() {
     assertThatExceptionOfType(NoEventSourceForClassException.class)
@@ -200,9 +290,45 @@ class EventSourceManagerTest {
     verify(controllerResourceEventSourceMock, times(1)).changeNamespaces(Set.of(newNamespaces));
   }
 
+  @Test
+  void changesNamespacesInPlaceOnlyIfAllFollowingInformersDo() {
+    final var configuration = MockControllerConfiguration.forResource(HasMetadata.class);
+    when(configuration.getConfigurationService()).thenReturn(new BaseConfigurationService());
+    final Controller controller =
+        new Controller(
+            mock(Reconciler.class), configuration, MockKubernetesClient.client(HasMetadata.class));
+
+    EventSources eventSources = spy(new EventSources());
+    var controllerResourceEventSourceMock = mock(ControllerEventSource.class);
+    doReturn(controllerResourceEventSourceMock).when(eventSources).controllerEventSource();
+    var manager = new EventSourceManager(controller, eventSources);
+
+    InformerEventSource informerEventSource = mock(InformerEventSource.class);
+    when(informerEventSource.name()).thenReturn("ies");
+    when(informerEventSource.resourceType()).thenReturn(TestCustomResource.class);
+    when(informerEventSource.configuration())
+        .thenReturn(mock(InformerEventSourceConfiguration.class));
+    when(informerEventSource.allowsNamespaceChanges()).thenReturn(true);
+    manager.registerEventSource(informerEventSource);
+    final var namespaces = Set.of("ns1", "ns2");
+
+    when(controllerResourceEventSourceMock.changesNamespacesInPlace(namespaces)).thenReturn(true);
+    when(informerEventSource.changesNamespacesInPlace(namespaces)).thenReturn(false);
+    assertThat(manager.changesNamespacesInPlace(namespaces)).isFalse();
+
+    when(informerEventSource.changesNamespacesInPlace(namespaces)).thenReturn(true);
+    assertThat(manager.changesNamespacesInPlace(namespaces)).isTrue();
+
+    when(controllerResourceEventSourceMock.changesNamespacesInPlace(namespaces)).thenReturn(false);
+    assertThat(manager.changesNamespacesInPlace(namespaces)).isFalse();
+  }
+
   private EventSourceManager initManager() {
+    return initManager(new BaseConfigurationService());
+  }
+
+  private EventSourceManager initManager(ConfigurationService configService) {
     final var configuration = MockControllerConfiguration.forResource(ConfigMap.class);
-    final var configService = new BaseConfigurationService();
     when(configuration.getConfigurationService()).thenReturn(configService);
 
     final Controller controller =
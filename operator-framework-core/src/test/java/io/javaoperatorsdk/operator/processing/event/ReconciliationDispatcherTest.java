@@ -18,6 +18,8 @@ package io.javaoperatorsdk.operator.processing.event;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -39,6 +41,7 @@ import io.javaoperatorsdk.operator.api.config.Cloner;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.config.MockControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.AsyncReconciler;
 import io.javaoperatorsdk.operator.api.reconciler.Cleaner;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.DefaultContext;
@@ -698,10 +701,124 @@ class ReconciliationDispatcherTest {
     customResource.getMetadata().getFinalizers().clear();
   }
 
+  @Test
+  void appliesUpdateControlWhenAsyncReconciliationCompletes() throws Exception {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var asyncReconciler = spy(new TestAsyncReconciler());
+    final var dispatcher =
+        init(testCustomResource, asyncReconciler, null, customResourceFacade, true);
+
+    final var execution =
+        dispatcher
+            .handleExecutionAsync(executionScopeWithCREvent(testCustomResource), Runnable::run)
+            .toCompletableFuture();
+
+    verify(asyncReconciler, times(1)).reconcileAsync(eq(testCustomResource), any());
+    verify(asyncReconciler, never()).reconcile(any(), any());
+    assertThat(execution).isNotDone();
+    verify(customResourceFacade, never()).patchStatus(any(), any(), any());
+
+    asyncReconciler.result.complete(UpdateControl.patchStatus(testCustomResource));
+
+    assertThat(execution).isCompleted();
+    assertThat(execution.join().exceptionDuringExecution()).isFalse();
+    verify(customResourceFacade, times(1)).patchStatus(any(), eq(testCustomResource), any());
+  }
+
+  @Test
+  void handlesExceptionallyCompletedAsyncReconciliationLikeException() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var asyncReconciler = spy(new TestAsyncReconciler());
+    final var dispatcher =
+        init(testCustomResource, asyncReconciler, null, customResourceFacade, true);
+
+    final var execution =
+        dispatcher
+            .handleExecutionAsync(executionScopeWithCREvent(testCustomResource), Runnable::run)
+            .toCompletableFuture();
+    asyncReconciler.result.completeExceptionally(new IllegalStateException(ERROR_MESSAGE));
+
+    final var postExecutionControl = execution.join();
+    assertThat(postExecutionControl.exceptionDuringExecution()).isTrue();
+    assertThat(postExecutionControl.getRuntimeException().orElseThrow())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(ERROR_MESSAGE);
+    verify(asyncReconciler, times(1)).updateErrorStatus(eq(testCustomResource), any(), any());
+  }
+
+  @Test
+  void addsFinalizerSynchronouslyForAsyncReconciler() throws Exception {
+    final var asyncReconciler = spy(new TestAsyncReconciler());
+    final var dispatcher =
+        init(testCustomResource, asyncReconciler, null, customResourceFacade, true);
+
+    final var execution =
+        dispatcher
+            .handleExecutionAsync(executionScopeWithCREvent(testCustomResource), Runnable::run)
+            .toCompletableFuture();
+
+    // the finalizer is added before the stage is returned
+    assertThat(execution).isCompleted();
+    verify(asyncReconciler, never()).reconcileAsync(any(), any());
+  }
+
+  @Test
+  void handlesMissingAsyncReconciliationStageAsError() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    final var asyncReconciler = spy(new TestAsyncReconciler());
+    doReturn(null).when(asyncReconciler).reconcileAsync(any(), any());
+    final var dispatcher =
+        init(testCustomResource, asyncReconciler, null, customResourceFacade, true);
+
+    final var execution =
+        dispatcher
+            .handleExecutionAsync(executionScopeWithCREvent(testCustomResource), Runnable::run)
+            .toCompletableFuture();
+
+    assertThat(execution).isCompleted();
+    assertThat(execution.join().exceptionDuringExecution()).isTrue();
+  }
+
+  @Test
+  void completesAsyncExecutionWithErrorOnInvalidExecutionScope() {
+    final var asyncReconciler = spy(new TestAsyncReconciler());
+    final var dispatcher =
+        init(testCustomResource, asyncReconciler, null, customResourceFacade, true);
+    final var executionScope =
+        new ExecutionScope<TestCustomResource>(null, null, true, false)
+            .setResource(testCustomResource);
+
+    final var execution =
+        dispatcher.handleExecutionAsync(executionScope, Runnable::run).toCompletableFuture();
+
+    assertThat(execution).isCompleted();
+    assertThat(execution.join().getRuntimeException().orElseThrow())
+        .isInstanceOf(OperatorException.class);
+    verify(asyncReconciler, never()).reconcileAsync(any(), any());
+  }
+
   public <T extends HasMetadata> ExecutionScope<T> executionScopeWithCREvent(T resource) {
     return (ExecutionScope<T>) new ExecutionScope<>(null, null, false, false).setResource(resource);
   }
 
+  private static class TestAsyncReconciler
+      implements AsyncReconciler<TestCustomResource>, Cleaner<TestCustomResource> {
+
+    private final CompletableFuture<UpdateControl<TestCustomResource>> result =
+        new CompletableFuture<>();
+
+    @Override
+    public CompletionStage<UpdateControl<TestCustomResource>> reconcileAsync(
+        TestCustomResource resource, Context<TestCustomResource> context) {
+      return result;
+    }
+
+    @Override
+    public DeleteControl cleanup(TestCustomResource resource, Context<TestCustomResource> context) {
+      return DeleteControl.defaultDelete();
+    }
+  }
+
   private class TestReconciler
       implements Reconciler<TestCustomResource>, Cleaner<TestCustomResource> {
 
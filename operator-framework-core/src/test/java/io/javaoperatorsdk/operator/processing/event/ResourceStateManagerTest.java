@@ -42,6 +42,36 @@ class ResourceStateManagerTest {
     state2 = manager.getOrCreate(sampleResourceID2);
   }
 
+  @Test
+  public void countsStatesWithEventPresent() {
+    state.markEventReceived(false);
+    state2.markEventReceived(false);
+    state2.markEventReceived(false);
+    assertThat(manager.countWithEventPresent()).isEqualTo(2);
+
+    state.unMarkEventReceived(false);
+    assertThat(manager.countWithEventPresent()).isEqualTo(1);
+
+    manager.remove(sampleResourceID2);
+    // changes to a removed state are not counted
+    state2.unMarkEventReceived(false);
+    assertThat(manager.countWithEventPresent()).isZero();
+  }
+
+  @Test
+  public void keepsEarliestTimestampsEvenIfZeroOrNegative() {
+    state.eventReceivedAt(0);
+    state.eventReceivedAt(5);
+    state.rateLimitedAt(-10);
+    state.rateLimitedAt(5);
+
+    assertThat(state.getPendingEventReceivedAt()).isZero();
+    assertThat(state.getRateLimitedSince()).isEqualTo(-10);
+
+    state.resetTimestampsOnSubmission();
+    assertThat(state.getPendingEventReceivedAt()).isEqualTo(ResourceState.NOT_SET);
+  }
+
   @Test
   public void returnsNoEventPresentIfNotMarkedYet() {
     assertThat(state.noEventPresent()).isTrue();
@@ -0,0 +1,97 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupRateLimiterTest {
+
+  public static final Duration PERIOD = Duration.ofMinutes(1);
+
+  @Test
+  void limitsResourcesOfNamespaceTogether() {
+    var rl = GroupRateLimiter.perNamespace(new TokenBucketRateLimiter(PERIOD, 2));
+    var first = rl.initState(new ResourceID("r1", "noisy"), null);
+    var second = rl.initState(new ResourceID("r2", "noisy"), null);
+    var other = rl.initState(new ResourceID("r3", "quiet"), null);
+
+    assertThat(rl.isLimited(first)).isEmpty();
+    assertThat(rl.isLimited(second)).isEmpty();
+    assertThat(rl.isLimited(first)).isPresent();
+    assertThat(rl.isLimited(second)).isPresent();
+
+    assertThat(rl.isLimited(other)).isEmpty();
+  }
+
+  @Test
+  void limitsResourcesByLabelValue() {
+    var rl = GroupRateLimiter.perLabel("tenant", new TokenBucketRateLimiter(PERIOD, 1));
+    var tenantA1 = rl.initState(new ResourceID("a1", "ns"), configMap("a1", "a"));
+    var tenantA2 = rl.initState(new ResourceID("a2", "ns"), configMap("a2", "a"));
+    var noTenant = rl.initState(new ResourceID("n", "ns"), configMap("n", null));
+
+    assertThat(rl.isLimited(tenantA1)).isEmpty();
+    assertThat(rl.isLimited(tenantA2)).isPresent();
+
+    // resources without the label are in no group
+    assertThat(rl.isLimited(noTenant)).isEmpty();
+    assertThat(rl.isLimited(noTenant)).isEmpty();
+  }
+
+  @Test
+  void appliesResourceLimitAfterGroupLimit() {
+    var rl =
+        GroupRateLimiter.perNamespace(new TokenBucketRateLimiter(PERIOD, 10))
+            .withResourceLimiter(new TokenBucketRateLimiter(PERIOD, 1));
+    var first = rl.initState(new ResourceID("r1", "ns"), null);
+    var second = rl.initState(new ResourceID("r2", "ns"), null);
+
+    assertThat(rl.isLimited(first)).isEmpty();
+    assertThat(rl.isLimited(first)).isPresent();
+    assertThat(rl.isLimited(second)).isEmpty();
+  }
+
+  @Test
+  void doesNotConsumeGroupPermitWhenResourceLimited() {
+    var rl =
+        GroupRateLimiter.perNamespace(new TokenBucketRateLimiter(PERIOD, 2))
+            .withResourceLimiter(new TokenBucketRateLimiter(PERIOD, 1));
+    var first = rl.initState(new ResourceID("r1", "ns"), null);
+    var second = rl.initState(new ResourceID("r2", "ns"), null);
+
+    assertThat(rl.isLimited(first)).isEmpty();
+    assertThat(rl.isLimited(first)).isPresent();
+    assertThat(rl.isLimited(first)).isPresent();
+    // the group still has a permit left for the other resources
+    assertThat(rl.isLimited(second)).isEmpty();
+  }
+
+  private static ConfigMap configMap(String name, String tenant) {
+    var builder = new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("ns");
+    if (tenant != null) {
+      builder.addToLabels("tenant", tenant);
+    }
+    return builder.endMetadata().build();
+  }
+}
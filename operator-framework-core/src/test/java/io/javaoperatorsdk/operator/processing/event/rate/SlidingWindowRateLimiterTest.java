@@ -0,0 +1,76 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+  public static final Duration WINDOW = Duration.ofMillis(300);
+
+  @Test
+  void limitsPermitsWithinWindow() {
+    var rl = new SlidingWindowRateLimiter(WINDOW, 2);
+    var state = rl.initState();
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+
+    var wait = rl.isLimited(state);
+    assertThat(wait).isPresent();
+    assertThat(wait.get()).isLessThanOrEqualTo(WINDOW.multipliedBy(2));
+    assertThat(wait.get()).isGreaterThan(WINDOW.dividedBy(2));
+  }
+
+  @Test
+  void previousWindowStillCountsAfterItEnded() throws InterruptedException {
+    var rl = new SlidingWindowRateLimiter(WINDOW, 2);
+    var state = rl.initState();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+
+    // a bit more than half of the window later, less than half of the previous window overlaps
+    Thread.sleep(WINDOW.toMillis() + WINDOW.toMillis() / 2 + 20);
+
+    // the previous window still counts for almost one permit, so only one permit is free
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+  }
+
+  @Test
+  void permitsAreFreeAgainAfterTwoWindows() throws InterruptedException {
+    var rl = new SlidingWindowRateLimiter(WINDOW, 1);
+    var state = rl.initState();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+
+    Thread.sleep(WINDOW.toMillis() * 2 + 20);
+
+    assertThat(rl.isLimited(state)).isEmpty();
+  }
+
+  @Test
+  void isDeactivatedUntilConfigured() {
+    var rl = new SlidingWindowRateLimiter();
+
+    assertThat(rl.isActivated()).isFalse();
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+  public static final Duration PERIOD = Duration.ofMillis(300);
+
+  @Test
+  void allowsBurstUpToLimit() {
+    var rl = new TokenBucketRateLimiter(PERIOD, 3);
+    var state = rl.initState();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(rl.isLimited(state)).isEmpty();
+    }
+    assertThat(rl.isLimited(state)).isPresent();
+  }
+
+  @Test
+  void returnsTimeUntilNextPermit() {
+    var rl = new TokenBucketRateLimiter(PERIOD, 3, 1);
+    var state = rl.initState();
+    assertThat(rl.isLimited(state)).isEmpty();
+
+    var wait = rl.isLimited(state).orElseThrow();
+
+    // permits are spread evenly over the period
+    assertThat(wait).isLessThanOrEqualTo(PERIOD.dividedBy(3));
+    assertThat(wait).isGreaterThan(PERIOD.dividedBy(6));
+  }
+
+  @Test
+  void refillsPermitsOverTime() throws InterruptedException {
+    var rl = new TokenBucketRateLimiter(PERIOD, 2);
+    var state = rl.initState();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+
+    Thread.sleep(PERIOD.toMillis() / 2 + 20);
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+  }
+
+  @Test
+  void grantsExactlyTheBurstUnderContention() throws InterruptedException {
+    var rl = new TokenBucketRateLimiter(Duration.ofHours(1), 100);
+    var state = rl.initState();
+    var granted = new AtomicInteger();
+    var executor = Executors.newFixedThreadPool(8);
+    var done = new CountDownLatch(8);
+    for (int i = 0; i < 8; i++) {
+      executor.submit(
+          () -> {
+            for (int j = 0; j < 1000; j++) {
+              if (rl.isLimited(state).isEmpty()) {
+                granted.incrementAndGet();
+              }
+            }
+            done.countDown();
+          });
+    }
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    executor.shutdownNow();
+
+    assertThat(granted.get()).isEqualTo(100);
+  }
+
+  @Test
+  void isDeactivatedUntilConfigured() {
+    var rl = new TokenBucketRateLimiter();
+
+    assertThat(rl.isActivated()).isFalse();
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+  }
+
+  @Test
+  void rejectsInvalidConfiguration() {
+    assertThatThrownBy(() -> new TokenBucketRateLimiter(Duration.ZERO, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenBucketRateLimiter(PERIOD, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -270,6 +270,63 @@ class ExternalResourceCachingEventSourceTest
     verify(eventHandler, times(2)).handleEvent(any());
   }
 
+  @Test
+  void fingerprintDetectsChanges() {
+    source.setResourceFingerprint(r -> r.getValue().hashCode());
+
+    source.handleResources(primaryID1(), testResource1());
+    source.handleResources(primaryID1(), testResource1());
+    var changed = testResource1();
+    changed.setValue("changedValue");
+    source.handleResources(primaryID1(), changed);
+
+    verify(eventHandler, times(2)).handleEvent(new Event(primaryID1()));
+    assertThat(source.getSecondaryResource(primaryID1())).contains(changed);
+  }
+
+  @Test
+  void fingerprintIsUsedInsteadOfEquals() {
+    source.setResourceFingerprint(r -> 42L);
+
+    source.handleResources(primaryID1(), testResource1());
+    var changed = testResource1();
+    changed.setValue("changedValue");
+    source.handleResources(primaryID1(), changed);
+
+    verify(eventHandler, times(1)).handleEvent(new Event(primaryID1()));
+    // the cache is still updated with the latest resource
+    assertThat(source.getSecondaryResource(primaryID1())).contains(changed);
+  }
+
+  @Test
+  void fingerprintsFollowRecentResourceUpdates() {
+    source.setResourceFingerprint(r -> r.getValue().hashCode());
+    source.handleResources(primaryID1(), testResource1());
+    var changed = testResource1();
+    changed.setValue("changedValue");
+
+    source.handleRecentResourceUpdate(primaryID1(), changed, testResource1());
+    source.handleResources(primaryID1(), changed);
+
+    verify(eventHandler, times(1)).handleEvent(new Event(primaryID1()));
+  }
+
+  @Test
+  void fingerprintUpdatesAreFiltered() {
+    var eventSource = new TestExternalCachingEventSource();
+    eventSource.setOnUpdateFilter((res, res2) -> false);
+    eventSource.setResourceFingerprint(r -> r.getValue().hashCode());
+    setUpSource(eventSource);
+
+    source.handleResources(primaryID1(), Set.of(testResource1()));
+    var changed = testResource1();
+    changed.setValue("changedValue");
+    source.handleResources(primaryID1(), Set.of(changed));
+    source.handleResources(primaryID1(), Set.of(changed, testResource2()));
+
+    verify(eventHandler, times(2)).handleEvent(any());
+  }
+
   public static class TestExternalCachingEventSource
       extends ExternalResourceCachingEventSource<SampleExternalResource, HasMetadata, String> {
     public TestExternalCachingEventSource() {
@@ -27,7 +27,9 @@ import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.ReconcilerUtilsInternal;
 import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.InformerSnapshotStore;
 import io.javaoperatorsdk.operator.api.config.ResolvedControllerConfiguration;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
@@ -66,6 +68,21 @@ class ControllerEventSourceTest
     setUpSource(new ControllerEventSource<>(testController), true, controllerConfig);
   }
 
+  @Test
+  void doesNotWarmStartFromSnapshots() {
+    final var snapshotStore = mock(InformerSnapshotStore.class);
+    source.stop();
+    when(controllerConfig.getConfigurationService())
+        .thenReturn(
+            ConfigurationService.newOverriddenConfigurationService(
+                new BaseConfigurationService(), o -> o.withInformerSnapshotStore(snapshotStore)));
+
+    setUpSource(new ControllerEventSource<>(testController), true, controllerConfig);
+    source.stop();
+
+    verifyNoInteractions(snapshotStore);
+  }
+
   @Test
   void skipsEventHandlingIfGenerationNotIncreased() {
     TestCustomResource customResource = TestUtils.testCustomResource();
@@ -0,0 +1,88 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.filter;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SelectorFilterTest {
+
+  @Test
+  void evaluatesAllRequirementsWhenNotCompiled() {
+    var filter =
+        new SelectorFilter<Pod>()
+            .withLabelIn("env", "dev", "test")
+            .withField("status.phase", "Running")
+            .withField("metadata.namespace", "default")
+            .withAnnotation("managed");
+
+    assertThat(filter.accept(pod(Map.of("env", "dev"), "Running", Map.of("managed", "true"))))
+        .isTrue();
+    assertThat(filter.accept(pod(Map.of("env", "prod"), "Running", Map.of("managed", "true"))))
+        .isFalse();
+    assertThat(filter.accept(pod(Map.of(), "Running", Map.of("managed", "true")))).isFalse();
+    assertThat(filter.accept(pod(Map.of("env", "test"), "Pending", Map.of("managed", "true"))))
+        .isFalse();
+    assertThat(filter.accept(pod(Map.of("env", "test"), "Running", Map.of()))).isFalse();
+  }
+
+  @Test
+  void splitsSelectorsFromClientSideRequirements() {
+    var filter =
+        new SelectorFilter<Pod>()
+            .withLabel("app", "foo")
+            .withLabelIn("env", "dev", "test")
+            .withField("status.phase", "Running")
+            .and(pod -> pod.getMetadata().getName().startsWith("web"));
+
+    assertThat(filter.getLabelSelector()).isEqualTo("app=foo,env in (dev,test)");
+    assertThat(filter.getFields()).containsExactly(Map.entry("status.phase", "Running"));
+    assertThat(filter.getClientSideFilter().accept(pod(Map.of(), "Pending", Map.of()))).isTrue();
+    assertThat(new SelectorFilter<Pod>().withLabel("app", "foo").getClientSideFilter()).isNull();
+  }
+
+  @Test
+  void rejectsConflictingRequirements() {
+    var filter = new SelectorFilter<Pod>().withLabel("app", "foo");
+
+    assertThatThrownBy(() -> filter.withLabel("app", "bar"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> filter.withLabelIn("env"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Pod pod(
+      Map<String, String> labels, String phase, Map<String, String> annotations) {
+    return new PodBuilder()
+        .withNewMetadata()
+        .withName("web-1")
+        .withNamespace("default")
+        .withLabels(labels)
+        .withAnnotations(annotations)
+        .endMetadata()
+        .withNewStatus()
+        .withPhase(phase)
+        .endStatus()
+        .build();
+  }
+}
@@ -15,6 +15,12 @@
  */
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
@@ -586,6 +592,56 @@ class EventFilterSupportTest {
     assertThat(support.isActiveUpdateFor(OTHER_RESOURCE_ID)).isTrue();
   }
 
+  @Test
+  void concurrentOwnWritesOnDifferentResourcesAreFilteredIndependently() throws Exception {
+    final int resources = 50;
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var futures = new ArrayList<Future<Optional<ExtendedResourceEvent>>>();
+      for (int i = 0; i < resources; i++) {
+        final var resourceID = new ResourceID("id" + i, "default");
+        futures.add(
+            executor.submit(
+                () -> {
+                  support.startEventFilteringModify(resourceID);
+                  support.addToOwnResourceVersions(resourceID, s(FIRST_OWN_VERSION));
+                  assertThat(support.processEvent(resourceID, updateEvent(FIRST_OWN_VERSION)))
+                      .isEmpty();
+                  return support.doneEventFilterModify(resourceID);
+                }));
+      }
+      for (var future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEmpty();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(support.getEventFilterWindows()).isEmpty();
+  }
+
+  @Test
+  void concurrentOwnWritesOnSameResourceCleanUpWindow() throws Exception {
+    final int writes = 100;
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var futures = new ArrayList<Future<?>>();
+      for (int i = 0; i < writes; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  support.startEventFilteringModify(RESOURCE_ID);
+                  support.doneEventFilterModify(RESOURCE_ID);
+                }));
+      }
+      for (var future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(support.isActiveUpdateFor(RESOURCE_ID)).isFalse();
+  }
+
   // -------- end of replicated tests --------
 
   ExtendedResourceEvent updateEvent(long version) {
@@ -579,6 +579,31 @@ class EventFilterWindowTest {
     assertThat(event.isLastStateUnknown()).isTrue();
   }
 
+  @Test
+  void manyOwnVersionsAndEventsReceivedOutOfOrder() {
+    final int count = 10;
+    eventFilterWindow.increaseActiveUpdates();
+    for (long i = count - 1; i >= 0; i--) {
+      eventFilterWindow.addToOwnUpdateVersions(s(FIRST_OWN_VERSION + i));
+    }
+    assertThat(eventFilterWindow.getOwnResourceVersions())
+        .hasSize(count)
+        .isSorted()
+        .startsWith(FIRST_OWN_VERSION);
+
+    for (long i = count - 1; i >= 0; i--) {
+      eventFilterWindow.addRelatedEvent(updateEvent(FIRST_OWN_VERSION + i));
+    }
+    // the same version received twice only counts once
+    eventFilterWindow.addRelatedEvent(updateEvent(FIRST_OWN_VERSION + 1));
+    assertThat(eventFilterWindow.getRelatedEvents()).hasSize(count);
+    eventFilterWindow.decreaseActiveUpdates();
+
+    assertThat(eventFilterWindow.check()).isEmpty();
+    assertThat(eventFilterWindow.canBeRemoved()).isTrue();
+    assertEmptyState();
+  }
+
   ExtendedResourceEvent updateEvent(long version) {
     return new ExtendedResourceEvent(
         UPDATED, testResource(version), testResource(version - 1), null);
@@ -30,8 +30,10 @@ import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpec;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
@@ -59,6 +61,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -780,6 +783,58 @@ class InformerEventSourceTest {
     verify(eventHandlerMock, times(1)).handleEvent(any());
   }
 
+  @Test
+  void metadataOnlyFetchesFullResourceWhenReadAsSecondary() {
+    final var informerConfig = informerEventSourceConfiguration.getInformerConfig();
+    when(informerConfig.isMetadataOnly()).thenReturn(true);
+    when(informerConfig.isFetchFullResourceOnGet()).thenReturn(true);
+    final var full = testDeployment();
+    full.getMetadata().setNamespace("default");
+    full.setSpec(new DeploymentSpec());
+    final var resource = mockFullResourceGet(full);
+    informerEventSource = metadataOnlyEventSource(full);
+
+    assertThat(informerEventSource.getSecondaryResources(new TestCustomResource()))
+        .containsExactly(full);
+    verify(resource, times(1)).get();
+  }
+
+  @Test
+  void metadataOnlyReturnsCachedResourceWithoutFullFetch() {
+    final var informerConfig = informerEventSourceConfiguration.getInformerConfig();
+    when(informerConfig.isMetadataOnly()).thenReturn(true);
+    final var cached = testDeployment();
+    cached.getMetadata().setNamespace("default");
+    final var resource = mockFullResourceGet(cached);
+    informerEventSource = metadataOnlyEventSource(cached);
+
+    assertThat(informerEventSource.getSecondaryResources(new TestCustomResource()))
+        .containsExactly(cached);
+    verify(resource, never()).get();
+  }
+
+  private InformerEventSource<Deployment, TestCustomResource> metadataOnlyEventSource(
+      Deployment cached) {
+    final var primaryToSecondaryMapper = mock(PrimaryToSecondaryMapper.class);
+    final var resourceID = ResourceID.fromResource(cached);
+    when(primaryToSecondaryMapper.toSecondaryResourceIDs(any())).thenReturn(Set.of(resourceID));
+    when(informerEventSourceConfiguration.getPrimaryToSecondaryMapper())
+        .thenReturn(primaryToSecondaryMapper);
+    final var eventSource = buildInformerEventSource();
+    final var metadataOnly = new Deployment();
+    metadataOnly.setMetadata(cached.getMetadata());
+    doReturn(Optional.of(metadataOnly)).when(eventSource).get(resourceID);
+    return eventSource;
+  }
+
+  private Resource<Deployment> mockFullResourceGet(Deployment full) {
+    final Resource<Deployment> resource = mock(Resource.class);
+    when(resource.get()).thenReturn(full);
+    when(clientMock.resources(Deployment.class).inNamespace("default").withName("test"))
+        .thenReturn(resource);
+    return resource;
+  }
+
   @Test
   void forceUpdateFilterOpensFilterWindowEvenWhenResourceVersionIsNull() {
     // A write without a resourceVersion (e.g. an SSA finalizer add, which uses no optimistic
@@ -0,0 +1,216 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.InformerSnapshotStore;
+import io.javaoperatorsdk.operator.api.config.InformerSnapshotStore.Snapshot;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class InformerWrapperTest {
+
+  private static final String SNAPSHOT_KEY = "snapshot";
+
+  private final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+  private final Cache<ConfigMap> cache = mock(Cache.class);
+  private final InformerSnapshotStore store = mock(InformerSnapshotStore.class);
+
+  @Test
+  void warmStartsFromSnapshotWithoutWaitingForSync() {
+    var wrapper = wrapper();
+    var resources = List.of(configMap());
+    when(store.load(SNAPSHOT_KEY, ConfigMap.class))
+        .thenReturn(Optional.of(new Snapshot<>("5", resources)));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10), wrapper::start);
+
+    verify(informer).initialState(any());
+  }
+
+  @Test
+  void startsFromScratchWithoutSnapshot() {
+    var wrapper = wrapper();
+    when(store.load(SNAPSHOT_KEY, ConfigMap.class)).thenReturn(Optional.empty());
+    when(informer.start()).thenReturn(CompletableFuture.completedFuture(null));
+
+    wrapper.start();
+
+    verify(informer, never()).initialState(any());
+  }
+
+  @Test
+  void savesSnapshotOnStopWhenSynced() {
+    var wrapper = wrapper();
+    var resources = List.of(configMap());
+    when(informer.hasSynced()).thenReturn(true);
+    when(informer.lastSyncResourceVersion()).thenReturn("7");
+    when(cache.list()).thenReturn(resources);
+
+    wrapper.stop();
+
+    verify(store).save(eq(SNAPSHOT_KEY), eq(new Snapshot<>("7", resources)));
+    verify(informer).stop();
+  }
+
+  @Test
+  void doesNotSaveSnapshotWhenNotSynced() {
+    var wrapper = wrapper();
+
+    wrapper.stop();
+
+    verify(store, never()).save(any(), any());
+    assertThat(wrapper.hasSynced()).isFalse();
+  }
+
+  @Test
+  void onlyExposesCachedResourcesFromFilteredNamespaces() {
+    var wrapper = wrapper();
+    wrapper.filterNamespaces(Set.of("default"));
+    var watched = configMap();
+    var other = configMap("other");
+    when(cache.byIndex(Cache.NAMESPACE_INDEX, "default")).thenReturn(List.of(watched));
+    when(cache.listKeys()).thenReturn(List.of("default/cm", "other/cm"));
+    when(cache.getByKey(any())).thenReturn(other);
+
+    assertThat(wrapper.list(r -> true)).containsExactly(watched);
+    assertThat(wrapper.list("other", null)).isEmpty();
+    assertThat(wrapper.keys()).containsExactly(new ResourceID("cm", "default"));
+    assertThat(wrapper.get(new ResourceID("cm", "other"))).isEmpty();
+    assertThat(wrapper.isWatchingNamespace("other")).isFalse();
+  }
+
+  @Test
+  void onlyPropagatesEventsFromFilteredNamespaces() {
+    var wrapper = wrapper();
+    wrapper.filterNamespaces(Set.of("default"));
+    ResourceEventHandler<ConfigMap> handler = mock(ResourceEventHandler.class);
+    wrapper.addEventHandler(handler);
+
+    ArgumentCaptor<ResourceEventHandler<ConfigMap>> registered =
+        ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(registered.capture());
+    registered.getValue().onAdd(configMap("other"));
+    registered.getValue().onDelete(configMap("other"), false);
+    registered.getValue().onAdd(configMap());
+
+    verify(handler).onAdd(configMap());
+    verify(handler, never()).onAdd(configMap("other"));
+    verify(handler, never()).onDelete(any(), eq(false));
+  }
+
+  @Test
+  void propagatesCachedResourcesFromAddedNamespacesOnly() {
+    var wrapper = wrapper();
+    wrapper.filterNamespaces(Set.of("default"));
+    ResourceEventHandler<ConfigMap> handler = mock(ResourceEventHandler.class);
+    wrapper.addEventHandler(handler);
+    when(cache.byIndex(Cache.NAMESPACE_INDEX, "other")).thenReturn(List.of(configMap("other")));
+
+    wrapper.changeFilteredNamespaces(Set.of("default", "other"));
+
+    verify(handler).onAdd(configMap("other"));
+    verify(cache, never()).byIndex(Cache.NAMESPACE_INDEX, "default");
+    assertThat(wrapper.isWatchingNamespace("other")).isTrue();
+  }
+
+  @Test
+  void doesNotPropagateCachedResourcesWhileDispatchingEvent() throws Exception {
+    var wrapper = wrapper();
+    wrapper.filterNamespaces(Set.of("default"));
+    ResourceEventHandler<ConfigMap> handler = mock(ResourceEventHandler.class);
+    var dispatching = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              dispatching.countDown();
+              release.await();
+              return null;
+            })
+        .when(handler)
+        .onUpdate(any(), any());
+    wrapper.addEventHandler(handler);
+    when(cache.byIndex(Cache.NAMESPACE_INDEX, "other")).thenReturn(List.of(configMap("other")));
+    ArgumentCaptor<ResourceEventHandler<ConfigMap>> registered =
+        ArgumentCaptor.forClass(ResourceEventHandler.class);
+    verify(informer).addEventHandler(registered.capture());
+
+    var update =
+        CompletableFuture.runAsync(() -> registered.getValue().onUpdate(configMap(), configMap()));
+    assertThat(dispatching.await(10, TimeUnit.SECONDS)).isTrue();
+    var change =
+        CompletableFuture.runAsync(
+            () -> wrapper.changeFilteredNamespaces(Set.of("default", "other")));
+
+    verify(handler, after(200).never()).onAdd(any());
+    release.countDown();
+    update.get(10, TimeUnit.SECONDS);
+    change.get(10, TimeUnit.SECONDS);
+    verify(handler).onAdd(configMap("other"));
+  }
+
+  private InformerWrapper<ConfigMap> wrapper() {
+    when(informer.getStore()).thenReturn(cache);
+    when(informer.getApiTypeClass()).thenReturn(ConfigMap.class);
+    when(informer.stopped()).thenReturn(new CompletableFuture<>());
+    // never completes, so that waiting for the informer to sync would time out the test
+    when(informer.start()).thenReturn(new CompletableFuture<>());
+    var wrapper = new InformerWrapper<>(informer, new BaseConfigurationService(), "default");
+    wrapper.enableSnapshots(store, SNAPSHOT_KEY);
+    return wrapper;
+  }
+
+  private ConfigMap configMap() {
+    return configMap("default");
+  }
+
+  private ConfigMap configMap(String namespace) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("cm")
+        .withNamespace(namespace)
+        .withResourceVersion("5")
+        .endMetadata()
+        .build();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+
+import static io.fabric8.kubernetes.client.informers.cache.Cache.metaNamespaceKeyFunc;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataOnlyItemStoreTest {
+
+  @Test
+  void onlyKeepsRelevantMetadata() {
+    var store = new MetadataOnlyItemStore<ConfigMap>();
+    var cm = new ConfigMap();
+    cm.setMetadata(
+        new ObjectMetaBuilder()
+            .withName("test1")
+            .withNamespace("default")
+            .withResourceVersion("1")
+            .withLabels(Map.of("k", "v"))
+            .withOwnerReferences(new OwnerReferenceBuilder().withName("owner").build())
+            .withManagedFields(new ManagedFieldsEntry())
+            .build());
+    cm.setData(Map.of("key", "value"));
+
+    store.put(metaNamespaceKeyFunc(cm), cm);
+
+    var cached = store.get(metaNamespaceKeyFunc(cm));
+    assertThat(cached).isNotSameAs(cm);
+    assertThat(cached.getData()).isNullOrEmpty();
+    assertThat(cached.getMetadata().getManagedFields()).isNullOrEmpty();
+    assertThat(cached.getMetadata().getName()).isEqualTo("test1");
+    assertThat(cached.getMetadata().getNamespace()).isEqualTo("default");
+    assertThat(cached.getMetadata().getResourceVersion()).isEqualTo("1");
+    assertThat(cached.getMetadata().getLabels()).containsEntry("k", "v");
+    assertThat(cached.getMetadata().getOwnerReferences()).hasSize(1);
+    // the original resource, propagated in events, is left untouched
+    assertThat(cm.getData()).containsEntry("key", "value");
+    assertThat(cm.getMetadata().getManagedFields()).hasSize(1);
+  }
+
+  @Test
+  void keepsKindOfGenericResources() {
+    var store = new MetadataOnlyItemStore<GenericKubernetesResource>();
+    var resource = new GenericKubernetesResource();
+    resource.setApiVersion("example.com/v1");
+    resource.setKind("Example");
+    resource.setMetadata(new ObjectMetaBuilder().withName("test1").withNamespace("ns").build());
+    resource.setAdditionalProperties(Map.of("spec", Map.of("items", List.of("a"))));
+
+    store.put(metaNamespaceKeyFunc(resource), resource);
+
+    var cached = store.get(metaNamespaceKeyFunc(resource));
+    assertThat(cached.getKind()).isEqualTo("Example");
+    assertThat(cached.getApiVersion()).isEqualTo("example.com/v1");
+    assertThat(cached.getAdditionalProperties()).isEmpty();
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.javaoperatorsdk.operator.MockKubernetesClient;
+import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.InformerStoppedHandler;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
+
+import static io.javaoperatorsdk.operator.api.reconciler.Constants.DEFAULT_NAMESPACES_SET;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class SharedInformerRegistryTest {
+
+  private final SharedInformerRegistry registry = new SharedInformerRegistry();
+  private final ConfigurationService configurationService = new BaseConfigurationService();
+  private final KubernetesClient client = MockKubernetesClient.client(Deployment.class);
+  private final InformerEventSourceConfiguration<Deployment> configuration =
+      mock(InformerEventSourceConfiguration.class);
+  private final ControllerConfiguration<Deployment> controllerConfiguration =
+      mock(ControllerConfiguration.class);
+
+  @BeforeEach
+  void setup() {
+    final var informerConfig = mock(InformerConfiguration.class);
+    when(configuration.getInformerConfig()).thenReturn(informerConfig);
+    when(configuration.getResourceClass()).thenReturn(Deployment.class);
+    when(informerConfig.getEffectiveNamespaces(any())).thenReturn(DEFAULT_NAMESPACES_SET);
+  }
+
+  @Test
+  void countsReferences() {
+    final var key = key("ns");
+    final var informer = runningInformer();
+
+    assertThat(registry.acquire(key, () -> informer)).isSameAs(informer);
+    assertThat(registry.acquire(key, this::runningInformer)).isSameAs(informer);
+    assertThat(registry.references(key)).isEqualTo(2);
+
+    assertThat(registry.release(key, informer)).isFalse();
+    assertThat(registry.release(key, informer)).isTrue();
+    assertThat(registry.references(key)).isZero();
+  }
+
+  @Test
+  void doesNotShareInformersWithDifferentKeys() {
+    final var informer = runningInformer();
+    final var other = runningInformer();
+
+    assertThat(registry.acquire(key("ns"), () -> informer)).isSameAs(informer);
+    assertThat(registry.acquire(key("other"), () -> other)).isSameAs(other);
+  }
+
+  @Test
+  void replacesStoppedInformers() {
+    final var key = key("ns");
+    final SharedIndexInformer<Deployment> informer = mock(SharedIndexInformer.class);
+    final var stopped = new CompletableFuture<Void>();
+    when(informer.stopped()).thenReturn(stopped);
+    final var replacement = runningInformer();
+
+    registry.acquire(key, () -> informer);
+    stopped.completeExceptionally(new IllegalStateException("test"));
+
+    assertThat(registry.acquire(key, () -> replacement)).isSameAs(replacement);
+    assertThat(registry.release(key, informer)).isTrue();
+    assertThat(registry.references(key)).isEqualTo(1);
+  }
+
+  @Test
+  void informerManagersShareInformerWhenEnabled() {
+    when(controllerConfiguration.getConfigurationService())
+        .thenReturn(
+            ConfigurationService.newOverriddenConfigurationService(
+                o -> o.withSharedInformers(true)));
+    final ResourceEventHandler<Deployment> handler1 = mock(ResourceEventHandler.class);
+    final ResourceEventHandler<Deployment> handler2 = mock(ResourceEventHandler.class);
+    final var manager1 = informerManager(handler1);
+    final var manager2 = informerManager(handler2);
+    manager1.addIndexers(Map.of("index", d -> List.of()));
+
+    manager1.start();
+    manager2.start();
+    final var informer = informer();
+    verify(informer).addEventHandler(handler1);
+    verify(informer).addEventHandler(handler2);
+    // indexers are prefixed so that event sources sharing an informer can use the same names
+    final var indexers = ArgumentCaptor.forClass(Map.class);
+    verify(informer.getIndexer(), times(2)).addIndexers(indexers.capture());
+    final String indexerName = (String) indexers.getAllValues().get(0).keySet().iterator().next();
+    assertThat(indexerName).startsWith("shared-").endsWith("-index");
+
+    manager1.stop();
+    verify(informer).removeEventHandler(handler1);
+    verify(informer).removeIndexer(indexerName);
+    verify(informer, never()).stop();
+
+    manager2.stop();
+    verify(informer).stop();
+  }
+
+  @Test
+  void configuresSharedInformerOnlyOnce() {
+    final var informerStoppedHandler = mock(InformerStoppedHandler.class);
+    when(controllerConfiguration.getConfigurationService())
+        .thenReturn(
+            ConfigurationService.newOverriddenConfigurationService(
+                o ->
+                    o.withSharedInformers(true)
+                        .withStopOnInformerErrorDuringStartup(false)
+                        .withInformerStoppedHandler(informerStoppedHandler)));
+    final var manager1 = informerManager(mock(ResourceEventHandler.class));
+    final var manager2 = informerManager(mock(ResourceEventHandler.class));
+    final var informer = informer();
+
+    manager1.start();
+    // as fabric8 does once the informer is running
+    when(informer.isRunning()).thenReturn(true);
+    doThrow(new KubernetesClientException("Informer cannot be running when handler is set"))
+        .when(informer)
+        .exceptionHandler(any());
+    manager2.start();
+
+    verify(informer, times(1)).exceptionHandler(any());
+    final var exception = new IllegalStateException("test");
+    informer.stopped().toCompletableFuture().completeExceptionally(exception);
+    verify(informerStoppedHandler, times(1)).onStop(informer, exception);
+  }
+
+  @Test
+  void informersAreNotSharedByDefault() {
+    when(controllerConfiguration.getConfigurationService())
+        .thenReturn(new BaseConfigurationService());
+    final var manager = informerManager(mock(ResourceEventHandler.class));
+
+    manager.start();
+    manager.stop();
+
+    final var informer = informer();
+    verify(informer, never()).removeEventHandler(any());
+    verify(informer, times(1)).stop();
+  }
+
+  private InformerManager<Deployment, InformerEventSourceConfiguration<Deployment>> informerManager(
+      ResourceEventHandler<Deployment> handler) {
+    final var manager =
+        new InformerManager<>(
+            (MixedOperation) client.resources(Deployment.class),
+            configuration,
+            handler,
+            Deployment.class.getName());
+    manager.setControllerConfiguration(controllerConfiguration);
+    return manager;
+  }
+
+  private SharedIndexInformer<Deployment> informer() {
+    return client
+        .resources(Deployment.class)
+        .inAnyNamespace()
+        .withLabelSelector((String) null)
+        .withShardSelector(null)
+        .runnableInformer(0);
+  }
+
+  private SharedIndexInformer<Deployment> runningInformer() {
+    final SharedIndexInformer<Deployment> informer = mock(SharedIndexInformer.class);
+    when(informer.stopped()).thenReturn(new CompletableFuture<>());
+    return informer;
+  }
+
+  private SharedInformerRegistry.Key key(String namespace) {
+    return new SharedInformerRegistry.Key(
+        configurationService,
+        Deployment.class.getName(),
+        namespace,
+        null,
+        null,
+        List.of(),
+        null,
+        null,
+        false);
+  }
+}
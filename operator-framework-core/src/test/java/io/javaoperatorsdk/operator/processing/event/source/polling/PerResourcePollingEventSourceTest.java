@@ -16,9 +16,14 @@
 package io.javaoperatorsdk.operator.processing.event.source.polling;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +32,7 @@ import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.processing.ResourceIDMapper;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSourceTestBase;
 import io.javaoperatorsdk.operator.processing.event.source.IndexerResourceCache;
 import io.javaoperatorsdk.operator.processing.event.source.SampleExternalResource;
@@ -236,4 +242,128 @@ class PerResourcePollingEventSourceTest
         .atMost(Duration.ofMillis((4 * PERIOD)))
         .untilAsserted(() -> verify(supplier, times(1)).fetchResources(any()));
   }
+
+  @Test
+  void fetchesPrimariesDueInTheSameWindowTogether() {
+    final var fetcher = new TestBatchFetcher(Integer.MAX_VALUE);
+    final var primaries = setUpBatchingSource(fetcher, 3);
+
+    primaries.forEach(source::onResourceCreated);
+
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(() -> assertThat(fetcher.fetchedIDs()).hasSize(3));
+    // unless the primaries were registered across the boundary of a window
+    assertThat(fetcher.batches.size()).isLessThanOrEqualTo(2);
+    verify(eventHandler, timeout(1000).times(3)).handleEvent(any());
+  }
+
+  @Test
+  void splitsBatchesLargerThanMaxBatchSize() {
+    final var fetcher = new TestBatchFetcher(2);
+    final var primaries = setUpBatchingSource(fetcher, 5);
+
+    primaries.forEach(source::onResourceCreated);
+
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(() -> assertThat(fetcher.fetchedIDs()).hasSize(5));
+    assertThat(fetcher.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+  }
+
+  @Test
+  void respectsFetchDelayOfEachPrimaryInBatchingMode() {
+    final var fetcher = new TestBatchFetcher(Integer.MAX_VALUE);
+    final var primaries = setUpBatchingSource(fetcher, 2);
+    final var delayedID = ResourceID.fromResource(primaries.get(1));
+    fetcher.delayed = delayedID;
+
+    primaries.forEach(source::onResourceCreated);
+
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(
+            () ->
+                assertThat(fetcher.fetchedIDs())
+                    .filteredOn(id -> !id.equals(delayedID))
+                    .hasSizeGreaterThanOrEqualTo(3));
+    assertThat(fetcher.fetchedIDs()).doesNotContain(delayedID);
+  }
+
+  @Test
+  void doesNotFetchDeletedPrimariesInBatchingMode() {
+    final var fetcher = new TestBatchFetcher(Integer.MAX_VALUE);
+    final var primaries = setUpBatchingSource(fetcher, 2);
+    final var deleted = primaries.get(1);
+
+    primaries.forEach(source::onResourceCreated);
+    source.onResourceDeleted(deleted);
+
+    await()
+        .pollDelay(Duration.ofMillis(3 * PERIOD))
+        .untilAsserted(() -> assertThat(fetcher.fetchedIDs()).hasSizeGreaterThanOrEqualTo(2));
+    assertThat(fetcher.fetchedIDs()).doesNotContain(ResourceID.fromResource(deleted));
+  }
+
+  private List<TestCustomResource> setUpBatchingSource(TestBatchFetcher fetcher, int primaries) {
+    final var resources = new ArrayList<TestCustomResource>();
+    for (int i = 0; i < primaries; i++) {
+      final var primary = TestUtils.testCustomResource();
+      when(resourceCache.get(eq(ResourceID.fromResource(primary))))
+          .thenReturn(Optional.of(primary));
+      resources.add(primary);
+    }
+    setUpSource(
+        new PerResourcePollingEventSource<>(
+            SampleExternalResource.class,
+            context,
+            new PerResourcePollingConfigurationBuilder<
+                    SampleExternalResource, TestCustomResource, String>(
+                    fetcher, Duration.ofMillis(PERIOD))
+                .withBatchingWindow(Duration.ofMillis(PERIOD / 3))
+                .withResourceIDMapper(r -> r.getName() + "#" + r.getValue())
+                .build()));
+    return resources;
+  }
+
+  private static class TestBatchFetcher
+      implements PerResourcePollingEventSource.BatchResourceFetcher<
+          SampleExternalResource, TestCustomResource> {
+
+    private final List<List<ResourceID>> batches = new CopyOnWriteArrayList<>();
+    private final int maxBatchSize;
+    private volatile ResourceID delayed;
+
+    private TestBatchFetcher(int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Map<ResourceID, Set<SampleExternalResource>> fetchResources(
+        List<TestCustomResource> primaryResources) {
+      final var ids = primaryResources.stream().map(ResourceID::fromResource).toList();
+      batches.add(ids);
+      return ids.stream()
+          .collect(
+              Collectors.toMap(
+                  id -> id, id -> Set.of(new SampleExternalResource(id.getName(), "value"))));
+    }
+
+    @Override
+    public int maxBatchSize() {
+      return maxBatchSize;
+    }
+
+    @Override
+    public Optional<Duration> fetchDelay(
+        Set<SampleExternalResource> lastFetchedResource, TestCustomResource primary) {
+      return ResourceID.fromResource(primary).equals(delayed)
+          ? Optional.of(Duration.ofMinutes(1))
+          : Optional.empty();
+    }
+
+    private List<ResourceID> fetchedIDs() {
+      return batches.stream().flatMap(List::stream).toList();
+    }
+  }
 }
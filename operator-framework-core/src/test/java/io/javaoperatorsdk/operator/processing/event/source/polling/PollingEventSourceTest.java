@@ -33,6 +33,7 @@ import io.javaoperatorsdk.operator.processing.event.source.SampleExternalResourc
 import static io.javaoperatorsdk.operator.processing.event.source.SampleExternalResource.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class PollingEventSourceTest
@@ -154,6 +155,99 @@ class PollingEventSourceTest
         .untilAsserted(() -> assertThat(pollingEventSource.getStatus()).isEqualTo(Status.HEALTHY));
   }
 
+  @Test
+  void appliesOnlyChangesFromDeltaFetcher() {
+    var deltaFetcher = deltaFetcher(Duration.ofHours(1));
+    when(deltaFetcher.fetchChanges(null))
+        .thenReturn(PollingEventSource.Delta.full(testResponseWithOneValue(), "w1"));
+    when(deltaFetcher.fetchChanges("w1"))
+        .thenReturn(
+            PollingEventSource.Delta.changes(
+                Map.of(primaryID1(), Set.of(testResource2())), Map.of(), "w2"));
+    var updated = new SampleExternalResource(NAME_1, "updated");
+    when(deltaFetcher.fetchChanges("w2"))
+        .thenReturn(
+            PollingEventSource.Delta.changes(
+                Map.of(primaryID1(), Set.of(updated)),
+                Map.of(primaryID1(), Set.of(testResource2())),
+                "w3"));
+    when(deltaFetcher.fetchChanges("w3"))
+        .thenReturn(PollingEventSource.Delta.changes(Map.of(), Map.of(), "w3"));
+
+    source.start();
+    assertThat(source.getSecondaryResources(primaryID1())).containsExactly(testResource1());
+
+    source.getStateAndFillCache();
+    assertThat(source.getSecondaryResources(primaryID1()))
+        .containsExactlyInAnyOrder(testResource1(), testResource2());
+
+    source.getStateAndFillCache();
+    assertThat(source.getSecondaryResources(primaryID1())).containsExactly(updated);
+
+    source.getStateAndFillCache();
+    verify(eventHandler, times(3)).handleEvent(any());
+    verify(deltaFetcher, times(1)).fetchChanges(null);
+    verify(deltaFetcher, never()).fetchResources();
+  }
+
+  @Test
+  void fullListingFromDeltaFetcherReplacesCache() {
+    var deltaFetcher = deltaFetcher(Duration.ofHours(1));
+    when(deltaFetcher.fetchChanges(null))
+        .thenReturn(PollingEventSource.Delta.full(testResponseWithTwoValues(), "w1"));
+    // the fetcher can no longer serve changes since w1
+    when(deltaFetcher.fetchChanges("w1"))
+        .thenReturn(PollingEventSource.Delta.full(testResponseWithOneValue(), "w2"));
+
+    source.start();
+    source.getStateAndFillCache();
+
+    assertThat(source.getSecondaryResources(primaryID1())).containsExactly(testResource1());
+    assertThat(source.getSecondaryResources(primaryID2())).isEmpty();
+    verify(eventHandler, times(3)).handleEvent(any());
+  }
+
+  @Test
+  void periodicallyResyncsDeltaFetcher() throws InterruptedException {
+    var deltaFetcher = deltaFetcher(Duration.ofMillis(1));
+    when(deltaFetcher.fetchChanges(null))
+        .thenReturn(PollingEventSource.Delta.full(testResponseWithOneValue(), "w1"));
+
+    source.start();
+    Thread.sleep(5);
+    source.getStateAndFillCache();
+
+    verify(deltaFetcher, times(2)).fetchChanges(null);
+    verify(deltaFetcher, never()).fetchChanges("w1");
+  }
+
+  @Test
+  void rejectsNonPositiveFullResyncPeriod() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new PollingConfigurationBuilder<SampleExternalResource, String>(
+                    resourceFetcher, POLL_PERIOD)
+                .withFullResyncPeriod(Duration.ZERO)
+                .build());
+  }
+
+  @SuppressWarnings("unchecked")
+  private PollingEventSource.DeltaResourceFetcher<SampleExternalResource> deltaFetcher(
+      Duration fullResyncPeriod) {
+    PollingEventSource.DeltaResourceFetcher<SampleExternalResource> deltaFetcher =
+        mock(PollingEventSource.DeltaResourceFetcher.class);
+    var deltaSource =
+        new PollingEventSource<SampleExternalResource, HasMetadata, String>(
+            SampleExternalResource.class,
+            new PollingConfigurationBuilder<SampleExternalResource, String>(
+                    deltaFetcher, Duration.ofHours(1))
+                .withFullResyncPeriod(fullResyncPeriod)
+                .build());
+    setUpSource(deltaSource, false);
+    return deltaFetcher;
+  }
+
   private Map<ResourceID, Set<SampleExternalResource>> testResponseWithTwoValueForSameId() {
     Map<ResourceID, Set<SampleExternalResource>> res = new HashMap<>();
     res.put(primaryID1(), Set.of(testResource1(), testResource2()));
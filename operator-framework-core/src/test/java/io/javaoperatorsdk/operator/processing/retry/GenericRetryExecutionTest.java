@@ -15,6 +15,7 @@
  */
 package io.javaoperatorsdk.operator.processing.retry;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -125,6 +126,65 @@ class GenericRetryExecutionTest {
         .isLessThanOrEqualTo((long) (initialInterval * multiplier));
   }
 
+  @Test
+  void fullJitterPicksDelaysUpToExponentialInterval() {
+    RetryExecution retryExecution =
+        new GenericRetry()
+            .setInitialInterval(1000)
+            .setIntervalMultiplier(2)
+            .withoutMaxAttempts()
+            .setJitter(Jitter.FULL)
+            .initExecution();
+
+    long interval = 1000;
+    for (int i = 0; i < 10; i++) {
+      if (i > 1) {
+        interval = Math.min(interval * 2, GradualRetry.DEFAULT_MAX_INTERVAL);
+      }
+      assertThat(retryExecution.nextDelay().orElseThrow()).isBetween(0L, interval);
+    }
+  }
+
+  @Test
+  void decorrelatedJitterStaysBetweenInitialAndMaxInterval() {
+    RetryExecution retryExecution =
+        new GenericRetry()
+            .setInitialInterval(1000)
+            .setIntervalMultiplier(3)
+            .setMaxInterval(10_000)
+            .withoutMaxAttempts()
+            .setJitter(Jitter.DECORRELATED)
+            .initExecution();
+
+    long previous = 1000;
+    for (int i = 0; i < 20; i++) {
+      long delay = retryExecution.nextDelay().orElseThrow();
+      assertThat(delay).isBetween(1000L, Math.min(previous * 3, 10_000L));
+      previous = delay;
+    }
+  }
+
+  @Test
+  void jitterDoesNotChangeMaxAttempts() {
+    RetryExecution retryExecution =
+        new GenericRetry().setMaxAttempts(2).setJitter(Jitter.DECORRELATED).initExecution();
+
+    assertThat(callNextDelayNTimes(retryExecution, 1)).isPresent();
+    assertThat(retryExecution.nextDelay()).isEmpty();
+    assertThat(retryExecution.isLastAttempt()).isTrue();
+  }
+
+  @Test
+  void remainingDurationUsesJitteredDelay() {
+    RetryExecution retryExecution =
+        new GenericRetry().setInitialInterval(60_000).setJitter(Jitter.FULL).initExecution();
+
+    long delay = retryExecution.nextDelay().orElseThrow();
+
+    assertThat(retryExecution.remainingDurationUntilNextRetry().map(Duration::toMillis).orElse(0L))
+        .isLessThanOrEqualTo(delay);
+  }
+
   Optional<Long> callNextDelayNTimes(RetryExecution retryExecution, int n) {
     for (int i = 0; i < n; i++) {
       retryExecution.nextDelay();
@@ -0,0 +1,144 @@
+/*
+ * Copyright Java Operator SDK Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.javaoperatorsdk.operator.processing.retry;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedBackoffRetryTest {
+
+  private static final long RESOURCE_INTERVAL = 100;
+  private static final long BACKOFF = 60_000;
+
+  private final SharedBackoffRetry retry =
+      new SharedBackoffRetry((id, resource) -> id.getNamespace().orElse(null))
+          .withResourceRetry(new GenericRetry().setInitialInterval(RESOURCE_INTERVAL))
+          .withFailureThreshold(3)
+          .withBackoff(Duration.ofMillis(BACKOFF), 2, Duration.ofMillis(BACKOFF * 3));
+
+  @Test
+  void retriesOnResourceScheduleBelowThreshold() {
+    assertThat(execution("r1", "db").nextDelay()).contains(RESOURCE_INTERVAL);
+    assertThat(execution("r2", "db").nextDelay()).contains(RESOURCE_INTERVAL);
+    assertThat(retry.isOpen("db")).isFalse();
+  }
+
+  @Test
+  void opensCircuitAndLetsOnlyProbesRetryFirst() {
+    execution("r1", "db").nextDelay();
+    execution("r2", "db").nextDelay();
+
+    final var probe = execution("r3", "db").nextDelay().orElseThrow();
+    assertThat(retry.isOpen("db")).isTrue();
+    assertThat(probe).isBetween(BACKOFF - 1000, BACKOFF);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(execution("other" + i, "db").nextDelay().orElseThrow())
+          .isGreaterThan(probe)
+          .isLessThanOrEqualTo(probe + BACKOFF);
+    }
+  }
+
+  @Test
+  void dependenciesAreIndependent() {
+    for (int i = 0; i < 3; i++) {
+      execution("r" + i, "db").nextDelay();
+    }
+
+    assertThat(retry.isOpen("db")).isTrue();
+    assertThat(retry.isOpen("api")).isFalse();
+    assertThat(execution("r1", "api").nextDelay()).contains(RESOURCE_INTERVAL);
+  }
+
+  @Test
+  void resourcesWithoutDependencyAreNotShared() {
+    for (int i = 0; i < 5; i++) {
+      assertThat(execution("r" + i, null).nextDelay()).contains(RESOURCE_INTERVAL);
+    }
+  }
+
+  @Test
+  void successClosesCircuit() {
+    final var execution = execution("r1", "db");
+    for (int i = 0; i < 3; i++) {
+      execution("r" + i, "db").nextDelay();
+    }
+    assertThat(retry.isOpen("db")).isTrue();
+
+    execution.succeeded();
+
+    assertThat(retry.isOpen("db")).isFalse();
+    assertThat(execution("r4", "db").nextDelay()).contains(RESOURCE_INTERVAL);
+  }
+
+  @Test
+  void firstAttemptSuccessesKeepCircuitClosed() {
+    for (int i = 0; i < 10; i++) {
+      execution("r" + i, "db").nextDelay();
+      execution("r" + i, "db").nextDelay();
+      retry.reconciliationSucceeded(new ResourceID("ok" + i, "db"), null);
+    }
+
+    assertThat(retry.isOpen("db")).isFalse();
+    assertThat(execution("r", "db").nextDelay()).contains(RESOURCE_INTERVAL);
+  }
+
+  @Test
+  void countsFailuresOfResourcesWithoutRemainingAttempts() {
+    final var limited =
+        new SharedBackoffRetry()
+            .withResourceRetry(new GenericRetry().setMaxAttempts(0))
+            .withFailureThreshold(2);
+
+    assertThat(limited.initExecution().nextDelay()).isEmpty();
+    assertThat(limited.isOpen("")).isFalse();
+    assertThat(limited.initExecution().nextDelay()).isEmpty();
+    assertThat(limited.isOpen("")).isTrue();
+  }
+
+  @Test
+  void resourceRetryStillLimitsAttempts() {
+    final var limited =
+        new SharedBackoffRetry()
+            .withResourceRetry(new GenericRetry().setMaxAttempts(1))
+            .initExecution();
+
+    assertThat(limited.nextDelay()).isPresent();
+    assertThat(limited.nextDelay()).isEmpty();
+    assertThat(limited.isLastAttempt()).isTrue();
+  }
+
+  @Test
+  void initializesResourceRetryFromAnnotation() {
+    final var configured = new SharedBackoffRetry();
+    configured.initFrom(Annotated.class.getAnnotation(GradualRetry.class));
+
+    assertThat(configured.getResourceRetry().getMaxAttempts()).isEqualTo(7);
+    assertThat(configured.getResourceRetry().getJitter()).isEqualTo(Jitter.DECORRELATED);
+  }
+
+  private RetryExecution execution(String name, String dependency) {
+    return retry.initExecution(new ResourceID(name, dependency), null);
+  }
+
+  @GradualRetry(maxAttempts = 7, jitter = Jitter.DECORRELATED)
+  private static class Annotated {}
+}